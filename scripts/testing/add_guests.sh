@@ -4,7 +4,7 @@
 # Make sure your backend is running locally before executing
 
 BASE_URL="http://localhost:8080"  # Adjust port if different
-ADD_ENDPOINT="/v1/api/guests/create"     # Adjust endpoint path if different
+IMPORT_ENDPOINT="/v1/api/family-groups/import"
 GUESTS_DATA_FILE="../../src/main/resources/mockdata/guests-data.json"
 
 echo "Starting guest creation process..."
@@ -15,26 +15,19 @@ if [ ! -f "$GUESTS_DATA_FILE" ]; then
     exit 1
 fi
 
-# Read the JSON file and parse each guest
-jq -c '.[]' "$GUESTS_DATA_FILE" | while read guest; do
-    firstName=$(echo "$guest" | jq -r '.firstName')
-    lastName=$(echo "$guest" | jq -r '.lastName')
-    
-    echo "Adding guest: $firstName $lastName"
-    
-    response=$(curl -s -o /dev/null -w "%{http_code}" \
-        -X POST "${BASE_URL}${ADD_ENDPOINT}" \
-        -H "Content-Type: application/json" \
-        -d "$guest")
-    
-    if [ "$response" -eq 200 ] || [ "$response" -eq 201 ]; then
-        echo "✓ Successfully added guest: $firstName $lastName"
-    else
-        echo "✗ Failed to add guest: $firstName $lastName (HTTP $response)"
-    fi
-    
-    # Small delay to avoid overwhelming the server
-    sleep 0.1
-done
-
-echo "Guest creation process completed!"
\ No newline at end of file
+# Every guest in the file is imported as a solo guest in one request; existing guests are skipped
+response=$(curl -s -w "\n%{http_code}" \
+    -X POST "${BASE_URL}${IMPORT_ENDPOINT}" \
+    -F "file=@${GUESTS_DATA_FILE};type=application/json")
+
+body=$(echo "$response" | head -n -1)
+status=$(echo "$response" | tail -n 1)
+
+if [ "$status" -eq 200 ] || [ "$status" -eq 201 ]; then
+    echo "$body" | jq -r '"✓ Added \(.importedGuests) guests, skipped \(.skippedCount) that already exist"'
+else
+    echo "✗ Failed to import guests (HTTP $status)"
+    echo "$body" | jq -r '.rows[]? | select(.status == "INVALID") | "  row \(.row): \(.messages | join("; "))"'
+fi
+
+echo "Guest creation process completed!"
@@ -80,4 +80,76 @@ public class DebugApiDocs {
     })
     public @interface TestQRCode {
     }
-}
\ No newline at end of file
+
+    /**
+     * Documentation for the thank-you template rendering benchmark endpoint
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+        summary = "Benchmark thank-you template rendering",
+        description = "Renders the same donation thank-you email repeatedly with the Freemarker file template and with a compiled DB-style template, and reports the average time per render for each. Nothing is sent."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Benchmark completed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Benchmark failed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        )
+    })
+    public @interface BenchmarkThankYouTemplates {
+    }
+
+    /**
+     * Documentation for the batched insert benchmark endpoint
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+        summary = "Benchmark row-by-row vs batched inserts",
+        description = "Inserts the given number of family members under a throwaway family group twice: once flushing each row on its own (one INSERT per round trip, as identity IDs required) and once as JDBC batches using pooled sequence IDs. Both runs are rolled back; only sequence values are consumed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Benchmark completed; details compare rows per second for each mode",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Benchmark failed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        )
+    })
+    public @interface BenchmarkBatchedInserts {
+    }
+
+    /**
+     * Documentation for the local payment webhook sender endpoint
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(
+        summary = "Send signed payment webhooks to this instance",
+        description = "Stands in for a payment provider: signs payment.completed events with the configured webhook secret and posts them concurrently to /v1/api/webhooks/payments/{provider}. With donation IDs each event confirms that donation; otherwise synthetic events with unknown references are sent. Each event is delivered 'copies' times to exercise deduplication."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Webhooks sent; details list the response counts by HTTP status",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Webhooks could not be sent",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.wedding.backend.wedding_app.model.reponse.DebugResponse.class))
+        )
+    })
+    public @interface SendTestPaymentWebhooks {
+    }
+}
@@ -1,6 +1,10 @@
 package com.wedding.backend.wedding_app.annotations;
 
+import com.wedding.backend.wedding_app.dto.DonationAnalyticsDTO;
+import com.wedding.backend.wedding_app.dto.DonationLedgerEntryDTO;
 import com.wedding.backend.wedding_app.dto.DonationResponseDTO;
+import com.wedding.backend.wedding_app.dto.EmailJobResponseDTO;
+import com.wedding.backend.wedding_app.dto.ReconciliationReportDTO;
 import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,7 +22,8 @@ public class DonationApiDocs {
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "Submit a donation",
-            description = "Submit a new donation to the honeymoon registry")
+            description = "Submit a new donation to the honeymoon registry. Resubmitting the same donor email " +
+                    "and amount within an hour returns the original donation instead of creating another")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Donation submitted successfully",
                     content = @Content(mediaType = "application/json",
@@ -26,7 +31,7 @@ public class DonationApiDocs {
             @ApiResponse(responseCode = "400", description = "Invalid donation data",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "Duplicate donation detected",
+            @ApiResponse(responseCode = "409", description = "Duplicate donation detected but the original could not be loaded",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
@@ -37,12 +42,15 @@ public class DonationApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get all donations",
-            description = "Retrieve all donations with optional status filtering")
+    @Operation(summary = "Get donations",
+            description = "Retrieve one page of donations with optional status, payment method and date filtering. Pass the returned nextCursor as cursor to get the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Donations retrieved successfully",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = DonationResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or date range",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class)))
@@ -115,4 +123,96 @@ public class DonationApiDocs {
                     schema = @Schema(implementation = ErrorResponse.class)))
     })
     public @interface GetDonationsNeedingThankYou {}
-}
\ No newline at end of file
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Send all pending thank you emails",
+            description = "Queue a background job that sends thank you emails for every confirmed donation without one. Returns a job id to poll (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Thank you sweep queued",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmailJobResponseDTO.class))),
+            @ApiResponse(responseCode = "409", description = "A thank you sweep is already running",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface StartThankYouSweep {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get thank you sweep job",
+            description = "Retrieve the status and progress of a queued thank you sweep (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = EmailJobResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GetThankYouSweepJob {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get donation analytics",
+            description = "Daily or weekly buckets (UTC) of donation count, total and average per payment method and status (admin only). " +
+                    "The range is widened to whole buckets; past buckets are cached and only the current one is recomputed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Donation analytics retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = DonationAnalyticsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GetDonationAnalytics {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Export donation ledger",
+            description = "Streams every donation in the date range (UTC, inclusive), ordered by donation date, as CSV or NDJSON " +
+                    "with running count, total and confirmed total in the base currency (admin only). Gzipped when the request accepts gzip")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ledger streamed successfully",
+                    content = {
+                            @Content(mediaType = "text/csv"),
+                            @Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = DonationLedgerEntryDTO.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or filter",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface ExportDonationLedger {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Reconcile a payment statement",
+            description = "Upload a Venmo or Zelle CSV export and match its completed payments against pending donations " +
+                    "by payment reference, amount and donor name. Matches at or above the minimum confidence are " +
+                    "confirmed unless dryRun is set (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statement reconciled",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ReconciliationReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or unrecognized statement, or invalid confidence",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface ReconcilePaymentStatement {}
+}
@@ -21,6 +21,8 @@ public class FamilyGroupApiDocs {
             @ApiResponse(responseCode = "201", description = "Family group successfully created"),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "More attending family members than maxAttendees allows (FAMILY_GROUP_FULL)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -28,9 +30,11 @@ public class FamilyGroupApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get all family groups", description = "Retrieves a list of all family groups")
+    @Operation(summary = "Get family groups", description = "Retrieves one page of family groups with their primary contact, the contact's RSVP status and their family members. Pass the returned nextCursor as cursor to get the next page")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Family groups retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or filter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -38,7 +42,17 @@ public class FamilyGroupApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get family group by ID", description = "Retrieves a specific family group by its ID")
+    @Operation(summary = "Stream all family groups", description = "Writes every family group matching the filters, with its primary contact, RSVP status and family members, as one JSON array sorted by group name unless sort is given. Groups are sent as they are read from the database, so the full list can be exported without paging")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "JSON array of family groups"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or date range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface StreamFamilyGroups {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get family group by ID", description = "Retrieves a specific family group by its ID, with its primary contact, RSVP status and family members")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Family group found"),
             @ApiResponse(responseCode = "404", description = "Family group not found",
@@ -57,6 +71,8 @@ public class FamilyGroupApiDocs {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Member is attending but the group has no seats left (FAMILY_GROUP_FULL)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -85,4 +101,33 @@ public class FamilyGroupApiDocs {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public @interface DeleteFamilyGroup {}
-}
\ No newline at end of file
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Bulk delete family groups", description = "Admin cleanup: deletes up to 500 family groups with their members and guests in a fixed number of statements. Donations are kept but detached from the guests")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Deletion summary, including any IDs that were not found"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized ID list",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface BulkDeleteFamilyGroups {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Import guests and family groups", description = "Admin bulk import from a guest-setup-template.json style " +
+            "JSON file or a CSV with one person per line (group_name, type, max_attendees, role, first_name, last_name, email, phone, " +
+            "plus_one_allowed, age_group, dietary_restrictions, is_attending). The whole file is validated first and nothing is written " +
+            "if any entry is invalid; entries whose primary contact already exists are skipped. Valid entries are written in one transaction")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "File imported, with a per-entry report"),
+            @ApiResponse(responseCode = "200", description = "Dry run, or nothing new to import, with a per-entry report"),
+            @ApiResponse(responseCode = "422", description = "Some entries are invalid; nothing was imported. The report lists the problems"),
+            @ApiResponse(responseCode = "400", description = "Empty or unreadable file",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface ImportGuests {}
+}
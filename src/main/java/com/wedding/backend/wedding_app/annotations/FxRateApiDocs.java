@@ -0,0 +1,50 @@
+package com.wedding.backend.wedding_app.annotations;
+
+import com.wedding.backend.wedding_app.dto.FxRateDTO;
+import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+public class FxRateApiDocs {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get FX rates",
+            description = "Lists every currency donations can be made in, with its rate to the base currency (USD) (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "FX rates retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = FxRateDTO.class)))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GetFxRates {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Update FX rate",
+            description = "Adds or replaces the rate for a currency (admin only). Donations already submitted keep the rate " +
+                    "they were converted with, so totals and goal progress don't change")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "FX rate updated successfully",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = FxRateDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid currency code or rate, or the base currency",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface UpdateFxRate {}
+}
@@ -1,7 +1,9 @@
 package com.wedding.backend.wedding_app.annotations;
 
+import com.wedding.backend.wedding_app.dto.GuestSummaryDTO;
 import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,19 +30,50 @@ public class GuestApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Find guest by name", description = "Searches for a guest using their first and last name")
+    @Operation(summary = "Find guest by name", description = "Searches for a guest using their first and last name, ignoring case and accents. " +
+            "fields=id,firstName,... limits the response to those properties")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Found the guest"),
+            @ApiResponse(responseCode = "200", description = "Found the guest",
+                    content = @Content(schema = @Schema(implementation = GuestSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Guest not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public @interface FindGuestByName {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Verify a guest by name", description = "Looks up a guest by first and last name, ignoring case and accents. " +
+            "When no guest matches, the 404 response lists up to 3 close guest names as \"suggestion\" details")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Guest verified"),
+            @ApiResponse(responseCode = "404", description = "Guest not found, with \"did you mean\" suggestions",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface VerifyGuest {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Guest name typeahead", description = "Ranks guests and family members by how closely their names match a " +
+            "partial or misspelled query (prefixes, typos, swapped letters, similar-sounding names, any word order). " +
+            "Served from an in-memory index; limit defaults to 10 and cannot exceed 25")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matches, best first"),
+            @ApiResponse(responseCode = "400", description = "Blank or too long query, or invalid limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GuestNameTypeahead {}
     
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get guest by ID", description = "Retrieves a guest using their ID")
+    @Operation(summary = "Get guest by ID", description = "Retrieves a guest, with its family group and RSVP status, using their ID. " +
+            "fields=id,firstName,... limits the response to those properties")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Found the guest"),
+            @ApiResponse(responseCode = "200", description = "Found the guest",
+                    content = @Content(schema = @Schema(implementation = GuestSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Guest not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -74,11 +107,90 @@ public class GuestApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get all guests", description = "Retrieves a list of all registered guests")
+    @Operation(summary = "Get guests", description = "Retrieves one page of guests, optionally filtered by RSVP, family group or primary contact. Pass the returned nextCursor as cursor to get the next page; the total is only counted when includeTotal is true. " +
+            "fields=id,firstName,... limits each guest to those properties")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "List of guests retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Page of guests retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, filter or fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public @interface GetAllGuests {}
-}
\ No newline at end of file
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Stream all guests", description = "Writes every guest matching the filters as one JSON array, " +
+            "sorted by last name unless sort is given. Guests are sent as they are read from the database, so the " +
+            "full list can be printed or exported without paging. Accepts the same filters and fields as Get guests")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "JSON array of guests",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = GuestSummaryDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or fields",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface StreamGuests {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Bulk delete guests", description = "Admin cleanup: deletes up to 500 guests with their RSVPs and invitation codes in a fixed number of statements. Donations are kept but detached from the guest")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Deletion summary, including any IDs that were not found"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized ID list",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface BulkDeleteGuests {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Find duplicate guests", description = "Admin review list of guest pairs that are probably the same person " +
+            "(DUPLICATE: similar names, including short forms like Jon/Jonathan, optionally backed by a shared email or phone) or " +
+            "different people of one household in separate family groups (HOUSEHOLD: shared email or phone). Only guests sharing " +
+            "an email, phone number or similar-sounding surname are compared. minScore defaults to 0.75, limit to 100 (max 500)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Candidate pairs, best first; DUPLICATE pairs come with a suggested guest to keep"),
+            @ApiResponse(responseCode = "400", description = "Invalid minScore, matchType or limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface FindDuplicateGuests {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Merge duplicate guests", description = "Admin cleanup: moves the duplicate's RSVP (the most recently " +
+            "submitted of the two is kept), invitation codes, donations and family group to the surviving guest and deletes the " +
+            "duplicate, in one transaction. Blank email and phone on the survivor are filled from the duplicate. When the two " +
+            "were in different family groups, the duplicate's group is folded into the survivor's. Family members answered for " +
+            "by the dropped RSVP are set to not attending, and the group's attending count is recounted from its members")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "The surviving guest and what was moved to it"),
+            @ApiResponse(responseCode = "400", description = "Missing IDs, or the same guest twice",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Either guest not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface MergeGuests {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Fold a household into one family group", description = "Admin cleanup for HOUSEHOLD pairs: puts both " +
+            "guests in the first guest's family group (the other's, when the first has none) and deletes neither. The other " +
+            "guest's group, with its guests, family members and seats, is folded in and deleted; a guest without a group " +
+            "joins with one extra seat. RSVPs stay with their guests and the group's attending count is recounted")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Both guests and what was moved"),
+            @ApiResponse(responseCode = "400", description = "Missing IDs, the same guest twice, neither guest in a family group, " +
+                    "or both already in the same one",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Either guest not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface FoldHousehold {}
+}
@@ -113,12 +113,17 @@ public class InvitationApiDocs {
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
         summary = "Get invitation codes for guest", 
-        description = "Returns all invitation codes for a specific guest, including primary and replacement codes."
+        description = "Returns one page of invitation codes for a specific guest, including primary and replacement codes. Pass the returned nextCursor as cursor to get the next page."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
-            description = "List of invitation codes",
+            description = "Page of invitation codes",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "Invalid cursor or limit",
             content = @Content(mediaType = "application/json")
         ),
         @ApiResponse(
@@ -0,0 +1,105 @@
+package com.wedding.backend.wedding_app.annotations;
+
+import com.wedding.backend.wedding_app.dto.InvitationCampaignResponseDTO;
+import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+public class InvitationCampaignApiDocs {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Create invitation campaign",
+            description = "Create an invitation email campaign for a guest segment, optionally starting it immediately (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Campaign created successfully",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = InvitationCampaignResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid campaign data",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface CreateCampaign {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get all invitation campaigns",
+            description = "Retrieve all invitation campaigns with their progress, newest first (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Campaigns retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = InvitationCampaignResponseDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GetAllCampaigns {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Get invitation campaign",
+            description = "Retrieve an invitation campaign and its progress (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Campaign found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = InvitationCampaignResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Campaign not found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface GetCampaign {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Start or resume invitation campaign",
+            description = "Start a draft campaign, or resume a paused or failed campaign from where it stopped (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Campaign is running",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = InvitationCampaignResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Campaign not found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Campaign is already running or completed",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface StartCampaign {}
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Pause invitation campaign",
+            description = "Pause a running campaign after its current chunk (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Campaign paused",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = InvitationCampaignResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Campaign not found",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Campaign is not running",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface PauseCampaign {}
+}
@@ -0,0 +1,42 @@
+package com.wedding.backend.wedding_app.annotations;
+
+import com.wedding.backend.wedding_app.dto.PaymentWebhookAckDTO;
+import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+public class PaymentWebhookApiDocs {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Receive a payment webhook",
+            description = "Verifies the HMAC-SHA256 signature (X-Webhook-Signature over \"{X-Webhook-Timestamp}.{body}\"), " +
+                    "stores the event and acknowledges immediately. Donations are confirmed by a background processor. " +
+                    "Authenticated by signature rather than API key")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Event accepted for processing",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PaymentWebhookAckDTO.class))),
+            @ApiResponse(responseCode = "200", description = "Event was already received; nothing stored",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PaymentWebhookAckDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid provider or webhook body",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Missing, expired or invalid signature",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface ReceivePaymentWebhook {}
+}
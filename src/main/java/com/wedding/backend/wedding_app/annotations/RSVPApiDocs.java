@@ -44,6 +44,9 @@ public class RSVPApiDocs {
                 content = @Content(mediaType = "application/json", 
                 schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "Guest not found",
+                content = @Content(mediaType = "application/json", 
+                schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "More family members attending than the group's maxAttendees (FAMILY_GROUP_FULL)",
                 content = @Content(mediaType = "application/json", 
                 schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -64,12 +67,14 @@ public class RSVPApiDocs {
 
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
-    @Operation(summary = "Get all RSVPs", 
-              description = "Retrieves all RSVPs in the system")
+    @Operation(summary = "Get RSVPs", 
+              description = "Retrieves one page of RSVPs, optionally filtered by attendance and submission day (UTC). Pass the returned nextCursor as cursor to get the next page")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List of RSVPs retrieved",
+        @ApiResponse(responseCode = "200", description = "Page of RSVPs retrieved",
                 content = @Content(mediaType = "application/json", 
-                schema = @Schema(implementation = RSVPResponseDTO.class)))
+                schema = @Schema(implementation = RSVPResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or date range",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public @interface GetAllRSVPs {}
 }
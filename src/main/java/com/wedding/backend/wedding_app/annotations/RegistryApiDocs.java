@@ -18,11 +18,13 @@ public class RegistryApiDocs {
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "Get registry overview",
-            description = "Retrieve complete registry overview including settings, progress, and donation statistics")
+            description = "Retrieve complete registry overview including settings, progress, and donation statistics. " +
+                    "Responses carry an ETag; send it back in If-None-Match to get a 304 when nothing changed")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registry overview retrieved successfully",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = RegistryOverviewDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Registry overview unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class)))
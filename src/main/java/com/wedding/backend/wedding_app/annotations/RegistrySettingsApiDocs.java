@@ -18,11 +18,13 @@ public class RegistrySettingsApiDocs {
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "Get active registry settings",
-            description = "Retrieves the currently active registry configuration including goal amount and payment handles")
+            description = "Retrieves the currently active registry configuration including goal amount and payment handles. " +
+                    "Responses carry a version ETag; send it back in If-None-Match to get a 304 when nothing changed")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registry settings retrieved successfully",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = RegistrySettingsDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Registry settings unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class)))
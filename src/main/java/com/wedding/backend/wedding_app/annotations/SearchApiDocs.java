@@ -0,0 +1,37 @@
+package com.wedding.backend.wedding_app.annotations;
+
+import com.wedding.backend.wedding_app.dto.SearchResponseDTO;
+import com.wedding.backend.wedding_app.model.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+public class SearchApiDocs {
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "Search donations and guest notes",
+            description = "Full-text search over donation messages and donor names, RSVP dietary restrictions and " +
+                    "family member dietary restrictions. Every word must match, accents are ignored and words may be " +
+                    "shortened (\"lisb\" finds \"Lisbon\"). Results are ranked best first; matched words in the snippet " +
+                    "are wrapped in [brackets] (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = SearchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid page parameters",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public @interface Search {}
+}
@@ -23,16 +23,18 @@ public class ApiKeyInterceptor implements HandlerInterceptor {
     @Value("${wedding.api.enabled:true}")
     private boolean apiKeyEnabled;
 
-    // Endpoints that don't require API key (like actuator, swagger-ui, health checks)
+    // Endpoints that don't require API key (like swagger-ui, health checks); other actuator endpoints such as
+    // metrics do (see WebConfig.actuatorApiKeyInterceptor)
     private static final List<String> EXCLUDED_ENDPOINTS = List.of(
-        "/actuator",
+        "/actuator/health",
         "/swagger-ui",
         "/v3/api-docs",
         "/api-docs",           // SpringDoc OpenAPI docs
         "/swagger-resources",
         "/webjars",
         "/swagger-config",     // Swagger config endpoint
-        "/favicon.ico"         // Browser favicon requests
+        "/favicon.ico",        // Browser favicon requests
+        "/v1/api/webhooks"     // Payment webhooks are authenticated by their HMAC signature
     );
 
     @Override
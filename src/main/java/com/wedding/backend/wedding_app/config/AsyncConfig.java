@@ -1,13 +1,29 @@
 package com.wedding.backend.wedding_app.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OUTCOME_DROPPED;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_TYPE_UNKNOWN;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_OUTCOME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EXECUTOR_QUEUE_WAIT;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EXECUTOR_REJECTED;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_EXECUTOR;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_OUTCOME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_TYPE;
 
 @Configuration
 @EnableAsync
@@ -15,17 +31,120 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class AsyncConfig {
 
+    /**
+     * Pool for transactional emails sent via @Async. A full queue drops the email;
+     * drops are counted as wedding.email.outcome{outcome=dropped} and wedding.executor.rejected.
+     * The email type isn't known at rejection time, so dropped emails are tagged type=unknown.
+     */
     @Bean(name = "emailTaskExecutor")
-    public Executor emailTaskExecutor() {
+    public Executor emailTaskExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = rejectionCounter(meterRegistry, "emailTaskExecutor");
+        Counter dropped = Counter.builder(METRIC_EMAIL_OUTCOME)
+                .tag(METRIC_TAG_TYPE, EMAIL_TYPE_UNKNOWN)
+                .tag(METRIC_TAG_OUTCOME, EMAIL_OUTCOME_DROPPED)
+                .register(meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Email-");
+        executor.setTaskDecorator(queueWaitDecorator(meterRegistry, "emailTaskExecutor"));
         executor.setRejectedExecutionHandler((r, executor1) -> {
+            rejected.increment();
+            dropped.increment();
             log.warn("Email task rejected: {}", r.toString());
         });
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Pool for CPU-bound email rendering (templates, QR codes) in bulk sends.
+     * Uses caller-runs so a full queue slows the producer down instead of dropping renders.
+     */
+    @Bean(name = "emailRenderExecutor")
+    public Executor emailRenderExecutor(MeterRegistry meterRegistry) {
+        int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("EmailRender-");
+        executor.setTaskDecorator(queueWaitDecorator(meterRegistry, "emailRenderExecutor"));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool that runs long-lived invitation campaigns, one thread per active campaign
+     */
+    @Bean(name = "campaignTaskExecutor")
+    public Executor campaignTaskExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("Campaign-");
+        executor.setTaskDecorator(queueWaitDecorator(meterRegistry, "campaignTaskExecutor"));
+        executor.setRejectedExecutionHandler(countingAbortPolicy(rejectionCounter(meterRegistry, "campaignTaskExecutor")));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Single-threaded pool for on-demand bulk email jobs such as the thank-you sweep.
+     * Rejects instead of silently dropping so callers can report the job as not started.
+     */
+    @Bean(name = "emailJobExecutor")
+    public Executor emailJobExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(5);
+        executor.setThreadNamePrefix("EmailJob-");
+        executor.setTaskDecorator(queueWaitDecorator(meterRegistry, "emailJobExecutor"));
+        executor.setRejectedExecutionHandler(countingAbortPolicy(rejectionCounter(meterRegistry, "emailJobExecutor")));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Records how long each task sat in the executor queue before a thread picked it up.
+     * Active threads, pool size and queue depth are published by Actuator as executor.* gauges.
+     */
+    private TaskDecorator queueWaitDecorator(MeterRegistry meterRegistry, String executorName) {
+        Timer queueWait = Timer.builder(METRIC_EXECUTOR_QUEUE_WAIT)
+                .description("Time tasks spend queued before running")
+                .tag(METRIC_TAG_EXECUTOR, executorName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        return runnable -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                runnable.run();
+            };
+        };
+    }
+
+    /**
+     * Same as the default abort policy (callers get a TaskRejectedException) but counted
+     */
+    private RejectedExecutionHandler countingAbortPolicy(Counter rejected) {
+        RejectedExecutionHandler abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+        return (runnable, threadPool) -> {
+            rejected.increment();
+            abortPolicy.rejectedExecution(runnable, threadPool);
+        };
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String executorName) {
+        return Counter.builder(METRIC_EXECUTOR_REJECTED)
+                .description("Tasks rejected because the executor queue was full")
+                .tag(METRIC_TAG_EXECUTOR, executorName)
+                .register(meterRegistry);
+    }
+}
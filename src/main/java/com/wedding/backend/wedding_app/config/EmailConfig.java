@@ -41,4 +41,31 @@ public class EmailConfig {
     private String donationThankYouTemplatePath;
     private String donationConfirmationSubject;
     private String donationThankYouSubject;
+
+    // Use the default thank_you_templates row instead of the donation thank-you file template
+    private boolean databaseThankYouTemplateEnabled;
+
+    // Invitation campaign templates and subjects
+    private String invitationTemplatePath;
+    private String invitationTemplatePathPt;
+    private String invitationSubject;
+    private String invitationSubjectPt;
+
+    // RSVP reminder templates, subjects and schedule
+    private String reminderTemplatePath;
+    private String reminderTemplatePathPt;
+    private String reminderSubject;
+    private String reminderSubjectPt;
+    private String reminderLanguage;
+    private boolean remindersEnabled;
+    private int reminderCooldownDays = 7;
+    private int reminderChunkSize = 100;
+
+    // Donation thank-you sweeper
+    private boolean thankYouSweepEnabled;
+    private int thankYouChunkSize = 100;
+
+    // Bulk delivery settings
+    private int providerRequestsPerSecond = 2;
+    private int campaignChunkSize = 50;
 }
\ No newline at end of file
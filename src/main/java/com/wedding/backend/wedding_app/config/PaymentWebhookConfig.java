@@ -0,0 +1,31 @@
+package com.wedding.backend.wedding_app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for inbound payment provider webhooks
+ */
+@Configuration
+@ConfigurationProperties(prefix = "wedding.payments.webhook")
+@Data
+public class PaymentWebhookConfig {
+
+    // Incoming webhooks are rejected unless enabled and a signing secret is set
+    private boolean enabled;
+    private String secret;
+
+    // Reject signed requests whose timestamp is further than this from now (replay protection)
+    private long signatureToleranceSeconds = 300;
+
+    // Inbox processing
+    private boolean processorEnabled = true;
+    private int batchSize = 100;
+    private int maxAttempts = 5;
+    private long claimTimeoutSeconds = 300;
+
+    // A failed event is retried after retryBackoffSeconds, doubling each attempt up to maxRetryBackoffSeconds
+    private long retryBackoffSeconds = 30;
+    private long maxRetryBackoffSeconds = 3600;
+}
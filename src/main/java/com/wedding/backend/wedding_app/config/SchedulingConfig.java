@@ -0,0 +1,15 @@
+package com.wedding.backend.wedding_app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (reminder emails and similar sweeps).
+ * Jobs that must run on a single node guard themselves with a JobLeaseDao lease.
+ * The scheduler pool is sized by spring.task.scheduling.pool.size (application.yml) so jobs
+ * don't queue behind each other on Spring's default single scheduler thread.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,12 @@
 package com.wedding.backend.wedding_app.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.MappedInterceptor;
 
 @Configuration
 @RequiredArgsConstructor
@@ -25,4 +27,13 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(apiKeyInterceptor);
     }
+
+    /**
+     * Actuator endpoints are served by their own handler mapping, which doesn't see the interceptors added
+     * above but does pick up MappedInterceptor beans, so this puts /actuator/metrics behind the API key too
+     */
+    @Bean
+    public MappedInterceptor actuatorApiKeyInterceptor() {
+        return new MappedInterceptor(new String[]{"/actuator/**"}, apiKeyInterceptor);
+    }
 }
\ No newline at end of file
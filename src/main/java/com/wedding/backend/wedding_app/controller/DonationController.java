@@ -1,38 +1,74 @@
 package com.wedding.backend.wedding_app.controller;
 
 import com.wedding.backend.wedding_app.annotations.DonationApiDocs;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
+import com.wedding.backend.wedding_app.dto.DonationAnalyticsDTO;
 import com.wedding.backend.wedding_app.dto.DonationRequestDTO;
 import com.wedding.backend.wedding_app.dto.DonationResponseDTO;
+import com.wedding.backend.wedding_app.dto.EmailJobResponseDTO;
+import com.wedding.backend.wedding_app.dto.ReconciliationReportDTO;
+import com.wedding.backend.wedding_app.enums.DonationAnalyticsInterval;
+import com.wedding.backend.wedding_app.enums.DonationSortField;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.LedgerExportFormat;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.service.DonationAnalyticsService;
+import com.wedding.backend.wedding_app.service.DonationLedgerExportService;
+import com.wedding.backend.wedding_app.service.DonationReconciliationService;
 import com.wedding.backend.wedding_app.service.DonationService;
+import com.wedding.backend.wedding_app.service.ThankYouSweepService;
+import com.wedding.backend.wedding_app.util.AcceptEncodings;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LEDGER_EXPORT_FILE_NAME;
+
 @RestController
 @RequestMapping("/v1/api/registry/donations")
 @Tag(name = "Donation Management", description = "APIs for managing honeymoon registry donations")
 public class DonationController {
 
     private final DonationService donationService;
+    private final ThankYouSweepService thankYouSweepService;
+    private final DonationAnalyticsService donationAnalyticsService;
+    private final DonationReconciliationService donationReconciliationService;
+    private final DonationLedgerExportService donationLedgerExportService;
     private final Logger log = LoggerFactory.getLogger(DonationController.class);
 
-    public DonationController(DonationService donationService) {
+    public DonationController(DonationService donationService, ThankYouSweepService thankYouSweepService,
+                              DonationAnalyticsService donationAnalyticsService,
+                              DonationReconciliationService donationReconciliationService,
+                              DonationLedgerExportService donationLedgerExportService) {
         this.donationService = donationService;
+        this.thankYouSweepService = thankYouSweepService;
+        this.donationAnalyticsService = donationAnalyticsService;
+        this.donationReconciliationService = donationReconciliationService;
+        this.donationLedgerExportService = donationLedgerExportService;
     }
 
     /**
@@ -51,18 +87,31 @@ public class DonationController {
     }
 
     /**
-     * Get all donations with optional status filter
+     * Get one page of donations, with optional filters
      */
     @GetMapping
     @DonationApiDocs.GetAllDonations
-    public ResponseEntity<List<DonationResponseDTO>> getAllDonations(
+    public ResponseEntity<CursorPageDTO<DonationResponseDTO>> getAllDonations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "ID") DonationSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             @Parameter(description = "Filter by donation status (optional)")
-            @RequestParam(required = false) DonationStatus status) {
-        log.info("BEGIN - GET /v1/api/registry/donations - Fetching donations with status filter: {}", status);
+            @RequestParam(required = false) DonationStatus status,
+            @Parameter(description = "Filter by payment method (optional)")
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @Parameter(description = "First donation day to include, UTC (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last donation day to include, UTC (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("BEGIN - GET /v1/api/registry/donations - Fetching donation page with status filter: {}", status);
 
-        List<DonationResponseDTO> donations = donationService.getAllDonations(status);
+        CursorPageDTO<DonationResponseDTO> donations = donationService.getDonationPage(
+                CursorPageRequest.of(sort, direction, cursor, limit, includeTotal),
+                status, paymentMethod, from, to);
 
-        log.info("END - Found {} donations", donations.size());
+        log.info("END - Found {} donations, more: {}", donations.getItems().size(), donations.isHasMore());
         return ResponseEntity.ok(donations);
     }
 
@@ -127,4 +176,113 @@ public class DonationController {
         log.info("END - Found {} donations needing thank you emails", donations.size());
         return ResponseEntity.ok(donations);
     }
-}
\ No newline at end of file
+
+    /**
+     * Queue a thank-you sweep for all confirmed donations without a thank you (admin only)
+     */
+    @PostMapping("/thank-you-sweep")
+    @DonationApiDocs.StartThankYouSweep
+    public ResponseEntity<EmailJobResponseDTO> startThankYouSweep() {
+        log.info("BEGIN - POST /v1/api/registry/donations/thank-you-sweep - Queueing thank you sweep");
+
+        EmailJobResponseDTO job = thankYouSweepService.startSweepNow();
+
+        log.info("END - Thank you sweep queued with job ID: {}", job.getJobId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Get the status of a thank-you sweep job (admin only)
+     */
+    @GetMapping("/thank-you-sweep/{jobId}")
+    @DonationApiDocs.GetThankYouSweepJob
+    public ResponseEntity<EmailJobResponseDTO> getThankYouSweepJob(
+            @Parameter(description = "Job ID returned when the sweep was queued", required = true)
+            @PathVariable String jobId) {
+        log.info("BEGIN - GET /v1/api/registry/donations/thank-you-sweep/{} - Fetching job status", jobId);
+
+        EmailJobResponseDTO job = thankYouSweepService.getJob(jobId);
+
+        log.info("END - Thank you sweep job {} is {}", jobId, job.getStatus());
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * Get donation counts and totals over time per payment method and status (admin only)
+     */
+    @GetMapping("/analytics")
+    @DonationApiDocs.GetDonationAnalytics
+    public ResponseEntity<DonationAnalyticsDTO> getDonationAnalytics(
+            @Parameter(description = "Bucket size (DAY or WEEK)")
+            @RequestParam(defaultValue = "DAY") DonationAnalyticsInterval interval,
+            @Parameter(description = "First day to include, UTC (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day to include, UTC (optional, defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("BEGIN - GET /v1/api/registry/donations/analytics - Fetching {} analytics from {} to {}", interval, from, to);
+
+        DonationAnalyticsDTO analytics = donationAnalyticsService.getDonationAnalytics(interval, from, to);
+
+        log.info("END - Returned {} donation analytics buckets", analytics.getBuckets().size());
+        return ResponseEntity.ok(analytics);
+    }
+
+    /**
+     * Stream the donation ledger for accounting as CSV or NDJSON (admin only).
+     * Gzipped when the client's Accept-Encoding allows gzip (a q-value of 0 refuses it).
+     */
+    @GetMapping("/ledger-export")
+    @DonationApiDocs.ExportDonationLedger
+    public ResponseEntity<StreamingResponseBody> exportDonationLedger(
+            @Parameter(description = "CSV or NDJSON")
+            @RequestParam(defaultValue = "CSV") LedgerExportFormat format,
+            @Parameter(description = "First day to include, UTC (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day to include, UTC (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Only include these statuses (optional, repeatable)")
+            @RequestParam(name = "status", required = false) List<DonationStatus> statuses,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("BEGIN - GET /v1/api/registry/donations/ledger-export - Exporting {} ledger from {} to {}", format, from, to);
+
+        boolean gzip = AcceptEncodings.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = donationLedgerExportService.exportLedger(format, from, to, statuses, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(LEDGER_EXPORT_FILE_NAME + "." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        log.info("END - Streaming donation ledger export");
+        return response.body(body);
+    }
+
+    /**
+     * Match a Venmo/Zelle statement export against pending donations (admin only)
+     */
+    @PostMapping(value = "/reconcile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @DonationApiDocs.ReconcilePaymentStatement
+    public ResponseEntity<ReconciliationReportDTO> reconcilePaymentStatement(
+            @Parameter(description = "Statement CSV exported from Venmo or Zelle", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Only match donations made with this payment method (optional)")
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @Parameter(description = "Confirm matches at or above this confidence (0-1)")
+            @RequestParam(defaultValue = "0.85") double minConfidence,
+            @Parameter(description = "Report matches without confirming any donations")
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        log.info("BEGIN - POST /v1/api/registry/donations/reconcile - Reconciling statement {}", file.getOriginalFilename());
+
+        ReconciliationReportDTO report = donationReconciliationService.reconcile(file, paymentMethod, minConfidence, dryRun);
+
+        log.info("END - Matched {} of {} statement lines, confirmed {}",
+                report.getMatchedCount(), report.getLinesRead() - report.getLinesSkipped(), report.getConfirmedCount());
+        return ResponseEntity.ok(report);
+    }
+}
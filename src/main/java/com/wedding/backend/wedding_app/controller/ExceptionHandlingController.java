@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -57,6 +58,10 @@ public class ExceptionHandlingController {
             details = new ArrayList<>();
             if (ex.getDetails() instanceof String) {
                 details.add(Detail.create("detail", ex.getDetails().toString()));
+            } else if (ex.getDetails() instanceof Collection<?> items) {
+                for (Object item : items) {
+                    details.add(item instanceof Detail detail ? detail : Detail.create("detail", Objects.toString(item)));
+                }
             } else {
                 details.add(Detail.create("detail", Objects.toString(ex.getDetails())));
             }
@@ -172,18 +177,20 @@ public class ExceptionHandlingController {
      */
     private HttpStatus mapErrorKeyToStatus(String errorKey) {
         return switch (errorKey) {
-            case GUEST_NOT_FOUND, GUEST_NAME_NOT_FOUND, RSVP_NOT_FOUND,
+            case GUEST_NOT_FOUND, GUEST_NAME_NOT_FOUND, RSVP_NOT_FOUND, DONATION_NOT_FOUND,
                  ENTITY_NOT_FOUND, ERROR_KEY_NOT_FOUND, 
                  INVALID_INVITATION_CODE, EXPIRED_INVITATION_CODE, 
-                 USED_INVITATION_CODE -> HttpStatus.NOT_FOUND;
+                 USED_INVITATION_CODE, CAMPAIGN_NOT_FOUND,
+                 EMAIL_JOB_NOT_FOUND -> HttpStatus.NOT_FOUND;
                  
             case GUEST_ALREADY_EXISTS, RSVP_ALREADY_SUBMITTED, 
-                 ERROR_KEY_ALREADY_EXISTS -> HttpStatus.CONFLICT;
+                 ERROR_KEY_ALREADY_EXISTS, INVALID_CAMPAIGN_STATE,
+                 EMAIL_JOB_ALREADY_RUNNING, DUPLICATE_DONATION, FAMILY_GROUP_FULL -> HttpStatus.CONFLICT;
                  
-            case INVALID_PARAMETER, MISSING_PARAMETER, 
+            case INVALID_PARAMETER, MISSING_PARAMETER, UNSUPPORTED_CURRENCY,
                  VALIDATION_ERROR, INVITATION_CODE_CREATION_ERROR -> HttpStatus.BAD_REQUEST;
                  
-            case UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
+            case UNAUTHORIZED, INVALID_WEBHOOK_SIGNATURE -> HttpStatus.UNAUTHORIZED;
 
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
@@ -1,19 +1,32 @@
 package com.wedding.backend.wedding_app.controller;
 
 import com.wedding.backend.wedding_app.annotations.FamilyGroupApiDocs;
+import com.wedding.backend.wedding_app.dto.BulkDeleteResponseDTO;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
 import com.wedding.backend.wedding_app.dto.FamilyMemberResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestImportReportDTO;
+import com.wedding.backend.wedding_app.enums.FamilyGroupSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.request.BulkDeleteRequest;
 import com.wedding.backend.wedding_app.model.request.FamilyGroupRequest;
 import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
 import com.wedding.backend.wedding_app.service.FamilyGroupService;
+import com.wedding.backend.wedding_app.service.GuestImportService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CREATED;
@@ -26,6 +39,7 @@ import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CREAT
 public class FamilyGroupController {
 
     private final FamilyGroupService familyGroupService;
+    private final GuestImportService guestImportService;
 
     @PostMapping
     @FamilyGroupApiDocs.CreateFamilyGroup
@@ -40,15 +54,46 @@ public class FamilyGroupController {
 
     @GetMapping
     @FamilyGroupApiDocs.GetAllFamilyGroups
-    public ResponseEntity<List<FamilyGroupResponseDTO>> getAllFamilyGroups() {
-        log.info("BEGIN - Fetching all family groups");
+    public ResponseEntity<CursorPageDTO<FamilyGroupResponseDTO>> getAllFamilyGroups(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "ID") FamilyGroupSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Only groups whose primary contact has (or has not) RSVPed")
+            @RequestParam(required = false) Boolean hasRsvp,
+            @Parameter(description = "Only groups whose primary contact's RSVP is attending (or not)")
+            @RequestParam(required = false) Boolean attending,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo) {
+        log.info("BEGIN - Fetching family group page sorted by {} {}", sort, direction);
         
-        List<FamilyGroupResponseDTO> response = familyGroupService.getAllFamilyGroups();
+        CursorPageDTO<FamilyGroupResponseDTO> response = familyGroupService.getFamilyGroupPage(
+                CursorPageRequest.of(sort, direction, cursor, limit, includeTotal),
+                hasRsvp, attending, createdFrom, createdTo);
         
-        log.info("END - Retrieved {} family groups", response.size());
+        log.info("END - Retrieved {} family groups, more: {}", response.getItems().size(), response.isHasMore());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/stream")
+    @FamilyGroupApiDocs.StreamFamilyGroups
+    public ResponseEntity<StreamingResponseBody> streamFamilyGroups(
+            @RequestParam(defaultValue = "GROUP_NAME") FamilyGroupSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(required = false) Boolean hasRsvp,
+            @RequestParam(required = false) Boolean attending,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo) {
+        log.info("BEGIN - Streaming family groups sorted by {} {}", sort, direction);
+
+        StreamingResponseBody body = familyGroupService.streamFamilyGroups(sort, direction, hasRsvp, attending,
+                createdFrom, createdTo);
+
+        log.info("END - Streaming family group list");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping("/{id}")
     @FamilyGroupApiDocs.GetFamilyGroupById
     public ResponseEntity<FamilyGroupResponseDTO> getFamilyGroupById(
@@ -102,4 +147,32 @@ public class FamilyGroupController {
         log.info("END - Family group deleted successfully");
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk-delete")
+    @FamilyGroupApiDocs.BulkDeleteFamilyGroups
+    public ResponseEntity<BulkDeleteResponseDTO> bulkDeleteFamilyGroups(@RequestBody BulkDeleteRequest request) {
+        log.info("BEGIN - Bulk deleting family groups");
+
+        BulkDeleteResponseDTO response = familyGroupService.deleteFamilyGroups(request.getIds());
+
+        log.info("END - Bulk deleted {} family groups", response.getDeletedIds().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @FamilyGroupApiDocs.ImportGuests
+    public ResponseEntity<GuestImportReportDTO> importGuests(
+            @Parameter(description = "JSON (guest-setup-template.json layout) or CSV import file", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Validate and report without importing anything")
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        log.info("BEGIN - Importing guests from {}", file.getOriginalFilename());
+
+        GuestImportReportDTO report = guestImportService.importGuests(file, dryRun);
+
+        HttpStatus status = report.getInvalidCount() > 0 ? HttpStatus.UNPROCESSABLE_ENTITY
+                : report.isCommitted() ? HttpStatus.CREATED : HttpStatus.OK;
+        log.info("END - Guest import finished with status {}", status);
+        return ResponseEntity.status(status).body(report);
+    }
+}
@@ -0,0 +1,64 @@
+package com.wedding.backend.wedding_app.controller;
+
+import com.wedding.backend.wedding_app.annotations.FxRateApiDocs;
+import com.wedding.backend.wedding_app.dto.FxRateDTO;
+import com.wedding.backend.wedding_app.dto.FxRateRequestDTO;
+import com.wedding.backend.wedding_app.service.FxRateService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/registry/fx-rates")
+@Tag(name = "FX Rates", description = "APIs for maintaining the exchange rates used to normalize donations")
+public class FxRateController {
+
+    private final FxRateService fxRateService;
+    private final Logger log = LoggerFactory.getLogger(FxRateController.class);
+
+    public FxRateController(FxRateService fxRateService) {
+        this.fxRateService = fxRateService;
+    }
+
+    /**
+     * Get all configured exchange rates (admin only)
+     */
+    @GetMapping
+    @FxRateApiDocs.GetFxRates
+    public ResponseEntity<List<FxRateDTO>> getFxRates() {
+        log.info("BEGIN - GET /v1/api/registry/fx-rates - Fetching FX rates");
+
+        List<FxRateDTO> rates = fxRateService.getRates();
+
+        log.info("END - Returned {} FX rates", rates.size());
+        return ResponseEntity.ok(rates);
+    }
+
+    /**
+     * Set the exchange rate for a currency (admin only) - Applies to donations submitted from now on
+     */
+    @PutMapping("/{currency}")
+    @FxRateApiDocs.UpdateFxRate
+    public ResponseEntity<FxRateDTO> updateFxRate(
+            @Parameter(description = "ISO 4217 currency code, e.g. BRL", required = true)
+            @PathVariable String currency,
+            @Valid @RequestBody FxRateRequestDTO request) {
+        log.info("BEGIN - PUT /v1/api/registry/fx-rates/{} - Updating FX rate", currency);
+
+        FxRateDTO updated = fxRateService.updateRate(currency, request.getRateToBase());
+
+        log.info("END - FX rate updated successfully");
+        return ResponseEntity.ok(updated);
+    }
+}
@@ -1,14 +1,32 @@
 package com.wedding.backend.wedding_app.controller;
 
 import com.wedding.backend.wedding_app.annotations.GuestApiDocs;
+import com.wedding.backend.wedding_app.dto.BulkDeleteResponseDTO;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
+import com.wedding.backend.wedding_app.dto.GuestDuplicateDTO;
+import com.wedding.backend.wedding_app.dto.GuestHouseholdFoldResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestMergeResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestNameMatchDTO;
 import com.wedding.backend.wedding_app.dto.GuestResponseDTO;
-import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.dto.GuestSummaryDTO;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateMatchType;
+import com.wedding.backend.wedding_app.enums.GuestSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.service.GuestDedupeService;
+import com.wedding.backend.wedding_app.service.GuestNameIndexService;
 import com.wedding.backend.wedding_app.service.GuestService;
+import com.wedding.backend.wedding_app.model.request.BulkDeleteRequest;
+import com.wedding.backend.wedding_app.model.request.GuestHouseholdFoldRequest;
+import com.wedding.backend.wedding_app.model.request.GuestMergeRequest;
 import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import com.wedding.backend.wedding_app.util.SparseFieldsets;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -18,9 +36,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_FIELDS_FILTER;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -30,23 +50,28 @@ import static org.springframework.http.HttpStatus.OK;
 public class GuestController {
 
     private final GuestService guestService;
+    private final GuestNameIndexService guestNameIndexService;
+    private final GuestDedupeService guestDedupeService;
     private final Logger log = LoggerFactory.getLogger(GuestController.class);
     
-    public GuestController(GuestService guestService) {
+    public GuestController(GuestService guestService, GuestNameIndexService guestNameIndexService,
+                           GuestDedupeService guestDedupeService) {
         this.guestService = guestService;
+        this.guestNameIndexService = guestNameIndexService;
+        this.guestDedupeService = guestDedupeService;
     }
 
     /**
      * Create a new guest
      * @param request Guest details request
-     * @return Created guest entity
+     * @return Created guest
      */
     @PostMapping("/create")
     @GuestApiDocs.CreateGuest
-    public ResponseEntity<GuestEntity> createGuest(@RequestBody GuestRequest request) {
+    public ResponseEntity<GuestSummaryDTO> createGuest(@RequestBody GuestRequest request) {
         log.info("BEGIN - Received request to create guest: {}", request);
 
-        GuestEntity guest = guestService.addGuest(
+        GuestSummaryDTO guest = guestService.addGuest(
                 request.getFirstName(),
                 request.getLastName(),
                 request.getEmail(),
@@ -63,21 +88,44 @@ public class GuestController {
      * Find guest by name
      * @param firstName Guest's first name
      * @param lastName Guest's last name
-     * @return Guest entity
+     * @param fields Comma-separated properties to return (optional, all by default)
+     * @return Guest
      */
     @GetMapping("/search")
     @GuestApiDocs.FindGuestByName
-    public ResponseEntity<GuestEntity> findGuestByName(
+    public ResponseEntity<MappingJacksonValue> findGuestByName(
             @RequestParam String firstName,
-            @RequestParam String lastName) {
+            @RequestParam String lastName,
+            @RequestParam(required = false) String fields) {
 
         log.info("BEGIN - Searching for guest: {} {}", firstName, lastName);
 
-        GuestEntity guest = guestService.findGuestByName(firstName, lastName);
+        GuestSummaryDTO guest = guestService.findGuestSummaryByName(firstName, lastName);
 
         log.info("END - Found guest with ID: {}", guest.getId());
 
-        return ResponseEntity.status(OK).body(guest);
+        return ResponseEntity.status(OK).body(SparseFieldsets.select(guest, GuestSummaryDTO.class, GUEST_FIELDS_FILTER, fields));
+    }
+
+    /**
+     * Typo-tolerant name suggestions for a search box
+     * @param q Partial or misspelled name
+     * @param limit Maximum number of matches
+     * @return Guests and family members ranked by how closely their names match
+     */
+    @GetMapping("/typeahead")
+    @GuestApiDocs.GuestNameTypeahead
+    public ResponseEntity<List<GuestNameMatchDTO>> typeahead(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("BEGIN - Guest name typeahead: {}", q);
+
+        List<GuestNameMatchDTO> matches = guestNameIndexService.typeahead(q, limit);
+
+        log.info("END - Returning {} name matches", matches.size());
+
+        return ResponseEntity.status(OK).body(matches);
     }
 
     /**
@@ -87,7 +135,7 @@ public class GuestController {
      * @return Guest response DTO
      */
     @GetMapping("/verify")
-    @GuestApiDocs.FindGuestByName
+    @GuestApiDocs.VerifyGuest
     public ResponseEntity<GuestResponseDTO> verifyGuest(
             @RequestParam String firstName,
             @RequestParam String lastName) {
@@ -102,51 +150,90 @@ public class GuestController {
     }
 
     /**
-     * Get all guests
-     * @return List of guest entities
+     * Get one page of guests, with optional filters
+     * @return Page of guests and the cursor for the next page
      */
     @GetMapping
     @GuestApiDocs.GetAllGuests
-    public ResponseEntity<List<GuestEntity>> getAllGuests() {
-        log.info("BEGIN - Fetching all guests");
-
-        List<GuestEntity> allGuests = guestService.getAllGuests();
-
-        log.info("END - {} guests found", allGuests.size());
+    public ResponseEntity<MappingJacksonValue> getAllGuests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "ID") GuestSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Boolean attending,
+            @RequestParam(required = false) Boolean hasRsvp,
+            @RequestParam(required = false) Long familyGroupId,
+            @RequestParam(required = false) Boolean primaryContact,
+            @RequestParam(required = false) String fields) {
+        log.info("BEGIN - Fetching guest page sorted by {} {}", sort, direction);
+
+        CursorPageDTO<GuestSummaryDTO> page = guestService.getGuestPage(
+                CursorPageRequest.of(sort, direction, cursor, limit, includeTotal),
+                attending, hasRsvp, familyGroupId, primaryContact);
+
+        log.info("END - {} guests found, more: {}", page.getItems().size(), page.isHasMore());
+
+        return ResponseEntity.status(OK).body(SparseFieldsets.select(page, GuestSummaryDTO.class, GUEST_FIELDS_FILTER, fields));
+    }
 
-        return ResponseEntity.status(OK).body(allGuests);
+    /**
+     * Stream every matching guest as one JSON array, for printing or exporting the whole list
+     * @return Guests, written as they are read
+     */
+    @GetMapping("/stream")
+    @GuestApiDocs.StreamGuests
+    public ResponseEntity<StreamingResponseBody> streamGuests(
+            @RequestParam(defaultValue = "LAST_NAME") GuestSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(required = false) Boolean attending,
+            @RequestParam(required = false) Boolean hasRsvp,
+            @RequestParam(required = false) Long familyGroupId,
+            @RequestParam(required = false) Boolean primaryContact,
+            @RequestParam(required = false) String fields) {
+        log.info("BEGIN - Streaming guests sorted by {} {}", sort, direction);
+
+        StreamingResponseBody body = guestService.streamGuests(sort, direction, attending, hasRsvp,
+                familyGroupId, primaryContact, fields);
+
+        log.info("END - Streaming guest list");
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
      * Get guest by ID
      * @param id Guest ID
-     * @return Guest entity
+     * @param fields Comma-separated properties to return (optional, all by default)
+     * @return Guest
      */
     @GetMapping("/{id}")
     @GuestApiDocs.GetGuestById
-    public ResponseEntity<GuestEntity> getGuestById(@PathVariable Long id) {
+    public ResponseEntity<MappingJacksonValue> getGuestById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields) {
         log.info("BEGIN - Fetching guest with ID: {}", id);
 
-        GuestEntity guest = guestService.findById(id);
+        GuestSummaryDTO guest = guestService.getGuestSummary(id);
 
         log.info("END - Found guest: {} {}", guest.getFirstName(), guest.getLastName());
 
-        return ResponseEntity.status(OK).body(guest);
+        return ResponseEntity.status(OK).body(SparseFieldsets.select(guest, GuestSummaryDTO.class, GUEST_FIELDS_FILTER, fields));
     }
 
     /**
      * Update guest
      * @param request Updated guest details
-     * @return Updated guest entity
+     * @return Updated guest
      */
     @PutMapping("/update")
     @GuestApiDocs.UpdateGuest
-    public ResponseEntity<GuestEntity> updateGuest(
+    public ResponseEntity<GuestSummaryDTO> updateGuest(
             @RequestBody GuestRequest request) {
 
         log.info("BEGIN - Updating guest: {}, {}", request.getFirstName(), request.getLastName());
 
-        GuestEntity updatedGuest = guestService.updateGuest(request);
+        GuestSummaryDTO updatedGuest = guestService.updateGuest(request);
 
         log.info("END - Guest updated successfully");
 
@@ -169,4 +256,78 @@ public class GuestController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Bulk delete guests (admin only)
+     * @param request Guest IDs to delete
+     * @return Which guests were deleted and which were not found
+     */
+    @PostMapping("/bulk-delete")
+    @GuestApiDocs.BulkDeleteGuests
+    public ResponseEntity<BulkDeleteResponseDTO> bulkDeleteGuests(@RequestBody BulkDeleteRequest request) {
+        log.info("BEGIN - Bulk deleting guests");
+
+        BulkDeleteResponseDTO response = guestService.removeGuests(request.getIds());
+
+        log.info("END - Bulk deleted {} guests", response.getDeletedGuestCount());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Likely duplicate guests for review (admin only)
+     * @param minScore Leave out pairs scoring below this (0 to 1)
+     * @param matchType Only DUPLICATE or HOUSEHOLD pairs (optional)
+     * @param limit Maximum number of pairs
+     * @return Candidate pairs, best first
+     */
+    @GetMapping("/duplicates")
+    @GuestApiDocs.FindDuplicateGuests
+    public ResponseEntity<List<GuestDuplicateDTO>> findDuplicateGuests(
+            @RequestParam(defaultValue = "0.75") double minScore,
+            @RequestParam(required = false) GuestDuplicateMatchType matchType,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("BEGIN - Finding duplicate guests");
+
+        List<GuestDuplicateDTO> duplicates = guestDedupeService.findDuplicates(minScore, matchType, limit);
+
+        log.info("END - Returning {} duplicate candidates", duplicates.size());
+
+        return ResponseEntity.ok(duplicates);
+    }
+
+    /**
+     * Merge a duplicate guest into the guest being kept (admin only)
+     * @param request The guest to keep and the duplicate to fold into it
+     * @return The surviving guest and what was moved to it
+     */
+    @PostMapping("/merge")
+    @GuestApiDocs.MergeGuests
+    public ResponseEntity<GuestMergeResponseDTO> mergeGuests(@RequestBody GuestMergeRequest request) {
+        log.info("BEGIN - Merging guests");
+
+        GuestMergeResponseDTO response = guestDedupeService.mergeGuests(request);
+
+        log.info("END - Merged guest {} into guest {}", response.getMergedGuestId(), response.getSurvivor().getId());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Put two guests of one household into the same family group, keeping both (admin only)
+     * @param request The guest whose family group is kept and the guest moved into it
+     * @return Both guests and what was moved
+     */
+    @PostMapping("/fold-household")
+    @GuestApiDocs.FoldHousehold
+    public ResponseEntity<GuestHouseholdFoldResponseDTO> foldHousehold(@RequestBody GuestHouseholdFoldRequest request) {
+        log.info("BEGIN - Folding household guests");
+
+        GuestHouseholdFoldResponseDTO response = guestDedupeService.foldHousehold(request);
+
+        log.info("END - Guests folded into family group {}", response.getFamilyGroupId());
+
+        return ResponseEntity.ok(response);
+    }
+}
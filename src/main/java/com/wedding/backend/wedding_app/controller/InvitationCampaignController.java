@@ -0,0 +1,110 @@
+package com.wedding.backend.wedding_app.controller;
+
+import com.wedding.backend.wedding_app.annotations.InvitationCampaignApiDocs;
+import com.wedding.backend.wedding_app.dto.InvitationCampaignRequestDTO;
+import com.wedding.backend.wedding_app.dto.InvitationCampaignResponseDTO;
+import com.wedding.backend.wedding_app.service.InvitationCampaignService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/invitation/campaigns")
+@Tag(name = "Invitation Campaigns", description = "APIs for emailing invitation codes to guest segments")
+public class InvitationCampaignController {
+
+    private final InvitationCampaignService invitationCampaignService;
+    private final Logger log = LoggerFactory.getLogger(InvitationCampaignController.class);
+
+    public InvitationCampaignController(InvitationCampaignService invitationCampaignService) {
+        this.invitationCampaignService = invitationCampaignService;
+    }
+
+    /**
+     * Create a new invitation campaign
+     */
+    @PostMapping
+    @InvitationCampaignApiDocs.CreateCampaign
+    public ResponseEntity<InvitationCampaignResponseDTO> createCampaign(
+            @RequestBody InvitationCampaignRequestDTO request) {
+        log.info("BEGIN - POST /v1/api/invitation/campaigns - Creating campaign: {}", request.getName());
+
+        InvitationCampaignResponseDTO response = invitationCampaignService.createCampaign(request);
+
+        log.info("END - Campaign created with ID: {}", response.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Get all invitation campaigns
+     */
+    @GetMapping
+    @InvitationCampaignApiDocs.GetAllCampaigns
+    public ResponseEntity<List<InvitationCampaignResponseDTO>> getAllCampaigns() {
+        log.info("BEGIN - GET /v1/api/invitation/campaigns - Fetching campaigns");
+
+        List<InvitationCampaignResponseDTO> campaigns = invitationCampaignService.getAllCampaigns();
+
+        log.info("END - Found {} campaigns", campaigns.size());
+        return ResponseEntity.ok(campaigns);
+    }
+
+    /**
+     * Get campaign progress
+     */
+    @GetMapping("/{id}")
+    @InvitationCampaignApiDocs.GetCampaign
+    public ResponseEntity<InvitationCampaignResponseDTO> getCampaign(
+            @Parameter(description = "Campaign ID", required = true)
+            @PathVariable Long id) {
+        log.info("BEGIN - GET /v1/api/invitation/campaigns/{} - Fetching campaign", id);
+
+        InvitationCampaignResponseDTO campaign = invitationCampaignService.getCampaign(id);
+
+        log.info("END - Campaign {} is {}", id, campaign.getStatus());
+        return ResponseEntity.ok(campaign);
+    }
+
+    /**
+     * Start or resume a campaign
+     */
+    @PostMapping("/{id}/start")
+    @InvitationCampaignApiDocs.StartCampaign
+    public ResponseEntity<InvitationCampaignResponseDTO> startCampaign(
+            @Parameter(description = "Campaign ID", required = true)
+            @PathVariable Long id) {
+        log.info("BEGIN - POST /v1/api/invitation/campaigns/{}/start - Starting campaign", id);
+
+        InvitationCampaignResponseDTO campaign = invitationCampaignService.startCampaign(id);
+
+        log.info("END - Campaign {} started", id);
+        return ResponseEntity.ok(campaign);
+    }
+
+    /**
+     * Pause a running campaign
+     */
+    @PostMapping("/{id}/pause")
+    @InvitationCampaignApiDocs.PauseCampaign
+    public ResponseEntity<InvitationCampaignResponseDTO> pauseCampaign(
+            @Parameter(description = "Campaign ID", required = true)
+            @PathVariable Long id) {
+        log.info("BEGIN - POST /v1/api/invitation/campaigns/{}/pause - Pausing campaign", id);
+
+        InvitationCampaignResponseDTO campaign = invitationCampaignService.pauseCampaign(id);
+
+        log.info("END - Campaign {} paused", id);
+        return ResponseEntity.ok(campaign);
+    }
+}
@@ -1,9 +1,13 @@
 package com.wedding.backend.wedding_app.controller;
 
 import com.wedding.backend.wedding_app.annotations.InvitationApiDocs;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.InvitationCodeResponseDTO;
 import com.wedding.backend.wedding_app.dto.InvitationValidationResponseDTO;
 import com.wedding.backend.wedding_app.entity.InvitationCodeEntity;
+import com.wedding.backend.wedding_app.enums.InvitationCodeSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
 import com.wedding.backend.wedding_app.service.InvitationCodeService;
 import com.wedding.backend.wedding_app.service.QRCodeService;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,7 +22,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
-import java.util.List;
 
 import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.PNG_EXTENSION;
 import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.QR_CODE_ATTACHMENT_HEADER;
@@ -102,28 +105,25 @@ public class InvitationController {
     
     @InvitationApiDocs.GetCodesForGuest
     @GetMapping("/codes/guest/{guestId}")
-    public ResponseEntity<List<InvitationCodeResponseDTO>> getCodesForGuest(
+    public ResponseEntity<CursorPageDTO<InvitationCodeResponseDTO>> getCodesForGuest(
             @Parameter(description = "The guest ID", required = true)
-            @PathVariable Long guestId) {
+            @PathVariable Long guestId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "ID") InvitationCodeSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Only used (or unused) codes")
+            @RequestParam(required = false) Boolean used,
+            @Parameter(description = "Only codes of this type, e.g. PRIMARY")
+            @RequestParam(required = false) String codeType) {
         
         log.info("BEGIN - Getting invitation codes for guest ID: {}", guestId);
         
-        List<InvitationCodeEntity> codes = invitationCodeService.getCodesForGuest(guestId);
-        
-        List<InvitationCodeResponseDTO> response = codes.stream()
-                .map(code -> InvitationCodeResponseDTO.builder()
-                        .id(code.getId())
-                        .code(code.getCode())
-                        .guestId(code.getGuest().getId())
-                        .guestName(code.getGuest().getFirstName() + " " + code.getGuest().getLastName())
-                        .createdDate(code.getCreatedDate())
-                        .expiryDate(code.getExpiryDate())
-                        .used(code.getUsed())
-                        .codeType(code.getCodeType())
-                        .build())
-                .toList();
-        
-        log.info("END - Found {} invitation codes for guest ID: {}", codes.size(), guestId);
+        CursorPageDTO<InvitationCodeResponseDTO> response = invitationCodeService.getCodePageForGuest(guestId,
+                CursorPageRequest.of(sort, direction, cursor, limit, includeTotal), used, codeType);
+        
+        log.info("END - Found {} invitation codes for guest ID: {}", response.getItems().size(), guestId);
         return ResponseEntity.ok(response);
     }
     
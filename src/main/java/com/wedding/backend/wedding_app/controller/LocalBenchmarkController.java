@@ -0,0 +1,267 @@
+package com.wedding.backend.wedding_app.controller;
+
+import com.wedding.backend.wedding_app.annotations.DebugApiDocs;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.entity.ThankYouTemplateEntity;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.model.registry.FxRateTable;
+import com.wedding.backend.wedding_app.model.reponse.DebugResponse;
+import com.wedding.backend.wedding_app.model.request.PaymentWebhookRequest;
+import com.wedding.backend.wedding_app.service.EmailService;
+import com.wedding.backend.wedding_app.service.InsertBenchmarkService;
+import com.wedding.backend.wedding_app.service.InsertBenchmarkService.InsertBenchmarkResult;
+import com.wedding.backend.wedding_app.service.LocalPaymentWebhookSender;
+import com.wedding.backend.wedding_app.service.ThankYouTemplateService;
+import com.wedding.backend.wedding_app.service.ThankYouTemplateService.CompiledThankYouTemplate;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_BASE_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_EVENT_PAYMENT_COMPLETED;
+
+/**
+ * Benchmarks and load generators for local testing. They write test data and fire bursts of
+ * requests at this instance, so they only exist under the "local" profile.
+ */
+@Profile("local")
+@RestController
+@RequestMapping("/v1/api/debug")
+@Tag(name = "Debug Operations", description = "Endpoints for testing and debugging application features")
+public class LocalBenchmarkController {
+
+    private final EmailService emailService;
+    private final ThankYouTemplateService thankYouTemplateService;
+    private final LocalPaymentWebhookSender localPaymentWebhookSender;
+    private final InsertBenchmarkService insertBenchmarkService;
+    private final Logger log = LoggerFactory.getLogger(LocalBenchmarkController.class);
+
+    private static final int BENCHMARK_MAX_ITERATIONS = 100_000;
+    private static final int BENCHMARK_WARMUP_ITERATIONS = 200;
+    private static final int BENCHMARK_MAX_INSERT_ROWS = 10_000;
+    private static final int WEBHOOK_TEST_MAX_EVENTS = 1000;
+    private static final int WEBHOOK_TEST_MAX_COPIES = 5;
+    private static final String BENCHMARK_TEMPLATE_SUBJECT = "Thank you for your generous honeymoon contribution, {donorName}!";
+    private static final String BENCHMARK_TEMPLATE_BODY = """
+            Dear {donorName},
+
+            Thank you so much for your generous contribution of ${amount} to our honeymoon fund! Your thoughtfulness means the world to us.
+
+            {message}
+
+            We are so grateful to have friends and family like you who are helping make our dream honeymoon a reality.
+
+            With love and gratitude,
+            Casey & Yasmim""";
+
+    public LocalBenchmarkController(EmailService emailService,
+                                    ThankYouTemplateService thankYouTemplateService,
+                                    LocalPaymentWebhookSender localPaymentWebhookSender,
+                                    InsertBenchmarkService insertBenchmarkService) {
+        this.emailService = emailService;
+        this.thankYouTemplateService = thankYouTemplateService;
+        this.localPaymentWebhookSender = localPaymentWebhookSender;
+        this.insertBenchmarkService = insertBenchmarkService;
+    }
+
+    @DebugApiDocs.BenchmarkThankYouTemplates
+    @GetMapping(value = "/benchmark/thank-you-templates", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DebugResponse> benchmarkThankYouTemplates(
+            @Parameter(description = "Number of timed renders per renderer (max 100000)")
+            @RequestParam(defaultValue = "1000") int iterations) {
+
+        log.info("STARTED - Benchmarking thank you template rendering with {} iterations", iterations);
+
+        try {
+            int runs = Math.max(1, Math.min(iterations, BENCHMARK_MAX_ITERATIONS));
+
+            DonationEntity testDonation = DonationEntity.builder()
+                    .id(1L)
+                    .donorName("Yasmim Sasahara")
+                    .donorEmail("benchmark@example.com")
+                    .amount(new BigDecimal("150.00"))
+                    .currency(DONATION_BASE_CURRENCY)
+                    .fxRate(BigDecimal.ONE)
+                    .normalizedAmount(FxRateTable.toBase(new BigDecimal("150.00"), BigDecimal.ONE))
+                    .paymentMethod(PaymentMethod.VENMO)
+                    .message("Have an amazing trip! <3")
+                    .donationDate(OffsetDateTime.now())
+                    .build();
+
+            ThankYouTemplateEntity sampleTemplate = ThankYouTemplateEntity.builder()
+                    .templateName("Benchmark")
+                    .subject(BENCHMARK_TEMPLATE_SUBJECT)
+                    .emailBody(BENCHMARK_TEMPLATE_BODY)
+                    .build();
+            CompiledThankYouTemplate compiledTemplate = thankYouTemplateService.compile(sampleTemplate);
+
+            // Warm up both paths so the timed runs don't include class loading and template parsing
+            for (int i = 0; i < Math.min(runs, BENCHMARK_WARMUP_ITERATIONS); i++) {
+                emailService.buildDonationThankYouEmail(testDonation);
+                emailService.buildDonationThankYouEmail(testDonation, compiledTemplate);
+            }
+
+            long freemarkerStart = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                emailService.buildDonationThankYouEmail(testDonation);
+            }
+            long freemarkerNanos = System.nanoTime() - freemarkerStart;
+
+            long compiledStart = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                emailService.buildDonationThankYouEmail(testDonation, compiledTemplate);
+            }
+            long compiledNanos = System.nanoTime() - compiledStart;
+
+            double freemarkerMicros = freemarkerNanos / 1000.0 / runs;
+            double compiledMicros = compiledNanos / 1000.0 / runs;
+
+            log.info("COMPLETED - Freemarker: {} us/render, compiled: {} us/render", freemarkerMicros, compiledMicros);
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("success")
+                    .message("Rendered " + runs + " thank you emails with each renderer")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details(String.format("Freemarker: %.2f us/render, compiled: %.2f us/render, speedup: %.1fx",
+                            freemarkerMicros, compiledMicros, freemarkerMicros / Math.max(compiledMicros, 0.001)))
+                    .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to benchmark thank you templates", e);
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("error")
+                    .message("Failed to benchmark thank you templates")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details(e.getMessage())
+                    .build();
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @DebugApiDocs.BenchmarkBatchedInserts
+    @PostMapping(value = "/benchmark/batched-inserts", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DebugResponse> benchmarkBatchedInserts(
+            @Parameter(description = "Number of family members inserted per run (max 10000)")
+            @RequestParam(defaultValue = "1000") int rows) {
+
+        log.info("STARTED - Benchmarking batched inserts with {} rows", rows);
+
+        try {
+            InsertBenchmarkResult result = insertBenchmarkService.benchmarkFamilyMemberInserts(
+                    Math.max(1, Math.min(rows, BENCHMARK_MAX_INSERT_ROWS)));
+
+            log.info("COMPLETED - Row by row: {} rows/s, batched: {} rows/s",
+                    result.rowByRowRowsPerSecond(), result.batchedRowsPerSecond());
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("success")
+                    .message("Inserted " + result.rows() + " family members row by row and batched (both rolled back)")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details(String.format("Row by row: %.0f rows/s (%d ms), batched: %.0f rows/s (%d ms), speedup: %.1fx",
+                            result.rowByRowRowsPerSecond(), result.rowByRowNanos() / 1_000_000,
+                            result.batchedRowsPerSecond(), result.batchedNanos() / 1_000_000,
+                            result.batchedRowsPerSecond() / Math.max(result.rowByRowRowsPerSecond(), 0.001)))
+                    .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to benchmark batched inserts", e);
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("error")
+                    .message("Failed to benchmark batched inserts")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details(e.getMessage())
+                    .build();
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @DebugApiDocs.SendTestPaymentWebhooks
+    @PostMapping(value = "/webhooks/payments", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DebugResponse> sendTestPaymentWebhooks(
+            @Parameter(description = "Provider path segment to post to")
+            @RequestParam(defaultValue = "venmo") String provider,
+            @Parameter(description = "Donations to confirm (optional); synthetic events are sent when omitted")
+            @RequestParam(required = false) List<Long> donationIds,
+            @Parameter(description = "Number of synthetic events when no donation IDs are given (max 1000)")
+            @RequestParam(defaultValue = "20") int count,
+            @Parameter(description = "Deliveries per event (max 5)")
+            @RequestParam(defaultValue = "2") int copies) {
+
+        log.info("STARTED - Sending test payment webhooks to provider: {}", provider);
+
+        try {
+            List<PaymentWebhookRequest> events = new ArrayList<>();
+            if (donationIds != null && !donationIds.isEmpty()) {
+                for (Long donationId : donationIds.subList(0, Math.min(donationIds.size(), WEBHOOK_TEST_MAX_EVENTS))) {
+                    events.add(PaymentWebhookRequest.builder()
+                            .eventId("evt_test_" + UUID.randomUUID())
+                            .eventType(WEBHOOK_EVENT_PAYMENT_COMPLETED)
+                            .donationId(donationId)
+                            .build());
+                }
+            } else {
+                for (int i = 0; i < Math.max(1, Math.min(count, WEBHOOK_TEST_MAX_EVENTS)); i++) {
+                    events.add(PaymentWebhookRequest.builder()
+                            .eventId("evt_test_" + UUID.randomUUID())
+                            .eventType(WEBHOOK_EVENT_PAYMENT_COMPLETED)
+                            .paymentReference("TEST-" + UUID.randomUUID())
+                            .amount(new BigDecimal("25.00"))
+                            .build());
+                }
+            }
+
+            int deliveries = Math.max(1, Math.min(copies, WEBHOOK_TEST_MAX_COPIES));
+            long start = System.nanoTime();
+            Map<Integer, Integer> statusCounts = localPaymentWebhookSender.sendBurst(provider, events, deliveries);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            log.info("COMPLETED - Sent {} test payment webhooks in {} ms", events.size() * deliveries, elapsedMillis);
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("success")
+                    .message("Sent " + events.size() + " webhook events x" + deliveries + " in " + elapsedMillis + " ms")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details("Responses by HTTP status: " + statusCounts)
+                    .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to send test payment webhooks", e);
+
+            DebugResponse response = DebugResponse.builder()
+                    .status("error")
+                    .message("Failed to send test payment webhooks")
+                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                    .details(e.getMessage())
+                    .build();
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
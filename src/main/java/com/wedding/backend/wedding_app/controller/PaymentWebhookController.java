@@ -0,0 +1,53 @@
+package com.wedding.backend.wedding_app.controller;
+
+import com.wedding.backend.wedding_app.annotations.PaymentWebhookApiDocs;
+import com.wedding.backend.wedding_app.dto.PaymentWebhookAckDTO;
+import com.wedding.backend.wedding_app.service.PaymentWebhookService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_SIGNATURE_HEADER;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_TIMESTAMP_HEADER;
+
+@RestController
+@RequestMapping("/v1/api/webhooks/payments")
+@Tag(name = "Payment Webhooks", description = "Signed payment notifications from payment providers")
+public class PaymentWebhookController {
+
+    private final PaymentWebhookService paymentWebhookService;
+    private final Logger log = LoggerFactory.getLogger(PaymentWebhookController.class);
+
+    public PaymentWebhookController(PaymentWebhookService paymentWebhookService) {
+        this.paymentWebhookService = paymentWebhookService;
+    }
+
+    /**
+     * Receive a payment webhook; the body is taken raw so the signature is checked over the exact bytes sent
+     */
+    @PostMapping(value = "/{provider}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PaymentWebhookApiDocs.ReceivePaymentWebhook
+    public ResponseEntity<PaymentWebhookAckDTO> receivePaymentWebhook(
+            @Parameter(description = "Payment provider, e.g. venmo or zelle", required = true)
+            @PathVariable String provider,
+            @RequestHeader(value = WEBHOOK_TIMESTAMP_HEADER, required = false) String timestamp,
+            @RequestHeader(value = WEBHOOK_SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody String payload) {
+        log.debug("BEGIN - POST /v1/api/webhooks/payments/{} - Receiving payment webhook", provider);
+
+        PaymentWebhookAckDTO ack = paymentWebhookService.receiveWebhook(provider, timestamp, signature, payload);
+
+        log.debug("END - Payment webhook {} {}", ack.getEventId(), ack.isDuplicate() ? "was a duplicate" : "accepted");
+        return ResponseEntity.status(ack.isDuplicate() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(ack);
+    }
+}
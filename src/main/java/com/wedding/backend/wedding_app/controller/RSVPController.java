@@ -1,17 +1,22 @@
 package com.wedding.backend.wedding_app.controller;
 
 import com.wedding.backend.wedding_app.annotations.RSVPApiDocs;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.RSVPRequestDTO;
 import com.wedding.backend.wedding_app.dto.RSVPResponseDTO;
+import com.wedding.backend.wedding_app.enums.RsvpSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
 import com.wedding.backend.wedding_app.service.RSVPService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
 
 import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CREATED;
 import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.UPDATED;
@@ -65,12 +70,22 @@ public class RSVPController {
 
     @GetMapping
     @RSVPApiDocs.GetAllRSVPs
-    public ResponseEntity<List<RSVPResponseDTO>> getAllRSVPs() {
-        log.info("BEGIN - Fetching all RSVPs");
+    public ResponseEntity<CursorPageDTO<RSVPResponseDTO>> getAllRSVPs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "ID") RsvpSortField sort,
+            @RequestParam(defaultValue = "ASC") SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Boolean attending,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate submittedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate submittedTo) {
+        log.info("BEGIN - Fetching RSVP page sorted by {} {}", sort, direction);
         
-        List<RSVPResponseDTO> rsvps = rsvpService.getAllRSVPs();
+        CursorPageDTO<RSVPResponseDTO> rsvps = rsvpService.getRSVPPage(
+                CursorPageRequest.of(sort, direction, cursor, limit, includeTotal),
+                attending, submittedFrom, submittedTo);
         
-        log.info("END - Retrieved {} RSVPs", rsvps.size());
+        log.info("END - Retrieved {} RSVPs, more: {}", rsvps.getItems().size(), rsvps.isHasMore());
         return ResponseEntity.ok(rsvps);
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/v1/api/registry")
@@ -29,12 +30,20 @@ public class RegistryController {
      */
     @GetMapping("/overview")
     @RegistryApiDocs.GetRegistryOverview
-    public ResponseEntity<RegistryOverviewDTO> getRegistryOverview() {
+    public ResponseEntity<RegistryOverviewDTO> getRegistryOverview(WebRequest webRequest) {
         log.info("BEGIN - GET /v1/api/registry/overview - Fetching registry overview");
 
         RegistryOverviewDTO overview = registryService.getRegistryOverview();
+        String eTag = registryService.getRegistryOverviewETag(overview);
+
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("END - Registry overview not modified");
+            return null;
+        }
 
         log.info("END - Registry overview fetched successfully. Progress: {}%", overview.getProgressPercentage());
-        return ResponseEntity.ok(overview);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(overview);
     }
 }
\ No newline at end of file
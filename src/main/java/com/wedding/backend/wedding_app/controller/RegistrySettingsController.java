@@ -3,12 +3,14 @@ package com.wedding.backend.wedding_app.controller;
 import com.wedding.backend.wedding_app.annotations.RegistrySettingsApiDocs;
 import com.wedding.backend.wedding_app.dto.RegistrySettingsDTO;
 import com.wedding.backend.wedding_app.dto.RegistrySettingsRequestDTO;
+import com.wedding.backend.wedding_app.model.registry.RegistrySettingsSnapshot;
 import com.wedding.backend.wedding_app.service.RegistrySettingsService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/v1/api/registry/settings")
@@ -31,21 +34,29 @@ public class RegistrySettingsController {
 
     /**
      * Get active registry settings - This endpoint will be called by frontend
-     * Results are cached for 1 hour
+     * Served from memory with a version ETag; caches may store it but must revalidate
      */
     @GetMapping
     @RegistrySettingsApiDocs.GetActiveRegistrySettings
-    public ResponseEntity<RegistrySettingsDTO> getActiveRegistrySettings() {
+    public ResponseEntity<RegistrySettingsDTO> getActiveRegistrySettings(WebRequest webRequest) {
         log.info("BEGIN - GET /v1/api/registry/settings - Fetching active registry settings");
 
-        RegistrySettingsDTO settings = registrySettingsService.getActiveRegistrySettings();
+        RegistrySettingsSnapshot snapshot = registrySettingsService.getActiveSettingsSnapshot();
+
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            log.info("END - Registry settings not modified");
+            return null;
+        }
 
         log.info("END - Registry settings fetched successfully");
-        return ResponseEntity.ok(settings);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(snapshot.getSettings());
     }
 
     /**
-     * Update registry settings (admin only) - Clears cache automatically
+     * Update registry settings (admin only) - Replaces the cached snapshot
      */
     @PutMapping
     @RegistrySettingsApiDocs.UpdateRegistrySettings
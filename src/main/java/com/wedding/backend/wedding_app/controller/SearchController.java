@@ -0,0 +1,52 @@
+package com.wedding.backend.wedding_app.controller;
+
+import com.wedding.backend.wedding_app.annotations.SearchApiDocs;
+import com.wedding.backend.wedding_app.dto.SearchResponseDTO;
+import com.wedding.backend.wedding_app.enums.SearchResultType;
+import com.wedding.backend.wedding_app.service.SearchService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/api/search")
+@Tag(name = "Search", description = "Admin full-text search across donations and guest notes")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final Logger log = LoggerFactory.getLogger(SearchController.class);
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Ranked, paginated full-text search (admin only)
+     */
+    @GetMapping
+    @SearchApiDocs.Search
+    public ResponseEntity<SearchResponseDTO> search(
+            @Parameter(description = "Words to search for", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Result types to include (optional, defaults to all)")
+            @RequestParam(required = false) List<SearchResultType> types,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("BEGIN - GET /v1/api/search - Searching for: {}", query);
+
+        SearchResponseDTO response = searchService.search(query, types, page, size);
+
+        log.info("END - Returned {} of {} matches", response.getResults().size(), response.getTotalResults());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,70 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.enums.DonationAnalyticsInterval;
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.DonationBucketRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Time-series aggregates over donations for the admin analytics endpoint. Amounts are in the base currency.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class DonationAnalyticsDao {
+
+    /*
+     * One pass over the date range (idx_donations_donation_date), grouped by UTC bucket,
+     * payment method and status.
+     */
+    private static final String FIND_BUCKETS_SQL = """
+            SELECT CAST(date_trunc(?, donation_date AT TIME ZONE 'UTC') AS date) AS bucket_start,
+                   payment_method,
+                   status,
+                   COUNT(*) AS donation_count,
+                   COALESCE(SUM(normalized_amount), 0) AS total_amount,
+                   COALESCE(ROUND(AVG(normalized_amount), 2), 0) AS average_amount
+            FROM donations
+            WHERE donation_date >= ? AND donation_date < ?
+            GROUP BY 1, 2, 3
+            ORDER BY 1, 2, 3
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Aggregate donations into buckets
+     * @param interval The bucket size
+     * @param fromInclusive First UTC day to include
+     * @param toExclusive First UTC day to exclude
+     * @return Rows ordered by bucket, payment method and status
+     */
+    public List<DonationBucketRow> findBuckets(DonationAnalyticsInterval interval, LocalDate fromInclusive, LocalDate toExclusive) {
+        try {
+            return jdbcTemplate.query(FIND_BUCKETS_SQL,
+                    (rs, rowNum) -> new DonationBucketRow(
+                            rs.getObject("bucket_start", LocalDate.class),
+                            PaymentMethod.valueOf(rs.getString("payment_method")),
+                            Objects.nonNull(rs.getString("status")) ? DonationStatus.valueOf(rs.getString("status")) : null,
+                            rs.getLong("donation_count"),
+                            rs.getBigDecimal("total_amount"),
+                            rs.getBigDecimal("average_amount")),
+                    interval.getTruncUnit(),
+                    fromInclusive.atStartOfDay().atOffset(ZoneOffset.UTC),
+                    toExclusive.atStartOfDay().atOffset(ZoneOffset.UTC));
+        } catch (Exception e) {
+            log.error("Error aggregating {} donation buckets from {} to {}", interval, fromInclusive, toExclusive, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
@@ -3,22 +3,44 @@ package com.wedding.backend.wedding_app.dao;
 import com.wedding.backend.wedding_app.entity.DonationEntity;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.DonationTotalsView;
 import com.wedding.backend.wedding_app.repository.DonationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_DEDUPE_INDEX;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_UPDATE_BATCH_SIZE;
+
 @Repository
 @Slf4j
 @RequiredArgsConstructor
 public class DonationDao {
 
+    // RETURNING tells the reconciliation report which donations this run confirmed, as opposed to a webhook
+    private static final String CONFIRM_PENDING_DONATIONS_SQL = """
+            UPDATE donations SET status = 'CONFIRMED', confirmed_date = ?, updated_at = ?
+            WHERE id = ANY(?) AND status = 'PENDING'
+            RETURNING id
+            """;
+
     private final DonationRepository donationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * Save a new donation
@@ -30,9 +52,17 @@ public class DonationDao {
         log.info("Saving donation from donor: {}", donation.getDonorName());
 
         try {
-            DonationEntity savedDonation = donationRepository.save(donation);
+            // Flush so a dedupe hash collision surfaces here rather than at commit (pooled ids defer the INSERT)
+            DonationEntity savedDonation = donationRepository.saveAndFlush(donation);
             log.info("Donation saved successfully with ID: {}", savedDonation.getId());
             return savedDonation;
+        } catch (DataIntegrityViolationException e) {
+            if (StringUtils.contains(ExceptionUtils.getRootCauseMessage(e), DONATION_DEDUPE_INDEX)) {
+                log.warn("Donation from {} matches an existing donation's dedupe hash", donation.getDonorName());
+                throw WeddingAppException.duplicateDonation(donation.getDonorEmail());
+            }
+            log.error("Error saving donation to database", e);
+            throw WeddingAppException.databaseError();
         } catch (Exception e) {
             log.error("Error saving donation to database", e);
             throw WeddingAppException.databaseError();
@@ -62,6 +92,19 @@ public class DonationDao {
         }
     }
 
+    /**
+     * Load the donations on one page of a keyset-paged list (in no particular order)
+     */
+    @Transactional(readOnly = true)
+    public List<DonationEntity> findDonationsByIds(List<Long> ids) {
+        try {
+            return donationRepository.findAllById(ids);
+        } catch (Exception e) {
+            log.error("Error fetching donations by IDs", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Get all donations ordered by donation date desc
      * @return List of all donations
@@ -99,6 +142,74 @@ public class DonationDao {
         }
     }
 
+    /**
+     * Find the donation stored under a dedupe hash
+     * @param dedupeHash The hash from DonationDedupeService
+     * @return Optional donation entity
+     */
+    @Transactional(readOnly = true)
+    public Optional<DonationEntity> findDonationByDedupeHash(String dedupeHash) {
+        try {
+            return donationRepository.findByDedupeHash(dedupeHash);
+        } catch (Exception e) {
+            log.error("Error finding donation by dedupe hash", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Find donations made after a point in time
+     * @param since Exclusive lower bound on the donation date
+     * @return The recent donations
+     */
+    @Transactional(readOnly = true)
+    public List<DonationEntity> findDonationsSince(OffsetDateTime since) {
+        try {
+            return donationRepository.findByDonationDateAfter(since);
+        } catch (Exception e) {
+            log.error("Error fetching donations since: {}", since, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Find donations by id in one query
+     * @param donationIds The donation ids
+     * @return The donations that exist, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<DonationEntity> findDonationsByIds(Collection<Long> donationIds) {
+        if (CollectionUtils.isEmpty(donationIds)) {
+            return List.of();
+        }
+
+        try {
+            return donationRepository.findAllById(donationIds);
+        } catch (Exception e) {
+            log.error("Error fetching {} donations by ID", donationIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Find pending donations carrying any of the given payment references
+     * @param paymentReferences The payment references entered by donors
+     * @return Matching pending donations
+     */
+    @Transactional(readOnly = true)
+    public List<DonationEntity> findPendingDonationsByPaymentReferences(Collection<String> paymentReferences) {
+        if (CollectionUtils.isEmpty(paymentReferences)) {
+            return List.of();
+        }
+
+        try {
+            return donationRepository.findByPaymentReferenceInAndStatus(paymentReferences, DonationStatus.PENDING);
+        } catch (Exception e) {
+            log.error("Error fetching pending donations for {} payment references", paymentReferences.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Find confirmed donations without thank you emails sent
      * @return List of donations needing thank you emails
@@ -117,6 +228,72 @@ public class DonationDao {
         }
     }
 
+    /**
+     * Fetch the next chunk of confirmed donations still waiting for a thank-you email
+     * @param afterDonationId Keyset cursor (exclusive)
+     * @param limit Chunk size
+     * @return Donations ordered by id
+     */
+    @Transactional(readOnly = true)
+    public List<DonationEntity> findThankYouBacklogChunk(Long afterDonationId, int limit) {
+        try {
+            return donationRepository.findThankYouBacklogAfter(afterDonationId, PageRequest.of(0, limit));
+        } catch (Exception e) {
+            log.error("Error fetching thank you backlog after donation ID: {}", afterDonationId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Confirm pending donations in batched updates; donations no longer pending are left alone
+     * @param donationIds The donations to confirm
+     * @return IDs of the donations this call confirmed
+     */
+    @Transactional
+    public List<Long> confirmPendingDonations(List<Long> donationIds) {
+        if (CollectionUtils.isEmpty(donationIds)) {
+            return List.of();
+        }
+
+        try {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<Long> confirmed = new ArrayList<>();
+            for (List<Long> batch : ListUtils.partition(donationIds, DONATION_UPDATE_BATCH_SIZE)) {
+                Long[] ids = batch.toArray(Long[]::new);
+                confirmed.addAll(jdbcTemplate.query(CONFIRM_PENDING_DONATIONS_SQL, ps -> {
+                    ps.setObject(1, now);
+                    ps.setObject(2, now);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", ids));
+                }, (rs, rowNum) -> rs.getLong(1)));
+            }
+            log.info("Confirmed {} of {} pending donations", confirmed.size(), donationIds.size());
+            return confirmed;
+        } catch (Exception e) {
+            log.error("Error confirming {} pending donations", donationIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Stamp thank_you_sent_date for a chunk of donations with a single update
+     * @param donationIds The donations whose thank-you emails were sent
+     * @return Number of donations updated
+     */
+    @Transactional
+    public int markThankYouSent(List<Long> donationIds) {
+        if (CollectionUtils.isEmpty(donationIds)) {
+            return 0;
+        }
+
+        try {
+            int updated = donationRepository.markThankYouSent(donationIds, OffsetDateTime.now());
+            log.info("Marked thank you sent for {} donations", updated);
+            return updated;
+        } catch (Exception e) {
+            log.error("Error marking thank you sent for {} donations", donationIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
 
     /**
      * Update an existing donation
@@ -134,7 +311,7 @@ public class DonationDao {
                 throw WeddingAppException.donationNotFound(donation.getId());
             }
 
-            DonationEntity updatedDonation = donationRepository.save(donation);
+            DonationEntity updatedDonation = donationRepository.saveAndFlush(donation);
             log.info("Donation updated successfully with ID: {}", updatedDonation.getId());
             return updatedDonation;
         } catch (WeddingAppException e) {
@@ -165,6 +342,22 @@ public class DonationDao {
         }
     }
 
+    /**
+     * Get confirmed and pending donation totals with a single aggregate query
+     * @return Confirmed count, confirmed total in cents and pending count
+     */
+    @Transactional(readOnly = true)
+    public DonationTotalsView getDonationTotals() {
+        log.info("Fetching donation totals");
+
+        try {
+            return donationRepository.getDonationTotals();
+        } catch (Exception e) {
+            log.error("Error fetching donation totals", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Get total amount of confirmed donations
      * @return Total confirmed donation amount
@@ -219,28 +412,4 @@ public class DonationDao {
             throw WeddingAppException.databaseError();
         }
     }
-
-    /**
-     * Nullify guest references for donations associated with a specific guest
-     * @param guestId The guest ID to nullify references for
-     */
-    @Transactional
-    public void nullifyGuestReferences(Long guestId) {
-        log.info("Nullifying guest references for guest ID: {}", guestId);
-
-        try {
-            List<DonationEntity> donations = donationRepository.findByGuest_IdOrderByDonationDateDesc(guestId);
-            log.info("Found {} donations referencing guest ID: {}", donations.size(), guestId);
-            
-            for (DonationEntity donation : donations) {
-                donation.setGuest(null);
-                donationRepository.save(donation);
-            }
-            
-            log.info("Successfully nullified guest references for guest ID: {}", guestId);
-        } catch (Exception e) {
-            log.error("Error nullifying guest references for guest ID: {}", guestId, e);
-            throw WeddingAppException.databaseError();
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.DonationLedgerEntryDTO;
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LEDGER_EXPORT_FETCH_SIZE;
+
+/**
+ * Cursor-based read of the donations ledger for the accounting export
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class DonationLedgerDao {
+
+    /*
+     * Both bounds and the status filter are optional; an empty status array means every status.
+     * Ordered by (donation_date, id) so running totals are stable between exports.
+     */
+    private static final String STREAM_LEDGER_SQL = """
+            SELECT id, donation_date, confirmed_date, donor_name, donor_email, amount,
+                   currency, fx_rate, normalized_amount, payment_method, payment_reference, status
+            FROM donations
+            WHERE (CAST(? AS timestamptz) IS NULL OR donation_date >= ?)
+              AND (CAST(? AS timestamptz) IS NULL OR donation_date < ?)
+              AND (cardinality(CAST(? AS text[])) = 0 OR status = ANY(CAST(? AS text[])))
+            ORDER BY donation_date, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Walk the ledger one row at a time. The PostgreSQL driver only uses a server-side cursor inside a
+     * transaction, so only one fetch of rows is ever held in memory.
+     * @param fromInclusive Earliest donation date to include (optional)
+     * @param toExclusive Donation date to stop before (optional)
+     * @param statuses Statuses to include; empty for all
+     * @param consumer Receives each row in ledger order
+     * @return Number of rows read
+     */
+    @Transactional(readOnly = true)
+    public long streamLedger(OffsetDateTime fromInclusive, OffsetDateTime toExclusive,
+                             List<DonationStatus> statuses, Consumer<DonationLedgerEntryDTO> consumer) {
+        String[] statusNames = statuses.stream().map(DonationStatus::name).toArray(String[]::new);
+        long[] rows = {0L};
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(STREAM_LEDGER_SQL);
+                ps.setFetchSize(LEDGER_EXPORT_FETCH_SIZE);
+                ps.setObject(1, fromInclusive, Types.TIMESTAMP_WITH_TIMEZONE);
+                ps.setObject(2, fromInclusive, Types.TIMESTAMP_WITH_TIMEZONE);
+                ps.setObject(3, toExclusive, Types.TIMESTAMP_WITH_TIMEZONE);
+                ps.setObject(4, toExclusive, Types.TIMESTAMP_WITH_TIMEZONE);
+                ps.setArray(5, connection.createArrayOf("text", statusNames));
+                ps.setArray(6, connection.createArrayOf("text", statusNames));
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                consumer.accept(DonationLedgerEntryDTO.builder()
+                        .id(rs.getLong("id"))
+                        .donationDate(rs.getObject("donation_date", OffsetDateTime.class))
+                        .confirmedDate(rs.getObject("confirmed_date", OffsetDateTime.class))
+                        .donorName(rs.getString("donor_name"))
+                        .donorEmail(rs.getString("donor_email"))
+                        .amount(rs.getBigDecimal("amount"))
+                        .currency(rs.getString("currency"))
+                        .fxRate(rs.getBigDecimal("fx_rate"))
+                        .normalizedAmount(rs.getBigDecimal("normalized_amount"))
+                        .paymentMethod(PaymentMethod.valueOf(rs.getString("payment_method")))
+                        .paymentReference(rs.getString("payment_reference"))
+                        .status(Objects.nonNull(rs.getString("status")) ? DonationStatus.valueOf(rs.getString("status")) : null)
+                        .build());
+                rows[0]++;
+            });
+            return rows[0];
+        } catch (UncheckedIOException e) {
+            // The client went away mid-download; nothing to report back to it
+            throw e;
+        } catch (Exception e) {
+            log.error("Error streaming donation ledger after {} rows", rows[0], e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
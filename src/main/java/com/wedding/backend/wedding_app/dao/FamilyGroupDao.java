@@ -100,7 +100,7 @@ public class FamilyGroupDao {
         log.info("Saving family group: {}", familyGroup.getGroupName());
         
         try {
-            FamilyGroupEntity savedFamilyGroup = familyGroupRepository.save(familyGroup);
+            FamilyGroupEntity savedFamilyGroup = familyGroupRepository.saveAndFlush(familyGroup);
             log.info("Family group saved with ID: {}", savedFamilyGroup.getId());
             return savedFamilyGroup;
         } catch (Exception e) {
@@ -130,7 +130,7 @@ public class FamilyGroupDao {
                     .createdAt(OffsetDateTime.now())
                     .build();
 
-            FamilyGroupEntity savedFamilyGroup = familyGroupRepository.save(familyGroup);
+            FamilyGroupEntity savedFamilyGroup = familyGroupRepository.saveAndFlush(familyGroup);
             log.info("Family group created and saved: {}", savedFamilyGroup);
             return savedFamilyGroup;
         } catch (WeddingAppException e) {
@@ -153,7 +153,7 @@ public class FamilyGroupDao {
                 throw WeddingAppException.familyGroupNotFound(familyGroup.getId());
             }
 
-            FamilyGroupEntity updatedFamilyGroup = familyGroupRepository.save(familyGroup);
+            FamilyGroupEntity updatedFamilyGroup = familyGroupRepository.saveAndFlush(familyGroup);
             log.info("Family group updated successfully: {}", updatedFamilyGroup);
             return updatedFamilyGroup;
         } catch (WeddingAppException e) {
@@ -165,24 +165,21 @@ public class FamilyGroupDao {
     }
 
     /**
-     * Delete a family group by ID
+     * Take attending seats in a family group, or give them back with a negative count, in the caller's transaction.
+     * The capacity check and the increment are one conditional UPDATE, so concurrent RSVPs and admin adds
+     * can't both see a free seat; the group row is only locked from that statement until commit.
+     * @return false when the group doesn't have that many seats left (giving seats back always succeeds)
      */
     @Transactional
-    public void deleteById(Long id) {
-        log.info("Deleting family group with ID: {}", id);
+    public boolean adjustAttendingCount(Long familyGroupId, int seats) {
+        if (seats == 0) {
+            return true;
+        }
 
         try {
-            if (!familyGroupRepository.existsById(id)) {
-                log.warn("No family group found with ID: {} to delete", id);
-                throw WeddingAppException.familyGroupNotFound(id);
-            }
-
-            familyGroupRepository.deleteById(id);
-            log.info("Family group with ID: {} deleted successfully", id);
-        } catch (WeddingAppException e) {
-            throw e;
+            return familyGroupRepository.adjustAttendingCount(familyGroupId, seats) > 0;
         } catch (Exception e) {
-            log.error("Error deleting family group with ID: {}", id, e);
+            log.error("Error adjusting attending count of family group {} by {}", familyGroupId, seats, e);
             throw WeddingAppException.databaseError();
         }
     }
@@ -0,0 +1,206 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
+import com.wedding.backend.wedding_app.dto.FamilyMemberResponseDTO;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LIST_STREAM_FETCH_SIZE;
+
+/**
+ * Read path for family group listings, mapped straight into response DTOs.
+ *
+ * Groups, their primary contact and that contact's RSVP come back from one join; the members of all
+ * returned groups are fetched with a second query over an array of group IDs. Two statements per call,
+ * however many groups there are, instead of the entity graph's lazy and one-to-one loads per group.
+ * Listings are keyset-paged by KeysetPageDao, which picks the IDs loaded here, or streamed whole with the
+ * members joined in so the whole export is a single cursor.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class FamilyGroupReadDao {
+
+    private static final String SELECT_FAMILY_GROUPS_SQL = """
+            SELECT fg.id, fg.group_name, fg.max_attendees, fg.created_at,
+                   pc.id AS primary_contact_id, pc.first_name AS primary_contact_first_name,
+                   pc.last_name AS primary_contact_last_name, pc.email AS primary_contact_email,
+                   r.attending AS primary_contact_attending, r.submitted_at AS primary_contact_rsvp_submitted_at
+            FROM family_groups fg
+            LEFT JOIN guests pc ON pc.id = fg.primary_contact_guest_id
+            LEFT JOIN rsvps r ON r.guest_id = pc.id
+            """;
+
+    private static final String FIND_BY_ID_SQL = SELECT_FAMILY_GROUPS_SQL + "WHERE fg.id = ?";
+
+    private static final String FIND_BY_IDS_SQL = SELECT_FAMILY_GROUPS_SQL + "WHERE fg.id = ANY(?)";
+
+    private static final String FIND_MEMBERS_SQL = """
+            SELECT m.id AS member_id, m.first_name AS member_first_name, m.last_name AS member_last_name,
+                   m.age_group AS member_age_group, m.dietary_restrictions AS member_dietary_restrictions,
+                   m.is_attending AS member_is_attending, m.family_group_id
+            FROM family_members m
+            WHERE m.family_group_id = ANY(?)
+            ORDER BY m.family_group_id, m.id
+            """;
+
+    // One row per member (or one for a group without members), so each group's rows arrive together
+    private static final String STREAM_FAMILY_GROUPS_SQL = """
+            SELECT fg.id, fg.group_name, fg.max_attendees, fg.created_at,
+                   pc.id AS primary_contact_id, pc.first_name AS primary_contact_first_name,
+                   pc.last_name AS primary_contact_last_name, pc.email AS primary_contact_email,
+                   r.attending AS primary_contact_attending, r.submitted_at AS primary_contact_rsvp_submitted_at,
+                   m.id AS member_id, m.first_name AS member_first_name, m.last_name AS member_last_name,
+                   m.age_group AS member_age_group, m.dietary_restrictions AS member_dietary_restrictions,
+                   m.is_attending AS member_is_attending
+            FROM family_groups fg
+            LEFT JOIN guests pc ON pc.id = fg.primary_contact_guest_id
+            LEFT JOIN rsvps r ON r.guest_id = pc.id
+            LEFT JOIN family_members m ON m.family_group_id = fg.id
+            """;
+
+    private static final RowMapper<FamilyGroupResponseDTO> FAMILY_GROUP_MAPPER = (rs, rowNum) -> FamilyGroupResponseDTO.builder()
+            .id(rs.getLong("id"))
+            .groupName(rs.getString("group_name"))
+            .maxAttendees(rs.getObject("max_attendees", Integer.class))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+            .primaryContactGuestId(rs.getObject("primary_contact_id", Long.class))
+            .primaryContactFirstName(rs.getString("primary_contact_first_name"))
+            .primaryContactLastName(rs.getString("primary_contact_last_name"))
+            .primaryContactEmail(rs.getString("primary_contact_email"))
+            .primaryContactAttending(rs.getObject("primary_contact_attending", Boolean.class))
+            .primaryContactRsvpSubmittedAt(rs.getObject("primary_contact_rsvp_submitted_at", OffsetDateTime.class))
+            .familyMembers(new ArrayList<>())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Walk every family group matching the filters in list order, with its members, one group at a time.
+     * The PostgreSQL driver only uses a server-side cursor inside a transaction, so only one fetch of
+     * rows and the group being assembled are held in memory.
+     * @param filters Conditions over the "fg" family groups alias, as built for the keyset-paged list
+     * @param consumer Receives each family group in order
+     * @return Number of family groups read
+     */
+    @Transactional(readOnly = true)
+    public long streamFamilyGroups(KeysetPageQuery filters, KeysetSortField sort, SortDirection direction,
+                                   Consumer<FamilyGroupResponseDTO> consumer) {
+        String sql = STREAM_FAMILY_GROUPS_SQL + filters.whereClause() + filters.orderBy(sort, direction) + ", m.id";
+        FamilyGroupResponseDTO[] current = {null};
+        long[] groups = {0L};
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(LIST_STREAM_FETCH_SIZE);
+                new ArgumentPreparedStatementSetter(filters.getParams().toArray()).setValues(ps);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                if (current[0] == null || current[0].getId() != rs.getLong("id")) {
+                    if (current[0] != null) {
+                        consumer.accept(current[0]);
+                        groups[0]++;
+                    }
+                    current[0] = FAMILY_GROUP_MAPPER.mapRow(rs, (int) groups[0]);
+                }
+                if (Objects.nonNull(rs.getObject("member_id"))) {
+                    current[0].getFamilyMembers().add(mapMember(rs, current[0].getId()));
+                }
+            });
+            if (current[0] != null) {
+                consumer.accept(current[0]);
+                groups[0]++;
+            }
+            return groups[0];
+        } catch (UncheckedIOException e) {
+            // The client went away mid-download; nothing to report back to it
+            throw e;
+        } catch (Exception e) {
+            log.error("Error streaming family groups after {} groups", groups[0], e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    public Optional<FamilyGroupResponseDTO> findById(Long id) {
+        try {
+            List<FamilyGroupResponseDTO> familyGroups = jdbcTemplate.query(FIND_BY_ID_SQL, FAMILY_GROUP_MAPPER, id);
+            attachFamilyMembers(familyGroups);
+            return familyGroups.stream().findFirst();
+        } catch (Exception e) {
+            log.error("Error loading family group with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Load one page of a keyset-paged listing (in no particular order)
+     */
+    public List<FamilyGroupResponseDTO> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<FamilyGroupResponseDTO> familyGroups = jdbcTemplate.query(FIND_BY_IDS_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                    FAMILY_GROUP_MAPPER);
+            attachFamilyMembers(familyGroups);
+            return familyGroups;
+        } catch (Exception e) {
+            log.error("Error loading {} family groups by ID", ids.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    private void attachFamilyMembers(List<FamilyGroupResponseDTO> familyGroups) {
+        if (familyGroups.isEmpty()) {
+            return;
+        }
+
+        Map<Long, FamilyGroupResponseDTO> byId = new LinkedHashMap<>();
+        familyGroups.forEach(familyGroup -> byId.put(familyGroup.getId(), familyGroup));
+
+        jdbcTemplate.query(FIND_MEMBERS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", byId.keySet().toArray())),
+                rs -> {
+                    FamilyGroupResponseDTO familyGroup = byId.get(rs.getLong("family_group_id"));
+                    familyGroup.getFamilyMembers().add(mapMember(rs, familyGroup.getId()));
+                });
+    }
+
+    private static FamilyMemberResponseDTO mapMember(ResultSet rs, Long familyGroupId) throws SQLException {
+        return FamilyMemberResponseDTO.builder()
+                .id(rs.getLong("member_id"))
+                .firstName(rs.getString("member_first_name"))
+                .lastName(rs.getString("member_last_name"))
+                .ageGroup(rs.getString("member_age_group"))
+                .dietaryRestrictions(rs.getString("member_dietary_restrictions"))
+                .isAttending(rs.getObject("member_is_attending", Boolean.class))
+                .familyGroupId(familyGroupId)
+                .build();
+    }
+}
@@ -51,6 +51,20 @@ public class FamilyMemberDao {
         }
     }
 
+    /**
+     * Set the attending members of a family group to not attending, in the caller's transaction
+     * @return Number of members reset, which is the number of seats they gave back
+     */
+    @Transactional
+    public int resetAttendanceByFamilyGroupId(Long familyGroupId) {
+        try {
+            return familyMemberRepository.resetAttendanceByFamilyGroupId(familyGroupId);
+        } catch (Exception e) {
+            log.error("Error resetting attendance for family group ID: {}", familyGroupId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Find attending family members for a family group
      */
@@ -103,7 +117,7 @@ public class FamilyMemberDao {
                     .isAttending(isAttending)
                     .build();
 
-            FamilyMemberEntity savedFamilyMember = familyMemberRepository.save(familyMember);
+            FamilyMemberEntity savedFamilyMember = familyMemberRepository.saveAndFlush(familyMember);
             log.info("Family member created and saved: {}", savedFamilyMember);
             return savedFamilyMember;
         } catch (Exception e) {
@@ -120,7 +134,7 @@ public class FamilyMemberDao {
         log.info("Saving family member: {} {}", familyMember.getFirstName(), familyMember.getLastName());
 
         try {
-            FamilyMemberEntity savedFamilyMember = familyMemberRepository.save(familyMember);
+            FamilyMemberEntity savedFamilyMember = familyMemberRepository.saveAndFlush(familyMember);
             log.info("Family member saved successfully: {}", savedFamilyMember);
             return savedFamilyMember;
         } catch (Exception e) {
@@ -137,7 +151,7 @@ public class FamilyMemberDao {
         log.info("Saving {} family members", familyMembers.size());
 
         try {
-            List<FamilyMemberEntity> savedFamilyMembers = familyMemberRepository.saveAll(familyMembers);
+            List<FamilyMemberEntity> savedFamilyMembers = familyMemberRepository.saveAllAndFlush(familyMembers);
             log.info("Successfully saved {} family members", savedFamilyMembers.size());
             return savedFamilyMembers;
         } catch (Exception e) {
@@ -158,7 +172,7 @@ public class FamilyMemberDao {
                 throw WeddingAppException.familyMemberNotFound(familyMember.getId());
             }
 
-            FamilyMemberEntity updatedFamilyMember = familyMemberRepository.save(familyMember);
+            FamilyMemberEntity updatedFamilyMember = familyMemberRepository.saveAndFlush(familyMember);
             log.info("Family member updated successfully: {}", updatedFamilyMember);
             return updatedFamilyMember;
         } catch (WeddingAppException e) {
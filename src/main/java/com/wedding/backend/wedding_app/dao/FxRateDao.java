@@ -0,0 +1,69 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.FxRateDTO;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * The locally maintained FX rate table
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class FxRateDao {
+
+    private static final String FIND_ALL_RATES_SQL = """
+            SELECT currency_code, rate_to_base, updated_at
+            FROM fx_rates
+            ORDER BY currency_code
+            """;
+
+    private static final String UPSERT_RATE_SQL = """
+            INSERT INTO fx_rates (currency_code, rate_to_base, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (currency_code) DO UPDATE
+                SET rate_to_base = EXCLUDED.rate_to_base,
+                    updated_at = EXCLUDED.updated_at
+            RETURNING currency_code, rate_to_base, updated_at
+            """;
+
+    private static final RowMapper<FxRateDTO> FX_RATE_MAPPER = (rs, rowNum) -> FxRateDTO.builder()
+            .currencyCode(rs.getString("currency_code"))
+            .rateToBase(rs.getBigDecimal("rate_to_base"))
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<FxRateDTO> findAllRates() {
+        try {
+            return jdbcTemplate.query(FIND_ALL_RATES_SQL, FX_RATE_MAPPER);
+        } catch (Exception e) {
+            log.error("Error fetching FX rates", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Insert or replace the rate for one currency
+     * @param currencyCode ISO 4217 code
+     * @param rateToBase Base-currency units per one unit of the currency
+     * @return The stored rate
+     */
+    public FxRateDTO upsertRate(String currencyCode, BigDecimal rateToBase) {
+        try {
+            return jdbcTemplate.queryForObject(UPSERT_RATE_SQL, FX_RATE_MAPPER, currencyCode, rateToBase);
+        } catch (Exception e) {
+            log.error("Error saving FX rate for currency: {}", currencyCode, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestCleanupResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Set-based guest and family group deletes.
+ *
+ * Every statement takes the whole id list as one bigint[] parameter, so deleting one guest or a thousand
+ * is the same fixed number of round trips. Dependent rows are cleared explicitly rather than through JPA
+ * cascades, because the Hibernate-generated foreign keys don't carry ON DELETE actions.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestCleanupDao {
+
+    private static final String DETACH_DONATIONS_SQL = """
+            UPDATE donations SET guest_id = NULL
+            WHERE guest_id = ANY(?)
+            """;
+
+    private static final String CLEAR_PRIMARY_CONTACTS_SQL = """
+            UPDATE family_groups SET primary_contact_guest_id = NULL
+            WHERE primary_contact_guest_id = ANY(?)
+            """;
+
+    private static final String DELETE_RSVPS_SQL = """
+            DELETE FROM rsvps
+            WHERE guest_id = ANY(?)
+            """;
+
+    private static final String DELETE_INVITATION_CODES_SQL = """
+            DELETE FROM invitation_codes
+            WHERE guest_id = ANY(?)
+            """;
+
+    // guest_reminders rows go with the guest through ON DELETE CASCADE
+    private static final String DELETE_GUESTS_SQL = """
+            DELETE FROM guests
+            WHERE id = ANY(?)
+            RETURNING id
+            """;
+
+    private static final String FIND_FAMILY_GUEST_IDS_SQL = """
+            SELECT id FROM guests
+            WHERE family_group_id = ANY(?)
+            """;
+
+    private static final String DELETE_FAMILY_MEMBERS_SQL = """
+            DELETE FROM family_members
+            WHERE family_group_id = ANY(?)
+            """;
+
+    private static final String DELETE_FAMILY_GROUPS_SQL = """
+            DELETE FROM family_groups
+            WHERE id = ANY(?)
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Null out donation references to the given guests; the donations themselves are kept
+     * @param guestIds The guests being removed
+     * @return Number of donations detached
+     */
+    public int detachDonations(List<Long> guestIds) {
+        if (CollectionUtils.isEmpty(guestIds)) {
+            return 0;
+        }
+
+        try {
+            return jdbcTemplate.update(DETACH_DONATIONS_SQL, idArray(guestIds));
+        } catch (Exception e) {
+            log.error("Error detaching donations from {} guests", guestIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Delete guests along with their RSVPs and invitation codes, detaching donations and
+     * clearing any family group primary contact that points at them
+     * @param guestIds The guests to delete; unknown ids are ignored
+     * @return The guests actually deleted
+     */
+    @Transactional
+    public GuestCleanupResult deleteGuests(List<Long> guestIds) {
+        if (CollectionUtils.isEmpty(guestIds)) {
+            return GuestCleanupResult.builder().build();
+        }
+
+        try {
+            return deleteGuestRows(guestIds).build();
+        } catch (Exception e) {
+            log.error("Error deleting {} guests", guestIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Delete family groups with their members and guests (and everything deleteGuests removes for those guests)
+     * @param familyGroupIds The family groups to delete; unknown ids are ignored
+     * @return The family groups, members and guests actually deleted
+     */
+    @Transactional
+    public GuestCleanupResult deleteFamilyGroups(List<Long> familyGroupIds) {
+        if (CollectionUtils.isEmpty(familyGroupIds)) {
+            return GuestCleanupResult.builder().build();
+        }
+
+        try {
+            PreparedStatementSetter groupIds = idArray(familyGroupIds);
+            List<Long> guestIds = jdbcTemplate.query(FIND_FAMILY_GUEST_IDS_SQL, groupIds,
+                    (rs, rowNum) -> rs.getLong(1));
+
+            GuestCleanupResult.GuestCleanupResultBuilder result = CollectionUtils.isEmpty(guestIds)
+                    ? GuestCleanupResult.builder()
+                    : deleteGuestRows(guestIds);
+
+            int deletedMembers = jdbcTemplate.update(DELETE_FAMILY_MEMBERS_SQL, groupIds);
+            List<Long> deletedGroupIds = jdbcTemplate.query(DELETE_FAMILY_GROUPS_SQL, groupIds,
+                    (rs, rowNum) -> rs.getLong(1));
+
+            return result
+                    .deletedFamilyMembers(deletedMembers)
+                    .deletedFamilyGroupIds(deletedGroupIds)
+                    .build();
+        } catch (Exception e) {
+            log.error("Error deleting {} family groups", familyGroupIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    private GuestCleanupResult.GuestCleanupResultBuilder deleteGuestRows(List<Long> guestIds) {
+        PreparedStatementSetter ids = idArray(guestIds);
+
+        int detached = jdbcTemplate.update(DETACH_DONATIONS_SQL, ids);
+        jdbcTemplate.update(CLEAR_PRIMARY_CONTACTS_SQL, ids);
+        jdbcTemplate.update(DELETE_RSVPS_SQL, ids);
+        jdbcTemplate.update(DELETE_INVITATION_CODES_SQL, ids);
+        List<Long> deleted = jdbcTemplate.query(DELETE_GUESTS_SQL, ids, (rs, rowNum) -> rs.getLong(1));
+
+        log.info("Deleted {} of {} guests, detached {} donations", deleted.size(), guestIds.size(), detached);
+
+        return GuestCleanupResult.builder()
+                .deletedGuestIds(deleted)
+                .detachedDonations(detached);
+    }
+
+    private PreparedStatementSetter idArray(List<Long> ids) {
+        Long[] values = ids.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+        return ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", values));
+    }
+}
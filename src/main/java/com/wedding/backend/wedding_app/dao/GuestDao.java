@@ -1,10 +1,9 @@
 package com.wedding.backend.wedding_app.dao;
 
-import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
-import com.wedding.backend.wedding_app.repository.FamilyGroupRepository;
 import com.wedding.backend.wedding_app.repository.GuestRepository;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -25,7 +24,6 @@ import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.NONE;
 public class GuestDao {
 
     private final GuestRepository guestRepository;
-    private final FamilyGroupRepository familyGroupRepository;
     
     /**
      * Find guest by ID
@@ -84,7 +82,7 @@ public class GuestDao {
     }
 
     /**
-     * Find guest by first and last name (case-insensitive)
+     * Find guest by first and last name, ignoring case, accents, punctuation and extra whitespace
      * @param firstName The guest's first name
      * @param lastName The guest's last name
      * @return Optional guest entity
@@ -100,8 +98,7 @@ public class GuestDao {
         log.info("Fetching guest with firstName={}, lastName={}", firstName, lastName);
 
         try {
-            Optional<GuestEntity> guestOpt = 
-                    guestRepository.findByFirstNameIgnoreCaseAndLastNameIgnoreCase(firstName, lastName);
+            Optional<GuestEntity> guestOpt = findByNormalizedName(firstName, lastName);
 
             if (guestOpt.isPresent()) {
                 log.info("Guest found with name: {} {}", firstName, lastName);
@@ -177,8 +174,7 @@ public class GuestDao {
 
         try {
             // Check if guest already exists
-            Optional<GuestEntity> existingGuest = 
-                    guestRepository.findByFirstNameIgnoreCaseAndLastNameIgnoreCase(firstName, lastName);
+            Optional<GuestEntity> existingGuest = findByNormalizedName(firstName, lastName);
             
             if (existingGuest.isPresent()) {
                 log.warn("Guest with name {} {} already exists", firstName, lastName);
@@ -193,7 +189,7 @@ public class GuestDao {
                     .plusOneAllowed(plusOneAllowed)
                     .build();
 
-            GuestEntity savedGuest = guestRepository.save(guest);
+            GuestEntity savedGuest = guestRepository.saveAndFlush(guest);
             log.info("Guest created and saved to DB: {}", savedGuest);
             return savedGuest;
         } catch (WeddingAppException e) {
@@ -224,7 +220,7 @@ public class GuestDao {
                 throw WeddingAppException.guestNotFound(guest.getId());
             }
 
-            GuestEntity updatedGuest = guestRepository.save(guest);
+            GuestEntity updatedGuest = guestRepository.saveAndFlush(guest);
             log.info("Guest updated successfully: {}", updatedGuest);
             return updatedGuest;
         } catch (WeddingAppException e) {
@@ -236,44 +232,29 @@ public class GuestDao {
     }
 
     /**
-     * Delete a guest by ID
-     * @param id The guest ID to delete
+     * Fill in normalized names for guests written before the normalized columns existed
+     * @return Number of guests updated
      */
     @Transactional
-    public void deleteGuest(Long id) {
-        if (Objects.isNull(id)) {
-            throw WeddingAppException.invalidParameter("Guest ID cannot be null");
-        }
-        
-        log.info("Deleting guest with ID: {}", id);
-
+    public int backfillNormalizedNames() {
         try {
-            if (BooleanUtils.isFalse(guestRepository.existsById(id))) {
-                log.warn("No guest found with ID: {} to delete", id);
-                throw WeddingAppException.guestNotFound(id);
-            }
-            
-            // Check if this guest is a primary contact for any family group
-            Optional<FamilyGroupEntity> familyGroupOpt = familyGroupRepository.findByPrimaryContactId(id);
-            if (familyGroupOpt.isPresent()) {
-                FamilyGroupEntity familyGroup = familyGroupOpt.get();
-                log.info("Guest ID: {} is primary contact for family group: {}. Clearing primary contact reference.", 
-                        id, familyGroup.getId());
-                
-                // Set primary contact to null to avoid foreign key constraint
-                familyGroup.setPrimaryContact(null);
-                familyGroupRepository.save(familyGroup);
-                
-                log.info("Primary contact cleared for family group: {}", familyGroup.getId());
-            }
-            
-            guestRepository.deleteById(id);
-            log.info("Guest with ID: {} deleted successfully", id);
-        } catch (WeddingAppException e) {
-            throw e;
+            List<GuestEntity> guests = guestRepository.findByNormalizedFirstNameIsNullOrNormalizedLastNameIsNull();
+            guests.forEach(GuestEntity::normalizeNames);
+            guestRepository.saveAllAndFlush(guests);
+            return guests.size();
         } catch (Exception e) {
-            log.error("Error deleting guest with ID: {}", id, e);
+            log.error("Error backfilling normalized guest names", e);
             throw WeddingAppException.databaseError();
         }
     }
-}
\ No newline at end of file
+
+    private Optional<GuestEntity> findByNormalizedName(String firstName, String lastName) {
+        String normalizedFirstName = NameMatchUtils.normalize(firstName);
+        String normalizedLastName = NameMatchUtils.normalize(lastName);
+        if (StringUtils.isAnyEmpty(normalizedFirstName, normalizedLastName)) {
+            return Optional.empty();
+        }
+        return guestRepository.findFirstByNormalizedLastNameAndNormalizedFirstNameOrderByIdAsc(
+                normalizedLastName, normalizedFirstName);
+    }
+}
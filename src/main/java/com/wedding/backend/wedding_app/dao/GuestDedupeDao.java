@@ -0,0 +1,362 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestDedupeRecord;
+import com.wedding.backend.wedding_app.model.guest.GuestHouseholdFoldResult;
+import com.wedding.backend.wedding_app.model.guest.GuestMergeResult;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_DEDUPE_MIN_PHONE_DIGITS;
+
+/**
+ * Loads guests for the duplicate finder, merges one guest into another and folds two guests of one
+ * household into the same family group.
+ *
+ * A merge is one transaction of set-based statements: the duplicate's RSVP, invitation codes, donations,
+ * reminder history and family group move to the survivor, then the duplicate is deleted. A household
+ * fold keeps both guests and only moves family groups. Both guest rows are locked first, so two merges or
+ * folds touching the same guest run one after the other.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestDedupeDao {
+
+    private static final String FIND_DEDUPE_RECORDS_SQL = """
+            SELECT g.id, g.first_name, g.last_name, g.email, g.phone, g.family_group_id, g.is_primary_contact,
+                   EXISTS (SELECT 1 FROM rsvps r WHERE r.guest_id = g.id) AS has_rsvp
+            FROM guests g
+            """;
+
+    private static final String LOCK_GUESTS_SQL = """
+            SELECT id, family_group_id, is_primary_contact FROM guests
+            WHERE id IN (?, ?)
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    // Same order as an RSVP submission (guest, then family group), so the two never deadlock
+    private static final String LOCK_FAMILY_GROUPS_SQL = """
+            SELECT id FROM family_groups
+            WHERE id IN (?, ?)
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    // Guests have at most one RSVP: keep whichever of the two was submitted last
+    private static final String DELETE_OLDER_RSVP_SQL = """
+            DELETE FROM rsvps
+            WHERE guest_id IN (?, ?)
+              AND id <> (
+                  SELECT id FROM rsvps
+                  WHERE guest_id IN (?, ?)
+                  ORDER BY submitted_at DESC NULLS LAST, id DESC
+                  LIMIT 1
+              )
+            RETURNING guest_id
+            """;
+
+    // Family members answered for by the deleted RSVP, as when that RSVP is deleted through the API
+    private static final String RESET_MEMBER_ATTENDANCE_SQL = """
+            UPDATE family_members SET is_attending = false, dietary_restrictions = NULL
+            WHERE family_group_id = ?
+            """;
+
+    private static final String MOVE_RSVP_SQL = """
+            UPDATE rsvps SET guest_id = ?
+            WHERE guest_id = ?
+            """;
+
+    private static final String MOVE_INVITATION_CODES_SQL = """
+            UPDATE invitation_codes SET guest_id = ?
+            WHERE guest_id = ?
+            """;
+
+    private static final String MOVE_DONATIONS_SQL = """
+            UPDATE donations SET guest_id = ?
+            WHERE guest_id = ?
+            """;
+
+    // Otherwise the duplicate's reminder row goes with it through ON DELETE CASCADE
+    private static final String MOVE_REMINDER_SQL = """
+            UPDATE guest_reminders SET guest_id = ?
+            WHERE guest_id = ?
+              AND NOT EXISTS (SELECT 1 FROM guest_reminders WHERE guest_id = ?)
+            """;
+
+    private static final String SET_FAMILY_GROUP_SQL = """
+            UPDATE guests SET family_group_id = ?, is_primary_contact = ?
+            WHERE id = ?
+            """;
+
+    private static final String MOVE_PRIMARY_CONTACT_SQL = """
+            UPDATE family_groups SET primary_contact_guest_id = ?
+            WHERE primary_contact_guest_id = ?
+            """;
+
+    private static final String CLEAR_PRIMARY_CONTACT_SQL = """
+            UPDATE family_groups SET primary_contact_guest_id = NULL
+            WHERE primary_contact_guest_id = ?
+            """;
+
+    private static final String MOVE_GROUP_GUESTS_SQL = """
+            UPDATE guests SET family_group_id = ?, is_primary_contact = false
+            WHERE family_group_id = ? AND id <> ?
+            """;
+
+    private static final String MOVE_HOUSEHOLD_GUESTS_SQL = """
+            UPDATE guests SET family_group_id = ?, is_primary_contact = false
+            WHERE family_group_id = ?
+            """;
+
+    private static final String MOVE_GROUP_MEMBERS_SQL = """
+            UPDATE family_members SET family_group_id = ?
+            WHERE family_group_id = ?
+            """;
+
+    // The merged person held a seat in each group, so the combined group has one seat fewer than both
+    private static final String FOLD_GROUP_CAPACITY_SQL = """
+            UPDATE family_groups s
+            SET max_attendees = s.max_attendees + d.max_attendees - 1
+            FROM family_groups d
+            WHERE s.id = ? AND d.id = ?
+            """;
+
+    // Different people: every seat of both groups is still needed
+    private static final String FOLD_HOUSEHOLD_CAPACITY_SQL = """
+            UPDATE family_groups s
+            SET max_attendees = s.max_attendees + d.max_attendees
+            FROM family_groups d
+            WHERE s.id = ? AND d.id = ?
+            """;
+
+    private static final String ADD_SEAT_SQL = """
+            UPDATE family_groups SET max_attendees = max_attendees + 1
+            WHERE id = ?
+            """;
+
+    // Once members have moved or been reset, the counter is taken from the member rows rather than adjusted
+    private static final String RECOUNT_ATTENDING_SQL = """
+            UPDATE family_groups
+            SET attending_count = (
+                SELECT COUNT(*) FROM family_members
+                WHERE family_group_id = ? AND is_attending
+            )
+            WHERE id = ?
+            """;
+
+    private static final String FILL_CONTACT_DETAILS_SQL = """
+            UPDATE guests s
+            SET email = COALESCE(NULLIF(s.email, ''), d.email),
+                phone = COALESCE(NULLIF(s.phone, ''), d.phone),
+                plus_one_allowed = COALESCE(s.plus_one_allowed, false) OR COALESCE(d.plus_one_allowed, false)
+            FROM guests d
+            WHERE s.id = ? AND d.id = ?
+            """;
+
+    private static final String DELETE_GUEST_SQL = """
+            DELETE FROM guests
+            WHERE id = ?
+            """;
+
+    private static final String DELETE_FAMILY_GROUP_SQL = """
+            DELETE FROM family_groups
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Every guest with normalized names, email and phone, for blocking and scoring in memory
+     */
+    public List<GuestDedupeRecord> findDedupeRecords() {
+        try {
+            return jdbcTemplate.query(FIND_DEDUPE_RECORDS_SQL, (rs, rowNum) -> GuestDedupeRecord.builder()
+                    .id(rs.getLong("id"))
+                    .normalizedFirstName(NameMatchUtils.normalize(rs.getString("first_name")))
+                    .normalizedLastName(NameMatchUtils.normalize(rs.getString("last_name")))
+                    .email(StringUtils.trimToEmpty(rs.getString("email")).toLowerCase(Locale.ROOT))
+                    .phone(phoneDigits(rs.getString("phone")))
+                    .familyGroupId(rs.getObject("family_group_id", Long.class))
+                    .primaryContact(Boolean.TRUE.equals(rs.getObject("is_primary_contact", Boolean.class)))
+                    .hasRsvp(rs.getBoolean("has_rsvp"))
+                    .build());
+        } catch (Exception e) {
+            log.error("Error loading guests for duplicate detection", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Fold the duplicate guest into the survivor and delete it.
+     *
+     * The survivor keeps its own family group. When only the duplicate had one, the survivor takes its place
+     * there (as primary contact if the duplicate was); when they were in different groups, the duplicate's
+     * group, with its guests, members and seats, is folded into the survivor's and deleted. Family members
+     * answered for by the RSVP that is dropped are set to not attending, and the attending counter of the
+     * survivor's group is recounted from its members.
+     * @throws WeddingAppException GUEST_NOT_FOUND when either guest doesn't exist
+     */
+    @Transactional
+    public GuestMergeResult mergeGuests(Long survivorId, Long duplicateId) {
+        try {
+            Map<Long, LockedGuest> locked = new HashMap<>();
+            jdbcTemplate.query(LOCK_GUESTS_SQL, rs -> {
+                locked.put(rs.getLong("id"), new LockedGuest(rs.getObject("family_group_id", Long.class),
+                        Boolean.TRUE.equals(rs.getObject("is_primary_contact", Boolean.class))));
+            }, survivorId, duplicateId);
+            if (!locked.containsKey(survivorId)) {
+                throw WeddingAppException.guestNotFound(survivorId);
+            }
+            if (!locked.containsKey(duplicateId)) {
+                throw WeddingAppException.guestNotFound(duplicateId);
+            }
+
+            Long survivorGroupId = locked.get(survivorId).familyGroupId();
+            Long duplicateGroupId = locked.get(duplicateId).familyGroupId();
+            boolean duplicateIsPrimary = locked.get(duplicateId).primaryContact();
+            Long foldedGroupId = null;
+            jdbcTemplate.queryForList(LOCK_FAMILY_GROUPS_SQL, Long.class, survivorGroupId, duplicateGroupId);
+
+            GuestMergeResult.GuestMergeResultBuilder result = GuestMergeResult.builder()
+                    .survivorId(survivorId)
+                    .mergedGuestId(duplicateId);
+
+            List<Long> droppedRsvpGuestIds = jdbcTemplate.queryForList(DELETE_OLDER_RSVP_SQL, Long.class,
+                    survivorId, duplicateId, survivorId, duplicateId);
+            for (Long guestId : droppedRsvpGuestIds) {
+                Long droppedGroupId = locked.get(guestId).familyGroupId();
+                Long keptGroupId = locked.get(guestId.equals(survivorId) ? duplicateId : survivorId).familyGroupId();
+                if (Objects.nonNull(droppedGroupId) && !droppedGroupId.equals(keptGroupId)) {
+                    jdbcTemplate.update(RESET_MEMBER_ATTENDANCE_SQL, droppedGroupId);
+                }
+            }
+            result.removedRsvps(droppedRsvpGuestIds.size())
+                    .movedRsvps(jdbcTemplate.update(MOVE_RSVP_SQL, survivorId, duplicateId))
+                    .movedInvitationCodes(jdbcTemplate.update(MOVE_INVITATION_CODES_SQL, survivorId, duplicateId))
+                    .movedDonations(jdbcTemplate.update(MOVE_DONATIONS_SQL, survivorId, duplicateId));
+            jdbcTemplate.update(MOVE_REMINDER_SQL, survivorId, duplicateId, survivorId);
+
+            if (Objects.nonNull(duplicateGroupId) && Objects.isNull(survivorGroupId)) {
+                jdbcTemplate.update(SET_FAMILY_GROUP_SQL, duplicateGroupId, duplicateIsPrimary, survivorId);
+                jdbcTemplate.update(MOVE_PRIMARY_CONTACT_SQL, survivorId, duplicateId);
+            } else if (Objects.nonNull(duplicateGroupId) && duplicateGroupId.equals(survivorGroupId)) {
+                if (duplicateIsPrimary) {
+                    jdbcTemplate.update(SET_FAMILY_GROUP_SQL, survivorGroupId, true, survivorId);
+                    jdbcTemplate.update(MOVE_PRIMARY_CONTACT_SQL, survivorId, duplicateId);
+                }
+            } else if (Objects.nonNull(duplicateGroupId)) {
+                jdbcTemplate.update(MOVE_GROUP_GUESTS_SQL, survivorGroupId, duplicateGroupId, duplicateId);
+                jdbcTemplate.update(MOVE_GROUP_MEMBERS_SQL, survivorGroupId, duplicateGroupId);
+                jdbcTemplate.update(FOLD_GROUP_CAPACITY_SQL, survivorGroupId, duplicateGroupId);
+                foldedGroupId = duplicateGroupId;
+            }
+
+            jdbcTemplate.update(CLEAR_PRIMARY_CONTACT_SQL, duplicateId);
+            jdbcTemplate.update(FILL_CONTACT_DETAILS_SQL, survivorId, duplicateId);
+            jdbcTemplate.update(DELETE_GUEST_SQL, duplicateId);
+            if (Objects.nonNull(foldedGroupId)) {
+                jdbcTemplate.update(DELETE_FAMILY_GROUP_SQL, foldedGroupId);
+            }
+            Long mergedGroupId = Objects.nonNull(survivorGroupId) ? survivorGroupId : duplicateGroupId;
+            if (Objects.nonNull(mergedGroupId)) {
+                jdbcTemplate.update(RECOUNT_ATTENDING_SQL, mergedGroupId, mergedGroupId);
+            }
+
+            GuestMergeResult merged = result.foldedFamilyGroupId(foldedGroupId).build();
+            log.info("Merged guest {} into {}: {}", duplicateId, survivorId, merged);
+            return merged;
+        } catch (WeddingAppException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error merging guest {} into {}", duplicateId, survivorId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Put two guests of one household into the same family group, deleting neither.
+     *
+     * The first guest's group is kept (the other's, when the first has none). A guest without a group joins
+     * it and adds a seat; otherwise its whole group, with its guests, members and seats, is folded in and
+     * deleted. RSVPs stay with their guests, and the kept group's attending counter is recounted.
+     * @throws WeddingAppException GUEST_NOT_FOUND when either guest doesn't exist, INVALID_PARAMETER when
+     * neither has a family group or both are already in the same one
+     */
+    @Transactional
+    public GuestHouseholdFoldResult foldHousehold(Long guestId, Long otherGuestId) {
+        try {
+            Map<Long, LockedGuest> locked = new HashMap<>();
+            jdbcTemplate.query(LOCK_GUESTS_SQL, rs -> {
+                locked.put(rs.getLong("id"), new LockedGuest(rs.getObject("family_group_id", Long.class),
+                        Boolean.TRUE.equals(rs.getObject("is_primary_contact", Boolean.class))));
+            }, guestId, otherGuestId);
+            if (!locked.containsKey(guestId)) {
+                throw WeddingAppException.guestNotFound(guestId);
+            }
+            if (!locked.containsKey(otherGuestId)) {
+                throw WeddingAppException.guestNotFound(otherGuestId);
+            }
+
+            Long keptGroupId = locked.get(guestId).familyGroupId();
+            Long movedGuestId = otherGuestId;
+            Long movedGroupId = locked.get(otherGuestId).familyGroupId();
+            if (Objects.isNull(keptGroupId)) {
+                keptGroupId = movedGroupId;
+                movedGuestId = guestId;
+                movedGroupId = null;
+            }
+            if (Objects.isNull(keptGroupId)) {
+                throw WeddingAppException.invalidParameter("neither guest is in a family group");
+            }
+            if (keptGroupId.equals(movedGroupId)) {
+                throw WeddingAppException.invalidParameter("guests are already in the same family group");
+            }
+            jdbcTemplate.queryForList(LOCK_FAMILY_GROUPS_SQL, Long.class, keptGroupId, movedGroupId);
+
+            GuestHouseholdFoldResult.GuestHouseholdFoldResultBuilder result = GuestHouseholdFoldResult.builder()
+                    .familyGroupId(keptGroupId);
+            if (Objects.isNull(movedGroupId)) {
+                jdbcTemplate.update(SET_FAMILY_GROUP_SQL, keptGroupId, false, movedGuestId);
+                jdbcTemplate.update(ADD_SEAT_SQL, keptGroupId);
+                result.movedGuests(1);
+            } else {
+                result.movedGuests(jdbcTemplate.update(MOVE_HOUSEHOLD_GUESTS_SQL, keptGroupId, movedGroupId))
+                        .movedFamilyMembers(jdbcTemplate.update(MOVE_GROUP_MEMBERS_SQL, keptGroupId, movedGroupId));
+                jdbcTemplate.update(FOLD_HOUSEHOLD_CAPACITY_SQL, keptGroupId, movedGroupId);
+                jdbcTemplate.update(DELETE_FAMILY_GROUP_SQL, movedGroupId);
+                result.foldedFamilyGroupId(movedGroupId);
+            }
+            jdbcTemplate.update(RECOUNT_ATTENDING_SQL, keptGroupId, keptGroupId);
+
+            GuestHouseholdFoldResult folded = result.build();
+            log.info("Folded guests {} and {} into family group {}: {}", guestId, otherGuestId, keptGroupId, folded);
+            return folded;
+        } catch (WeddingAppException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error folding guests {} and {} into one family group", guestId, otherGuestId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    private static String phoneDigits(String phone) {
+        String digits = StringUtils.getDigits(StringUtils.defaultString(phone));
+        return digits.length() < GUEST_DEDUPE_MIN_PHONE_DIGITS ? "" : StringUtils.right(digits, 10);
+    }
+
+    private record LockedGuest(Long familyGroupId, boolean primaryContact) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.enums.GuestImportType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestImportGroup;
+import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
+import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_IMPORT_BATCH_SIZE;
+
+/**
+ * JDBC writes for the bulk guest import.
+ *
+ * IDs are drawn up front from the same pooled sequences the entities use: each nextval reserves the
+ * block of IDs ending at that value, as Hibernate's pooled optimizer does, so the import and the
+ * entities never hand out the same ID. With references already in place, groups, guests and members
+ * are inserted in batches instead of one round trip per row.
+ * Family groups go in first without a primary contact (guests reference them), then guests and
+ * members, then one UPDATE points each group at its primary contact. SOLO entries only get a guest.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestImportDao {
+
+    private static final String FIND_EXISTING_GUESTS_SQL = """
+            SELECT g.id, g.normalized_first_name, g.normalized_last_name
+            FROM guests g
+            JOIN unnest(?, ?) AS n(first_name, last_name)
+              ON g.normalized_first_name = n.first_name AND g.normalized_last_name = n.last_name
+            """;
+
+    private static final String SEQUENCE_INCREMENT_SQL = """
+            SELECT increment_by FROM pg_sequences
+            WHERE schemaname = current_schema() AND sequencename = ?
+            """;
+
+    private static final String ALLOCATE_ID_BLOCKS_SQL = """
+            SELECT nextval(?::regclass)
+            FROM generate_series(1, ?)
+            """;
+
+    private static final String INSERT_FAMILY_GROUP_SQL = """
+            INSERT INTO family_groups (id, group_name, max_attendees, created_at, attending_count)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_GUEST_SQL = """
+            INSERT INTO guests (id, first_name, last_name, normalized_first_name, normalized_last_name,
+                                email, phone, plus_one_allowed, is_primary_contact, family_group_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_FAMILY_MEMBER_SQL = """
+            INSERT INTO family_members (id, first_name, last_name, age_group, dietary_restrictions,
+                                        is_attending, family_group_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SET_PRIMARY_CONTACTS_SQL = """
+            UPDATE family_groups fg SET primary_contact_guest_id = v.guest_id
+            FROM unnest(?, ?) AS v(family_group_id, guest_id)
+            WHERE fg.id = v.family_group_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Find guests that already exist under any of the given names
+     * @param names Normalized "first last" pairs
+     * @return Existing guest ID keyed by "first|last" normalized name
+     */
+    public Map<String, Long> findExistingGuests(List<String[]> names) {
+        Map<String, Long> existing = new HashMap<>();
+        if (CollectionUtils.isEmpty(names)) {
+            return existing;
+        }
+
+        try {
+            jdbcTemplate.query(FIND_EXISTING_GUESTS_SQL, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("text", names.stream().map(name -> name[0]).toArray()));
+                ps.setArray(2, ps.getConnection().createArrayOf("text", names.stream().map(name -> name[1]).toArray()));
+            }, rs -> {
+                existing.putIfAbsent(nameKey(rs.getString("normalized_first_name"), rs.getString("normalized_last_name")),
+                        rs.getLong("id"));
+            });
+            return existing;
+        } catch (Exception e) {
+            log.error("Error looking up existing guests for import", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Write the groups in one transaction, filling in their family group, guest and member IDs
+     * @param groups Validated groups
+     */
+    @Transactional
+    public void insertAll(List<GuestImportGroup> groups) {
+        try {
+            List<GuestImportGroup> familyGroups = groups.stream()
+                    .filter(group -> group.getType() != GuestImportType.SOLO)
+                    .toList();
+            int memberCount = groups.stream().mapToInt(group -> group.getFamilyMembers().size()).sum();
+
+            assignIds(groups, familyGroups, memberCount);
+
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.batchUpdate(INSERT_FAMILY_GROUP_SQL, familyGroups, GUEST_IMPORT_BATCH_SIZE, (ps, group) -> {
+                ps.setLong(1, group.getFamilyGroupId());
+                ps.setString(2, group.getGroupName());
+                ps.setObject(3, group.getMaxAttendees(), Types.INTEGER);
+                ps.setTimestamp(4, now);
+                // Validation has already held the whole group to maxAttendees
+                ps.setInt(5, (int) group.getFamilyMembers().stream()
+                        .filter(member -> Boolean.TRUE.equals(member.getIsAttending()))
+                        .count());
+            });
+
+            jdbcTemplate.batchUpdate(INSERT_GUEST_SQL, groups, GUEST_IMPORT_BATCH_SIZE, (ps, group) -> {
+                GuestRequest guest = group.getPrimaryContact();
+                ps.setLong(1, group.getGuestId());
+                ps.setString(2, guest.getFirstName());
+                ps.setString(3, guest.getLastName());
+                ps.setString(4, NameMatchUtils.normalize(guest.getFirstName()));
+                ps.setString(5, NameMatchUtils.normalize(guest.getLastName()));
+                ps.setString(6, guest.getEmail());
+                ps.setString(7, guest.getPhone());
+                ps.setBoolean(8, guest.isPlusOneAllowed());
+                ps.setBoolean(9, Objects.nonNull(group.getFamilyGroupId()));
+                ps.setObject(10, group.getFamilyGroupId(), Types.BIGINT);
+            });
+
+            List<MemberRow> memberRows = new ArrayList<>(memberCount);
+            for (GuestImportGroup group : groups) {
+                for (int i = 0; i < group.getFamilyMembers().size(); i++) {
+                    memberRows.add(new MemberRow(group.getFamilyMemberIds().get(i), group.getFamilyGroupId(),
+                            group.getFamilyMembers().get(i)));
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_FAMILY_MEMBER_SQL, memberRows, GUEST_IMPORT_BATCH_SIZE, (ps, row) -> {
+                FamilyMemberRequest member = row.member();
+                ps.setLong(1, row.id());
+                ps.setString(2, member.getFirstName());
+                ps.setString(3, member.getLastName());
+                ps.setString(4, member.getAgeGroup());
+                ps.setString(5, member.getDietaryRestrictions());
+                ps.setBoolean(6, Boolean.TRUE.equals(member.getIsAttending()));
+                ps.setLong(7, row.familyGroupId());
+            });
+
+            if (!familyGroups.isEmpty()) {
+                jdbcTemplate.update(SET_PRIMARY_CONTACTS_SQL, ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint",
+                            familyGroups.stream().map(GuestImportGroup::getFamilyGroupId).toArray()));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint",
+                            familyGroups.stream().map(GuestImportGroup::getGuestId).toArray()));
+                });
+            }
+
+            log.info("Imported {} family groups, {} guests and {} family members",
+                    familyGroups.size(), groups.size(), memberCount);
+        } catch (Exception e) {
+            log.error("Error writing guest import", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    public static String nameKey(String normalizedFirstName, String normalizedLastName) {
+        return normalizedFirstName + "|" + normalizedLastName;
+    }
+
+    private void assignIds(List<GuestImportGroup> groups, List<GuestImportGroup> familyGroups, int memberCount) {
+        List<Long> familyGroupIds = allocateIds("family_groups_id_seq", familyGroups.size());
+        List<Long> guestIds = allocateIds("guests_id_seq", groups.size());
+        List<Long> memberIds = allocateIds("family_members_id_seq", memberCount);
+
+        for (int i = 0; i < familyGroups.size(); i++) {
+            familyGroups.get(i).setFamilyGroupId(familyGroupIds.get(i));
+        }
+
+        int nextMember = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            GuestImportGroup group = groups.get(i);
+            group.setGuestId(guestIds.get(i));
+            group.setFamilyMemberIds(new ArrayList<>(memberIds.subList(nextMember, nextMember + group.getFamilyMembers().size())));
+            nextMember += group.getFamilyMembers().size();
+        }
+    }
+
+    private List<Long> allocateIds(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+
+        long increment = Math.max(1L, jdbcTemplate.queryForObject(SEQUENCE_INCREMENT_SQL, Long.class, sequence));
+        while (ids.size() < count) {
+            // A brand new sequence starts at 1, whose block would be mostly below 1; blocks are topped up until full
+            int blocks = (int) ((count - ids.size() + increment - 1) / increment);
+            for (Long high : jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Long.class, sequence, blocks)) {
+                for (long id = Math.max(1L, high - increment + 1); id <= high && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private record MemberRow(Long id, Long familyGroupId, FamilyMemberRequest member) {
+    }
+}
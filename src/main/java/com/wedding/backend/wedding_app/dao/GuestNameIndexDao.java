@@ -0,0 +1,43 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestNameEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Loads just the names the in-memory guest name index needs, without hydrating entities
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestNameIndexDao {
+
+    private static final String FIND_ALL_NAMES_SQL = """
+            SELECT 'GUEST' AS type, id, first_name, last_name, family_group_id FROM guests
+            UNION ALL
+            SELECT 'FAMILY_MEMBER', id, first_name, last_name, family_group_id FROM family_members
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<GuestNameEntry> findAllNames() {
+        try {
+            return jdbcTemplate.query(FIND_ALL_NAMES_SQL, (rs, rowNum) -> GuestNameEntry.builder()
+                    .type(GuestNameMatchType.valueOf(rs.getString("type")))
+                    .id(rs.getLong("id"))
+                    .firstName(rs.getString("first_name"))
+                    .lastName(rs.getString("last_name"))
+                    .familyGroupId(rs.getObject("family_group_id", Long.class))
+                    .build());
+        } catch (Exception e) {
+            log.error("Error loading guest and family member names", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
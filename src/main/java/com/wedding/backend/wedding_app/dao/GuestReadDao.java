@@ -0,0 +1,159 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.GuestSummaryDTO;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LIST_STREAM_FETCH_SIZE;
+
+/**
+ * Read path for the admin guest endpoints, mapped straight into GuestSummaryDTO.
+ *
+ * Each guest comes back with its family group name and RSVP from one join, so a page of guests is one
+ * statement rather than an entity graph that Jackson walks into RSVPs, family groups and invitation codes.
+ * Listings are keyset-paged by KeysetPageDao, which picks the IDs loaded here, or streamed whole.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestReadDao {
+
+    private static final String SELECT_GUESTS_SQL = """
+            SELECT g.id, g.first_name, g.last_name, g.email, g.phone, g.plus_one_allowed, g.is_primary_contact,
+                   g.family_group_id, fg.group_name AS family_group_name,
+                   r.id AS rsvp_id, r.attending, r.submitted_at AS rsvp_submitted_at
+            FROM guests g
+            LEFT JOIN family_groups fg ON fg.id = g.family_group_id
+            LEFT JOIN rsvps r ON r.guest_id = g.id
+            """;
+
+    private static final String FIND_BY_ID_SQL = SELECT_GUESTS_SQL + "WHERE g.id = ?";
+
+    private static final String FIND_BY_IDS_SQL = SELECT_GUESTS_SQL + "WHERE g.id = ANY(?)";
+
+    private static final String FIND_BY_NORMALIZED_NAME_SQL = SELECT_GUESTS_SQL + """
+            WHERE g.normalized_last_name = ? AND g.normalized_first_name = ?
+            ORDER BY g.id
+            LIMIT 1
+            """;
+
+    private static final RowMapper<GuestSummaryDTO> GUEST_MAPPER = (rs, rowNum) -> {
+        Long rsvpId = rs.getObject("rsvp_id", Long.class);
+        return GuestSummaryDTO.builder()
+                .id(rs.getLong("id"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .email(rs.getString("email"))
+                .phone(rs.getString("phone"))
+                .plusOneAllowed(rs.getObject("plus_one_allowed", Boolean.class))
+                .isPrimaryContact(rs.getObject("is_primary_contact", Boolean.class))
+                .familyGroupId(rs.getObject("family_group_id", Long.class))
+                .familyGroupName(rs.getString("family_group_name"))
+                .hasRsvp(Objects.nonNull(rsvpId))
+                .rsvpId(rsvpId)
+                .attending(rs.getObject("attending", Boolean.class))
+                .rsvpSubmittedAt(rs.getObject("rsvp_submitted_at", OffsetDateTime.class))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Walk every guest matching the filters in list order, one row at a time. The PostgreSQL driver only
+     * uses a server-side cursor inside a transaction, so only one fetch of rows is held in memory.
+     * @param filters Conditions over the "g" guests alias, as built for the keyset-paged list
+     * @param consumer Receives each guest in order
+     * @return Number of guests read
+     */
+    @Transactional(readOnly = true)
+    public long streamGuests(KeysetPageQuery filters, KeysetSortField sort, SortDirection direction,
+                             Consumer<GuestSummaryDTO> consumer) {
+        String sql = SELECT_GUESTS_SQL + filters.whereClause() + filters.orderBy(sort, direction);
+        long[] rows = {0L};
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(LIST_STREAM_FETCH_SIZE);
+                new ArgumentPreparedStatementSetter(filters.getParams().toArray()).setValues(ps);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                consumer.accept(GUEST_MAPPER.mapRow(rs, (int) rows[0]));
+                rows[0]++;
+            });
+            return rows[0];
+        } catch (UncheckedIOException e) {
+            // The client went away mid-download; nothing to report back to it
+            throw e;
+        } catch (Exception e) {
+            log.error("Error streaming guests after {} rows", rows[0], e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    public Optional<GuestSummaryDTO> findById(Long id) {
+        try {
+            return jdbcTemplate.query(FIND_BY_ID_SQL, GUEST_MAPPER, id).stream().findFirst();
+        } catch (Exception e) {
+            log.error("Error loading guest with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Load one page of a keyset-paged listing (in no particular order)
+     */
+    public List<GuestSummaryDTO> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return jdbcTemplate.query(FIND_BY_IDS_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                    GUEST_MAPPER);
+        } catch (Exception e) {
+            log.error("Error loading {} guests by ID", ids.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Same accent- and case-insensitive match as GuestDao.findGuestByFullName
+     */
+    public Optional<GuestSummaryDTO> findByFullName(String firstName, String lastName) {
+        String normalizedFirstName = NameMatchUtils.normalize(firstName);
+        String normalizedLastName = NameMatchUtils.normalize(lastName);
+        if (StringUtils.isAnyEmpty(normalizedFirstName, normalizedLastName)) {
+            return Optional.empty();
+        }
+
+        try {
+            return jdbcTemplate.query(FIND_BY_NORMALIZED_NAME_SQL, GUEST_MAPPER, normalizedLastName, normalizedFirstName)
+                    .stream().findFirst();
+        } catch (Exception e) {
+            log.error("Error loading guest by name: {} {}", firstName, lastName, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.email.ReminderRecipient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Set-based queries for the RSVP reminder job
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class GuestReminderDao {
+
+    /*
+     * Guests with a valid invitation code, no RSVP and no reminder inside the cooldown window.
+     * Keyset paged on guest id so only one chunk is ever in memory.
+     */
+    private static final String FIND_DUE_REMINDERS_SQL = """
+            SELECT g.id, g.first_name, g.last_name, g.email, ic.code
+            FROM guests g
+            JOIN LATERAL (
+                SELECT c.code FROM invitation_codes c
+                WHERE c.guest_id = g.id AND c.expiry_date > now()
+                ORDER BY c.created_date DESC
+                LIMIT 1
+            ) ic ON true
+            LEFT JOIN rsvps r ON r.guest_id = g.id
+            LEFT JOIN guest_reminders gr ON gr.guest_id = g.id
+            WHERE r.id IS NULL
+              AND g.email IS NOT NULL AND g.email <> ''
+              AND (gr.last_sent_at IS NULL OR gr.last_sent_at < now() - make_interval(days => ?))
+              AND g.id > ?
+            ORDER BY g.id
+            LIMIT ?
+            """;
+
+    private static final String RECORD_REMINDER_SQL = """
+            INSERT INTO guest_reminders (guest_id, last_sent_at, reminder_count)
+            VALUES (?, now(), 1)
+            ON CONFLICT (guest_id) DO UPDATE
+                SET last_sent_at = EXCLUDED.last_sent_at,
+                    reminder_count = guest_reminders.reminder_count + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Fetch the next chunk of guests due a reminder
+     * @param cooldownDays Minimum days since the previous reminder
+     * @param afterGuestId Keyset cursor (exclusive)
+     * @param limit Chunk size
+     * @return Recipients ordered by guest id
+     */
+    public List<ReminderRecipient> findDueReminders(int cooldownDays, long afterGuestId, int limit) {
+        try {
+            return jdbcTemplate.query(FIND_DUE_REMINDERS_SQL,
+                    (rs, rowNum) -> new ReminderRecipient(
+                            rs.getLong("id"),
+                            rs.getString("first_name"),
+                            rs.getString("last_name"),
+                            rs.getString("email"),
+                            rs.getString("code")),
+                    cooldownDays, afterGuestId, limit);
+        } catch (Exception e) {
+            log.error("Error fetching guests due an RSVP reminder after guest ID: {}", afterGuestId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Start (or restart) the cooldown for guests that were just reminded
+     * @param guestIds The guests that were sent a reminder
+     */
+    public void recordReminders(List<Long> guestIds) {
+        if (CollectionUtils.isEmpty(guestIds)) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(RECORD_REMINDER_SQL, guestIds, guestIds.size(),
+                    (ps, guestId) -> ps.setLong(1, guestId));
+        } catch (Exception e) {
+            log.error("Error recording reminders for {} guests", guestIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
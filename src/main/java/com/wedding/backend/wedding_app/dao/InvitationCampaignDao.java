@@ -0,0 +1,218 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.entity.InvitationCampaignEntity;
+import com.wedding.backend.wedding_app.enums.CampaignSegment;
+import com.wedding.backend.wedding_app.enums.CampaignStatus;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.email.CampaignRecipient;
+import com.wedding.backend.wedding_app.repository.GuestRepository;
+import com.wedding.backend.wedding_app.repository.InvitationCampaignRepository;
+import com.wedding.backend.wedding_app.repository.InvitationCodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class InvitationCampaignDao {
+
+    private final InvitationCampaignRepository campaignRepository;
+    private final GuestRepository guestRepository;
+    private final InvitationCodeRepository invitationCodeRepository;
+
+    /**
+     * Save a campaign
+     * @param campaign The campaign entity to save
+     * @return Saved campaign entity
+     */
+    @Transactional
+    public InvitationCampaignEntity saveCampaign(InvitationCampaignEntity campaign) {
+        log.info("Saving invitation campaign: {}", campaign.getName());
+
+        try {
+            InvitationCampaignEntity savedCampaign = campaignRepository.saveAndFlush(campaign);
+            log.info("Invitation campaign saved successfully with ID: {}", savedCampaign.getId());
+            return savedCampaign;
+        } catch (Exception e) {
+            log.error("Error saving invitation campaign to database", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Find campaign by ID
+     * @param id The campaign ID
+     * @return Optional campaign entity
+     */
+    @Transactional(readOnly = true)
+    public Optional<InvitationCampaignEntity> findCampaignById(Long id) {
+        try {
+            return campaignRepository.findById(id);
+        } catch (Exception e) {
+            log.error("Error finding invitation campaign with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Get all campaigns, newest first
+     * @return List of campaigns
+     */
+    @Transactional(readOnly = true)
+    public List<InvitationCampaignEntity> findAllCampaigns() {
+        log.info("Fetching all invitation campaigns");
+
+        try {
+            return campaignRepository.findAllByOrderByCreatedAtDesc();
+        } catch (Exception e) {
+            log.error("Error fetching invitation campaigns", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Find campaigns in a given status
+     * @param status The campaign status
+     * @return List of campaigns
+     */
+    @Transactional(readOnly = true)
+    public List<InvitationCampaignEntity> findCampaignsByStatus(CampaignStatus status) {
+        try {
+            return campaignRepository.findByStatus(status);
+        } catch (Exception e) {
+            log.error("Error fetching invitation campaigns with status: {}", status, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Conditionally move a campaign to a new status
+     * @param id The campaign ID
+     * @param expectedStatuses Statuses the campaign must currently be in
+     * @param newStatus The status to move to
+     * @return true if this call performed the transition
+     */
+    @Transactional
+    public boolean transitionStatus(Long id, Collection<CampaignStatus> expectedStatuses, CampaignStatus newStatus) {
+        log.info("Transitioning invitation campaign {} from {} to {}", id, expectedStatuses, newStatus);
+
+        try {
+            return campaignRepository.transitionStatus(id, expectedStatuses, newStatus, OffsetDateTime.now()) > 0;
+        } catch (Exception e) {
+            log.error("Error transitioning invitation campaign with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Persist the cursor and counters for a dispatched chunk
+     * @param id The campaign ID
+     * @param lastGuestId Highest guest id in the chunk
+     * @param sent Number of emails sent in the chunk
+     * @param failed Number of emails that failed in the chunk
+     */
+    @Transactional
+    public void recordProgress(Long id, Long lastGuestId, int sent, int failed) {
+        try {
+            campaignRepository.recordProgress(id, lastGuestId, sent, failed, OffsetDateTime.now());
+        } catch (Exception e) {
+            log.error("Error recording progress for invitation campaign with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Mark a running campaign as COMPLETED or FAILED
+     * @param id The campaign ID
+     * @param status The final status
+     * @param lastError Error message when failed, otherwise null
+     */
+    @Transactional
+    public void finishCampaign(Long id, CampaignStatus status, String lastError) {
+        log.info("Finishing invitation campaign {} with status {}", id, status);
+
+        try {
+            campaignRepository.finishCampaign(id, status, lastError, OffsetDateTime.now());
+        } catch (Exception e) {
+            log.error("Error finishing invitation campaign with ID: {}", id, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Fetch the next page of recipients for a segment after the given guest id
+     * @param segment The campaign segment
+     * @param afterGuestId Keyset cursor (exclusive)
+     * @param limit Maximum number of recipients to return
+     * @return Recipients ordered by guest id
+     */
+    @Transactional(readOnly = true)
+    public List<CampaignRecipient> findRecipients(CampaignSegment segment, Long afterGuestId, int limit) {
+        try {
+            PageRequest page = PageRequest.of(0, limit);
+            return switch (segment) {
+                case ALL_GUESTS -> guestRepository.findAllRecipientsAfter(afterGuestId, page);
+                case PRIMARY_CONTACTS -> guestRepository.findPrimaryContactRecipientsAfter(afterGuestId, page);
+                case NOT_RESPONDED -> guestRepository.findNotRespondedRecipientsAfter(afterGuestId, page);
+            };
+        } catch (Exception e) {
+            log.error("Error fetching {} campaign recipients after guest ID: {}", segment, afterGuestId, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Count all recipients in a segment
+     * @param segment The campaign segment
+     * @return Recipient count
+     */
+    @Transactional(readOnly = true)
+    public long countRecipients(CampaignSegment segment) {
+        try {
+            return switch (segment) {
+                case ALL_GUESTS -> guestRepository.countAllRecipients();
+                case PRIMARY_CONTACTS -> guestRepository.countPrimaryContactRecipients();
+                case NOT_RESPONDED -> guestRepository.countNotRespondedRecipients();
+            };
+        } catch (Exception e) {
+            log.error("Error counting {} campaign recipients", segment, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Look up the newest unexpired invitation code for each guest in one query
+     * @param guestIds The guest IDs
+     * @return Map of guest id to invitation code; guests without a valid code are absent
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findActiveCodesForGuests(Collection<Long> guestIds) {
+        Map<Long, String> codes = new HashMap<>();
+
+        if (CollectionUtils.isEmpty(guestIds)) {
+            return codes;
+        }
+
+        try {
+            for (Object[] row : invitationCodeRepository.findActiveCodesForGuests(guestIds, LocalDateTime.now())) {
+                codes.putIfAbsent((Long) row[0], (String) row[1]);
+            }
+            return codes;
+        } catch (Exception e) {
+            log.error("Error fetching invitation codes for {} guests", guestIds.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
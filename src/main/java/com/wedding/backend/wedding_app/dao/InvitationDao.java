@@ -56,6 +56,19 @@ public class InvitationDao {
         }
     }
     
+    /**
+     * Load the invitation codes on one page of a keyset-paged list (in no particular order)
+     */
+    @Transactional(readOnly = true)
+    public List<InvitationCodeEntity> findInvitationsByIds(List<Long> ids) {
+        try {
+            return invitationCodeRepository.findAllById(ids);
+        } catch (Exception e) {
+            log.error("Error fetching invitation codes by IDs", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Find all invitation codes for a guest
      * @param guestId The guest ID
@@ -92,7 +105,7 @@ public class InvitationDao {
                 invitationCode.getGuest() != null ? invitationCode.getGuest().getId() : "null");
         
         try {
-            InvitationCodeEntity savedCode = invitationCodeRepository.save(invitationCode);
+            InvitationCodeEntity savedCode = invitationCodeRepository.saveAndFlush(invitationCode);
             log.info("Saved invitation code: {}", savedCode.getCode());
             return savedCode;
         } catch (Exception e) {
@@ -117,7 +130,7 @@ public class InvitationDao {
                 throw WeddingAppException.invalidInvitationCode(invitationCode.getCode());
             }
             
-            InvitationCodeEntity updatedCode = invitationCodeRepository.save(invitationCode);
+            InvitationCodeEntity updatedCode = invitationCodeRepository.saveAndFlush(invitationCode);
             log.info("Invitation code updated successfully: {}", updatedCode.getCode());
             return updatedCode;
         } catch (WeddingAppException e) {
@@ -0,0 +1,65 @@
+package com.wedding.backend.wedding_app.dao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Cluster-wide leases for scheduled jobs, backed by the job_leases table.
+ * A lease is taken (or extended) with a single upsert that only succeeds when the
+ * current lease has expired or is already held by this node.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class JobLeaseDao {
+
+    private static final String ACQUIRE_LEASE_SQL = """
+            INSERT INTO job_leases (job_name, owner, expires_at)
+            VALUES (?, ?, now() + make_interval(secs => ?))
+            ON CONFLICT (job_name) DO UPDATE
+                SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+                WHERE job_leases.expires_at < now() OR job_leases.owner = EXCLUDED.owner
+            """;
+
+    private static final String RELEASE_LEASE_SQL =
+            "UPDATE job_leases SET expires_at = now() WHERE job_name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String nodeId = StringUtils.defaultIfBlank(System.getenv("HOSTNAME"), "node")
+            + "-" + UUID.randomUUID();
+
+    /**
+     * Take or extend the lease for a job
+     * @param jobName The job name
+     * @param leaseSeconds How long the lease is valid for
+     * @return true if this node now holds the lease
+     */
+    public boolean tryAcquire(String jobName, long leaseSeconds) {
+        try {
+            boolean acquired = jdbcTemplate.update(ACQUIRE_LEASE_SQL, jobName, nodeId, leaseSeconds) > 0;
+            log.debug("Lease for job {} {} by {}", jobName, acquired ? "held" : "not acquired", nodeId);
+            return acquired;
+        } catch (Exception e) {
+            log.error("Error acquiring lease for job: {}", jobName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Give up the lease early so another node can run the job without waiting for expiry
+     * @param jobName The job name
+     */
+    public void release(String jobName) {
+        try {
+            jdbcTemplate.update(RELEASE_LEASE_SQL, jobName, nodeId);
+        } catch (Exception e) {
+            log.error("Error releasing lease for job: {}", jobName, e);
+        }
+    }
+}
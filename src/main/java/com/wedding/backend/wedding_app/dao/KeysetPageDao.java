@@ -0,0 +1,82 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import com.wedding.backend.wedding_app.model.page.PageCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset (seek) paging for the admin list endpoints.
+ *
+ * Each page is "WHERE filters AND (key, id) > (last key, last id) ORDER BY key, id LIMIT n + 1": the
+ * database seeks straight to the cursor on the (key, id) index instead of skipping OFFSET rows, and a
+ * row inserted or deleted elsewhere in the list never shifts a page. Only IDs are read here; callers
+ * load the rows for one page. The extra row fetched only tells whether another page exists.
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class KeysetPageDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdPage findIdPage(KeysetPageQuery query, CursorPageRequest request) {
+        KeysetSortField sort = request.getSort();
+        SortDirection direction = request.getDirection();
+        PageCursor cursor = StringUtils.isBlank(request.getCursor()) ? null
+                : PageCursor.decode(request.getCursor(), sort, direction);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(query.getIdColumn()).append(" AS id, CAST(")
+                .append(sort.getExpression()).append(" AS text) AS sort_key FROM ").append(query.getFrom());
+        List<Object> params = new ArrayList<>(query.getParams());
+
+        List<String> conditions = new ArrayList<>(query.getConditions());
+        if (cursor != null) {
+            conditions.add("(" + sort.getExpression() + ", " + query.getIdColumn() + ") "
+                    + (direction == SortDirection.DESC ? "<" : ">") + " (CAST(? AS " + sort.getSqlType() + "), ?)");
+            params.add(cursor.getLastKey());
+            params.add(cursor.getLastId());
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(query.orderBy(sort, direction)).append(" LIMIT ?");
+        params.add(request.getLimit() + 1);
+
+        try {
+            List<KeyedId> rows = jdbcTemplate.query(sql.toString(),
+                    (rs, rowNum) -> new KeyedId(rs.getLong("id"), rs.getString("sort_key")), params.toArray());
+
+            String nextCursor = null;
+            if (rows.size() > request.getLimit()) {
+                rows = rows.subList(0, request.getLimit());
+                KeyedId last = rows.get(rows.size() - 1);
+                nextCursor = PageCursor.of(sort, direction, last.key(), last.id()).encode();
+            }
+
+            Long totalCount = request.isIncludeTotal()
+                    ? jdbcTemplate.queryForObject("SELECT count(*) FROM " + query.getFrom() + query.whereClause(),
+                            Long.class, query.getParams().toArray())
+                    : null;
+
+            return new IdPage(rows.stream().map(KeyedId::id).toList(), nextCursor, totalCount);
+        } catch (Exception e) {
+            log.error("Error reading page from {} sorted by {}", query.getFrom(), sort.name(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    private record KeyedId(long id, String key) {
+    }
+}
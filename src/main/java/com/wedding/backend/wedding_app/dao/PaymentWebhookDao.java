@@ -0,0 +1,131 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.enums.WebhookEventStatus;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.PaymentWebhookEvent;
+import com.wedding.backend.wedding_app.model.request.PaymentWebhookRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Set-based access to the payment webhook inbox
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentWebhookDao {
+
+    // A redelivered event hits the unique (provider, event_id) index and inserts nothing
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO payment_webhook_events
+                (provider, event_id, event_type, donation_id, payment_reference, amount, payload)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (provider, event_id) DO NOTHING
+            """;
+
+    /*
+     * Claim the oldest open events in one statement. SKIP LOCKED lets several nodes drain the inbox
+     * side by side, and events left PROCESSING by a node that died are picked up again after the timeout.
+     * Events waiting out a retry backoff are skipped until their next_attempt_at.
+     */
+    private static final String CLAIM_EVENTS_SQL = """
+            UPDATE payment_webhook_events
+            SET status = 'PROCESSING', attempts = attempts + 1, claimed_at = now()
+            WHERE id IN (
+                SELECT id FROM payment_webhook_events
+                WHERE (status = 'RECEIVED' AND (next_attempt_at IS NULL OR next_attempt_at <= now()))
+                   OR (status = 'PROCESSING' AND claimed_at < now() - make_interval(secs => ?))
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, provider, event_id, event_type, donation_id, payment_reference, amount, attempts, status
+            """;
+
+    private static final String COMPLETE_EVENT_SQL = """
+            UPDATE payment_webhook_events
+            SET status = ?, error = ?,
+                processed_at = CASE WHEN ? = 'RECEIVED' THEN NULL ELSE now() END,
+                next_attempt_at = CASE WHEN ? = 'RECEIVED' THEN now() + make_interval(secs => ?) ELSE NULL END
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Append an event to the inbox
+     * @return true if stored, false if this provider event was already received
+     */
+    public boolean insertEvent(String provider, PaymentWebhookRequest request, String payload) {
+        try {
+            return jdbcTemplate.update(INSERT_EVENT_SQL,
+                    provider,
+                    request.getEventId(),
+                    request.getEventType(),
+                    request.getDonationId(),
+                    request.getPaymentReference(),
+                    request.getAmount(),
+                    payload) > 0;
+        } catch (Exception e) {
+            log.error("Error storing {} webhook event: {}", provider, request.getEventId(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Claim the next batch of events for processing
+     * @param limit Maximum events to claim
+     * @param claimTimeoutSeconds Age after which another node's unfinished claim is taken over
+     * @return Claimed events ordered by id
+     */
+    public List<PaymentWebhookEvent> claimEvents(int limit, long claimTimeoutSeconds) {
+        try {
+            return jdbcTemplate.query(CLAIM_EVENTS_SQL,
+                    (rs, rowNum) -> new PaymentWebhookEvent(
+                            rs.getLong("id"),
+                            rs.getString("provider"),
+                            rs.getString("event_id"),
+                            rs.getString("event_type"),
+                            rs.getObject("donation_id", Long.class),
+                            rs.getString("payment_reference"),
+                            rs.getBigDecimal("amount"),
+                            rs.getInt("attempts"),
+                            WebhookEventStatus.valueOf(rs.getString("status")),
+                            null,
+                            0L),
+                    claimTimeoutSeconds, limit);
+        } catch (Exception e) {
+            log.error("Error claiming payment webhook events", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Write back the outcome of a processed batch; events set back to RECEIVED are retried once their
+     * retryDelaySeconds have passed
+     */
+    public void completeEvents(List<PaymentWebhookEvent> events) {
+        if (CollectionUtils.isEmpty(events)) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(COMPLETE_EVENT_SQL, events, events.size(), (ps, event) -> {
+                ps.setString(1, event.getStatus().name());
+                ps.setString(2, event.getError());
+                ps.setString(3, event.getStatus().name());
+                ps.setString(4, event.getStatus().name());
+                ps.setLong(5, event.getRetryDelaySeconds());
+                ps.setLong(6, event.getId());
+            });
+        } catch (Exception e) {
+            log.error("Error completing {} payment webhook events", events.size(), e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
@@ -63,6 +63,19 @@ public class RSVPDao {
         }
     }
 
+    /**
+     * Load the RSVPs on one page of a keyset-paged list (in no particular order)
+     */
+    @Transactional(readOnly = true)
+    public List<RSVPEntity> findRSVPsByIds(List<Long> ids) {
+        try {
+            return rsvpRepository.findAllById(ids);
+        } catch (Exception e) {
+            log.error("Error fetching RSVPs by IDs", e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
     /**
      * Get all RSVPs
      * @return List of all RSVP entities
@@ -108,7 +121,7 @@ public class RSVPDao {
             
             // Update the guest's reference to the RSVP
             guest.setRsvp(savedRSVP);
-            guestRepository.save(guest);
+            guestRepository.saveAndFlush(guest);
             
             return savedRSVP;
         } catch (WeddingAppException e) {
@@ -133,7 +146,7 @@ public class RSVPDao {
                 throw WeddingAppException.rsvpNotFound(rsvp.getId());
             }
             
-            return rsvpRepository.save(rsvp);
+            return rsvpRepository.saveAndFlush(rsvp);
         } catch (WeddingAppException e) {
             // Re-throw application exceptions
             throw e;
@@ -167,6 +180,7 @@ public class RSVPDao {
             
             // Now delete the RSVP
             rsvpRepository.deleteById(id);
+            rsvpRepository.flush();
         } catch (Exception e) {
             log.error("Error deleting RSVP with ID: {}", id, e);
             throw WeddingAppException.databaseError();
@@ -196,6 +210,7 @@ public class RSVPDao {
                 
                 // Now delete the RSVP
                 rsvpRepository.delete(rsvp);
+                rsvpRepository.flush();
             }
         } catch (Exception e) {
             log.error("Error deleting RSVP for guest ID: {}", guestId, e);
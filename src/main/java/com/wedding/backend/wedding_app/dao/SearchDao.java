@@ -0,0 +1,103 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.SearchResultDTO;
+import com.wedding.backend.wedding_app.enums.SearchResultType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ranked full-text search over the search_vector columns maintained by SearchDatabaseService
+ */
+@Repository
+@Slf4j
+@RequiredArgsConstructor
+public class SearchDao {
+
+    /*
+     * Each branch is a GIN index scan on its table's search_vector and can be switched off with its
+     * boolean parameter. Snippets are only built for the rows on the requested page.
+     */
+    private static final String MATCHES_CTE = """
+            WITH q AS (SELECT to_tsquery('wedding_search', ?) AS query),
+            hits AS (
+                SELECT 'DONATION' AS type, d.id, d.donor_name AS title, d.message AS body,
+                       ts_rank(d.search_vector, q.query) AS rank, d.guest_id, CAST(NULL AS bigint) AS family_group_id
+                FROM donations d, q
+                WHERE ? AND d.search_vector @@ q.query
+                UNION ALL
+                SELECT 'RSVP', r.id, concat_ws(' ', g.first_name, g.last_name), r.dietary_restrictions,
+                       ts_rank(r.search_vector, q.query), g.id, g.family_group_id
+                FROM rsvps r JOIN guests g ON g.id = r.guest_id, q
+                WHERE ? AND r.search_vector @@ q.query
+                UNION ALL
+                SELECT 'FAMILY_MEMBER', fm.id, concat_ws(' ', fm.first_name, fm.last_name), fm.dietary_restrictions,
+                       ts_rank(fm.search_vector, q.query), CAST(NULL AS bigint), fm.family_group_id
+                FROM family_members fm, q
+                WHERE ? AND fm.search_vector @@ q.query
+            )
+            """;
+
+    private static final String SEARCH_SQL = MATCHES_CTE + """
+            SELECT page.type, page.id, page.title, page.rank, page.guest_id, page.family_group_id,
+                   ts_headline('wedding_search', coalesce(page.body, ''), q.query,
+                               'MaxFragments=1, MaxWords=20, MinWords=5, StartSel=[, StopSel=]') AS snippet
+            FROM (SELECT * FROM hits ORDER BY rank DESC, type, id LIMIT ? OFFSET ?) page, q
+            ORDER BY page.rank DESC, page.type, page.id
+            """;
+
+    private static final String COUNT_SQL = MATCHES_CTE + "SELECT COUNT(*) FROM hits";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One page of matches, best first
+     * @param tsQuery A to_tsquery expression
+     * @param types The result types to include
+     */
+    public List<SearchResultDTO> search(String tsQuery, Set<SearchResultType> types, int limit, long offset) {
+        try {
+            return jdbcTemplate.query(SEARCH_SQL,
+                    (rs, rowNum) -> SearchResultDTO.builder()
+                            .type(SearchResultType.valueOf(rs.getString("type")))
+                            .id(rs.getLong("id"))
+                            .title(rs.getString("title"))
+                            .snippet(rs.getString("snippet"))
+                            .rank(rs.getDouble("rank"))
+                            .guestId(rs.getObject("guest_id", Long.class))
+                            .familyGroupId(rs.getObject("family_group_id", Long.class))
+                            .build(),
+                    tsQuery,
+                    types.contains(SearchResultType.DONATION),
+                    types.contains(SearchResultType.RSVP),
+                    types.contains(SearchResultType.FAMILY_MEMBER),
+                    limit,
+                    offset);
+        } catch (Exception e) {
+            log.error("Error running full-text search for: {}", tsQuery, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+
+    /**
+     * Total number of matches across the included types
+     */
+    public long countMatches(String tsQuery, Set<SearchResultType> types) {
+        try {
+            Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class,
+                    tsQuery,
+                    types.contains(SearchResultType.DONATION),
+                    types.contains(SearchResultType.RSVP),
+                    types.contains(SearchResultType.FAMILY_MEMBER));
+            return count == null ? 0L : count;
+        } catch (Exception e) {
+            log.error("Error counting full-text search matches for: {}", tsQuery, e);
+            throw WeddingAppException.databaseError();
+        }
+    }
+}
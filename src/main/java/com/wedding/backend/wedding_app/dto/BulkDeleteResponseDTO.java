@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDeleteResponseDTO {
+    private int requestedCount;
+    private List<Long> deletedIds;
+    private List<Long> notFoundIds;
+    private int deletedGuestCount;
+    private int deletedFamilyMemberCount;
+    private int detachedDonationCount;
+}
@@ -0,0 +1,34 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> items;
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+    // Only filled in when includeTotal=true
+    private Long totalCount;
+
+    public static <T> CursorPageDTO<T> of(IdPage page, List<T> items, int limit) {
+        return CursorPageDTO.<T>builder()
+                .items(items)
+                .nextCursor(page.getNextCursor())
+                .hasMore(Objects.nonNull(page.getNextCursor()))
+                .limit(limit)
+                .totalCount(page.getTotalCount())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DonationAnalyticsBreakdownDTO {
+    private PaymentMethod paymentMethod;
+    private DonationStatus status;
+    private Long donationCount;
+    private BigDecimal totalAmount;
+    private BigDecimal averageAmount;
+}
@@ -0,0 +1,24 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DonationAnalyticsBucketDTO {
+    private LocalDate bucketStart;
+    private LocalDate bucketEnd;
+    // Closed buckets are in the past and served from cache
+    private Boolean closed;
+    private Long donationCount;
+    private BigDecimal totalAmount;
+    private List<DonationAnalyticsBreakdownDTO> breakdown;
+}
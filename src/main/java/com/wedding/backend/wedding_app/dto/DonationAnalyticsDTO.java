@@ -0,0 +1,23 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.DonationAnalyticsInterval;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DonationAnalyticsDTO {
+    private DonationAnalyticsInterval interval;
+    private LocalDate from;
+    private LocalDate to;
+    private OffsetDateTime generatedAt;
+    private List<DonationAnalyticsBucketDTO> buckets;
+}
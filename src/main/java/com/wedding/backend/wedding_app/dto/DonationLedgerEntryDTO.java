@@ -0,0 +1,38 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * One line of the donation ledger export. amount is in the donation's own currency; normalizedAmount and
+ * the running totals are in the base currency. Running totals cover every earlier line of the same export,
+ * and the confirmed total counts CONFIRMED and THANKED donations only.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DonationLedgerEntryDTO {
+    private Long id;
+    private OffsetDateTime donationDate;
+    private OffsetDateTime confirmedDate;
+    private String donorName;
+    private String donorEmail;
+    private BigDecimal amount;
+    private String currency;
+    private BigDecimal fxRate;
+    private BigDecimal normalizedAmount;
+    private PaymentMethod paymentMethod;
+    private String paymentReference;
+    private DonationStatus status;
+    private long runningCount;
+    private BigDecimal runningTotal;
+    private BigDecimal runningConfirmedTotal;
+}
@@ -22,6 +22,8 @@ public class DonationRequestDTO {
     @DecimalMin(value = "1.00", message = "Minimum donation is $1.00")
     private BigDecimal amount;
 
+    private String currency; // Optional: ISO 4217 code, defaults to USD
+
     @NotNull(message = "Payment method is required")
     private PaymentMethod paymentMethod;
 
@@ -36,6 +38,7 @@ public class DonationRequestDTO {
         this.donorEmail = builder.donorEmail;
         this.donorPhone = builder.donorPhone;
         this.amount = builder.amount;
+        this.currency = builder.currency;
         this.paymentMethod = builder.paymentMethod;
         this.paymentReference = builder.paymentReference;
         this.message = builder.message;
@@ -51,6 +54,7 @@ public class DonationRequestDTO {
         private String donorEmail;
         private String donorPhone;
         private BigDecimal amount;
+        private String currency;
         private PaymentMethod paymentMethod;
         private String paymentReference;
         private String message;
@@ -76,6 +80,11 @@ public class DonationRequestDTO {
             return this;
         }
 
+        public Builder currency(String currency) {
+            this.currency = currency;
+            return this;
+        }
+
         public Builder paymentMethod(PaymentMethod paymentMethod) {
             this.paymentMethod = paymentMethod;
             return this;
@@ -134,6 +143,14 @@ public class DonationRequestDTO {
         this.amount = amount;
     }
 
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     public PaymentMethod getPaymentMethod() {
         return paymentMethod;
     }
@@ -173,7 +190,8 @@ public class DonationRequestDTO {
                     donorName: %s
                     donorEmail: %s
                     amount: %s
+                    currency: %s
                     paymentMethod: %s
-                """.formatted(donorName, donorEmail, amount, paymentMethod);
+                """.formatted(donorName, donorEmail, amount, currency, paymentMethod);
     }
 }
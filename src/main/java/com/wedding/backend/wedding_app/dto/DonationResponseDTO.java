@@ -12,6 +12,8 @@ public class DonationResponseDTO {
     private String donorEmail;
     private String donorPhone;
     private BigDecimal amount;
+    private String currency;
+    private BigDecimal normalizedAmount;
     private PaymentMethod paymentMethod;
     private String paymentReference;
     private String message;
@@ -31,6 +33,8 @@ public class DonationResponseDTO {
         this.donorEmail = builder.donorEmail;
         this.donorPhone = builder.donorPhone;
         this.amount = builder.amount;
+        this.currency = builder.currency;
+        this.normalizedAmount = builder.normalizedAmount;
         this.paymentMethod = builder.paymentMethod;
         this.paymentReference = builder.paymentReference;
         this.message = builder.message;
@@ -53,6 +57,8 @@ public class DonationResponseDTO {
         private String donorEmail;
         private String donorPhone;
         private BigDecimal amount;
+        private String currency;
+        private BigDecimal normalizedAmount;
         private PaymentMethod paymentMethod;
         private String paymentReference;
         private String message;
@@ -89,6 +95,16 @@ public class DonationResponseDTO {
             return this;
         }
 
+        public Builder currency(String currency) {
+            this.currency = currency;
+            return this;
+        }
+
+        public Builder normalizedAmount(BigDecimal normalizedAmount) {
+            this.normalizedAmount = normalizedAmount;
+            return this;
+        }
+
         public Builder paymentMethod(PaymentMethod paymentMethod) {
             this.paymentMethod = paymentMethod;
             return this;
@@ -185,6 +201,22 @@ public class DonationResponseDTO {
         this.amount = amount;
     }
 
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getNormalizedAmount() {
+        return normalizedAmount;
+    }
+
+    public void setNormalizedAmount(BigDecimal normalizedAmount) {
+        this.normalizedAmount = normalizedAmount;
+    }
+
     public PaymentMethod getPaymentMethod() {
         return paymentMethod;
     }
@@ -272,8 +304,9 @@ public class DonationResponseDTO {
                     id: %s
                     donorName: %s
                     amount: %s
+                    currency: %s
                     paymentMethod: %s
                     status: %s
-                """.formatted(id, donorName, amount, paymentMethod, status);
+                """.formatted(id, donorName, amount, currency, paymentMethod, status);
     }
 }
@@ -0,0 +1,25 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.EmailJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class EmailJobResponseDTO {
+    private String jobId;
+    private String jobName;
+    private EmailJobStatus status;
+    private Integer sentCount;
+    private Integer failedCount;
+    private String error;
+    private OffsetDateTime queuedAt;
+    private OffsetDateTime startedAt;
+    private OffsetDateTime completedAt;
+}
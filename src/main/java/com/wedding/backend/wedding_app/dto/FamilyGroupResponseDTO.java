@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -17,4 +18,11 @@ public class FamilyGroupResponseDTO {
     private Integer maxAttendees;
     private Long primaryContactGuestId;
     private OffsetDateTime createdAt;
-}
\ No newline at end of file
+    private String primaryContactFirstName;
+    private String primaryContactLastName;
+    private String primaryContactEmail;
+    // Null until the primary contact has responded
+    private Boolean primaryContactAttending;
+    private OffsetDateTime primaryContactRsvpSubmittedAt;
+    private List<FamilyMemberResponseDTO> familyMembers;
+}
@@ -0,0 +1,20 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRateDTO {
+    private String currencyCode;
+    // Base-currency units per one unit of currencyCode
+    private BigDecimal rateToBase;
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRateRequestDTO {
+
+    @NotNull(message = "Rate to base currency is required")
+    @DecimalMin(value = "0.00000001", message = "Rate must be greater than zero")
+    private BigDecimal rateToBase;
+}
@@ -0,0 +1,26 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.GuestDuplicateMatchType;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateSignal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestDuplicateDTO {
+    private GuestDuplicateMatchType matchType;
+    // 0..1, higher is more likely the same person (or household)
+    private Double score;
+    private List<GuestDuplicateSignal> signals;
+    // The guest to keep when merging: the one with an RSVP, a family group or more contact details.
+    // Null for HOUSEHOLD pairs, which are different people to fold into one family group, not merge
+    private Long suggestedSurvivorId;
+    private GuestSummaryDTO firstGuest;
+    private GuestSummaryDTO secondGuest;
+}
@@ -0,0 +1,19 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestHouseholdFoldResponseDTO {
+    private Long familyGroupId;
+    private GuestSummaryDTO firstGuest;
+    private GuestSummaryDTO secondGuest;
+    private int movedGuestCount;
+    private int movedFamilyMemberCount;
+    private Long foldedFamilyGroupId;
+}
@@ -0,0 +1,27 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestImportReportDTO {
+    private String fileName;
+    private boolean dryRun;
+    // True only when every valid row was written; an import with any invalid row writes nothing
+    private boolean committed;
+    private int rowsRead;
+    private int invalidCount;
+    private int skippedCount;
+    private int importedGroups;
+    private int importedGuests;
+    private int importedFamilyMembers;
+    private long elapsedMillis;
+    private List<GuestImportRowDTO> rows;
+}
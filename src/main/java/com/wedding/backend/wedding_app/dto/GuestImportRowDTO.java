@@ -0,0 +1,26 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.GuestImportRowStatus;
+import com.wedding.backend.wedding_app.enums.GuestImportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestImportRowDTO {
+    private int row;
+    private GuestImportType type;
+    private String groupName;
+    private String primaryContactName;
+    private GuestImportRowStatus status;
+    private Long familyGroupId;
+    private Long guestId;
+    private int familyMemberCount;
+    private List<String> messages;
+}
@@ -0,0 +1,20 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestMergeResponseDTO {
+    private GuestSummaryDTO survivor;
+    private Long mergedGuestId;
+    private int movedRsvpCount;
+    private int removedRsvpCount;
+    private int movedInvitationCodeCount;
+    private int movedDonationCount;
+    private Long foldedFamilyGroupId;
+}
@@ -0,0 +1,20 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuestNameMatchDTO {
+    private GuestNameMatchType type;
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private Long familyGroupId;
+    private Double score;
+}
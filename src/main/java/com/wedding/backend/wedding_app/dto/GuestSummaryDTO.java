@@ -0,0 +1,36 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_FIELDS_FILTER;
+
+/**
+ * Flat guest read model for the admin guest endpoints; trimmed per request with fields= (see SparseFieldsets)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonFilter(GUEST_FIELDS_FILTER)
+public class GuestSummaryDTO {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private Boolean plusOneAllowed;
+    private Boolean isPrimaryContact;
+    private Long familyGroupId;
+    private String familyGroupName;
+    private Boolean hasRsvp;
+    private Long rsvpId;
+    // Null until the guest has responded
+    private Boolean attending;
+    private OffsetDateTime rsvpSubmittedAt;
+}
@@ -0,0 +1,18 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.CampaignSegment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvitationCampaignRequestDTO {
+    private String name;
+    private CampaignSegment segment;
+    private String language; // "en" or "pt-BR", defaults to "en"
+    private boolean startImmediately;
+}
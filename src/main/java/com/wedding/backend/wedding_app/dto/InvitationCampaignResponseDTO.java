@@ -0,0 +1,32 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.CampaignSegment;
+import com.wedding.backend.wedding_app.enums.CampaignStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvitationCampaignResponseDTO {
+    private Long id;
+    private String name;
+    private CampaignSegment segment;
+    private String language;
+    private CampaignStatus status;
+    private Integer totalRecipients;
+    private Integer sentCount;
+    private Integer failedCount;
+    private Long lastGuestId;
+    private Double percentComplete;
+    private String lastError;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime startedAt;
+    private OffsetDateTime completedAt;
+    private OffsetDateTime updatedAt;
+}
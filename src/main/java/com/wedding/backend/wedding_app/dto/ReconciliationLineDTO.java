@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationLineDTO {
+    private Integer lineNumber;
+    private String reference;
+    private String name;
+    private String note;
+    private String date;
+    private BigDecimal amount;
+}
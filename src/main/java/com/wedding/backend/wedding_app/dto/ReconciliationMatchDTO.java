@@ -0,0 +1,27 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.ReconciliationMatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationMatchDTO {
+    private Integer lineNumber;
+    private String statementReference;
+    private String statementName;
+    private BigDecimal statementAmount;
+    private Long donationId;
+    private String donorName;
+    private BigDecimal donationAmount;
+    private ReconciliationMatchType matchType;
+    // 0..1; matches at or above the requested minimum are confirmed
+    private Double confidence;
+    private Boolean confirmed;
+}
@@ -0,0 +1,27 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationReportDTO {
+    private PaymentMethod paymentMethod;
+    private Boolean dryRun;
+    private Double minConfidence;
+    private Integer linesRead;
+    private Integer linesSkipped;
+    private Integer pendingDonations;
+    private Integer matchedCount;
+    private Integer confirmedCount;
+    private Long elapsedMillis;
+    private List<ReconciliationMatchDTO> matches;
+    private List<ReconciliationLineDTO> unmatchedLines;
+}
@@ -0,0 +1,20 @@
+package com.wedding.backend.wedding_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponseDTO {
+    private String query;
+    private Integer page;
+    private Integer size;
+    private Long totalResults;
+    private List<SearchResultDTO> results;
+}
@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.dto;
+
+import com.wedding.backend.wedding_app.enums.SearchResultType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDTO {
+    private SearchResultType type;
+    private Long id;
+    private String title;
+    private String snippet;
+    private Double rank;
+    private Long guestId;
+    private Long familyGroupId;
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -24,6 +25,9 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_BASE_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Table(name = "donations")
 @Data
@@ -33,7 +37,8 @@ import java.time.OffsetDateTime;
 public class DonationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donations_id_seq")
+    @SequenceGenerator(name = "donations_id_seq", sequenceName = "donations_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "donor_name", nullable = false)
@@ -48,6 +53,19 @@ public class DonationEntity {
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
+    // ISO 4217 code the donor gave in; amount is in this currency
+    @Column(name = "currency", length = 3)
+    @Builder.Default
+    private String currency = DONATION_BASE_CURRENCY;
+
+    // Rate to the base currency at the time of the donation, and the amount converted with it.
+    // Totals and goal progress are sums of normalizedAmount, so later rate changes don't move them.
+    @Column(name = "fx_rate", precision = 18, scale = 8)
+    private BigDecimal fxRate;
+
+    @Column(name = "normalized_amount", precision = 12, scale = 2)
+    private BigDecimal normalizedAmount;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "payment_method", nullable = false)
     private PaymentMethod paymentMethod;
@@ -78,6 +96,10 @@ public class DonationEntity {
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
+    // Email, amount and time-window hash; unique so the same donation can't be inserted twice
+    @Column(name = "dedupe_hash", length = 64)
+    private String dedupeHash;
+
     // Optional: Link to guest entity if they're on the guest list
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guest_id")
@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Table(name = "family_groups")
 @Data
@@ -30,7 +33,8 @@ import java.util.List;
 public class FamilyGroupEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_groups_id_seq")
+    @SequenceGenerator(name = "family_groups_id_seq", sequenceName = "family_groups_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String groupName;
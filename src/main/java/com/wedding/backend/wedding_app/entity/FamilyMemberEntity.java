@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +15,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Table(name = "family_members")
 @ToString(exclude = {"familyGroup"})
@@ -24,7 +27,8 @@ import lombok.ToString;
 public class FamilyMemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_members_id_seq")
+    @SequenceGenerator(name = "family_members_id_seq", sequenceName = "family_members_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String firstName;
@@ -1,8 +1,11 @@
 package com.wedding.backend.wedding_app.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -11,6 +14,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +27,8 @@ import lombok.ToString;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Table(name = "guests")
 @Data
@@ -31,11 +39,22 @@ import java.util.List;
 public class GuestEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "guests_id_seq")
+    @SequenceGenerator(name = "guests_id_seq", sequenceName = "guests_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String firstName;
     private String lastName;
+
+    // Lookup keys for name verification (see NameMatchUtils.normalize), kept in step with the names on every write
+    @JsonIgnore
+    @Column(name = "normalized_first_name")
+    private String normalizedFirstName;
+
+    @JsonIgnore
+    @Column(name = "normalized_last_name")
+    private String normalizedLastName;
+
     private String email;
     private String phone;
     private Boolean plusOneAllowed;
@@ -55,4 +74,11 @@ public class GuestEntity {
     @JsonManagedReference
     @Builder.Default
     private List<InvitationCodeEntity> invitationCodes = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    public void normalizeNames() {
+        normalizedFirstName = NameMatchUtils.normalize(firstName);
+        normalizedLastName = NameMatchUtils.normalize(lastName);
+    }
 }
@@ -0,0 +1,85 @@
+package com.wedding.backend.wedding_app.entity;
+
+import com.wedding.backend.wedding_app.enums.CampaignSegment;
+import com.wedding.backend.wedding_app.enums.CampaignStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
+/**
+ * An invitation mailing run over a guest segment.
+ * Recipients are walked in guest id order, and lastGuestId is the persisted cursor
+ * that lets a paused or interrupted campaign pick up where it stopped.
+ */
+@Entity
+@Table(name = "invitation_campaigns")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InvitationCampaignEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invitation_campaigns_id_seq")
+    @SequenceGenerator(name = "invitation_campaigns_id_seq", sequenceName = "invitation_campaigns_id_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "segment", nullable = false)
+    private CampaignSegment segment;
+
+    @Column(name = "language", nullable = false)
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private CampaignStatus status = CampaignStatus.DRAFT;
+
+    @Column(name = "last_guest_id", nullable = false)
+    @Builder.Default
+    private Long lastGuestId = 0L;
+
+    @Column(name = "total_recipients")
+    private Integer totalRecipients;
+
+    @Column(name = "sent_count", nullable = false)
+    @Builder.Default
+    private Integer sentCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private OffsetDateTime completedAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,8 @@ import lombok.ToString;
 
 import java.time.OffsetDateTime;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Table(name = "rsvps")
 @Data
@@ -25,7 +28,8 @@ import java.time.OffsetDateTime;
 @Builder
 public class RSVPEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rsvps_id_seq")
+    @SequenceGenerator(name = "rsvps_id_seq", sequenceName = "rsvps_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne
@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum CampaignSegment {
+    ALL_GUESTS("All guests with an email address"),
+    PRIMARY_CONTACTS("Primary contacts and guests without a family group"),
+    NOT_RESPONDED("Guests who have not submitted an RSVP");
+
+    private final String displayName;
+
+    CampaignSegment(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum CampaignStatus {
+    DRAFT("Draft"),
+    RUNNING("Running"),
+    PAUSED("Paused"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    CampaignStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size for donation analytics. Buckets are UTC calendar days or ISO weeks (Monday start),
+ * matching PostgreSQL date_trunc.
+ */
+@Getter
+public enum DonationAnalyticsInterval {
+    DAY("Daily", "day", 30),
+    WEEK("Weekly", "week", 12);
+
+    private final String displayName;
+    private final String truncUnit;
+    private final int defaultBucketCount;
+
+    DonationAnalyticsInterval(String displayName, String truncUnit, int defaultBucketCount) {
+        this.displayName = displayName;
+        this.truncUnit = truncUnit;
+        this.defaultBucketCount = defaultBucketCount;
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    public LocalDate nextBucketStart(LocalDate bucketStart) {
+        return this == WEEK ? bucketStart.plusWeeks(1) : bucketStart.plusDays(1);
+    }
+
+    public LocalDate minusBuckets(LocalDate date, int buckets) {
+        return this == WEEK ? date.minusWeeks(buckets) : date.minusDays(buckets);
+    }
+}
@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.enums;
+
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.Getter;
+
+@Getter
+public enum DonationSortField implements KeysetSortField {
+    ID("ID", "d.id", "bigint"),
+    DONATION_DATE("Donation Date", "COALESCE(d.donation_date, 'epoch'::timestamptz)", "timestamptz"),
+    AMOUNT("Amount (USD)", "COALESCE(d.normalized_amount, d.amount)", "numeric");
+
+    private final String displayName;
+    private final String expression;
+    private final String sqlType;
+
+    DonationSortField(String displayName, String expression, String sqlType) {
+        this.displayName = displayName;
+        this.expression = expression;
+        this.sqlType = sqlType;
+    }
+
+}
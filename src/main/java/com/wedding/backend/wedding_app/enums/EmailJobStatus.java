@@ -0,0 +1,18 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum EmailJobStatus {
+    QUEUED("Queued"),
+    RUNNING("Running"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    EmailJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.enums;
+
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.Getter;
+
+@Getter
+public enum FamilyGroupSortField implements KeysetSortField {
+    ID("ID", "fg.id", "bigint"),
+    GROUP_NAME("Group Name", "COALESCE(lower(fg.group_name), '')", "text"),
+    CREATED_AT("Created At", "COALESCE(fg.created_at, 'epoch'::timestamptz)", "timestamptz");
+
+    private final String displayName;
+    private final String expression;
+    private final String sqlType;
+
+    FamilyGroupSortField(String displayName, String expression, String sqlType) {
+        this.displayName = displayName;
+        this.expression = expression;
+        this.sqlType = sqlType;
+    }
+
+}
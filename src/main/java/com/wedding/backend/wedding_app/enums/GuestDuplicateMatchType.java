@@ -0,0 +1,15 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum GuestDuplicateMatchType {
+    DUPLICATE("Same person entered twice"),
+    HOUSEHOLD("Different people sharing an email or phone");
+
+    private final String displayName;
+
+    GuestDuplicateMatchType(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum GuestDuplicateSignal {
+    EMAIL("Same email"),
+    PHONE("Same phone number"),
+    NAME("Similar first and last name"),
+    SURNAME_SOUND("Surnames sound alike");
+
+    private final String displayName;
+
+    GuestDuplicateSignal(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -0,0 +1,18 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum GuestImportRowStatus {
+    VALID("Valid"),
+    IMPORTED("Imported"),
+    SKIPPED("Skipped"),
+    INVALID("Invalid");
+
+    private final String displayName;
+
+    GuestImportRowStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum GuestImportType {
+    SOLO("Solo"),
+    PLUS_ONE("Plus One"),
+    FAMILY("Family");
+
+    private final String displayName;
+
+    GuestImportType(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum GuestNameMatchType {
+    GUEST("Guest"),
+    FAMILY_MEMBER("Family Member");
+
+    private final String displayName;
+
+    GuestNameMatchType(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
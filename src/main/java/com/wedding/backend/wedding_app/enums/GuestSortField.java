@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.enums;
+
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.Getter;
+
+@Getter
+public enum GuestSortField implements KeysetSortField {
+    ID("ID", "g.id", "bigint"),
+    LAST_NAME("Last Name", "COALESCE(g.normalized_last_name, '')", "text");
+
+    private final String displayName;
+    private final String expression;
+    private final String sqlType;
+
+    GuestSortField(String displayName, String expression, String sqlType) {
+        this.displayName = displayName;
+        this.expression = expression;
+        this.sqlType = sqlType;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.enums;
+
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.Getter;
+
+@Getter
+public enum InvitationCodeSortField implements KeysetSortField {
+    ID("ID", "ic.id", "bigint"),
+    CREATED_DATE("Created Date", "COALESCE(ic.created_date, 'epoch'::timestamp)", "timestamp");
+
+    private final String displayName;
+    private final String expression;
+    private final String sqlType;
+
+    InvitationCodeSortField(String displayName, String expression, String sqlType) {
+        this.displayName = displayName;
+        this.expression = expression;
+        this.sqlType = sqlType;
+    }
+
+}
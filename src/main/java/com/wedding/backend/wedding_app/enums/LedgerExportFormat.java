@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+/**
+ * File formats for the donation ledger export
+ */
+@Getter
+public enum LedgerExportFormat {
+    CSV("CSV", "text/csv", "csv"),
+    NDJSON("Newline-delimited JSON", "application/x-ndjson", "ndjson");
+
+    private final String displayName;
+    private final String contentType;
+    private final String fileExtension;
+
+    LedgerExportFormat(String displayName, String contentType, String fileExtension) {
+        this.displayName = displayName;
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+}
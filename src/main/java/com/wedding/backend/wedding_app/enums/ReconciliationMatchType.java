@@ -0,0 +1,16 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ReconciliationMatchType {
+    REFERENCE("Payment reference and amount"),
+    REFERENCE_AMOUNT_MISMATCH("Payment reference, different amount"),
+    AMOUNT_AND_NAME("Amount and donor name");
+
+    private final String displayName;
+
+    ReconciliationMatchType(String displayName) {
+        this.displayName = displayName;
+    }
+}
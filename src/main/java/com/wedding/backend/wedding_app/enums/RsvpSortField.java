@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.enums;
+
+import com.wedding.backend.wedding_app.model.page.KeysetSortField;
+import lombok.Getter;
+
+@Getter
+public enum RsvpSortField implements KeysetSortField {
+    ID("ID", "r.id", "bigint"),
+    SUBMITTED_AT("Submitted At", "COALESCE(r.submitted_at, 'epoch'::timestamptz)", "timestamptz");
+
+    private final String displayName;
+    private final String expression;
+    private final String sqlType;
+
+    RsvpSortField(String displayName, String expression, String sqlType) {
+        this.displayName = displayName;
+        this.expression = expression;
+        this.sqlType = sqlType;
+    }
+
+}
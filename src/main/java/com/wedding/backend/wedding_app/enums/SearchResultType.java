@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SearchResultType {
+    DONATION("Donation"),
+    RSVP("RSVP"),
+    FAMILY_MEMBER("Family Member");
+
+    private final String displayName;
+
+    SearchResultType(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SortDirection {
+    ASC("Ascending"),
+    DESC("Descending");
+
+    private final String displayName;
+
+    SortDirection(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.wedding.backend.wedding_app.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum WebhookEventStatus {
+    RECEIVED("Received"),
+    PROCESSING("Processing"),
+    PROCESSED("Processed"),
+    IGNORED("Ignored"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    WebhookEventStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.wedding.backend.wedding_app.exception;
 
+import com.wedding.backend.wedding_app.model.exception.Detail;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class WeddingAppException extends RuntimeException {
     private final String errorKey;
     private Object details;
@@ -49,6 +54,16 @@ public class WeddingAppException extends RuntimeException {
                 String.format("Guest not found with name: %s %s", firstName, lastName));
     }
 
+    /**
+     * Guest name not found, with the closest guest names as "suggestion" details
+     */
+    public static WeddingAppException guestNameNotFound(String firstName, String lastName, List<String> suggestions) {
+        List<Detail> details = new ArrayList<>();
+        details.add(Detail.create("detail", String.format("Guest not found with name: %s %s", firstName, lastName)));
+        suggestions.forEach(suggestion -> details.add(Detail.create("suggestion", suggestion)));
+        return new WeddingAppException("GUEST_NAME_NOT_FOUND", details);
+    }
+
     public static WeddingAppException validationError(String field) {
         return new WeddingAppException("VALIDATION_ERROR", field);
     }
@@ -65,6 +80,16 @@ public class WeddingAppException extends RuntimeException {
         return new WeddingAppException("DONATION_NOT_FOUND", id);
     }
 
+    public static WeddingAppException duplicateDonation(String donorEmail) {
+        return new WeddingAppException("DUPLICATE_DONATION",
+                String.format("A matching donation from %s was already submitted", donorEmail));
+    }
+
+    public static WeddingAppException unsupportedCurrency(String currency) {
+        return new WeddingAppException("UNSUPPORTED_CURRENCY",
+                String.format("No exchange rate is configured for currency: %s", currency));
+    }
+
     public static WeddingAppException entityNotFound(String entityName, Long id) {
         return new WeddingAppException("ENTITY_NOT_FOUND", 
                 String.format("%s not found with id: %d", entityName, id));
@@ -152,4 +177,30 @@ public class WeddingAppException extends RuntimeException {
         return new WeddingAppException("EMAIL_TEMPLATE_ERROR", cause, 
                 String.format("Error processing email template: %s", templateName));
     }
-}
\ No newline at end of file
+
+    // Invitation campaign exceptions
+    public static WeddingAppException campaignNotFound(Long id) {
+        return new WeddingAppException("CAMPAIGN_NOT_FOUND", id);
+    }
+
+    public static WeddingAppException invalidCampaignState(Long id, Object status) {
+        return new WeddingAppException("INVALID_CAMPAIGN_STATE",
+                String.format("Invitation campaign %d cannot perform this action while %s", id, status));
+    }
+
+    // Background email job exceptions
+    public static WeddingAppException emailJobNotFound(String jobId) {
+        return new WeddingAppException("EMAIL_JOB_NOT_FOUND", jobId);
+    }
+
+    public static WeddingAppException emailJobAlreadyRunning(String jobName) {
+        return new WeddingAppException("EMAIL_JOB_ALREADY_RUNNING",
+                String.format("Email job is already running: %s", jobName));
+    }
+
+    // Payment webhook exceptions
+    public static WeddingAppException invalidWebhookSignature(String provider) {
+        return new WeddingAppException("INVALID_WEBHOOK_SIGNATURE",
+                String.format("Missing, expired or invalid signature on %s webhook", provider));
+    }
+}
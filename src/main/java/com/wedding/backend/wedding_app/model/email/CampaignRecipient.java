@@ -0,0 +1,19 @@
+package com.wedding.backend.wedding_app.model.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight guest projection used when walking a campaign segment,
+ * so the campaign never loads full guest graphs (RSVP, family group) per recipient
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignRecipient {
+    private Long guestId;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
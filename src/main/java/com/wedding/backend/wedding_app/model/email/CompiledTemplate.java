@@ -0,0 +1,163 @@
+package com.wedding.backend.wedding_app.model.email;
+
+import org.apache.commons.lang3.CharUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A DB-stored text template (e.g. "Dear {donorName}, ...") parsed once into alternating
+ * literal and placeholder segments. Rendering walks the segments into a single presized
+ * StringBuilder, with no regex and no intermediate strings.
+ *
+ * In HTML mode, literals are escaped and newlines turned into line breaks at compile time,
+ * and values are escaped as they are appended. Placeholders without a value are rendered
+ * back as "{name}" so typos in a template are visible rather than silently blank.
+ */
+public final class CompiledTemplate {
+
+    private static final String HTML_LINE_BREAK = "<br>\n";
+
+    // literals.length == placeholders.length + 1; segment order is literal, placeholder, literal, ...
+    private final String[] literals;
+    private final String[] placeholders;
+    private final boolean html;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] placeholders, boolean html) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.html = html;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template source into segments
+     * @param source The template text with {placeholder} tokens
+     * @param html Whether the output is HTML (escape literals and values, convert newlines)
+     * @return The compiled template
+     */
+    public static CompiledTemplate compile(String source, boolean html) {
+        String text = Objects.toString(source, "");
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int end = c == '{' ? placeholderEnd(text, i) : -1;
+
+            if (end > 0) {
+                literals.add(html ? escapeHtml(literal) : literal.toString());
+                placeholders.add(text.substring(i + 1, end));
+                literal.setLength(0);
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(html ? escapeHtml(literal) : literal.toString());
+
+        return new CompiledTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new), html);
+    }
+
+    /**
+     * Render the template
+     * @param values Placeholder values by name
+     * @return The rendered text
+     */
+    public String render(Map<String, String> values) {
+        int valueLength = 0;
+        for (String placeholder : placeholders) {
+            String value = values.get(placeholder);
+            valueLength += Objects.nonNull(value) ? value.length() : placeholder.length() + 2;
+        }
+
+        // Leave a little headroom for HTML entities in values
+        StringBuilder out = new StringBuilder(literalLength + valueLength + (html ? valueLength / 8 : 0));
+
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+
+            String value = values.get(placeholders[i]);
+            if (Objects.isNull(value)) {
+                out.append('{').append(placeholders[i]).append('}');
+            } else if (html) {
+                appendHtmlEscaped(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[placeholders.length]);
+
+        return out.toString();
+    }
+
+    /**
+     * Copy of this template with raw (unescaped) markup folded into the first and last literal,
+     * e.g. to wrap an HTML fragment in a document without an extra copy at render time
+     */
+    public CompiledTemplate wrap(String prefix, String suffix) {
+        String[] wrapped = literals.clone();
+        wrapped[0] = prefix + wrapped[0];
+        wrapped[wrapped.length - 1] = wrapped[wrapped.length - 1] + suffix;
+        return new CompiledTemplate(wrapped, placeholders, html);
+    }
+
+    public int getPlaceholderCount() {
+        return placeholders.length;
+    }
+
+    /**
+     * Index of the closing brace if a valid placeholder name ([A-Za-z][A-Za-z0-9_]*) starts at openIndex, else -1
+     */
+    private static int placeholderEnd(String text, int openIndex) {
+        int i = openIndex + 1;
+        if (i >= text.length() || !CharUtils.isAsciiAlpha(text.charAt(i))) {
+            return -1;
+        }
+
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '}') {
+                return i;
+            }
+            if (!CharUtils.isAsciiAlphanumeric(c) && c != '_') {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static String escapeHtml(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        appendHtmlEscaped(out, text);
+        return out.toString();
+    }
+
+    private static void appendHtmlEscaped(StringBuilder out, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                case '\r' -> { }
+                case '\n' -> out.append(HTML_LINE_BREAK);
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.wedding.backend.wedding_app.model.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of dispatching a group of messages, keyed by each message's referenceId
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailDispatchResult {
+    @Builder.Default
+    private List<Long> sentReferenceIds = new ArrayList<>();
+    @Builder.Default
+    private List<Long> failedReferenceIds = new ArrayList<>();
+
+    public int getSentCount() {
+        return sentReferenceIds.size();
+    }
+
+    public int getFailedCount() {
+        return failedReferenceIds.size();
+    }
+}
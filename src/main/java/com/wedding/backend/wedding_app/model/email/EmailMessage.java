@@ -0,0 +1,32 @@
+package com.wedding.backend.wedding_app.model.email;
+
+import com.resend.services.emails.model.Attachment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.List;
+
+/**
+ * A fully rendered email ready to be handed to the delivery pipeline.
+ * referenceId ties the message back to the record it was rendered for (guest id, donation id)
+ * so callers can tell which recipients were delivered.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailMessage {
+    private Long referenceId;
+    private String emailType;
+    private String to;
+    private String subject;
+    private String html;
+    private List<Attachment> attachments;
+
+    public boolean hasAttachments() {
+        return CollectionUtils.isNotEmpty(attachments);
+    }
+}
@@ -0,0 +1,19 @@
+package com.wedding.backend.wedding_app.model.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A guest who has not RSVPed yet, together with their current invitation code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderRecipient {
+    private Long guestId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String invitationCode;
+}
@@ -0,0 +1,24 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * What one set-based guest or family group delete removed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestCleanupResult {
+    @Builder.Default
+    private List<Long> deletedGuestIds = List.of();
+    @Builder.Default
+    private List<Long> deletedFamilyGroupIds = List.of();
+    private int deletedFamilyMembers;
+    private int detachedDonations;
+}
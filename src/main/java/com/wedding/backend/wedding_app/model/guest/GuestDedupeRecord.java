@@ -0,0 +1,26 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The parts of a guest the duplicate finder blocks and scores on
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestDedupeRecord {
+    private Long id;
+    private String normalizedFirstName;
+    private String normalizedLastName;
+    // Lower-cased and trimmed; empty when missing
+    private String email;
+    // Digits only, at most the last 10; empty when too short to compare
+    private String phone;
+    private Long familyGroupId;
+    private boolean primaryContact;
+    private boolean hasRsvp;
+}
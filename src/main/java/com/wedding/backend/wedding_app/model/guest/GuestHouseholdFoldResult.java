@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where folding two guests of one household into a single family group moved them
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestHouseholdFoldResult {
+    // The family group both guests are in now
+    private Long familyGroupId;
+    // The other guest's family group, when it was folded in and deleted
+    private Long foldedFamilyGroupId;
+    private int movedGuests;
+    private int movedFamilyMembers;
+}
@@ -0,0 +1,38 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import com.wedding.backend.wedding_app.enums.GuestImportType;
+import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
+import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One entry of a guest import file: a family group with its primary contact and members, or a solo guest.
+ * The IDs are filled in just before the entry is written.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestImportGroup {
+    // Position in the JSON familyGroups array, or the CSV line the group starts on
+    private int row;
+    private GuestImportType type;
+    private String groupName;
+    private Integer maxAttendees;
+    private GuestRequest primaryContact;
+    @Builder.Default
+    private List<FamilyMemberRequest> familyMembers = new ArrayList<>();
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+
+    private Long familyGroupId;
+    private Long guestId;
+    @Builder.Default
+    private List<Long> familyMemberIds = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What merging one guest into another moved and removed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestMergeResult {
+    private Long survivorId;
+    private Long mergedGuestId;
+    private int movedRsvps;
+    private int removedRsvps;
+    private int movedInvitationCodes;
+    private int movedDonations;
+    // The merged guest's family group, when it was folded into the survivor's
+    private Long foldedFamilyGroupId;
+}
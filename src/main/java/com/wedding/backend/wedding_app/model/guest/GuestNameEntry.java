@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One guest or family member name as held by the in-memory name index
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestNameEntry {
+    private GuestNameMatchType type;
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private Long familyGroupId;
+}
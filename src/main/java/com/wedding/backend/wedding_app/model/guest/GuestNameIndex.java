@@ -0,0 +1,213 @@
+package com.wedding.backend.wedding_app.model.guest;
+
+import com.wedding.backend.wedding_app.dto.GuestNameMatchDTO;
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram and phonetic index over guest and family member names.
+ *
+ * Candidates are the names sharing at least one trigram or one Soundex code with the query; only those
+ * are scored, so a lookup never walks the whole guest list. Writes are synchronized, reads are not:
+ * a search running alongside a write sees the name either before or after the change.
+ */
+public final class GuestNameIndex {
+
+    private static final double TRIGRAM_WEIGHT = 0.5;
+    private static final double EDIT_WEIGHT = 0.3;
+    private static final double PHONETIC_WEIGHT = 0.2;
+
+    private final Map<String, IndexedName> names = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> trigramPostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> phoneticPostings = new ConcurrentHashMap<>();
+
+    public static GuestNameIndex of(Collection<GuestNameEntry> entries) {
+        GuestNameIndex index = new GuestNameIndex();
+        entries.forEach(index::put);
+        return index;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Add a name, replacing whatever was indexed for the same guest or family member
+     */
+    public synchronized void put(GuestNameEntry entry) {
+        String key = key(entry.getType(), entry.getId());
+        remove(key);
+
+        String normalized = NameMatchUtils.normalize(entry.getFirstName() + " " + entry.getLastName());
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        IndexedName name = new IndexedName(entry, normalized, StringUtils.split(normalized, ' '),
+                NameMatchUtils.trigrams(normalized), phoneticCodes(normalized));
+        names.put(key, name);
+        name.trigrams().forEach(trigram -> trigramPostings
+                .computeIfAbsent(trigram, k -> ConcurrentHashMap.newKeySet()).add(key));
+        name.phoneticCodes().forEach(code -> phoneticPostings
+                .computeIfAbsent(code, k -> ConcurrentHashMap.newKeySet()).add(key));
+    }
+
+    public synchronized void remove(GuestNameMatchType type, Collection<Long> ids) {
+        ids.forEach(id -> remove(key(type, id)));
+    }
+
+    /**
+     * Drop every guest and family member belonging to the given family groups
+     */
+    public synchronized void removeFamilyGroups(Collection<Long> familyGroupIds) {
+        names.entrySet().stream()
+                .filter(e -> Objects.nonNull(e.getValue().entry().getFamilyGroupId())
+                        && familyGroupIds.contains(e.getValue().entry().getFamilyGroupId()))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(this::remove);
+    }
+
+    /**
+     * Best matches for a free-text name, highest score first
+     * @param query Whole or partial name, in any order, with or without accents and typos
+     * @param type Only return this type, or null for both
+     * @param limit Maximum number of matches
+     * @param minScore Matches scoring below this (0 to 1) are dropped
+     */
+    public List<GuestNameMatchDTO> search(String query, GuestNameMatchType type, int limit, double minScore) {
+        String normalized = NameMatchUtils.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String[] queryTokens = StringUtils.split(normalized, ' ');
+        Set<String> queryTrigrams = NameMatchUtils.trigrams(normalized);
+        Set<String> queryCodes = phoneticCodes(normalized);
+
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            trigramPostings.getOrDefault(trigram, Set.of()).forEach(key -> sharedTrigrams.merge(key, 1, Integer::sum));
+        }
+        for (String code : queryCodes) {
+            phoneticPostings.getOrDefault(code, Set.of()).forEach(key -> sharedTrigrams.putIfAbsent(key, 0));
+        }
+
+        return sharedTrigrams.entrySet().stream()
+                .map(candidate -> {
+                    IndexedName name = names.get(candidate.getKey());
+                    if (name == null || (type != null && name.entry().getType() != type)) {
+                        return null;
+                    }
+                    double score = score(name, normalized, queryTokens, queryTrigrams.size(), queryCodes, candidate.getValue());
+                    return score >= minScore ? toMatch(name.entry(), score) : null;
+                })
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(GuestNameMatchDTO::getScore).reversed()
+                        .thenComparing(GuestNameMatchDTO::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                        .thenComparing(GuestNameMatchDTO::getFirstName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                        .thenComparing(GuestNameMatchDTO::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    /*
+     * Blend of trigram overlap (Jaccard), word-order-insensitive edit similarity and the share of query
+     * words that sound like one of the name's words. A query whose every word starts one of the name's
+     * words ("jo sm" for "John Smith") is a typeahead prefix and scores at least 0.6.
+     */
+    private double score(IndexedName name, String normalizedQuery, String[] queryTokens, int queryTrigramCount,
+                         Set<String> queryCodes, int shared) {
+        if (name.normalized().equals(normalizedQuery)) {
+            return 1.0;
+        }
+
+        double trigram = (double) shared / (queryTrigramCount + name.trigrams().size() - shared);
+        double edit = NameMatchUtils.editSimilarity(normalizedQuery, name.normalized());
+        double phonetic = queryCodes.isEmpty() ? 0.0
+                : (double) queryCodes.stream().filter(name.phoneticCodes()::contains).count() / queryCodes.size();
+        double blended = TRIGRAM_WEIGHT * trigram + EDIT_WEIGHT * edit + PHONETIC_WEIGHT * phonetic;
+
+        if (isPrefixMatch(queryTokens, name.tokens())) {
+            double coverage = (double) normalizedQuery.length() / name.normalized().length();
+            blended = Math.max(blended, 0.6 + 0.4 * Math.min(1.0, coverage));
+        }
+        return Math.round(Math.min(1.0, blended) * 1000) / 1000.0;
+    }
+
+    private static boolean isPrefixMatch(String[] queryTokens, String[] nameTokens) {
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String nameToken : nameTokens) {
+                if (nameToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void remove(String key) {
+        IndexedName removed = names.remove(key);
+        if (removed == null) {
+            return;
+        }
+        removed.trigrams().forEach(trigram -> removePosting(trigramPostings, trigram, key));
+        removed.phoneticCodes().forEach(code -> removePosting(phoneticPostings, code, key));
+    }
+
+    private static void removePosting(Map<String, Set<String>> postings, String term, String key) {
+        Set<String> keys = postings.get(term);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Set<String> phoneticCodes(String normalized) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (String token : StringUtils.split(normalized, ' ')) {
+            String code = NameMatchUtils.phoneticCode(token);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    private static String key(GuestNameMatchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static GuestNameMatchDTO toMatch(GuestNameEntry entry, double score) {
+        return GuestNameMatchDTO.builder()
+                .type(entry.getType())
+                .id(entry.getId())
+                .firstName(entry.getFirstName())
+                .lastName(entry.getLastName())
+                .familyGroupId(entry.getFamilyGroupId())
+                .score(score)
+                .build();
+    }
+
+    private record IndexedName(GuestNameEntry entry, String normalized, String[] tokens,
+                               Set<String> trigrams, Set<String> phoneticCodes) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.wedding.backend.wedding_app.model.page;
+
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.PAGE_MAX_LIMIT;
+
+/**
+ * Validated paging parameters shared by the admin list endpoints
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorPageRequest {
+
+    private final KeysetSortField sort;
+    private final SortDirection direction;
+    private final String cursor;
+    private final int limit;
+    private final boolean includeTotal;
+
+    public static CursorPageRequest of(KeysetSortField sort, SortDirection direction, String cursor,
+                                       int limit, boolean includeTotal) {
+        if (limit < 1 || limit > PAGE_MAX_LIMIT) {
+            throw WeddingAppException.invalidParameter("limit must be between 1 and " + PAGE_MAX_LIMIT);
+        }
+        return new CursorPageRequest(sort, Objects.requireNonNullElse(direction, SortDirection.ASC),
+                cursor, limit, includeTotal);
+    }
+}
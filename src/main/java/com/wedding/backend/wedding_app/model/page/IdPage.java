@@ -0,0 +1,32 @@
+package com.wedding.backend.wedding_app.model.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of row IDs in list order, with the cursor for the next page (null on the last page) and
+ * the total row count when it was asked for
+ */
+@Getter
+@AllArgsConstructor
+public final class IdPage {
+
+    private final List<Long> ids;
+    private final String nextCursor;
+    private final Long totalCount;
+
+    /**
+     * Put rows loaded by ID back into page order. Rows deleted since the IDs were read are skipped.
+     */
+    public <T> List<T> inOrder(Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.wedding.backend.wedding_app.model.page;
+
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The table and filters of a keyset-paged list. Filters are plain SQL conditions with positional
+ * parameters; the sort key, cursor condition and limit are added by KeysetPageDao. The FROM clause
+ * must yield one row per listed ID, so filters on related tables belong in EXISTS subqueries.
+ */
+@Getter
+public final class KeysetPageQuery {
+
+    private final String from;
+    private final String idColumn;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> params = new ArrayList<>();
+
+    private KeysetPageQuery(String from, String idColumn) {
+        this.from = from;
+        this.idColumn = idColumn;
+    }
+
+    /**
+     * @param from Table with alias, e.g. "guests g"
+     * @param idColumn Aliased ID column, e.g. "g.id"
+     */
+    public static KeysetPageQuery from(String from, String idColumn) {
+        return new KeysetPageQuery(from, idColumn);
+    }
+
+    public KeysetPageQuery where(String condition, Object... values) {
+        conditions.add(condition);
+        Collections.addAll(params, values);
+        return this;
+    }
+
+    /**
+     * Keep rows whose timestamp expression falls on the given UTC days (both optional, both inclusive)
+     */
+    public KeysetPageQuery whereOnDays(String expression, LocalDate from, LocalDate to) {
+        if (Objects.nonNull(from) && Objects.nonNull(to) && from.isAfter(to)) {
+            throw WeddingAppException.invalidParameter("from must be on or before to");
+        }
+        if (Objects.nonNull(from)) {
+            where(expression + " >= ?", from.atStartOfDay().atOffset(ZoneOffset.UTC));
+        }
+        if (Objects.nonNull(to)) {
+            OffsetDateTime toExclusive = to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+            where(expression + " < ?", toExclusive);
+        }
+        return this;
+    }
+
+    public String whereClause() {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * The list order: sort key, then ID as the tie-breaker, both in the given direction
+     */
+    public String orderBy(KeysetSortField sort, SortDirection direction) {
+        String order = direction == SortDirection.DESC ? " DESC" : " ASC";
+        return " ORDER BY " + sort.getExpression() + order + ", " + idColumn + order;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wedding.backend.wedding_app.model.page;
+
+/**
+ * A sort key a list endpoint can be keyset-paged on. The row ID is always appended as the tie breaker,
+ * so the expression does not have to be unique, but it must never be NULL (wrap nullable columns in
+ * COALESCE) and should match the leading column of an index.
+ */
+public interface KeysetSortField {
+
+    String name();
+
+    /**
+     * SQL expression of the key, using the list query's table alias
+     */
+    String getExpression();
+
+    /**
+     * SQL type the key's text form is cast back to when resuming from a cursor
+     */
+    String getSqlType();
+}
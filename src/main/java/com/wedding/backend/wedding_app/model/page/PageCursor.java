@@ -0,0 +1,94 @@
+package com.wedding.backend.wedding_app.model.page;
+
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: the sort it was taken under plus that row's key and ID.
+ * Handed to clients as an opaque URL-safe string. A cursor only resumes the sort and direction it was
+ * issued for; anything else is rejected rather than silently restarting the list. The key is checked
+ * against the sort field's SQL type on decode, so a tampered cursor is a bad request rather than a
+ * failed CAST in the page query.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    // PostgreSQL's text form of timestamp / timestamptz (ISO DateStyle), e.g. 2024-05-01 10:00:00.123+00
+    private static final DateTimeFormatter SQL_TIMESTAMP = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+    private static final DateTimeFormatter SQL_TIMESTAMPTZ = new DateTimeFormatterBuilder()
+            .append(SQL_TIMESTAMP)
+            .appendOffset("+HH:mm:ss", "+00")
+            .toFormatter();
+
+    private final String sort;
+    private final SortDirection direction;
+    private final long lastId;
+    private final String lastKey;
+
+    public static PageCursor of(KeysetSortField sort, SortDirection direction, String lastKey, long lastId) {
+        return new PageCursor(sort.name(), direction, lastId, lastKey);
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + lastKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor, KeysetSortField sort, SortDirection direction) {
+        String[] parts;
+        long lastId;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+            lastId = parts.length == 4 ? Long.parseLong(parts[2]) : 0L;
+        } catch (IllegalArgumentException e) {
+            throw WeddingAppException.invalidParameter("cursor is not valid");
+        }
+
+        if (parts.length != 4) {
+            throw WeddingAppException.invalidParameter("cursor is not valid");
+        }
+        if (!sort.name().equals(parts[0]) || !direction.name().equals(parts[1])) {
+            throw WeddingAppException.invalidParameter("cursor was issued for a different sort or direction");
+        }
+        try {
+            checkKey(sort.getSqlType(), parts[3]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw WeddingAppException.invalidParameter("cursor is not valid");
+        }
+        return new PageCursor(parts[0], direction, lastId, parts[3]);
+    }
+
+    /**
+     * Parse the key the way the page query will CAST it
+     */
+    private static void checkKey(String sqlType, String key) {
+        switch (sqlType) {
+            case "bigint" -> Long.parseLong(key);
+            case "numeric" -> new BigDecimal(key);
+            case "timestamp" -> LocalDateTime.parse(key, SQL_TIMESTAMP);
+            case "timestamptz" -> OffsetDateTime.parse(key, SQL_TIMESTAMPTZ);
+            default -> {
+                // text keys are bound as-is
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of the donation time-series aggregate: a bucket, payment method and status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationBucketRow {
+    private LocalDate bucketStart;
+    private PaymentMethod paymentMethod;
+    private DonationStatus status;
+    private long donationCount;
+    private BigDecimal totalAmount;
+    private BigDecimal averageAmount;
+}
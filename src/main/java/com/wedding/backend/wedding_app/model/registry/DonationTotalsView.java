@@ -0,0 +1,13 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+/**
+ * Result of the single-pass donation aggregate behind the registry overview
+ */
+public interface DonationTotalsView {
+
+    Long getConfirmedCount();
+
+    Long getConfirmedTotalCents();
+
+    Long getPendingCount();
+}
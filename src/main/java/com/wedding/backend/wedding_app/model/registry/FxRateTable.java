@@ -0,0 +1,40 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import com.wedding.backend.wedding_app.dto.FxRateDTO;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable currency code -> rate-to-base map loaded from fx_rates. Replaced as a whole whenever
+ * the table is reloaded, so readers never see a half-updated set of rates.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FxRateTable {
+
+    private final Map<String, BigDecimal> ratesToBase;
+
+    public static FxRateTable of(List<FxRateDTO> rates) {
+        return new FxRateTable(Map.copyOf(rates.stream()
+                .collect(Collectors.toMap(FxRateDTO::getCurrencyCode, FxRateDTO::getRateToBase))));
+    }
+
+    public Optional<BigDecimal> findRate(String currencyCode) {
+        return Optional.ofNullable(ratesToBase.get(currencyCode));
+    }
+
+    /**
+     * Convert an amount to the base currency, rounded to cents
+     */
+    public static BigDecimal toBase(BigDecimal amount, BigDecimal rateToBase) {
+        return amount.multiply(rateToBase).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import com.wedding.backend.wedding_app.enums.WebhookEventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A row of the payment_webhook_events inbox, as claimed by the processor
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookEvent {
+    private Long id;
+    private String provider;
+    private String eventId;
+    private String eventType;
+    private Long donationId;
+    private String paymentReference;
+    private BigDecimal amount;
+    private int attempts;
+    private WebhookEventStatus status;
+    private String error;
+    // How long a retried event waits before it can be claimed again
+    private long retryDelaySeconds;
+}
@@ -0,0 +1,77 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Immutable donation totals behind the registry overview, kept as whole cents so that
+ * incremental updates are plain long arithmetic. Replaced atomically on every change.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RegistryOverviewSnapshot {
+
+    private final long confirmedCount;
+    private final long confirmedTotalCents;
+    private final long pendingCount;
+
+    public static RegistryOverviewSnapshot from(DonationTotalsView totals) {
+        return new RegistryOverviewSnapshot(
+                Objects.requireNonNullElse(totals.getConfirmedCount(), 0L),
+                Objects.requireNonNullElse(totals.getConfirmedTotalCents(), 0L),
+                Objects.requireNonNullElse(totals.getPendingCount(), 0L));
+    }
+
+    /**
+     * Apply one donation moving from one status to another
+     * @param amountCents The donation amount in cents
+     * @param fromStatus The previous status, or null for a new donation
+     * @param toStatus The new status
+     * @return The updated snapshot
+     */
+    public RegistryOverviewSnapshot withTransition(long amountCents, DonationStatus fromStatus, DonationStatus toStatus) {
+        long confirmed = confirmedCount;
+        long confirmedCents = confirmedTotalCents;
+        long pending = pendingCount;
+
+        if (fromStatus == DonationStatus.CONFIRMED) {
+            confirmed--;
+            confirmedCents -= amountCents;
+        } else if (fromStatus == DonationStatus.PENDING) {
+            pending--;
+        }
+
+        if (toStatus == DonationStatus.CONFIRMED) {
+            confirmed++;
+            confirmedCents += amountCents;
+        } else if (toStatus == DonationStatus.PENDING) {
+            pending++;
+        }
+
+        return new RegistryOverviewSnapshot(confirmed, confirmedCents, pending);
+    }
+
+    public BigDecimal getConfirmedTotal() {
+        return BigDecimal.valueOf(confirmedTotalCents, 2);
+    }
+
+    public BigDecimal getAverageConfirmed() {
+        if (confirmedCount <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return getConfirmedTotal().divide(BigDecimal.valueOf(confirmedCount), 2, RoundingMode.HALF_UP);
+    }
+
+    public static long toCents(BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            return 0L;
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
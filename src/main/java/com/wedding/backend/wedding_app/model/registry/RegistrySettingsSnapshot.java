@@ -0,0 +1,42 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import com.wedding.backend.wedding_app.dto.RegistrySettingsDTO;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable copy of the active registry settings with its version. The version is the row id and
+ * updated_at in milliseconds (the database keeps microseconds, Java nanoseconds), so every node
+ * derives the same ETag for the same row.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RegistrySettingsSnapshot {
+
+    private final RegistrySettingsDTO settings;
+    private final Long settingsId;
+    private final long updatedAtMillis;
+
+    public static RegistrySettingsSnapshot of(RegistrySettingsDTO settings) {
+        return new RegistrySettingsSnapshot(settings, settings.getId(), toMillis(settings.getUpdatedAt()));
+    }
+
+    /**
+     * Whether this snapshot still reflects the given row
+     */
+    public boolean isCurrent(RegistrySettingsVersionView version) {
+        return Objects.equals(settingsId, version.getId()) && updatedAtMillis == toMillis(version.getUpdatedAt());
+    }
+
+    public String getETag() {
+        return "\"settings-" + settingsId + "-" + updatedAtMillis + "\"";
+    }
+
+    private static long toMillis(OffsetDateTime dateTime) {
+        return Objects.isNull(dateTime) ? 0L : dateTime.toInstant().toEpochMilli();
+    }
+}
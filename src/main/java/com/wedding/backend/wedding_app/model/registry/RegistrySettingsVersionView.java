@@ -0,0 +1,13 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Identity and last update of the active registry settings, used to detect changes made by other nodes
+ */
+public interface RegistrySettingsVersionView {
+
+    Long getId();
+
+    OffsetDateTime getUpdatedAt();
+}
@@ -0,0 +1,22 @@
+package com.wedding.backend.wedding_app.model.registry;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One incoming payment read from a Venmo/Zelle statement export
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementLine {
+    private int lineNumber;
+    private String reference;
+    private String name;
+    private String note;
+    private String date;
+    private BigDecimal amount;
+}
@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestHouseholdFoldRequest {
+    // The guest whose family group is kept (the other guest's, when this one has none)
+    private Long guestId;
+    // The guest moved into that family group, together with the rest of its own group
+    private Long otherGuestId;
+}
@@ -0,0 +1,17 @@
+package com.wedding.backend.wedding_app.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuestMergeRequest {
+    // The guest that is kept
+    private Long survivorId;
+    // The guest folded into it and then deleted
+    private Long duplicateId;
+}
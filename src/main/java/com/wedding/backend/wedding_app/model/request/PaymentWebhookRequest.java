@@ -0,0 +1,24 @@
+package com.wedding.backend.wedding_app.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Body of a payment provider webhook. A donation is matched by donationId when present,
+ * otherwise by the payment reference the donor entered.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookRequest {
+    private String eventId;
+    private String eventType;
+    private Long donationId;
+    private String paymentReference;
+    private BigDecimal amount;
+}
@@ -3,13 +3,17 @@ package com.wedding.backend.wedding_app.repository;
 import com.wedding.backend.wedding_app.entity.DonationEntity;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
 import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.model.registry.DonationTotalsView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +21,21 @@ import java.util.Optional;
 public interface DonationRepository extends JpaRepository<DonationEntity, Long> {
 
     /**
-     * Get the total amount of confirmed donations
+     * Confirmed count and total (in base-currency cents) and pending count in one pass over
+     * idx_donations_status_normalized_amount
      */
-    @Query("SELECT COALESCE(SUM(d.amount), 0) FROM DonationEntity d WHERE d.status = 'CONFIRMED'")
+    @Query(value = """
+            SELECT COUNT(*) FILTER (WHERE status = 'CONFIRMED') AS "confirmedCount",
+                   CAST(COALESCE(SUM(ROUND(normalized_amount * 100)) FILTER (WHERE status = 'CONFIRMED'), 0) AS bigint) AS "confirmedTotalCents",
+                   COUNT(*) FILTER (WHERE status = 'PENDING') AS "pendingCount"
+            FROM donations
+            """, nativeQuery = true)
+    DonationTotalsView getDonationTotals();
+
+    /**
+     * Get the total amount of confirmed donations, in the base currency
+     */
+    @Query("SELECT COALESCE(SUM(d.normalizedAmount), 0) FROM DonationEntity d WHERE d.status = 'CONFIRMED'")
     BigDecimal getTotalConfirmedDonations();
 
     /**
@@ -29,9 +45,9 @@ public interface DonationRepository extends JpaRepository<DonationEntity, Long>
     Integer countDonationsByStatus(@Param("status") DonationStatus status);
 
     /**
-     * Get average donation amount for confirmed donations
+     * Get average donation amount for confirmed donations, in the base currency
      */
-    @Query("SELECT COALESCE(AVG(d.amount), 0) FROM DonationEntity d WHERE d.status = 'CONFIRMED'")
+    @Query("SELECT COALESCE(AVG(d.normalizedAmount), 0) FROM DonationEntity d WHERE d.status = 'CONFIRMED'")
     BigDecimal getAverageDonationAmount();
 
     /**
@@ -60,6 +76,26 @@ public interface DonationRepository extends JpaRepository<DonationEntity, Long>
     @Query("SELECT d FROM DonationEntity d WHERE d.status = 'CONFIRMED' AND d.thankYouSentDate IS NULL")
     List<DonationEntity> findConfirmedDonationsWithoutThankYou();
 
+    /**
+     * Next chunk of the thank-you backlog after a donation id (keyset paged)
+     */
+    @Query("SELECT d FROM DonationEntity d WHERE d.status = 'CONFIRMED' AND d.thankYouSentDate IS NULL " +
+            "AND d.donorEmail IS NOT NULL AND d.donorEmail <> '' AND d.id > :afterId ORDER BY d.id")
+    List<DonationEntity> findThankYouBacklogAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Stamp the thank-you date for a chunk of donations in one statement
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DonationEntity d SET d.thankYouSentDate = :now, d.updatedAt = :now " +
+            "WHERE d.id IN :ids AND d.thankYouSentDate IS NULL")
+    int markThankYouSent(@Param("ids") Collection<Long> ids, @Param("now") OffsetDateTime now);
+
+    /**
+     * Find donations with any of the given payment references in a status
+     */
+    List<DonationEntity> findByPaymentReferenceInAndStatus(Collection<String> paymentReferences, DonationStatus status);
+
     /**
      * Find donations by payment method
      */
@@ -79,19 +115,12 @@ public interface DonationRepository extends JpaRepository<DonationEntity, Long>
     List<DonationEntity> findByDonorEmailIgnoreCase(@Param("email") String email);
 
     /**
-     * Check if a donation exists with the same donor email and amount within the last hour
-     * (to prevent duplicate submissions)
+     * Find the donation stored under a dedupe hash
      */
-    @Query("SELECT d FROM DonationEntity d WHERE LOWER(d.donorEmail) = LOWER(:email) " +
-            "AND d.amount = :amount AND d.donationDate > :oneHourAgo")
-    Optional<DonationEntity> findRecentDuplicateDonation(@Param("email") String email,
-                                                         @Param("amount") BigDecimal amount,
-                                                         @Param("oneHourAgo") OffsetDateTime oneHourAgo);
+    Optional<DonationEntity> findByDedupeHash(String dedupeHash);
 
     /**
-     * Get donation statistics for a specific payment method
+     * Find donations made after a point in time
      */
-    @Query("SELECT COUNT(d), COALESCE(SUM(d.amount), 0), COALESCE(AVG(d.amount), 0) " +
-            "FROM DonationEntity d WHERE d.paymentMethod = :paymentMethod AND d.status = 'CONFIRMED'")
-    Object[] getDonationStatsByPaymentMethod(@Param("paymentMethod") PaymentMethod paymentMethod);
+    List<DonationEntity> findByDonationDateAfter(OffsetDateTime since);
 }
\ No newline at end of file
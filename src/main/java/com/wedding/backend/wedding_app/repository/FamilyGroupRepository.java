@@ -2,6 +2,7 @@ package com.wedding.backend.wedding_app.repository;
 
 import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,4 +45,20 @@ public interface FamilyGroupRepository extends JpaRepository<FamilyGroupEntity,
      */
     @Query("SELECT COUNT(fg) FROM FamilyGroupEntity fg WHERE fg.maxAttendees = :maxAttendees")
     long countByMaxAttendees(@Param("maxAttendees") Integer maxAttendees);
-}
\ No newline at end of file
+
+    /**
+     * Move the attending counter by seats (negative to give seats back), but only while the group has room:
+     * the primary contact always holds one of the max_attendees seats. Pending entity writes are flushed
+     * first so a group created in the same transaction is already there. Giving back more seats than
+     * were taken fails the non-negative check rather than hiding the drift.
+     * @return 1 when the counter moved, 0 when the group is full
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE family_groups
+            SET attending_count = attending_count + :seats
+            WHERE id = :familyGroupId
+              AND (:seats <= 0 OR max_attendees IS NULL OR attending_count + :seats < max_attendees)
+            """, nativeQuery = true)
+    int adjustAttendingCount(@Param("familyGroupId") Long familyGroupId, @Param("seats") int seats);
+}
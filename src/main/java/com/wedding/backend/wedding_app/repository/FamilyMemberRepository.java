@@ -2,6 +2,7 @@ package com.wedding.backend.wedding_app.repository;
 
 import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -43,6 +44,15 @@ public interface FamilyMemberRepository extends JpaRepository<FamilyMemberEntity
     @Query("SELECT COUNT(fm) FROM FamilyMemberEntity fm WHERE fm.familyGroup.id = :familyGroupId AND fm.isAttending = true")
     long countAttendingByFamilyGroupId(@Param("familyGroupId") Long familyGroupId);
 
+    /**
+     * Set the attending members of a family group to not attending, including rows this session hasn't loaded
+     * @return Number of members changed, i.e. the seats they held
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FamilyMemberEntity fm SET fm.isAttending = false, fm.dietaryRestrictions = null " +
+            "WHERE fm.familyGroup.id = :familyGroupId AND fm.isAttending = true")
+    int resetAttendanceByFamilyGroupId(@Param("familyGroupId") Long familyGroupId);
+
     /**
      * Find all family members with dietary restrictions
      */
@@ -1,6 +1,8 @@
 package com.wedding.backend.wedding_app.repository;
 
 import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.model.email.CampaignRecipient;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,9 +12,41 @@ import java.util.Optional;
 
 public interface GuestRepository extends JpaRepository<GuestEntity, Long> {
     Optional<GuestEntity> findByFirstNameAndLastName(String firstName, String lastName);
-    Optional<GuestEntity> findByFirstNameIgnoreCaseAndLastNameIgnoreCase(String firstName, String lastName);
     List<GuestEntity> findByLastName(String lastName);
+
+    // Index seek on idx_guests_normalized_name; callers pass NameMatchUtils.normalize'd names
+    Optional<GuestEntity> findFirstByNormalizedLastNameAndNormalizedFirstNameOrderByIdAsc(String normalizedLastName,
+                                                                                          String normalizedFirstName);
+
+    List<GuestEntity> findByNormalizedFirstNameIsNullOrNormalizedLastNameIsNull();
     
     @Query("SELECT g FROM GuestEntity g LEFT JOIN FETCH g.familyGroup fg LEFT JOIN FETCH fg.familyMembers WHERE g.id = :id")
     Optional<GuestEntity> findByIdWithFamilyMembers(@Param("id") Long id);
+
+    // Campaign recipient segments - keyset paged on guest id so a campaign can resume from its cursor
+
+    @Query("SELECT new com.wedding.backend.wedding_app.model.email.CampaignRecipient(g.id, g.firstName, g.lastName, g.email) " +
+           "FROM GuestEntity g WHERE g.id > :afterId AND g.email IS NOT NULL AND g.email <> '' ORDER BY g.id")
+    List<CampaignRecipient> findAllRecipientsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.wedding.backend.wedding_app.model.email.CampaignRecipient(g.id, g.firstName, g.lastName, g.email) " +
+           "FROM GuestEntity g WHERE g.id > :afterId AND g.email IS NOT NULL AND g.email <> '' " +
+           "AND (g.isPrimaryContact = true OR g.familyGroup IS NULL) ORDER BY g.id")
+    List<CampaignRecipient> findPrimaryContactRecipientsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.wedding.backend.wedding_app.model.email.CampaignRecipient(g.id, g.firstName, g.lastName, g.email) " +
+           "FROM GuestEntity g WHERE g.id > :afterId AND g.email IS NOT NULL AND g.email <> '' " +
+           "AND NOT EXISTS (SELECT r.id FROM RSVPEntity r WHERE r.guest = g) ORDER BY g.id")
+    List<CampaignRecipient> findNotRespondedRecipientsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(g) FROM GuestEntity g WHERE g.email IS NOT NULL AND g.email <> ''")
+    long countAllRecipients();
+
+    @Query("SELECT COUNT(g) FROM GuestEntity g WHERE g.email IS NOT NULL AND g.email <> '' " +
+           "AND (g.isPrimaryContact = true OR g.familyGroup IS NULL)")
+    long countPrimaryContactRecipients();
+
+    @Query("SELECT COUNT(g) FROM GuestEntity g WHERE g.email IS NOT NULL AND g.email <> '' " +
+           "AND NOT EXISTS (SELECT r.id FROM RSVPEntity r WHERE r.guest = g)")
+    long countNotRespondedRecipients();
 }
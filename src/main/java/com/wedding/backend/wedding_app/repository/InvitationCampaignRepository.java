@@ -0,0 +1,67 @@
+package com.wedding.backend.wedding_app.repository;
+
+import com.wedding.backend.wedding_app.entity.InvitationCampaignEntity;
+import com.wedding.backend.wedding_app.enums.CampaignStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface InvitationCampaignRepository extends JpaRepository<InvitationCampaignEntity, Long> {
+
+    /**
+     * Find all campaigns, newest first
+     */
+    List<InvitationCampaignEntity> findAllByOrderByCreatedAtDesc();
+
+    /**
+     * Find campaigns in a given status
+     */
+    List<InvitationCampaignEntity> findByStatus(CampaignStatus status);
+
+    /**
+     * Move a campaign to a new status only if it is currently in one of the expected statuses.
+     * Returns 0 when another request (or node) already moved it. startedAt is stamped on the first move to RUNNING.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InvitationCampaignEntity c SET c.status = :newStatus, c.updatedAt = :now, " +
+           "c.startedAt = CASE WHEN c.startedAt IS NULL AND :newStatus = com.wedding.backend.wedding_app.enums.CampaignStatus.RUNNING " +
+           "THEN :now ELSE c.startedAt END " +
+           "WHERE c.id = :id AND c.status IN :expectedStatuses")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatuses") Collection<CampaignStatus> expectedStatuses,
+                         @Param("newStatus") CampaignStatus newStatus,
+                         @Param("now") OffsetDateTime now);
+
+    /**
+     * Advance the cursor and counters after a chunk has been dispatched.
+     * Counters are incremented in SQL so the status column is never overwritten by a stale entity.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InvitationCampaignEntity c SET c.lastGuestId = :lastGuestId, " +
+           "c.sentCount = c.sentCount + :sent, c.failedCount = c.failedCount + :failed, c.updatedAt = :now " +
+           "WHERE c.id = :id")
+    int recordProgress(@Param("id") Long id,
+                       @Param("lastGuestId") Long lastGuestId,
+                       @Param("sent") int sent,
+                       @Param("failed") int failed,
+                       @Param("now") OffsetDateTime now);
+
+    /**
+     * Mark a running campaign as finished (COMPLETED or FAILED)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InvitationCampaignEntity c SET c.status = :newStatus, c.completedAt = :now, " +
+           "c.updatedAt = :now, c.lastError = :lastError " +
+           "WHERE c.id = :id AND c.status = com.wedding.backend.wedding_app.enums.CampaignStatus.RUNNING")
+    int finishCampaign(@Param("id") Long id,
+                       @Param("newStatus") CampaignStatus newStatus,
+                       @Param("lastError") String lastError,
+                       @Param("now") OffsetDateTime now);
+}
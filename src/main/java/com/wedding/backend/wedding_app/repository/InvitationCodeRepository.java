@@ -3,8 +3,12 @@ package com.wedding.backend.wedding_app.repository;
 import com.wedding.backend.wedding_app.entity.InvitationCodeEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,13 @@ public interface InvitationCodeRepository extends JpaRepository<InvitationCodeEn
     List<InvitationCodeEntity> findByGuestAndCodeType(GuestEntity guest, String codeType);
     
     List<InvitationCodeEntity> findByUsed(Boolean used);
+
+    /**
+     * Unexpired codes for a set of guests as [guestId, code] pairs, newest first,
+     * without loading the guest entities
+     */
+    @Query("SELECT ic.guest.id, ic.code FROM InvitationCodeEntity ic " +
+           "WHERE ic.guest.id IN :guestIds AND ic.expiryDate > :now ORDER BY ic.createdDate DESC")
+    List<Object[]> findActiveCodesForGuests(@Param("guestIds") Collection<Long> guestIds,
+                                            @Param("now") LocalDateTime now);
 }
\ No newline at end of file
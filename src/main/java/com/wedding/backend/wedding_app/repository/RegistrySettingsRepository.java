@@ -1,6 +1,7 @@
 package com.wedding.backend.wedding_app.repository;
 
 import com.wedding.backend.wedding_app.entity.RegistrySettingsEntity;
+import com.wedding.backend.wedding_app.model.registry.RegistrySettingsVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,12 @@ public interface RegistrySettingsRepository extends JpaRepository<RegistrySettin
     @Query("SELECT rs FROM RegistrySettingsEntity rs WHERE rs.isActive = true")
     Optional<RegistrySettingsEntity> findActiveSettings();
 
+    /**
+     * Id and last update of the active registry settings, without loading the row
+     */
+    @Query("SELECT rs.id AS id, rs.updatedAt AS updatedAt FROM RegistrySettingsEntity rs WHERE rs.isActive = true")
+    Optional<RegistrySettingsVersionView> findActiveSettingsVersion();
+
     /**
      * Count how many active registry settings exist (should be 0 or 1)
      */
@@ -0,0 +1,101 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates the FX rate table and the currency columns on donations.
+ * Existing donations predate multi-currency support, so they are backfilled as base-currency (USD) amounts.
+ */
+@Service
+public class CurrencyDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(CurrencyDatabaseService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializeCurrencyDatabase() {
+        log.info("BEGIN - Initializing currency tables and donation currency columns");
+
+        try {
+            createFxRateTable();
+            createDonationCurrencyColumns();
+            createCurrencyIndexes();
+            insertDefaultRates();
+            log.info("END - Currency database initialization completed successfully");
+        } catch (Exception e) {
+            log.error("Error during currency database initialization", e);
+        }
+    }
+
+    private void createFxRateTable() {
+        log.info("Creating FX rate table...");
+
+        // rate_to_base: how many base-currency units one unit of currency_code is worth
+        executeIfNotExists("""
+            CREATE TABLE IF NOT EXISTS fx_rates (
+                currency_code VARCHAR(3) PRIMARY KEY,
+                rate_to_base NUMERIC(18, 8) NOT NULL CHECK (rate_to_base > 0),
+                updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+            )
+            """);
+    }
+
+    private void createDonationCurrencyColumns() {
+        log.info("Creating donation currency columns...");
+
+        executeIfNotExists("ALTER TABLE donations ADD COLUMN IF NOT EXISTS currency VARCHAR(3)");
+        executeIfNotExists("ALTER TABLE donations ADD COLUMN IF NOT EXISTS fx_rate NUMERIC(18, 8)");
+        executeIfNotExists("ALTER TABLE donations ADD COLUMN IF NOT EXISTS normalized_amount NUMERIC(12, 2)");
+
+        executeIfNotExists("UPDATE donations SET currency = 'USD' WHERE currency IS NULL");
+        executeIfNotExists("""
+            UPDATE donations SET fx_rate = 1, normalized_amount = amount
+            WHERE normalized_amount IS NULL AND currency = 'USD'
+            """);
+        executeIfNotExists("ALTER TABLE donations ALTER COLUMN currency SET DEFAULT 'USD'");
+    }
+
+    private void createCurrencyIndexes() {
+        log.info("Creating currency indexes...");
+
+        // Registry totals are one pass of SUM(normalized_amount) per status; covering the amount
+        // lets PostgreSQL answer them from the index alone
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_status_normalized_amount
+            ON donations(status) INCLUDE (normalized_amount)
+            """);
+
+        // Keyset page sort by amount (DonationSortField.AMOUNT)
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_page_amount
+            ON donations((COALESCE(normalized_amount, amount)), id)
+            """);
+    }
+
+    private void insertDefaultRates() {
+        log.info("Inserting default FX rates...");
+
+        // BRL is only a starting value; keep it current through PUT /v1/api/registry/fx-rates/BRL
+        executeIfNotExists("""
+            INSERT INTO fx_rates (currency_code, rate_to_base)
+            VALUES ('USD', 1), ('BRL', 0.18)
+            ON CONFLICT (currency_code) DO NOTHING
+            """);
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.debug("SQL statement skipped (likely already exists): {}", e.getMessage());
+        }
+    }
+}
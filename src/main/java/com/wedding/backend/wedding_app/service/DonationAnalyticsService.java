@@ -0,0 +1,196 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.DonationAnalyticsDao;
+import com.wedding.backend.wedding_app.dto.DonationAnalyticsBreakdownDTO;
+import com.wedding.backend.wedding_app.dto.DonationAnalyticsBucketDTO;
+import com.wedding.backend.wedding_app.dto.DonationAnalyticsDTO;
+import com.wedding.backend.wedding_app.enums.DonationAnalyticsInterval;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.DonationBucketRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_ANALYTICS_MAX_BUCKETS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_ANALYTICS_MAX_CACHED_BUCKETS;
+
+/**
+ * Donation totals over time, per payment method and status.
+ *
+ * Buckets that ended before today (UTC) are closed: they are computed once and then served from
+ * memory, so only the open bucket (and any closed ones not cached yet) hit the database. A closed
+ * bucket is evicted when a donation inside it changes status on this node, and expires after
+ * wedding.registry.analytics-cache-ttl-ms so late confirmations and refunds made on other nodes show up.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationAnalyticsService {
+
+    private final DonationAnalyticsDao donationAnalyticsDao;
+
+    // Keyed by "<interval>:<bucket start>"
+    private final Map<String, CachedBucket> closedBuckets = new ConcurrentHashMap<>();
+
+    @Value("${wedding.registry.analytics-cache-ttl-ms:300000}")
+    private long closedBucketTtlMillis;
+
+    /**
+     * Get donation analytics for a date range. The range is widened to whole buckets.
+     * @param interval The bucket size
+     * @param from First day to include (optional, defaults to the interval's default range)
+     * @param to Last day to include (optional, defaults to today UTC)
+     * @return The buckets in the range, oldest first, including empty ones
+     */
+    public DonationAnalyticsDTO getDonationAnalytics(DonationAnalyticsInterval interval, LocalDate from, LocalDate to) {
+        log.info("BEGIN - Fetching {} donation analytics from {} to {}", interval, from, to);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate rangeEnd = Objects.requireNonNullElse(to, today);
+        LocalDate rangeStart = Objects.requireNonNullElse(from,
+                interval.minusBuckets(rangeEnd, interval.getDefaultBucketCount() - 1));
+
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw WeddingAppException.validationError("from must not be after to");
+        }
+
+        LocalDate firstBucket = interval.bucketStart(rangeStart);
+        LocalDate lastBucket = interval.bucketStart(rangeEnd);
+        long bucketCount = interval == DonationAnalyticsInterval.WEEK
+                ? ChronoUnit.WEEKS.between(firstBucket, lastBucket) + 1
+                : ChronoUnit.DAYS.between(firstBucket, lastBucket) + 1;
+
+        if (bucketCount > DONATION_ANALYTICS_MAX_BUCKETS) {
+            throw WeddingAppException.validationError(
+                    "Date range spans " + bucketCount + " buckets, maximum is " + DONATION_ANALYTICS_MAX_BUCKETS);
+        }
+
+        // Everything from the first uncached bucket onwards is loaded with a single query
+        LocalDate queryStart = null;
+        List<DonationAnalyticsBucketDTO> cached = new ArrayList<>();
+        for (LocalDate start = firstBucket; !start.isAfter(lastBucket); start = interval.nextBucketStart(start)) {
+            DonationAnalyticsBucketDTO bucket = isClosed(interval, start, today) ? findCachedBucket(interval, start) : null;
+            if (Objects.isNull(bucket)) {
+                queryStart = start;
+                break;
+            }
+            cached.add(bucket);
+        }
+
+        Map<LocalDate, List<DonationBucketRow>> loadedRows = Objects.isNull(queryStart)
+                ? Map.of()
+                : donationAnalyticsDao.findBuckets(interval, queryStart, interval.nextBucketStart(lastBucket)).stream()
+                        .collect(Collectors.groupingBy(DonationBucketRow::getBucketStart));
+
+        if (closedBuckets.size() > DONATION_ANALYTICS_MAX_CACHED_BUCKETS) {
+            closedBuckets.clear();
+        }
+
+        List<DonationAnalyticsBucketDTO> buckets = new ArrayList<>(cached);
+        if (Objects.nonNull(queryStart)) {
+            long now = System.nanoTime();
+            for (LocalDate start = queryStart; !start.isAfter(lastBucket); start = interval.nextBucketStart(start)) {
+                boolean closed = isClosed(interval, start, today);
+                DonationAnalyticsBucketDTO bucket = buildBucket(interval, start, closed, loadedRows.getOrDefault(start, List.of()));
+                if (closed) {
+                    closedBuckets.put(bucketKey(interval, start), new CachedBucket(bucket, now));
+                }
+                buckets.add(bucket);
+            }
+        }
+
+        DonationAnalyticsDTO analytics = DonationAnalyticsDTO.builder()
+                .interval(interval)
+                .from(firstBucket)
+                .to(interval.nextBucketStart(lastBucket).minusDays(1))
+                .generatedAt(OffsetDateTime.now())
+                .buckets(buckets)
+                .build();
+
+        log.info("END - Returned {} donation analytics buckets ({} loaded from database)",
+                buckets.size(), Objects.isNull(queryStart) ? 0 : loadedRows.size());
+        return analytics;
+    }
+
+    /**
+     * Drop cached closed buckets that contain a donation whose status or amount changed
+     * @param donationDate The donation's date
+     */
+    public void evictBucketsContaining(OffsetDateTime donationDate) {
+        if (Objects.isNull(donationDate)) {
+            return;
+        }
+
+        LocalDate day = donationDate.atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        for (DonationAnalyticsInterval interval : DonationAnalyticsInterval.values()) {
+            closedBuckets.remove(bucketKey(interval, interval.bucketStart(day)));
+        }
+    }
+
+    /**
+     * The cached closed bucket, or null when it isn't cached or has outlived the TTL
+     */
+    private DonationAnalyticsBucketDTO findCachedBucket(DonationAnalyticsInterval interval, LocalDate bucketStart) {
+        CachedBucket cached = closedBuckets.get(bucketKey(interval, bucketStart));
+        if (Objects.isNull(cached)) {
+            return null;
+        }
+        if (System.nanoTime() - cached.cachedAtNanos() > closedBucketTtlMillis * 1_000_000L) {
+            closedBuckets.remove(bucketKey(interval, bucketStart), cached);
+            return null;
+        }
+        return cached.bucket();
+    }
+
+    private boolean isClosed(DonationAnalyticsInterval interval, LocalDate bucketStart, LocalDate today) {
+        return !interval.nextBucketStart(bucketStart).isAfter(today);
+    }
+
+    private DonationAnalyticsBucketDTO buildBucket(DonationAnalyticsInterval interval, LocalDate start,
+                                                   boolean closed, List<DonationBucketRow> rows) {
+        long donationCount = 0L;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<DonationAnalyticsBreakdownDTO> breakdown = new ArrayList<>(rows.size());
+
+        for (DonationBucketRow row : rows) {
+            donationCount += row.getDonationCount();
+            totalAmount = totalAmount.add(row.getTotalAmount());
+            breakdown.add(DonationAnalyticsBreakdownDTO.builder()
+                    .paymentMethod(row.getPaymentMethod())
+                    .status(row.getStatus())
+                    .donationCount(row.getDonationCount())
+                    .totalAmount(row.getTotalAmount())
+                    .averageAmount(row.getAverageAmount())
+                    .build());
+        }
+
+        return DonationAnalyticsBucketDTO.builder()
+                .bucketStart(start)
+                .bucketEnd(interval.nextBucketStart(start).minusDays(1))
+                .closed(closed)
+                .donationCount(donationCount)
+                .totalAmount(totalAmount)
+                .breakdown(List.copyOf(breakdown))
+                .build();
+    }
+
+    private String bucketKey(DonationAnalyticsInterval interval, LocalDate bucketStart) {
+        return interval.name() + ":" + bucketStart;
+    }
+
+    private record CachedBucket(DonationAnalyticsBucketDTO bucket, long cachedAtNanos) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.model.registry.RegistryOverviewSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_BASE_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_DUPLICATE_WINDOW;
+
+/**
+ * Detects repeat submissions of the same donation (same donor email, amount and currency within the window).
+ *
+ * Recent donations are indexed in memory by normalized email, amount and currency, seeded from the database at
+ * startup, so the check costs no query. Across nodes, each donation also stores a hash of its key and
+ * window bucket under a unique index, so a repeat that reaches another node inside the same bucket
+ * fails the insert and is answered with the original.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationDedupeService {
+
+    private final DonationDao donationDao;
+
+    // "<email>|<amount in cents>|<currency>" -> most recent donation with that key
+    private final Map<String, RecentDonation> recentDonations = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedRecentDonations() {
+        try {
+            OffsetDateTime since = OffsetDateTime.now().minus(DONATION_DUPLICATE_WINDOW);
+            donationDao.findDonationsSince(since).forEach(this::record);
+            log.info("Seeded duplicate donation index with {} recent donations", recentDonations.size());
+        } catch (Exception e) {
+            log.error("Failed to seed duplicate donation index", e);
+        }
+    }
+
+    /**
+     * Find a donation with the same email, amount and currency submitted within the window
+     * @return The original donation's ID, if any
+     */
+    public Optional<Long> findRecentDuplicate(String donorEmail, BigDecimal amount, String currency) {
+        String key = dedupeKey(donorEmail, amount, currency);
+        if (Objects.isNull(key)) {
+            return Optional.empty();
+        }
+
+        RecentDonation recent = recentDonations.get(key);
+        if (Objects.isNull(recent) || isExpired(recent, Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(recent.getDonationId());
+    }
+
+    /**
+     * Hash stored in donations.dedupe_hash; donations without an email are never deduplicated
+     * @param donatedAt When the donation was made, which picks the window bucket
+     * @return The hex SHA-256 hash, or null when there is no email
+     */
+    public String dedupeHash(String donorEmail, BigDecimal amount, String currency, OffsetDateTime donatedAt) {
+        String key = dedupeKey(donorEmail, amount, currency);
+        if (Objects.isNull(key)) {
+            return null;
+        }
+
+        long bucket = donatedAt.toEpochSecond() / DONATION_DUPLICATE_WINDOW.toSeconds();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest((key + "|" + bucket).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Add a stored donation to the index
+     */
+    public void record(DonationEntity donation) {
+        String key = dedupeKey(donation.getDonorEmail(), donation.getAmount(), donation.getCurrency());
+        if (Objects.isNull(key) || Objects.isNull(donation.getDonationDate())) {
+            return;
+        }
+
+        RecentDonation recent = new RecentDonation(donation.getId(), donation.getDonationDate().toInstant());
+        recentDonations.merge(key, recent,
+                (current, offered) -> offered.getDonatedAt().isAfter(current.getDonatedAt()) ? offered : current);
+    }
+
+    @Scheduled(fixedDelayString = "${wedding.registry.donation-dedupe-purge-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        recentDonations.values().removeIf(recent -> isExpired(recent, now));
+    }
+
+    private boolean isExpired(RecentDonation recent, Instant now) {
+        return Duration.between(recent.getDonatedAt(), now).compareTo(DONATION_DUPLICATE_WINDOW) > 0;
+    }
+
+    private String dedupeKey(String donorEmail, BigDecimal amount, String currency) {
+        String email = StringUtils.lowerCase(StringUtils.trimToNull(donorEmail), Locale.ROOT);
+        if (Objects.isNull(email) || Objects.isNull(amount)) {
+            return null;
+        }
+        return email + "|" + RegistryOverviewSnapshot.toCents(amount) + "|" + Objects.requireNonNullElse(currency, DONATION_BASE_CURRENCY);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RecentDonation {
+        private final Long donationId;
+        private final Instant donatedAt;
+    }
+}
@@ -0,0 +1,181 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wedding.backend.wedding_app.dao.DonationLedgerDao;
+import com.wedding.backend.wedding_app.dto.DonationLedgerEntryDTO;
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.LedgerExportFormat;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LEDGER_EXPORT_BUFFER_SIZE;
+
+/**
+ * Streams every donation in a date range to the accountant as CSV or NDJSON.
+ *
+ * Rows go straight from a JDBC cursor to the response with running totals added on the way,
+ * so memory use doesn't grow with the size of the ledger.
+ */
+@Slf4j
+@Service
+public class DonationLedgerExportService {
+
+    private static final String CSV_HEADER = "id,donation_date,confirmed_date,donor_name,donor_email,amount,"
+            + "currency,fx_rate,normalized_amount,payment_method,payment_reference,status,running_count,running_total,running_confirmed_total";
+
+    private final DonationLedgerDao donationLedgerDao;
+    private final ObjectWriter ndjsonWriter;
+
+    public DonationLedgerExportService(DonationLedgerDao donationLedgerDao, ObjectMapper objectMapper) {
+        this.donationLedgerDao = donationLedgerDao;
+        this.ndjsonWriter = objectMapper.writerFor(DonationLedgerEntryDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Validate the request and return a body that streams the ledger when the response is written
+     * @param format CSV or NDJSON
+     * @param from First UTC day to include (optional)
+     * @param to Last UTC day to include (optional)
+     * @param statuses Statuses to include (optional, defaults to all)
+     * @param gzip Whether to gzip the stream
+     * @return The streaming response body
+     */
+    public StreamingResponseBody exportLedger(LedgerExportFormat format, LocalDate from, LocalDate to,
+                                              List<DonationStatus> statuses, boolean gzip) {
+        if (Objects.nonNull(from) && Objects.nonNull(to) && from.isAfter(to)) {
+            throw WeddingAppException.invalidParameter("from must be on or before to");
+        }
+
+        OffsetDateTime fromInclusive = Objects.nonNull(from) ? from.atStartOfDay().atOffset(ZoneOffset.UTC) : null;
+        OffsetDateTime toExclusive = Objects.nonNull(to) ? to.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC) : null;
+        List<DonationStatus> statusFilter = CollectionUtils.isEmpty(statuses)
+                ? List.of()
+                : statuses.stream().filter(Objects::nonNull).distinct().toList();
+
+        return outputStream -> {
+            log.info("BEGIN - Streaming {} donation ledger from {} to {} (statuses: {}, gzip: {})",
+                    format, from, to, statusFilter, gzip);
+
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, LEDGER_EXPORT_BUFFER_SIZE) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), LEDGER_EXPORT_BUFFER_SIZE);
+
+            try {
+                long rows = writeLedger(format, fromInclusive, toExclusive, statusFilter, writer);
+                writer.flush();
+                if (target instanceof GZIPOutputStream gzipStream) {
+                    gzipStream.finish();
+                }
+                log.info("END - Streamed {} donation ledger rows", rows);
+            } catch (UncheckedIOException e) {
+                log.warn("Donation ledger export aborted: {}", e.getMessage());
+                throw e.getCause();
+            }
+        };
+    }
+
+    private long writeLedger(LedgerExportFormat format, OffsetDateTime fromInclusive, OffsetDateTime toExclusive,
+                             List<DonationStatus> statuses, Writer writer) throws IOException {
+        if (format == LedgerExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] runningCount = {0L};
+        BigDecimal[] runningTotal = {BigDecimal.ZERO};
+        BigDecimal[] runningConfirmedTotal = {BigDecimal.ZERO};
+
+        return donationLedgerDao.streamLedger(fromInclusive, toExclusive, statuses, entry -> {
+            BigDecimal amount = Objects.requireNonNullElse(entry.getNormalizedAmount(), BigDecimal.ZERO);
+            runningCount[0]++;
+            runningTotal[0] = runningTotal[0].add(amount);
+            if (entry.getStatus() == DonationStatus.CONFIRMED || entry.getStatus() == DonationStatus.THANKED) {
+                runningConfirmedTotal[0] = runningConfirmedTotal[0].add(amount);
+            }
+
+            entry.setRunningCount(runningCount[0]);
+            entry.setRunningTotal(runningTotal[0]);
+            entry.setRunningConfirmedTotal(runningConfirmedTotal[0]);
+
+            try {
+                if (format == LedgerExportFormat.CSV) {
+                    writeCsvLine(entry, writer);
+                } else {
+                    ndjsonWriter.writeValue(writer, entry);
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsvLine(DonationLedgerEntryDTO entry, Writer writer) throws IOException {
+        writer.write(String.valueOf(entry.getId()));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getDonationDate(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getConfirmedDate(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(csvText(entry.getDonorName()));
+        writer.write(',');
+        writer.write(csvText(entry.getDonorEmail()));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getAmount(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getCurrency(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(Objects.nonNull(entry.getFxRate()) ? entry.getFxRate().toPlainString() : StringUtils.EMPTY);
+        writer.write(',');
+        writer.write(Objects.toString(entry.getNormalizedAmount(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getPaymentMethod(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(csvText(entry.getPaymentReference()));
+        writer.write(',');
+        writer.write(Objects.toString(entry.getStatus(), StringUtils.EMPTY));
+        writer.write(',');
+        writer.write(String.valueOf(entry.getRunningCount()));
+        writer.write(',');
+        writer.write(entry.getRunningTotal().toPlainString());
+        writer.write(',');
+        writer.write(entry.getRunningConfirmedTotal().toPlainString());
+        writer.write('\n');
+    }
+
+    /**
+     * Quote free-text fields when needed, and defuse values a spreadsheet would run as a formula
+     */
+    private String csvText(String value) {
+        if (StringUtils.isEmpty(value)) {
+            return StringUtils.EMPTY;
+        }
+
+        String safe = StringUtils.startsWithAny(value, "=", "+", "-", "@") ? "'" + value : value;
+        if (StringUtils.containsAny(safe, ',', '"', '\n', '\r')) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,268 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.wedding.backend.wedding_app.dto.ReconciliationLineDTO;
+import com.wedding.backend.wedding_app.dto.ReconciliationMatchDTO;
+import com.wedding.backend.wedding_app.dto.ReconciliationReportDTO;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
+import com.wedding.backend.wedding_app.enums.ReconciliationMatchType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.RegistryOverviewSnapshot;
+import com.wedding.backend.wedding_app.model.registry.StatementLine;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import com.wedding.backend.wedding_app.util.PaymentStatementReader;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.RECONCILIATION_MIN_REFERENCE_LENGTH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.RECONCILIATION_REFERENCE_MISMATCH_CONFIDENCE;
+
+/**
+ * Matches a Venmo/Zelle statement export against pending donations and confirms the confident matches.
+ *
+ * Pending donations are indexed once per run by payment reference and by base-currency amount in cents
+ * (Venmo and Zelle statements are in USD); each statement line is then scored against only the donations
+ * sharing its reference or amount.
+ * Candidate pairs are assigned greedily by confidence, so a donation and a statement line are
+ * each used at most once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationReconciliationService {
+
+    private final DonationDao donationDao;
+    private final RegistryService registryService;
+    private final DonationAnalyticsService donationAnalyticsService;
+
+    /**
+     * Reconcile a payment statement against pending donations
+     * @param file The statement CSV
+     * @param paymentMethod Only match donations made with this method (optional)
+     * @param minConfidence Matches at or above this confidence are confirmed
+     * @param dryRun Report matches without confirming anything
+     * @return The match report
+     */
+    public ReconciliationReportDTO reconcile(MultipartFile file, PaymentMethod paymentMethod,
+                                             double minConfidence, boolean dryRun) {
+        log.info("BEGIN - Reconciling payment statement {} (method: {}, min confidence: {}, dry run: {})",
+                file.getOriginalFilename(), paymentMethod, minConfidence, dryRun);
+
+        if (file.isEmpty()) {
+            throw WeddingAppException.validationError("file - statement is empty");
+        }
+        if (minConfidence < 0.0 || minConfidence > 1.0) {
+            throw WeddingAppException.validationError("minConfidence - must be between 0 and 1");
+        }
+
+        long startedAt = System.nanoTime();
+
+        List<DonationEntity> pending = donationDao.findDonationsByStatus(DonationStatus.PENDING).stream()
+                .filter(donation -> Objects.isNull(paymentMethod) || donation.getPaymentMethod() == paymentMethod)
+                .toList();
+        Map<String, List<DonationEntity>> byReference = new HashMap<>();
+        Map<Long, List<DonationEntity>> byAmountCents = new HashMap<>();
+        for (DonationEntity donation : pending) {
+            String reference = NameMatchUtils.normalizeReference(donation.getPaymentReference());
+            if (reference.length() >= RECONCILIATION_MIN_REFERENCE_LENGTH) {
+                byReference.computeIfAbsent(reference, key -> new ArrayList<>()).add(donation);
+            }
+            byAmountCents.computeIfAbsent(RegistryOverviewSnapshot.toCents(donation.getNormalizedAmount()), key -> new ArrayList<>())
+                    .add(donation);
+        }
+
+        List<StatementLine> lines = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>();
+        int linesRead;
+        int linesSkipped;
+
+        try (PaymentStatementReader reader = new PaymentStatementReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+                collectCandidates(line, byReference, byAmountCents, candidates);
+            }
+            linesRead = reader.getLinesRead();
+            linesSkipped = reader.getLinesSkipped();
+        } catch (IOException e) {
+            log.error("Error reading payment statement {}", file.getOriginalFilename(), e);
+            throw WeddingAppException.validationError("file - statement could not be read");
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::getConfidence).reversed()
+                .thenComparingInt(candidate -> candidate.getLine().getLineNumber()));
+
+        Set<Integer> matchedLines = new HashSet<>();
+        Set<Long> matchedDonations = new HashSet<>();
+        List<Candidate> matches = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (!matchedLines.contains(candidate.getLine().getLineNumber())
+                    && !matchedDonations.contains(candidate.getDonation().getId())) {
+                matchedLines.add(candidate.getLine().getLineNumber());
+                matchedDonations.add(candidate.getDonation().getId());
+                matches.add(candidate);
+            }
+        }
+
+        List<Candidate> toConfirm = matches.stream()
+                .filter(match -> match.getConfidence() >= minConfidence)
+                .toList();
+        Set<Long> confirmedIds = dryRun ? Set.of() : confirm(toConfirm);
+        int confirmedCount = confirmedIds.size();
+
+        List<ReconciliationMatchDTO> matchReport = matches.stream()
+                .sorted(Comparator.comparingInt(match -> match.getLine().getLineNumber()))
+                .map(match -> toMatchDTO(match, confirmedIds.contains(match.getDonation().getId())))
+                .toList();
+        List<ReconciliationLineDTO> unmatched = lines.stream()
+                .filter(line -> !matchedLines.contains(line.getLineNumber()))
+                .map(this::toLineDTO)
+                .toList();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        log.info("END - Reconciled {} statement lines against {} pending donations: {} matched, {} confirmed, {} unmatched in {} ms",
+                lines.size(), pending.size(), matches.size(), confirmedCount, unmatched.size(), elapsedMillis);
+
+        return ReconciliationReportDTO.builder()
+                .paymentMethod(paymentMethod)
+                .dryRun(dryRun)
+                .minConfidence(minConfidence)
+                .linesRead(linesRead)
+                .linesSkipped(linesSkipped)
+                .pendingDonations(pending.size())
+                .matchedCount(matches.size())
+                .confirmedCount(confirmedCount)
+                .elapsedMillis(elapsedMillis)
+                .matches(matchReport)
+                .unmatchedLines(unmatched)
+                .build();
+    }
+
+    private void collectCandidates(StatementLine line, Map<String, List<DonationEntity>> byReference,
+                                   Map<Long, List<DonationEntity>> byAmountCents, List<Candidate> candidates) {
+        long lineCents = RegistryOverviewSnapshot.toCents(line.getAmount());
+        Map<Long, Candidate> best = new HashMap<>();
+
+        // Reference match on the transaction id column or any word of the note/memo
+        Set<String> referenceKeys = new HashSet<>();
+        referenceKeys.add(NameMatchUtils.normalizeReference(line.getReference()));
+        for (String token : StringUtils.split(StringUtils.defaultString(line.getNote()))) {
+            referenceKeys.add(NameMatchUtils.normalizeReference(token));
+        }
+
+        for (String referenceKey : referenceKeys) {
+            if (referenceKey.length() < RECONCILIATION_MIN_REFERENCE_LENGTH) {
+                continue;
+            }
+            for (DonationEntity donation : byReference.getOrDefault(referenceKey, List.of())) {
+                boolean sameAmount = RegistryOverviewSnapshot.toCents(donation.getNormalizedAmount()) == lineCents;
+                offer(best, new Candidate(line, donation,
+                        sameAmount ? ReconciliationMatchType.REFERENCE : ReconciliationMatchType.REFERENCE_AMOUNT_MISMATCH,
+                        sameAmount ? 1.0 : RECONCILIATION_REFERENCE_MISMATCH_CONFIDENCE));
+            }
+        }
+
+        // Same amount, scored by how close the sender name is to the donor name
+        for (DonationEntity donation : byAmountCents.getOrDefault(lineCents, List.of())) {
+            double nameScore = NameMatchUtils.similarity(line.getName(), donation.getDonorName());
+            offer(best, new Candidate(line, donation, ReconciliationMatchType.AMOUNT_AND_NAME, 0.5 + 0.5 * nameScore));
+        }
+
+        candidates.addAll(best.values());
+    }
+
+    private void offer(Map<Long, Candidate> best, Candidate candidate) {
+        best.merge(candidate.getDonation().getId(), candidate,
+                (current, offered) -> offered.getConfidence() > current.getConfidence() ? offered : current);
+    }
+
+    /**
+     * Confirm the matched donations that are still pending
+     * @return IDs of the donations this run confirmed (others may have been confirmed by a webhook meanwhile)
+     */
+    private Set<Long> confirm(List<Candidate> matches) {
+        if (matches.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> donationIds = matches.stream()
+                .map(match -> match.getDonation().getId())
+                .toList();
+
+        Set<Long> confirmed = registryService.recordDonationChanges(() -> {
+            Set<Long> updated = new HashSet<>(donationDao.confirmPendingDonations(donationIds));
+            for (Candidate match : matches) {
+                DonationEntity donation = match.getDonation();
+                if (updated.contains(donation.getId())) {
+                    donation.setStatus(DonationStatus.CONFIRMED);
+                    registryService.recordDonationStatusChange(donation, DonationStatus.PENDING);
+                }
+            }
+            return updated;
+        });
+
+        for (Candidate match : matches) {
+            if (confirmed.contains(match.getDonation().getId())) {
+                donationAnalyticsService.evictBucketsContaining(match.getDonation().getDonationDate());
+            }
+        }
+
+        return confirmed;
+    }
+
+    private ReconciliationMatchDTO toMatchDTO(Candidate match, boolean confirmed) {
+        return ReconciliationMatchDTO.builder()
+                .lineNumber(match.getLine().getLineNumber())
+                .statementReference(match.getLine().getReference())
+                .statementName(match.getLine().getName())
+                .statementAmount(match.getLine().getAmount())
+                .donationId(match.getDonation().getId())
+                .donorName(match.getDonation().getDonorName())
+                .donationAmount(match.getDonation().getNormalizedAmount())
+                .matchType(match.getMatchType())
+                .confidence(Math.round(match.getConfidence() * 1000) / 1000.0)
+                .confirmed(confirmed)
+                .build();
+    }
+
+    private ReconciliationLineDTO toLineDTO(StatementLine line) {
+        return ReconciliationLineDTO.builder()
+                .lineNumber(line.getLineNumber())
+                .reference(line.getReference())
+                .name(line.getName())
+                .note(line.getNote())
+                .date(line.getDate())
+                .amount(line.getAmount())
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Candidate {
+        private final StatementLine line;
+        private final DonationEntity donation;
+        private final ReconciliationMatchType matchType;
+        private final double confidence;
+    }
+}
@@ -1,20 +1,34 @@
 package com.wedding.backend.wedding_app.service;
 
 import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.DonationRequestDTO;
 import com.wedding.backend.wedding_app.dto.DonationResponseDTO;
 import com.wedding.backend.wedding_app.entity.DonationEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.enums.DonationSortField;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.enums.PaymentMethod;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
+import com.wedding.backend.wedding_app.model.registry.FxRateTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.wedding.backend.wedding_app.util.WeddingErrorConstants.DUPLICATE_DONATION;
+
 
 @Service
 @Slf4j
@@ -22,15 +36,31 @@ import java.util.stream.Collectors;
 public class DonationService {
 
     private final DonationDao donationDao;
+    private final KeysetPageDao keysetPageDao;
     private final EmailService emailService;
     private final GuestService guestService;
+    private final RegistryService registryService;
+    private final DonationAnalyticsService donationAnalyticsService;
+    private final DonationDedupeService donationDedupeService;
+    private final FxRateService fxRateService;
 
     /**
-     * Submit a new donation
+     * Submit a new donation; a repeat of a recent submission returns the original instead
      */
     public DonationResponseDTO submitDonation(DonationRequestDTO request) {
         log.info("BEGIN - Processing donation submission from: {}", request.getDonorName());
 
+        String currency = fxRateService.normalizeCurrency(request.getCurrency());
+        BigDecimal fxRate = fxRateService.getRateToBase(currency);
+
+        Optional<DonationEntity> recentDuplicate = donationDedupeService
+                .findRecentDuplicate(request.getDonorEmail(), request.getAmount(), currency)
+                .flatMap(donationDao::findDonationById);
+        if (recentDuplicate.isPresent()) {
+            log.warn("END - Duplicate donation submission, returning original donation {}", recentDuplicate.get().getId());
+            return convertToDonationResponseDTO(recentDuplicate.get());
+        }
+
         GuestEntity guest = null;
         if (request.getGuestId() != null) {
             try {
@@ -40,22 +70,46 @@ public class DonationService {
             }
         }
 
+        OffsetDateTime now = OffsetDateTime.now();
         DonationEntity donation = DonationEntity.builder()
                 .donorName(request.getDonorName())
                  .donorEmail(request.getDonorEmail())
                 .donorPhone(request.getDonorPhone())
                 .amount(request.getAmount())
+                .currency(currency)
+                .fxRate(fxRate)
+                .normalizedAmount(FxRateTable.toBase(request.getAmount(), fxRate))
                 .paymentMethod(request.getPaymentMethod())
                 .paymentReference(request.getPaymentReference())
                 .message(request.getMessage())
                 .guest(guest)
-                .donationDate(OffsetDateTime.now())
+                .donationDate(now)
                 .status(DonationStatus.PENDING)
-                .createdAt(OffsetDateTime.now())
-                .updatedAt(OffsetDateTime.now())
+                .dedupeHash(donationDedupeService.dedupeHash(request.getDonorEmail(), request.getAmount(), currency, now))
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
 
-        DonationEntity savedDonation = donationDao.saveDonation(donation);
+        DonationEntity savedDonation;
+        try {
+            savedDonation = registryService.recordDonationChanges(() -> {
+                DonationEntity saved = donationDao.saveDonation(donation);
+                registryService.recordDonationStatusChange(saved, null);
+                return saved;
+            });
+        } catch (WeddingAppException e) {
+            if (!DUPLICATE_DONATION.equals(e.getErrorKey())) {
+                throw e;
+            }
+            // Same submission was stored by another node (or request) first
+            DonationEntity original = donationDao.findDonationByDedupeHash(donation.getDedupeHash())
+                    .orElseThrow(() -> e);
+            donationDedupeService.record(original);
+            log.warn("END - Duplicate donation submission, returning original donation {}", original.getId());
+            return convertToDonationResponseDTO(original);
+        }
+
+        donationDedupeService.record(savedDonation);
 
         try {
             emailService.sendDonationConfirmationEmailAsync(savedDonation);
@@ -81,35 +135,51 @@ public class DonationService {
             return convertToDonationResponseDTO(donation);
         }
 
+        DonationStatus previousStatus = donation.getStatus();
         donation.setStatus(DonationStatus.CONFIRMED);
         donation.setConfirmedDate(OffsetDateTime.now());
         donation.setUpdatedAt(OffsetDateTime.now());
 
-        DonationEntity confirmed = donationDao.updateDonation(donation);
+        DonationEntity confirmed = registryService.recordDonationChanges(() -> {
+            DonationEntity updated = donationDao.updateDonation(donation);
+            registryService.recordDonationStatusChange(updated, previousStatus);
+            return updated;
+        });
+        donationAnalyticsService.evictBucketsContaining(confirmed.getDonationDate());
 
         log.info("END - Donation confirmed successfully");
         return convertToDonationResponseDTO(confirmed);
     }
 
     /**
-     * Get all donations with optional status filter
+     * Get one page of donations
+     * @param page Sort, cursor and page size
+     * @param status Only donations with this status (optional)
+     * @param paymentMethod Only donations paid this way (optional)
+     * @param from First UTC day of donation to include (optional)
+     * @param to Last UTC day of donation to include (optional)
      */
-    public List<DonationResponseDTO> getAllDonations(DonationStatus status) {
-        log.info("BEGIN - Fetching donations with status filter: {}", status);
-
-        List<DonationEntity> donations;
-        if (status != null) {
-            donations = donationDao.findDonationsByStatus(status);
-        } else {
-            donations = donationDao.findAllDonations();
+    public CursorPageDTO<DonationResponseDTO> getDonationPage(CursorPageRequest page, DonationStatus status,
+                                                              PaymentMethod paymentMethod, LocalDate from, LocalDate to) {
+        log.info("BEGIN - Fetching donation page sorted by {} {} (status: {}, payment method: {})",
+                page.getSort().name(), page.getDirection(), status, paymentMethod);
+
+        KeysetPageQuery query = KeysetPageQuery.from("donations d", "d.id")
+                .whereOnDays(DonationSortField.DONATION_DATE.getExpression(), from, to);
+        if (Objects.nonNull(status)) {
+            query.where("d.status = ?", status.name());
+        }
+        if (Objects.nonNull(paymentMethod)) {
+            query.where("d.payment_method = ?", paymentMethod.name());
         }
 
-        List<DonationResponseDTO> result = donations.stream()
+        IdPage ids = keysetPageDao.findIdPage(query, page);
+        List<DonationResponseDTO> result = ids.inOrder(donationDao.findDonationsByIds(ids.getIds()), DonationEntity::getId).stream()
                 .map(this::convertToDonationResponseDTO)
-                .collect(Collectors.toList());
+                .toList();
 
-        log.info("END - Found {} donations", result.size());
-        return result;
+        log.info("END - Found {} donations (more: {})", result.size(), Objects.nonNull(ids.getNextCursor()));
+        return CursorPageDTO.of(ids, result, page.getLimit());
     }
 
     /**
@@ -176,6 +246,8 @@ public class DonationService {
                 .donorEmail(entity.getDonorEmail())
                 .donorPhone(entity.getDonorPhone())
                 .amount(entity.getAmount())
+                .currency(entity.getCurrency())
+                .normalizedAmount(entity.getNormalizedAmount())
                 .paymentMethod(entity.getPaymentMethod())
                 .paymentReference(entity.getPaymentReference())
                 .message(entity.getMessage())
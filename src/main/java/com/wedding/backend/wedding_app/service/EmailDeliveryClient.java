@@ -0,0 +1,130 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.resend.Resend;
+import com.resend.core.exception.ResendException;
+import com.resend.services.batch.model.BatchEmail;
+import com.resend.services.batch.model.CreateBatchEmailsResponse;
+import com.resend.services.emails.model.CreateEmailOptions;
+import com.resend.services.emails.model.CreateEmailResponse;
+import com.wedding.backend.wedding_app.annotations.EmailRetryable;
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OPERATION_BATCH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OPERATION_SINGLE;
+
+/**
+ * Thin wrapper around the Resend client that every outgoing email goes through.
+ * Each provider request (including retries) takes a slot from a shared rate limiter so
+ * that campaigns, sweepers and transactional emails together stay under the provider limit.
+ * Lives in its own bean so that @EmailRetryable is applied through the Spring proxy.
+ * Each attempt records provider latency, rate-limit wait and retries in EmailMetricsService.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDeliveryClient {
+
+    private final Resend resend;
+    private final EmailConfig emailConfig;
+    private final EmailMetricsService emailMetricsService;
+
+    private long nextPermitAt = 0L;
+
+    /**
+     * Send a single email
+     * @param emailType The email type, for metrics
+     * @param emailOptions The Resend email options
+     * @return The Resend message id
+     * @throws ResendException if the provider rejects the request after all retries
+     */
+    @EmailRetryable
+    public String send(String emailType, CreateEmailOptions emailOptions) throws ResendException {
+        recordIfRetry(emailType, EMAIL_OPERATION_SINGLE);
+        acquirePermit();
+
+        Timer.Sample sample = emailMetricsService.startTimer();
+        boolean success = false;
+        try {
+            CreateEmailResponse response = resend.emails().send(emailOptions);
+            success = true;
+            return response.getId();
+        } finally {
+            emailMetricsService.recordProviderRequest(sample, emailType, EMAIL_OPERATION_SINGLE, success);
+        }
+    }
+
+    /**
+     * Send up to 100 emails in one provider request. Attachments are not supported by the batch endpoint.
+     * @param emailType The email type, for metrics
+     * @param emailOptions The Resend email options
+     * @return The Resend message ids, in request order
+     * @throws ResendException if the provider rejects the request after all retries
+     */
+    @EmailRetryable
+    public List<String> sendBatch(String emailType, List<CreateEmailOptions> emailOptions) throws ResendException {
+        recordIfRetry(emailType, EMAIL_OPERATION_BATCH);
+        acquirePermit();
+
+        Timer.Sample sample = emailMetricsService.startTimer();
+        boolean success = false;
+        try {
+            CreateBatchEmailsResponse response = resend.batch().send(emailOptions);
+            success = true;
+            if (Objects.isNull(response) || Objects.isNull(response.getData())) {
+                return List.of();
+            }
+            return response.getData().stream()
+                    .map(BatchEmail::getId)
+                    .toList();
+        } finally {
+            emailMetricsService.recordProviderRequest(sample, emailType, EMAIL_OPERATION_BATCH, success);
+        }
+    }
+
+    /**
+     * Count this call as a retry if spring-retry has already seen a failed attempt
+     */
+    private void recordIfRetry(String emailType, String operation) {
+        RetryContext retryContext = RetrySynchronizationManager.getContext();
+        if (Objects.nonNull(retryContext) && retryContext.getRetryCount() > 0) {
+            emailMetricsService.recordRetry(emailType, operation);
+        }
+    }
+
+    /**
+     * Reserve the next request slot and wait for it. Slots are reserved under the lock
+     * but the wait happens outside of it, so callers queue in arrival order.
+     */
+    private void acquirePermit() {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, emailConfig.getProviderRequestsPerSecond());
+        long waitNanos;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextPermitAt);
+            nextPermitAt = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+
+        emailMetricsService.recordThrottle(Math.max(0L, waitNanos));
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for email provider rate limit");
+            }
+        }
+    }
+}
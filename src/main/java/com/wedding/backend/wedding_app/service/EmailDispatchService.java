@@ -0,0 +1,113 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.resend.services.emails.model.CreateEmailOptions;
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import com.wedding.backend.wedding_app.model.email.EmailDispatchResult;
+import com.wedding.backend.wedding_app.model.email.EmailMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OUTCOME_FAILED;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OUTCOME_SENT;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.RESEND_BATCH_MAX_SIZE;
+
+/**
+ * Delivery side of the bulk email pipeline. Takes already rendered messages and sends them
+ * in as few provider requests as possible: plain messages go through the batch endpoint,
+ * messages carrying attachments are sent one request each.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailDispatchService {
+
+    private final EmailDeliveryClient emailDeliveryClient;
+    private final EmailConfig emailConfig;
+    private final EmailMetricsService emailMetricsService;
+
+    /**
+     * Send a group of rendered messages. Never throws for delivery failures;
+     * failed messages are reported in the result instead.
+     * @param messages The rendered messages
+     * @return Which reference ids were sent and which failed
+     */
+    public EmailDispatchResult dispatch(List<EmailMessage> messages) {
+        EmailDispatchResult result = EmailDispatchResult.builder().build();
+
+        if (CollectionUtils.isEmpty(messages)) {
+            return result;
+        }
+
+        log.info("STARTED - Dispatching {} emails", messages.size());
+
+        List<EmailMessage> batchable = messages.stream()
+                .filter(message -> !message.hasAttachments())
+                .toList();
+        List<EmailMessage> withAttachments = messages.stream()
+                .filter(EmailMessage::hasAttachments)
+                .toList();
+
+        for (List<EmailMessage> batch : ListUtils.partition(batchable, RESEND_BATCH_MAX_SIZE)) {
+            sendBatch(batch, result);
+        }
+
+        for (EmailMessage message : withAttachments) {
+            sendSingle(message, result);
+        }
+
+        log.info("COMPLETED - Dispatched emails, sent: {}, failed: {}", result.getSentCount(), result.getFailedCount());
+        return result;
+    }
+
+    private void sendBatch(List<EmailMessage> batch, EmailDispatchResult result) {
+        List<CreateEmailOptions> emailOptions = batch.stream()
+                .map(this::toEmailOptions)
+                .toList();
+
+        String emailType = batch.get(0).getEmailType();
+
+        try {
+            emailDeliveryClient.sendBatch(emailType, emailOptions);
+            batch.forEach(message -> result.getSentReferenceIds().add(message.getReferenceId()));
+            emailMetricsService.recordOutcome(emailType, EMAIL_OUTCOME_SENT, batch.size());
+        } catch (Exception e) {
+            log.error("Failed to send batch of {} {} emails via Resend API", batch.size(), emailType, e);
+            batch.forEach(message -> result.getFailedReferenceIds().add(message.getReferenceId()));
+            emailMetricsService.recordOutcome(emailType, EMAIL_OUTCOME_FAILED, batch.size());
+        }
+    }
+
+    private void sendSingle(EmailMessage message, EmailDispatchResult result) {
+        try {
+            String resendId = emailDeliveryClient.send(message.getEmailType(), toEmailOptions(message));
+            log.info("Sent {} email to: {} with Resend ID: {}", message.getEmailType(), message.getTo(), resendId);
+            result.getSentReferenceIds().add(message.getReferenceId());
+            emailMetricsService.recordOutcome(message.getEmailType(), EMAIL_OUTCOME_SENT, 1);
+        } catch (Exception e) {
+            log.error("Failed to send {} email to: {} via Resend API", message.getEmailType(), message.getTo(), e);
+            result.getFailedReferenceIds().add(message.getReferenceId());
+            emailMetricsService.recordOutcome(message.getEmailType(), EMAIL_OUTCOME_FAILED, 1);
+        }
+    }
+
+    private CreateEmailOptions toEmailOptions(EmailMessage message) {
+        CreateEmailOptions.Builder builder = CreateEmailOptions.builder()
+                .from(emailConfig.getSenderEmail())
+                .to(message.getTo())
+                .subject(message.getSubject())
+                .html(message.getHtml());
+
+        if (message.hasAttachments()) {
+            builder.attachments(message.getAttachments());
+        }
+
+        CreateEmailOptions emailOptions = builder.build();
+        emailMetricsService.recordPayloadSize(message.getEmailType(), emailOptions);
+        return emailOptions;
+    }
+}
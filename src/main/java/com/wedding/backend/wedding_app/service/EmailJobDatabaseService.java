@@ -0,0 +1,73 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates the small bookkeeping tables used by background email jobs.
+ * These are plain JDBC tables rather than entities since they are only ever touched by set-based SQL.
+ */
+@Service
+public class EmailJobDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailJobDatabaseService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializeEmailJobDatabase() {
+        log.info("BEGIN - Initializing email job tables and indexes");
+
+        try {
+            createEmailJobTables();
+            createEmailJobIndexes();
+            log.info("END - Email job database initialization completed successfully");
+        } catch (Exception e) {
+            log.error("Error during email job database initialization", e);
+        }
+    }
+
+    private void createEmailJobTables() {
+        log.info("Creating email job tables...");
+
+        // One row per scheduled job; whoever holds an unexpired lease is the only node allowed to run it
+        executeIfNotExists("""
+            CREATE TABLE IF NOT EXISTS job_leases (
+                job_name VARCHAR(100) PRIMARY KEY,
+                owner VARCHAR(200) NOT NULL,
+                expires_at TIMESTAMPTZ NOT NULL
+            )
+            """);
+
+        // Per-guest reminder cooldown
+        executeIfNotExists("""
+            CREATE TABLE IF NOT EXISTS guest_reminders (
+                guest_id BIGINT PRIMARY KEY REFERENCES guests(id) ON DELETE CASCADE,
+                last_sent_at TIMESTAMPTZ NOT NULL,
+                reminder_count INTEGER NOT NULL DEFAULT 1
+            )
+            """);
+    }
+
+    private void createEmailJobIndexes() {
+        log.info("Creating email job indexes...");
+
+        // Support the non-responder anti-join
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rsvps_guest_id ON rsvps(guest_id)");
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invitation_codes_guest_expiry ON invitation_codes(guest_id, expiry_date)");
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.debug("SQL statement skipped (likely already exists): {}", e.getMessage());
+        }
+    }
+}
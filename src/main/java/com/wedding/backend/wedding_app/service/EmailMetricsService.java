@@ -0,0 +1,134 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.resend.services.emails.model.Attachment;
+import com.resend.services.emails.model.CreateEmailOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_OUTCOME_FAILED;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_TYPE_UNKNOWN;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_OUTCOME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_PAYLOAD_SIZE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_PROVIDER_REQUESTS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_PROVIDER_RETRIES;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_PROVIDER_THROTTLE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_EMAIL_RENDER;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_RESULT_ERROR;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_RESULT_SUCCESS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_OPERATION;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_OUTCOME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_RESULT;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.METRIC_TAG_TYPE;
+
+/**
+ * Micrometer meters for the email pipeline, tagged by email type.
+ *
+ * Every email ends with exactly one wedding.email.outcome count: "failed" when rendering fails,
+ * "sent"/"failed" once the provider call finishes, or "dropped" when emailTaskExecutor rejects it.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailMetricsService {
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Record template render time; a failed render is also the email's final outcome
+     */
+    public void recordRender(Timer.Sample sample, String emailType, boolean success) {
+        sample.stop(Timer.builder(METRIC_EMAIL_RENDER)
+                .description("Email template render time")
+                .tag(METRIC_TAG_TYPE, typeTag(emailType))
+                .tag(METRIC_TAG_RESULT, success ? METRIC_RESULT_SUCCESS : METRIC_RESULT_ERROR)
+                .register(meterRegistry));
+
+        if (!success) {
+            recordOutcome(emailType, EMAIL_OUTCOME_FAILED, 1);
+        }
+    }
+
+    /**
+     * Record the size of one outgoing email (HTML plus base64 attachments)
+     */
+    public void recordPayloadSize(String emailType, CreateEmailOptions emailOptions) {
+        long bytes = StringUtils.isEmpty(emailOptions.getHtml())
+                ? 0L
+                : emailOptions.getHtml().getBytes(StandardCharsets.UTF_8).length;
+
+        if (CollectionUtils.isNotEmpty(emailOptions.getAttachments())) {
+            for (Attachment attachment : emailOptions.getAttachments()) {
+                bytes += StringUtils.length(attachment.getContent());
+            }
+        }
+
+        DistributionSummary.builder(METRIC_EMAIL_PAYLOAD_SIZE)
+                .description("Size of outgoing emails")
+                .baseUnit("bytes")
+                .tag(METRIC_TAG_TYPE, typeTag(emailType))
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Record the latency of one provider request attempt (excludes rate-limit wait)
+     */
+    public void recordProviderRequest(Timer.Sample sample, String emailType, String operation, boolean success) {
+        sample.stop(Timer.builder(METRIC_EMAIL_PROVIDER_REQUESTS)
+                .description("Email provider request latency per attempt")
+                .tag(METRIC_TAG_TYPE, typeTag(emailType))
+                .tag(METRIC_TAG_OPERATION, operation)
+                .tag(METRIC_TAG_RESULT, success ? METRIC_RESULT_SUCCESS : METRIC_RESULT_ERROR)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Record time spent waiting for the shared provider rate limiter
+     */
+    public void recordThrottle(long waitNanos) {
+        Timer.builder(METRIC_EMAIL_PROVIDER_THROTTLE)
+                .description("Time spent waiting for the email provider rate limit")
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(String emailType, String operation) {
+        Counter.builder(METRIC_EMAIL_PROVIDER_RETRIES)
+                .description("Email provider request retries")
+                .tag(METRIC_TAG_TYPE, typeTag(emailType))
+                .tag(METRIC_TAG_OPERATION, operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordOutcome(String emailType, String outcome, int count) {
+        if (count <= 0) {
+            return;
+        }
+
+        Counter.builder(METRIC_EMAIL_OUTCOME)
+                .description("Final outcome of each email")
+                .tag(METRIC_TAG_TYPE, typeTag(emailType))
+                .tag(METRIC_TAG_OUTCOME, outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private String typeTag(String emailType) {
+        return Objects.toString(StringUtils.trimToNull(emailType), EMAIL_TYPE_UNKNOWN);
+    }
+}
@@ -1,10 +1,8 @@
 package com.wedding.backend.wedding_app.service;
 
-import com.resend.Resend;
 import com.resend.core.exception.ResendException;
+import com.resend.services.emails.model.Attachment;
 import com.resend.services.emails.model.CreateEmailOptions;
-import com.resend.services.emails.model.CreateEmailResponse;
-import com.wedding.backend.wedding_app.annotations.EmailRetryable;
 import com.wedding.backend.wedding_app.config.EmailConfig;
 import com.wedding.backend.wedding_app.dto.RSVPSummaryDTO;
 import com.wedding.backend.wedding_app.entity.DonationEntity;
@@ -14,9 +12,14 @@ import com.wedding.backend.wedding_app.entity.GuestEntity;
 import com.wedding.backend.wedding_app.entity.RSVPEntity;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.email.CampaignRecipient;
+import com.wedding.backend.wedding_app.model.email.EmailMessage;
+import com.wedding.backend.wedding_app.model.email.ReminderRecipient;
+import com.wedding.backend.wedding_app.service.ThankYouTemplateService.CompiledThankYouTemplate;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -24,14 +27,18 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Currency;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -45,9 +52,11 @@ import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.*;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final Resend resend;
+    private final EmailDeliveryClient emailDeliveryClient;
     private final Configuration freemarkerConfig;
     private final EmailConfig emailConfig;
+    private final ThankYouTemplateService thankYouTemplateService;
+    private final EmailMetricsService emailMetricsService;
 
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("MMMM d, yyyy 'at' h:mm a");
@@ -100,8 +109,8 @@ public class EmailService {
 
             Map<String, Object> model = buildRsvpEmailModel(rsvpEntity, guestEntity, preferredLanguage);
 
-            String htmlContent = processTemplate(templatePath, model);
-            sendHtmlEmail(guestEntity.getEmail(), subject, htmlContent);
+            String htmlContent = processTemplate(EMAIL_TYPE_RSVP_CONFIRMATION, templatePath, model);
+            sendHtmlEmail(EMAIL_TYPE_RSVP_CONFIRMATION, guestEntity.getEmail(), subject, htmlContent);
             
             log.info("COMPLETED - RSVP confirmation email sent successfully to: {} in language: {}", 
                     guestEntity.getEmail(), preferredLanguage);
@@ -135,8 +144,8 @@ public class EmailService {
 
             Map<String, Object> model = buildAdminNotificationModel(rsvpEntity, guestEntity, rsvpSummary);
 
-            String htmlContent = processTemplate(templatePath, model);
-            sendHtmlEmail(emailConfig.getAdminEmail(), subject, htmlContent);
+            String htmlContent = processTemplate(EMAIL_TYPE_ADMIN_NOTIFICATION, templatePath, model);
+            sendHtmlEmail(EMAIL_TYPE_ADMIN_NOTIFICATION, emailConfig.getAdminEmail(), subject, htmlContent);
             
             log.info("COMPLETED - Admin notification sent successfully");
 
@@ -252,30 +261,38 @@ public class EmailService {
 
     /**
      * Process a template with the provided model data.
+     * @param emailType The email type, for render metrics
      * @param templateName Name of the template to process
      * @param model Model data to use for dynamic data in email
      * @return Processed template as a String
      * @throws IOException if template cannot be found
      * @throws TemplateException if template fails processing
      */
-    private String processTemplate(String templateName, Map<String, Object> model)
+    private String processTemplate(String emailType, String templateName, Map<String, Object> model)
         throws IOException, TemplateException {
 
-        Template template = freemarkerConfig.getTemplate(templateName);
-        StringWriter writer = new StringWriter();
-        template.process(model, writer);
-        return writer.toString();
+        Timer.Sample sample = emailMetricsService.startTimer();
+        boolean success = false;
+        try {
+            Template template = freemarkerConfig.getTemplate(templateName);
+            StringWriter writer = new StringWriter();
+            template.process(model, writer);
+            success = true;
+            return writer.toString();
+        } finally {
+            emailMetricsService.recordRender(sample, emailType, success);
+        }
     }
 
     /**
-     * Send an HTML email using Resend API
+     * Send an HTML email using Resend API. Retries and rate limiting are handled by EmailDeliveryClient.
+     * @param emailType The email type, for delivery metrics
      * @param emailAddress Recipient email address
      * @param emailSubject Email subject
      * @param htmlContent HTML content of the email
      * @throws ResendException if there's an error sending the email
      */
-    @EmailRetryable
-    private void sendHtmlEmail(String emailAddress, String emailSubject, String htmlContent)
+    private void sendHtmlEmail(String emailType, String emailAddress, String emailSubject, String htmlContent)
         throws ResendException {
 
         log.info("Creating and sending email to: {} via Resend API", emailAddress);
@@ -287,10 +304,14 @@ public class EmailService {
                 .html(htmlContent)
                 .build();
 
+        emailMetricsService.recordPayloadSize(emailType, emailOptions);
+
         try {
-            CreateEmailResponse response = resend.emails().send(emailOptions);
-            log.info("Email sent successfully to: {} with Resend ID: {}", emailAddress, response.getId());
-        } catch (ResendException e) {
+            String resendId = emailDeliveryClient.send(emailType, emailOptions);
+            emailMetricsService.recordOutcome(emailType, EMAIL_OUTCOME_SENT, 1);
+            log.info("Email sent successfully to: {} with Resend ID: {}", emailAddress, resendId);
+        } catch (ResendException | RuntimeException e) {
+            emailMetricsService.recordOutcome(emailType, EMAIL_OUTCOME_FAILED, 1);
             log.error("Failed to send email to: {} via Resend API", emailAddress, e);
             throw e;
         }
@@ -316,8 +337,8 @@ public class EmailService {
 
             Map<String, Object> model = buildDonationConfirmationEmailModel(donation);
 
-            String htmlContent = processTemplate(templatePath, model);
-            sendHtmlEmail(donation.getDonorEmail(), subject, htmlContent);
+            String htmlContent = processTemplate(EMAIL_TYPE_DONATION_CONFIRMATION, templatePath, model);
+            sendHtmlEmail(EMAIL_TYPE_DONATION_CONFIRMATION, donation.getDonorEmail(), subject, htmlContent);
 
             log.info("COMPLETED - Donation confirmation email sent successfully to: {}", donation.getDonorEmail());
 
@@ -343,6 +364,19 @@ public class EmailService {
             throw WeddingAppException.validationError("Cannot send thank you for unconfirmed donation");
         }
 
+        Optional<CompiledThankYouTemplate> databaseTemplate = thankYouTemplateService.resolveActiveTemplate();
+        if (databaseTemplate.isPresent()) {
+            try {
+                EmailMessage message = buildDonationThankYouEmail(donation, databaseTemplate.get());
+                sendHtmlEmail(message.getEmailType(), message.getTo(), message.getSubject(), message.getHtml());
+                log.info("COMPLETED - Thank you email sent successfully to: {} using template: {}",
+                        donation.getDonorEmail(), databaseTemplate.get().getTemplateId());
+                return;
+            } catch (Exception e) {
+                throw handleEmailException("donation thank you", null, e);
+            }
+        }
+
         String templatePath = null;
         try {
             templatePath = emailConfig.getDonationThankYouTemplatePath();
@@ -359,8 +393,8 @@ public class EmailService {
 
             Map<String, Object> model = buildDonationThankYouEmailModel(donation);
 
-            String htmlContent = processTemplate(templatePath, model);
-            sendHtmlEmail(donation.getDonorEmail(), subject, htmlContent);
+            String htmlContent = processTemplate(EMAIL_TYPE_DONATION_THANK_YOU, templatePath, model);
+            sendHtmlEmail(EMAIL_TYPE_DONATION_THANK_YOU, donation.getDonorEmail(), subject, htmlContent);
 
             log.info("COMPLETED - Thank you email sent successfully to: {}", donation.getDonorEmail());
 
@@ -369,6 +403,70 @@ public class EmailService {
         }
     }
 
+    /**
+     * Render a donation thank-you email without sending it, for bulk sends
+     * @param donation The confirmed donation entity
+     * @param databaseTemplate Compiled DB template to use, or null for the Freemarker file template
+     * @return The rendered message, ready for EmailDispatchService
+     */
+    public EmailMessage buildDonationThankYouEmail(DonationEntity donation, CompiledThankYouTemplate databaseTemplate) {
+        if (Objects.isNull(databaseTemplate)) {
+            return buildDonationThankYouEmail(donation);
+        }
+
+        Timer.Sample sample = emailMetricsService.startTimer();
+        boolean success = false;
+        try {
+            Map<String, String> values = thankYouTemplateService.buildTemplateValues(donation);
+
+            EmailMessage message = EmailMessage.builder()
+                    .referenceId(donation.getId())
+                    .emailType(EMAIL_TYPE_DONATION_THANK_YOU)
+                    .to(donation.getDonorEmail())
+                    .subject(databaseTemplate.renderSubject(values))
+                    .html(databaseTemplate.renderHtml(values))
+                    .build();
+            success = true;
+            return message;
+        } finally {
+            emailMetricsService.recordRender(sample, EMAIL_TYPE_DONATION_THANK_YOU, success);
+        }
+    }
+
+    /**
+     * Render a donation thank-you email from the Freemarker file template without sending it
+     * @param donation The confirmed donation entity
+     * @return The rendered message, ready for EmailDispatchService
+     */
+    public EmailMessage buildDonationThankYouEmail(DonationEntity donation) {
+        String templatePath = StringUtils.defaultIfBlank(emailConfig.getDonationThankYouTemplatePath(), DONATION_THANK_YOU_TEMPLATE);
+        String subject = StringUtils.defaultIfBlank(emailConfig.getDonationThankYouSubject(), DONATION_THANK_YOU_SUBJECT);
+
+        try {
+            return EmailMessage.builder()
+                    .referenceId(donation.getId())
+                    .emailType(EMAIL_TYPE_DONATION_THANK_YOU)
+                    .to(donation.getDonorEmail())
+                    .subject(subject)
+                    .html(processTemplate(EMAIL_TYPE_DONATION_THANK_YOU, templatePath, buildDonationThankYouEmailModel(donation)))
+                    .build();
+        } catch (Exception e) {
+            throw handleEmailException("donation thank you", templatePath, e);
+        }
+    }
+
+    /**
+     * Symbol to print before a donation amount, e.g. "$" for USD or "R$" for BRL
+     */
+    private String currencySymbol(String currency) {
+        String code = Objects.requireNonNullElse(currency, DONATION_BASE_CURRENCY);
+        try {
+            return Currency.getInstance(code).getSymbol(Locale.US);
+        } catch (IllegalArgumentException e) {
+            return code + " ";
+        }
+    }
+
     /**
      * Build a model map for donation confirmation emails
      * @param donation The donation entity
@@ -382,6 +480,7 @@ public class EmailService {
         model.put(EMAIL_FIELD_DONOR_PHONE, donation.getDonorPhone());
 
         model.put(EMAIL_FIELD_DONATION_AMOUNT, donation.getAmount());
+        model.put(EMAIL_FIELD_DONATION_CURRENCY_SYMBOL, currencySymbol(donation.getCurrency()));
         model.put(EMAIL_FIELD_PAYMENT_METHOD, donation.getPaymentMethod().getDisplayName());
         model.put(EMAIL_FIELD_PAYMENT_REFERENCE, donation.getPaymentReference());
         model.put(EMAIL_FIELD_DONATION_MESSAGE, donation.getMessage());
@@ -413,6 +512,7 @@ public class EmailService {
         model.put(EMAIL_FIELD_DONOR_EMAIL, donation.getDonorEmail());
 
         model.put(EMAIL_FIELD_DONATION_AMOUNT, donation.getAmount());
+        model.put(EMAIL_FIELD_DONATION_CURRENCY_SYMBOL, currencySymbol(donation.getCurrency()));
         model.put(EMAIL_FIELD_PAYMENT_METHOD, donation.getPaymentMethod().getDisplayName());
         model.put(EMAIL_FIELD_DONATION_MESSAGE, donation.getMessage());
         model.put(EMAIL_FIELD_DONATION_ID, donation.getId());
@@ -432,6 +532,95 @@ public class EmailService {
         return model;
     }
 
+    /**
+     * Render a personalized invitation for a campaign recipient without sending it.
+     * The QR code is attached as a PNG; the template also links to the RSVP page directly.
+     * @param recipient The campaign recipient
+     * @param invitationCode The guest's invitation code
+     * @param qrCodePng QR code image for the invitation code (may be null)
+     * @param preferredLanguage The preferred language (LANGUAGE_ENGLISH or LANGUAGE_PORTUGUESE)
+     * @return The rendered message, ready for EmailDispatchService
+     */
+    public EmailMessage buildInvitationEmail(CampaignRecipient recipient, String invitationCode,
+                                             byte[] qrCodePng, String preferredLanguage) {
+        boolean isPortuguese = StringUtils.equalsIgnoreCase(LANGUAGE_PORTUGUESE, preferredLanguage);
+
+        String templatePath = isPortuguese ? emailConfig.getInvitationTemplatePathPt() : emailConfig.getInvitationTemplatePath();
+        String subject = isPortuguese ? emailConfig.getInvitationSubjectPt() : emailConfig.getInvitationSubject();
+
+        if (StringUtils.isBlank(templatePath)) {
+            templatePath = INVITATION_TEMPLATE;
+            subject = INVITATION_SUBJECT;
+        }
+
+        boolean hasQrCode = Objects.nonNull(qrCodePng) && qrCodePng.length > 0;
+
+        Map<String, Object> model = new HashMap<>();
+        model.put(EMAIL_FIELD_FIRST_NAME, recipient.getFirstName());
+        model.put(EMAIL_FIELD_LAST_NAME, recipient.getLastName());
+        model.put(EMAIL_FIELD_INVITATION_CODE, invitationCode);
+        model.put(EMAIL_FIELD_RSVP_URL, BASE_URL + invitationCode);
+        model.put(EMAIL_FIELD_HAS_QR_CODE, hasQrCode);
+
+        try {
+            String htmlContent = processTemplate(EMAIL_TYPE_INVITATION, templatePath, model);
+
+            List<Attachment> attachments = hasQrCode
+                    ? List.of(Attachment.builder()
+                        .fileName(INVITATION_QR_CODE_FILENAME)
+                        .content(Base64.getEncoder().encodeToString(qrCodePng))
+                        .build())
+                    : List.of();
+
+            return EmailMessage.builder()
+                    .referenceId(recipient.getGuestId())
+                    .emailType(EMAIL_TYPE_INVITATION)
+                    .to(recipient.getEmail())
+                    .subject(subject)
+                    .html(htmlContent)
+                    .attachments(attachments)
+                    .build();
+        } catch (Exception e) {
+            throw handleEmailException("invitation", templatePath, e);
+        }
+    }
+
+    /**
+     * Render an RSVP reminder for a guest who has not responded yet, without sending it
+     * @param recipient The guest and their invitation code
+     * @param preferredLanguage The preferred language (LANGUAGE_ENGLISH or LANGUAGE_PORTUGUESE)
+     * @return The rendered message, ready for EmailDispatchService
+     */
+    public EmailMessage buildRsvpReminderEmail(ReminderRecipient recipient, String preferredLanguage) {
+        boolean isPortuguese = StringUtils.equalsIgnoreCase(LANGUAGE_PORTUGUESE, preferredLanguage);
+
+        String templatePath = isPortuguese ? emailConfig.getReminderTemplatePathPt() : emailConfig.getReminderTemplatePath();
+        String subject = isPortuguese ? emailConfig.getReminderSubjectPt() : emailConfig.getReminderSubject();
+
+        if (StringUtils.isBlank(templatePath)) {
+            templatePath = REMINDER_TEMPLATE;
+            subject = REMINDER_SUBJECT;
+        }
+
+        Map<String, Object> model = new HashMap<>();
+        model.put(EMAIL_FIELD_FIRST_NAME, recipient.getFirstName());
+        model.put(EMAIL_FIELD_LAST_NAME, recipient.getLastName());
+        model.put(EMAIL_FIELD_INVITATION_CODE, recipient.getInvitationCode());
+        model.put(EMAIL_FIELD_RSVP_URL, BASE_URL + recipient.getInvitationCode());
+
+        try {
+            return EmailMessage.builder()
+                    .referenceId(recipient.getGuestId())
+                    .emailType(EMAIL_TYPE_RSVP_REMINDER)
+                    .to(recipient.getEmail())
+                    .subject(subject)
+                    .html(processTemplate(EMAIL_TYPE_RSVP_REMINDER, templatePath, model))
+                    .build();
+        } catch (Exception e) {
+            throw handleEmailException("RSVP reminder", templatePath, e);
+        }
+    }
+
     /**
      * Send a confirmation email to the guest asynchronously
      * @param rsvpEntity The RSVP entity
@@ -4,10 +4,12 @@ import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
+@DependsOn("sequenceDatabaseService")
 public class FamilyDatabaseService {
 
     private static final Logger log = LoggerFactory.getLogger(FamilyDatabaseService.class);
@@ -57,6 +59,29 @@ public class FamilyDatabaseService {
                 END IF;
             END $$
             """);
+
+        // Attending family members per group, kept by FamilyGroupDao.adjustAttendingCount (not mapped on the
+        // entity, so Hibernate never writes a stale copy back); backfilled once when the column is added
+        executeIfNotExists("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (
+                    SELECT 1 FROM information_schema.columns
+                    WHERE table_name='family_groups' AND column_name='attending_count'
+                ) THEN
+                    ALTER TABLE family_groups ADD COLUMN attending_count INTEGER NOT NULL DEFAULT 0;
+
+                    UPDATE family_groups fg SET attending_count = m.attending
+                    FROM (
+                        SELECT family_group_id, COUNT(*) AS attending
+                        FROM family_members
+                        WHERE is_attending
+                        GROUP BY family_group_id
+                    ) m
+                    WHERE fg.id = m.family_group_id;
+                END IF;
+            END $$
+            """);
     }
 
     private void createFamilyIndexes() {
@@ -66,6 +91,16 @@ public class FamilyDatabaseService {
         executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_family_members_family_group_id ON family_members(family_group_id)");
         executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_guests_is_primary_contact ON guests(is_primary_contact)");
         executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_family_groups_primary_contact ON family_groups(primary_contact_guest_id)");
+
+        // Keyset page sorts (FamilyGroupSortField)
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_family_groups_page_name
+            ON family_groups((COALESCE(lower(group_name), '')), id)
+            """);
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_family_groups_page_created_at
+            ON family_groups((COALESCE(created_at, 'epoch'::timestamptz)), id)
+            """);
     }
 
     private void createFamilyConstraints() {
@@ -117,6 +152,18 @@ public class FamilyDatabaseService {
                 END IF;
             END $$
             """);
+
+        executeIfNotExists("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (
+                    SELECT 1 FROM pg_constraint
+                    WHERE conname = 'check_non_negative_attending_count'
+                ) THEN
+                    ALTER TABLE family_groups ADD CONSTRAINT check_non_negative_attending_count CHECK (attending_count >= 0);
+                END IF;
+            END $$
+            """);
     }
 
     private void migrateExistingGuestsToFamilySystem() {
@@ -1,35 +1,64 @@
 package com.wedding.backend.wedding_app.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.wedding.backend.wedding_app.dao.FamilyGroupDao;
+import com.wedding.backend.wedding_app.dao.FamilyGroupReadDao;
 import com.wedding.backend.wedding_app.dao.FamilyMemberDao;
+import com.wedding.backend.wedding_app.dao.GuestCleanupDao;
 import com.wedding.backend.wedding_app.dao.GuestDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
+import com.wedding.backend.wedding_app.dto.BulkDeleteResponseDTO;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
 import com.wedding.backend.wedding_app.dto.FamilyMemberResponseDTO;
 import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
 import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.enums.FamilyGroupSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestCleanupResult;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
 import com.wedding.backend.wedding_app.model.request.FamilyGroupRequest;
 import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
 import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import com.wedding.backend.wedding_app.util.JsonArrayStreams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.BULK_DELETE_MAX_IDS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LIST_STREAM_FETCH_SIZE;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FamilyGroupService {
 
     private final FamilyGroupDao familyGroupDao;
+    private final FamilyGroupReadDao familyGroupReadDao;
+    private final KeysetPageDao keysetPageDao;
     private final GuestDao guestDao;
     private final FamilyMemberDao familyMemberDao;
+    private final FamilyMemberService familyMemberService;
+    private final GuestCleanupDao guestCleanupDao;
+    private final GuestNameIndexService guestNameIndexService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Create a complete family group with primary contact, additional guests, and family members
@@ -56,18 +85,27 @@ public class FamilyGroupService {
             primaryContact.setFamilyGroup(savedFamilyGroup);
             primaryContact.setIsPrimaryContact(true);
             guestDao.updateGuest(primaryContact);
+            guestNameIndexService.indexGuest(primaryContact);
 
             // 4. Create family members if provided
+            List<FamilyMemberEntity> savedFamilyMembers = new ArrayList<>();
             if (request.getFamilyMembers() != null && !request.getFamilyMembers().isEmpty()) {
                 for (FamilyMemberRequest memberRequest : request.getFamilyMembers()) {
                     FamilyMemberEntity familyMember = createFamilyMember(memberRequest, savedFamilyGroup);
-                    familyMemberDao.save(familyMember);
+                    FamilyMemberEntity savedFamilyMember = familyMemberDao.save(familyMember);
+                    guestNameIndexService.indexFamilyMember(savedFamilyMember);
+                    savedFamilyMembers.add(savedFamilyMember);
                 }
             }
+            familyMemberService.adjustAttendingCount(savedFamilyGroup, (int) savedFamilyMembers.stream()
+                    .filter(member -> BooleanUtils.isTrue(member.getIsAttending()))
+                    .count());
 
             log.info("END - Family group created successfully with ID: {}", savedFamilyGroup.getId());
-            return mapToResponseDTO(savedFamilyGroup);
+            return mapToResponseDTO(savedFamilyGroup, savedFamilyMembers);
 
+        } catch (WeddingAppException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error creating family group: {}", request.getGroupName(), e);
             throw WeddingAppException.databaseError();
@@ -75,26 +113,58 @@ public class FamilyGroupService {
     }
 
     /**
-     * Get all family groups
+     * Get one page of family groups
+     * @param page Sort, cursor and page size
+     * @param hasRsvp Only groups whose primary contact has (true) or has not (false) responded (optional)
+     * @param attending Only groups whose primary contact is (true) or is not (false) attending (optional)
+     * @param createdFrom First UTC day of creation to include (optional)
+     * @param createdTo Last UTC day of creation to include (optional)
      */
-    @Transactional(readOnly = true)
-    public List<FamilyGroupResponseDTO> getAllFamilyGroups() {
-        log.info("BEGIN - Fetching all family groups");
+    public CursorPageDTO<FamilyGroupResponseDTO> getFamilyGroupPage(CursorPageRequest page, Boolean hasRsvp, Boolean attending,
+                                                                    LocalDate createdFrom, LocalDate createdTo) {
+        log.info("BEGIN - Fetching family group page sorted by {} {}", page.getSort().name(), page.getDirection());
 
-        try {
-            List<FamilyGroupEntity> familyGroups = familyGroupDao.findAllWithPrimaryContacts();
-            List<FamilyGroupResponseDTO> responseDTOs = new ArrayList<>();
+        KeysetPageQuery query = familyGroupFilters(hasRsvp, attending, createdFrom, createdTo);
+        IdPage ids = keysetPageDao.findIdPage(query, page);
+        List<FamilyGroupResponseDTO> familyGroups = ids.inOrder(familyGroupReadDao.findByIds(ids.getIds()),
+                FamilyGroupResponseDTO::getId);
 
-            for (FamilyGroupEntity familyGroup : familyGroups) {
-                responseDTOs.add(mapToResponseDTO(familyGroup));
+        log.info("END - Found {} family groups (more: {})", familyGroups.size(), Objects.nonNull(ids.getNextCursor()));
+        return CursorPageDTO.of(ids, familyGroups, page.getLimit());
+    }
+
+    /**
+     * Stream every family group matching the filters, with its members, as one JSON array
+     * @return Body that writes the groups as they are read, when the response is written
+     */
+    public StreamingResponseBody streamFamilyGroups(FamilyGroupSortField sort, SortDirection direction, Boolean hasRsvp,
+                                                    Boolean attending, LocalDate createdFrom, LocalDate createdTo) {
+        KeysetPageQuery query = familyGroupFilters(hasRsvp, attending, createdFrom, createdTo);
+        ObjectWriter elementWriter = JsonArrayStreams.elementWriter(objectMapper, FamilyGroupResponseDTO.class);
+
+        return outputStream -> {
+            log.info("BEGIN - Streaming family groups sorted by {} {}", sort, direction);
+            try {
+                long groups = JsonArrayStreams.<FamilyGroupResponseDTO>writeArray(outputStream, objectMapper, elementWriter,
+                        LIST_STREAM_FETCH_SIZE, consumer -> familyGroupReadDao.streamFamilyGroups(query, sort, direction, consumer));
+                log.info("END - Streamed {} family groups", groups);
+            } catch (UncheckedIOException e) {
+                log.warn("Family group stream aborted: {}", e.getMessage());
+                throw e.getCause();
             }
+        };
+    }
 
-            log.info("END - Found {} family groups", responseDTOs.size());
-            return responseDTOs;
-        } catch (Exception e) {
-            log.error("Error fetching all family groups", e);
-            throw WeddingAppException.databaseError();
+    private KeysetPageQuery familyGroupFilters(Boolean hasRsvp, Boolean attending, LocalDate createdFrom, LocalDate createdTo) {
+        KeysetPageQuery query = KeysetPageQuery.from("family_groups fg", "fg.id")
+                .whereOnDays(FamilyGroupSortField.CREATED_AT.getExpression(), createdFrom, createdTo);
+        if (Objects.nonNull(hasRsvp)) {
+            query.where((hasRsvp ? "" : "NOT ") + "EXISTS (SELECT 1 FROM rsvps r WHERE r.guest_id = fg.primary_contact_guest_id)");
         }
+        if (Objects.nonNull(attending)) {
+            query.where("EXISTS (SELECT 1 FROM rsvps r WHERE r.guest_id = fg.primary_contact_guest_id AND r.attending = ?)", attending);
+        }
+        return query;
     }
 
     /**
@@ -105,12 +175,8 @@ public class FamilyGroupService {
         log.info("BEGIN - Fetching family group with ID: {}", id);
 
         try {
-            Optional<FamilyGroupEntity> familyGroupOpt = familyGroupDao.findById(id);
-            if (familyGroupOpt.isEmpty()) {
-                throw WeddingAppException.familyGroupNotFound(id);
-            }
-
-            FamilyGroupResponseDTO responseDTO = mapToResponseDTO(familyGroupOpt.get());
+            FamilyGroupResponseDTO responseDTO = familyGroupReadDao.findById(id)
+                    .orElseThrow(() -> WeddingAppException.familyGroupNotFound(id));
             log.info("END - Family group found: {}", responseDTO.getGroupName());
             return responseDTO;
         } catch (WeddingAppException e) {
@@ -139,6 +205,10 @@ public class FamilyGroupService {
             FamilyGroupEntity familyGroup = familyGroupOpt.get();
             FamilyMemberEntity familyMember = createFamilyMember(request, familyGroup);
             FamilyMemberEntity savedFamilyMember = familyMemberDao.save(familyMember);
+            if (BooleanUtils.isTrue(savedFamilyMember.getIsAttending())) {
+                familyMemberService.adjustAttendingCount(familyGroup, 1);
+            }
+            guestNameIndexService.indexFamilyMember(savedFamilyMember);
 
             log.info("END - Family member added successfully with ID: {}", savedFamilyMember.getId());
             return mapFamilyMemberToResponseDTO(savedFamilyMember);
@@ -180,20 +250,51 @@ public class FamilyGroupService {
     public void deleteFamilyGroup(Long id) {
         log.info("BEGIN - Deleting family group with ID: {}", id);
 
-        try {
-            Optional<FamilyGroupEntity> familyGroupOpt = familyGroupDao.findById(id);
-            if (familyGroupOpt.isEmpty()) {
-                throw WeddingAppException.familyGroupNotFound(id);
-            }
+        if (id == null) {
+            throw WeddingAppException.invalidParameter("Family group ID cannot be null");
+        }
 
-            familyGroupDao.deleteById(id);
-            log.info("END - Family group deleted successfully: {}", id);
-        } catch (WeddingAppException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error deleting family group with ID: {}", id, e);
-            throw WeddingAppException.databaseError();
+        GuestCleanupResult result = guestCleanupDao.deleteFamilyGroups(List.of(id));
+        if (result.getDeletedFamilyGroupIds().isEmpty()) {
+            throw WeddingAppException.familyGroupNotFound(id);
         }
+        removeFromNameIndex(result);
+
+        log.info("END - Family group deleted successfully: {}", id);
+    }
+
+    /**
+     * Delete many family groups, with their members and guests, at once (admin cleanup).
+     * Unknown IDs are reported back rather than failing the request.
+     */
+    @Transactional
+    public BulkDeleteResponseDTO deleteFamilyGroups(List<Long> ids) {
+        log.info("BEGIN - Bulk deleting {} family groups", CollectionUtils.size(ids));
+
+        if (CollectionUtils.isEmpty(ids) || ids.contains(null)) {
+            throw WeddingAppException.invalidParameter("ids must be a non-empty list of family group IDs");
+        }
+        if (ids.size() > BULK_DELETE_MAX_IDS) {
+            throw WeddingAppException.invalidParameter("ids cannot contain more than " + BULK_DELETE_MAX_IDS + " family group IDs");
+        }
+
+        GuestCleanupResult result = guestCleanupDao.deleteFamilyGroups(ids);
+        removeFromNameIndex(result);
+
+        log.info("END - Bulk deleted {} family groups", result.getDeletedFamilyGroupIds().size());
+        return BulkDeleteResponseDTO.builder()
+                .requestedCount(ids.size())
+                .deletedIds(result.getDeletedFamilyGroupIds())
+                .notFoundIds(ids.stream().distinct().filter(id -> !result.getDeletedFamilyGroupIds().contains(id)).toList())
+                .deletedGuestCount(result.getDeletedGuestIds().size())
+                .deletedFamilyMemberCount(result.getDeletedFamilyMembers())
+                .detachedDonationCount(result.getDetachedDonations())
+                .build();
+    }
+
+    private void removeFromNameIndex(GuestCleanupResult result) {
+        guestNameIndexService.removeGuests(result.getDeletedGuestIds());
+        guestNameIndexService.removeFamilyGroups(result.getDeletedFamilyGroupIds());
     }
 
     private GuestEntity createGuest(GuestRequest guestRequest, boolean isPrimaryContact) {
@@ -217,14 +318,18 @@ public class FamilyGroupService {
                 .build();
     }
 
-    private FamilyGroupResponseDTO mapToResponseDTO(FamilyGroupEntity familyGroup) {
+    private FamilyGroupResponseDTO mapToResponseDTO(FamilyGroupEntity familyGroup, List<FamilyMemberEntity> familyMembers) {
+        GuestEntity primaryContact = familyGroup.getPrimaryContact();
         return FamilyGroupResponseDTO.builder()
                 .id(familyGroup.getId())
                 .groupName(familyGroup.getGroupName())
                 .maxAttendees(familyGroup.getMaxAttendees())
-                .primaryContactGuestId(familyGroup.getPrimaryContact() != null 
-                        ? familyGroup.getPrimaryContact().getId() : null)
+                .primaryContactGuestId(primaryContact != null ? primaryContact.getId() : null)
+                .primaryContactFirstName(primaryContact != null ? primaryContact.getFirstName() : null)
+                .primaryContactLastName(primaryContact != null ? primaryContact.getLastName() : null)
+                .primaryContactEmail(primaryContact != null ? primaryContact.getEmail() : null)
                 .createdAt(familyGroup.getCreatedAt())
+                .familyMembers(familyMembers.stream().map(this::mapFamilyMemberToResponseDTO).toList())
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.wedding.backend.wedding_app.service;
 
+import com.wedding.backend.wedding_app.dao.FamilyGroupDao;
 import com.wedding.backend.wedding_app.dao.FamilyMemberDao;
 import com.wedding.backend.wedding_app.dto.RSVPRequestDTO;
 import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
@@ -7,13 +8,13 @@ import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -21,12 +22,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FamilyMemberService {
 
+    private final FamilyGroupDao familyGroupDao;
     private final FamilyMemberDao familyMemberDao;
+    private final GuestNameIndexService guestNameIndexService;
 
     /**
-     * Process family member RSVPs for a family group with maxAttendees validation
+     * Process family member RSVPs for a family group, holding the group to its maxAttendees.
+     * The seats the members held are freed by one bulk update, the requests are saved, and the difference
+     * between the members now attending and the seats freed is applied to the group's counter last, as one
+     * conditional update. No lock is taken up front.
      * @param familyMemberRequests List of family member RSVP requests
      * @param familyGroup The family group entity
+     * @throws WeddingAppException FAMILY_GROUP_FULL when the group has no room for the attendees
      */
     @Transactional
     public void processFamilyMemberRSVPs(
@@ -36,9 +43,11 @@ public class FamilyMemberService {
         log.info("STARTED - Processing {} family member RSVPs for group: {}",
                 familyMemberRequests.size(), familyGroup.getGroupName());
 
-        validateMaxAttendeesLimit(familyMemberRequests, familyGroup);
-        resetAllFamilyMembersAttendance(familyGroup);
-        processIndividualFamilyMembers(familyMemberRequests, familyGroup);
+        List<FamilyMemberEntity> familyMembers = familyMemberDao.findByFamilyGroupId(familyGroup.getId());
+        int releasedSeats = resetAttendance(familyGroup, familyMembers);
+        processIndividualFamilyMembers(familyMemberRequests, familyGroup, familyMembers);
+        long attendees = familyMemberDao.countAttendingByFamilyGroupId(familyGroup.getId());
+        adjustAttendingCount(familyGroup, Math.toIntExact(attendees - releasedSeats));
         
         log.info("COMPLETED - Processed family member RSVPs for group: {}", familyGroup.getGroupName());
     }
@@ -49,56 +58,60 @@ public class FamilyMemberService {
      */
     @Transactional
     public void resetAllFamilyMembersAttendance(FamilyGroupEntity familyGroup) {
-        log.info("STARTED - Resetting family members' attendance for group: {}", familyGroup.getGroupName());
-        
-        List<FamilyMemberEntity> familyMembers = familyGroup.getFamilyMembers();
-        if (CollectionUtils.isNotEmpty(familyMembers)) {
-            for (FamilyMemberEntity member : familyMembers) {
-                log.info("Resetting attendance for family member: {} {} (ID: {})", 
-                        member.getFirstName(), member.getLastName(), member.getId());
-                member.setIsAttending(false);
-                member.setDietaryRestrictions(null);
-            }
-            
-            familyMemberDao.saveAll(familyMembers);
-            log.info("Reset attendance status for {} family members", familyMembers.size());
+        List<FamilyMemberEntity> familyMembers = familyMemberDao.findByFamilyGroupId(familyGroup.getId());
+        adjustAttendingCount(familyGroup, -resetAttendance(familyGroup, familyMembers));
+    }
+
+    /**
+     * Take (or with a negative count, give back) attending seats in the family group's counter, in the
+     * caller's transaction, so the member rows and the counter commit or roll back together
+     * @throws WeddingAppException FAMILY_GROUP_FULL when the group has no room for the seats
+     */
+    @Transactional
+    public void adjustAttendingCount(FamilyGroupEntity familyGroup, int seats) {
+        if (!familyGroupDao.adjustAttendingCount(familyGroup.getId(), seats)) {
+            log.warn("Family group {} has no room for {} more attendees (max {})",
+                    familyGroup.getGroupName(), seats, familyGroup.getMaxAttendees());
+            throw WeddingAppException.familyGroupFull(familyGroup.getId(),
+                    ObjectUtils.defaultIfNull(familyGroup.getMaxAttendees(), 0));
         }
-        
-        log.info("COMPLETED - Reset family members' attendance for group: {}", familyGroup.getGroupName());
     }
 
     /**
-     * Validate that requested attendees don't exceed maxAttendees limit
+     * Set the family group's attending members to not attending
+     * @return Number of seats given back, counted by the database from the rows it changed, so members
+     * this session loaded before another submission changed them are not miscounted
      */
-    private void validateMaxAttendeesLimit(List<RSVPRequestDTO.FamilyMemberRSVPRequest> familyMemberRequests, 
-                                          FamilyGroupEntity familyGroup) {
-        int totalRequestedAttendees = 1;
-        totalRequestedAttendees += (int) familyMemberRequests.stream()
-                .filter(req -> BooleanUtils.isTrue(req.getIsAttending()))
-                .count();
-                
-        if (familyGroup.getMaxAttendees() != null && totalRequestedAttendees > familyGroup.getMaxAttendees()) {
-            log.warn("Family group {} requested {} attendees but max is {}", 
-                    familyGroup.getGroupName(), totalRequestedAttendees, familyGroup.getMaxAttendees());
-            throw WeddingAppException.invalidParameter("familyMembers - exceeds maxAttendees limit");
+    private int resetAttendance(FamilyGroupEntity familyGroup, List<FamilyMemberEntity> familyMembers) {
+        log.info("STARTED - Resetting family members' attendance for group: {}", familyGroup.getGroupName());
+
+        // Reset in the database before touching the entities, so the flush ahead of the update doesn't clear
+        // the rows it counts; the loaded entities are then kept in step with it
+        int released = familyMemberDao.resetAttendanceByFamilyGroupId(familyGroup.getId());
+        for (FamilyMemberEntity member : familyMembers) {
+            member.setIsAttending(false);
+            member.setDietaryRestrictions(null);
         }
+
+        log.info("COMPLETED - Reset attendance of {} family members for group: {}", released, familyGroup.getGroupName());
+        return released;
     }
 
     /**
-     * Process individual family member requests
+     * Process individual family member requests. A request that fails fails the whole submission, so the
+     * member rows and the group's counter are never left half-applied.
      */
     private void processIndividualFamilyMembers(List<RSVPRequestDTO.FamilyMemberRSVPRequest> familyMemberRequests,
-                                               FamilyGroupEntity familyGroup) {
+                                                FamilyGroupEntity familyGroup, List<FamilyMemberEntity> familyMembers) {
         for (RSVPRequestDTO.FamilyMemberRSVPRequest memberRequest : familyMemberRequests) {
-            try {
-                FamilyMemberEntity familyMember = findOrCreateFamilyMember(memberRequest, familyGroup);
-                updateFamilyMemberDetails(familyMember, memberRequest);
-                familyMemberDao.save(familyMember);
-                
-            } catch (Exception e) {
-                log.error("Error processing family member RSVP: {} {}", 
-                        memberRequest.getFirstName(), memberRequest.getLastName(), e);
-                // Continue processing other family members even if one fails
+            FamilyMemberEntity familyMember = findOrCreateFamilyMember(memberRequest, familyGroup, familyMembers);
+            boolean isNew = Objects.isNull(familyMember.getId());
+            updateFamilyMemberDetails(familyMember, memberRequest);
+            FamilyMemberEntity savedMember = familyMemberDao.save(familyMember);
+            guestNameIndexService.indexFamilyMember(savedMember);
+            if (isNew) {
+                // The same new member may be named twice in one submission
+                familyMembers.add(savedMember);
             }
         }
     }
@@ -107,23 +120,27 @@ public class FamilyMemberService {
      * Find existing family member by ID or name, or create new one
      */
     private FamilyMemberEntity findOrCreateFamilyMember(RSVPRequestDTO.FamilyMemberRSVPRequest memberRequest,
-                                                       FamilyGroupEntity familyGroup) {
+                                                       FamilyGroupEntity familyGroup,
+                                                       List<FamilyMemberEntity> familyMembers) {
         if (memberRequest.getFamilyMemberId() != null) {
-            return findExistingMemberById(memberRequest);
+            return findExistingMemberById(memberRequest, familyGroup);
         } else {
-            return findExistingMemberByName(memberRequest, familyGroup)
+            return findExistingMemberByName(memberRequest, familyMembers)
                     .orElseGet(() -> createNewFamilyMember(memberRequest, familyGroup));
         }
     }
 
     /**
-     * Find existing family member by ID
+     * Find existing family member by ID; members of other groups are not found, as their seats are counted there
      */
-    private FamilyMemberEntity findExistingMemberById(RSVPRequestDTO.FamilyMemberRSVPRequest memberRequest) {
+    private FamilyMemberEntity findExistingMemberById(RSVPRequestDTO.FamilyMemberRSVPRequest memberRequest,
+                                                     FamilyGroupEntity familyGroup) {
         log.info("Updating existing family member: {} {}", 
                 memberRequest.getFirstName(), memberRequest.getLastName());
         
         return familyMemberDao.findById(memberRequest.getFamilyMemberId())
+                .filter(member -> Objects.nonNull(member.getFamilyGroup())
+                        && Objects.equals(member.getFamilyGroup().getId(), familyGroup.getId()))
                 .orElseThrow(() -> WeddingAppException.familyMemberNotFound(memberRequest.getFamilyMemberId()));
     }
 
@@ -131,7 +148,7 @@ public class FamilyMemberService {
      * Find existing family member by name (case-insensitive)
      */
     private Optional<FamilyMemberEntity> findExistingMemberByName(RSVPRequestDTO.FamilyMemberRSVPRequest memberRequest,
-                                                                 FamilyGroupEntity familyGroup) {
+                                                                 List<FamilyMemberEntity> familyMembers) {
         if (!hasValidName(memberRequest)) {
             return Optional.empty();
         }
@@ -139,7 +156,7 @@ public class FamilyMemberService {
         String requestFirstName = normalizeString(memberRequest.getFirstName());
         String requestLastName = normalizeString(memberRequest.getLastName());
         
-        return familyGroup.getFamilyMembers().stream()
+        return familyMembers.stream()
                 .filter(member -> isNameMatch(member, requestFirstName, requestLastName))
                 .findFirst()
                 .map(member -> {
@@ -0,0 +1,132 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.FxRateDao;
+import com.wedding.backend.wedding_app.dto.FxRateDTO;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.FxRateTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CURRENCY_CODE_PATTERN;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_BASE_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.FX_RATE_SCALE;
+
+/**
+ * Exchange rates for donations in currencies other than the base currency (USD).
+ *
+ * Rates live in the fx_rates table and are maintained by hand through the admin API. Each node keeps
+ * an immutable copy in memory, reloaded on every local change and periodically to pick up changes
+ * made on other nodes. Donations are converted once, when they are submitted.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FxRateService {
+
+    private final FxRateDao fxRateDao;
+
+    private final AtomicReference<FxRateTable> rateTable = new AtomicReference<>();
+
+    /**
+     * Normalize a currency code from a request; blank means the base currency
+     * @return The upper-case ISO 4217 code
+     */
+    public String normalizeCurrency(String currency) {
+        String code = StringUtils.upperCase(StringUtils.trimToNull(currency), Locale.ROOT);
+        if (Objects.isNull(code)) {
+            return DONATION_BASE_CURRENCY;
+        }
+        if (!code.matches(CURRENCY_CODE_PATTERN)) {
+            throw WeddingAppException.invalidParameter("currency must be a three-letter ISO 4217 code");
+        }
+        return code;
+    }
+
+    /**
+     * Get the current rate from a currency to the base currency
+     * @param currency Normalized currency code
+     * @return Base-currency units per one unit of currency
+     * @throws WeddingAppException if no rate is configured
+     */
+    public BigDecimal getRateToBase(String currency) {
+        if (DONATION_BASE_CURRENCY.equals(currency)) {
+            return BigDecimal.ONE;
+        }
+        return currentTable().findRate(currency)
+                .orElseThrow(() -> WeddingAppException.unsupportedCurrency(currency));
+    }
+
+    /**
+     * List every configured rate (admin only)
+     */
+    public List<FxRateDTO> getRates() {
+        log.info("BEGIN - Fetching FX rates");
+
+        List<FxRateDTO> rates = fxRateDao.findAllRates();
+        rateTable.set(FxRateTable.of(rates));
+
+        log.info("END - Found {} FX rates", rates.size());
+        return rates;
+    }
+
+    /**
+     * Set the rate for a currency (admin only). Only future donations use the new rate.
+     * @param currency ISO 4217 code
+     * @param rateToBase Base-currency units per one unit of currency
+     * @return The stored rate
+     */
+    public FxRateDTO updateRate(String currency, BigDecimal rateToBase) {
+        log.info("BEGIN - Updating FX rate for {} to {}", currency, rateToBase);
+
+        String code = normalizeCurrency(currency);
+        if (DONATION_BASE_CURRENCY.equals(code)) {
+            throw WeddingAppException.invalidParameter("The base currency rate is always 1");
+        }
+        if (Objects.isNull(rateToBase) || rateToBase.signum() <= 0) {
+            throw WeddingAppException.invalidParameter("rateToBase must be greater than zero");
+        }
+
+        FxRateDTO saved = fxRateDao.upsertRate(code, rateToBase.setScale(FX_RATE_SCALE, RoundingMode.HALF_UP));
+        rateTable.set(FxRateTable.of(fxRateDao.findAllRates()));
+
+        log.info("END - FX rate for {} is now {}", code, saved.getRateToBase());
+        return saved;
+    }
+
+    /**
+     * Reload the rates so edits made on another node (or in the database) reach this one
+     */
+    @Scheduled(fixedDelayString = "${wedding.registry.fx-rate-refresh-interval-ms:300000}",
+               initialDelayString = "${wedding.registry.fx-rate-refresh-interval-ms:300000}")
+    public void refreshRates() {
+        if (Objects.isNull(rateTable.get())) {
+            return;
+        }
+
+        try {
+            rateTable.set(FxRateTable.of(fxRateDao.findAllRates()));
+        } catch (Exception e) {
+            log.error("Error refreshing FX rates, keeping the previous table", e);
+        }
+    }
+
+    private FxRateTable currentTable() {
+        FxRateTable current = rateTable.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        FxRateTable loaded = FxRateTable.of(fxRateDao.findAllRates());
+        return rateTable.compareAndSet(null, loaded) ? loaded : rateTable.get();
+    }
+}
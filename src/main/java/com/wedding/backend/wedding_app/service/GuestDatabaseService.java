@@ -0,0 +1,87 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Normalized name columns on guests and the index behind guest name verification.
+ *
+ * The columns are written by GuestEntity on every insert and update using NameMatchUtils.normalize,
+ * so rows that predate them are backfilled from Java at startup (GuestService) rather than in SQL.
+ */
+@Service
+public class GuestDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestDatabaseService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializeGuestDatabase() {
+        log.info("BEGIN - Initializing guest name columns and indexes");
+
+        try {
+            addNormalizedNameColumns();
+            createGuestNameIndexes();
+            createGuestPageIndexes();
+            log.info("END - Guest database initialization completed successfully");
+        } catch (Exception e) {
+            log.error("Error during guest database initialization", e);
+        }
+    }
+
+    private void addNormalizedNameColumns() {
+        log.info("Adding normalized name columns to guests...");
+
+        executeIfNotExists("ALTER TABLE guests ADD COLUMN IF NOT EXISTS normalized_first_name VARCHAR(255)");
+        executeIfNotExists("ALTER TABLE guests ADD COLUMN IF NOT EXISTS normalized_last_name VARCHAR(255)");
+    }
+
+    private void createGuestNameIndexes() {
+        log.info("Creating guest name indexes...");
+
+        // Last name first: it is the more selective half and also serves last-name-only lookups
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_guests_normalized_name
+            ON guests(normalized_last_name, normalized_first_name)
+            """);
+    }
+
+    private void createGuestPageIndexes() {
+        log.info("Creating guest, RSVP and invitation code page indexes...");
+
+        // Each matches a keyset sort expression in GuestSortField / RsvpSortField / InvitationCodeSortField, id last
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_guests_page_last_name
+            ON guests((COALESCE(normalized_last_name, '')), id)
+            """);
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_guests_page_family_group ON guests(family_group_id, id)");
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rsvps_page_submitted_at
+            ON rsvps((COALESCE(submitted_at, 'epoch'::timestamptz)), id)
+            """);
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rsvps_page_attending_submitted_at
+            ON rsvps(attending, (COALESCE(submitted_at, 'epoch'::timestamptz)), id)
+            """);
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invitation_codes_page_guest ON invitation_codes(guest_id, id)");
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_invitation_codes_page_guest_created
+            ON invitation_codes(guest_id, (COALESCE(created_date, 'epoch'::timestamp)), id)
+            """);
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.debug("SQL statement skipped (likely already exists): {}", e.getMessage());
+        }
+    }
+}
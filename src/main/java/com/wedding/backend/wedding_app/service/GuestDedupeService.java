@@ -0,0 +1,372 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.GuestDedupeDao;
+import com.wedding.backend.wedding_app.dao.GuestReadDao;
+import com.wedding.backend.wedding_app.dto.GuestDuplicateDTO;
+import com.wedding.backend.wedding_app.dto.GuestHouseholdFoldResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestMergeResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestSummaryDTO;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateMatchType;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateSignal;
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestDedupeRecord;
+import com.wedding.backend.wedding_app.model.guest.GuestHouseholdFoldResult;
+import com.wedding.backend.wedding_app.model.guest.GuestMergeResult;
+import com.wedding.backend.wedding_app.model.guest.GuestNameEntry;
+import com.wedding.backend.wedding_app.model.request.GuestHouseholdFoldRequest;
+import com.wedding.backend.wedding_app.model.request.GuestMergeRequest;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_DEDUPE_MAX_BLOCK_SIZE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_DEDUPE_MAX_LIMIT;
+
+/**
+ * Finds guests entered more than once (or households split across entries) and merges them, or for a
+ * household, folds them into one family group.
+ *
+ * Guests are blocked by normalized email, phone digits and the Soundex code of each surname word; only
+ * pairs sharing a block are scored, so the work grows with the block sizes rather than the square of
+ * the guest list. Any block larger than GUEST_DEDUPE_MAX_BLOCK_SIZE (a common surname, or a planner's
+ * email or phone given for many guests) is split by first initial.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestDedupeService {
+
+    private static final double FIRST_NAME_WEIGHT = 0.5;
+    private static final double PREFIX_FIRST_NAME_SCORE = 0.9;
+    private static final double PHONETIC_NAME_SCORE = 0.8;
+    private static final double SAME_EMAIL_BOOST = 0.6;
+    private static final double SAME_PHONE_BOOST = 0.5;
+    private static final double DIFFERENT_EMAIL_PENALTY = 0.85;
+    private static final double SAME_PERSON_MIN_NAME_SCORE = 0.8;
+
+    private final GuestDedupeDao guestDedupeDao;
+    private final GuestReadDao guestReadDao;
+    private final GuestNameIndexService guestNameIndexService;
+
+    /**
+     * Likely duplicate guests, best first
+     * @param minScore Pairs scoring below this (0 to 1) are left out
+     * @param matchType Only this kind of match, or null for both
+     * @param limit Maximum number of pairs
+     * @return Candidate pairs with both guests and, for DUPLICATE pairs, a suggested survivor
+     */
+    public List<GuestDuplicateDTO> findDuplicates(double minScore, GuestDuplicateMatchType matchType, int limit) {
+        log.info("BEGIN - Finding duplicate guests (min score: {}, type: {}, limit: {})", minScore, matchType, limit);
+
+        if (minScore < 0.0 || minScore > 1.0) {
+            throw WeddingAppException.invalidParameter("minScore must be between 0 and 1");
+        }
+        if (limit < 1 || limit > GUEST_DEDUPE_MAX_LIMIT) {
+            throw WeddingAppException.invalidParameter("limit must be between 1 and " + GUEST_DEDUPE_MAX_LIMIT);
+        }
+
+        long startedAt = System.nanoTime();
+        List<GuestDedupeRecord> guests = guestDedupeDao.findDedupeRecords();
+
+        Set<GuestPair> seenPairs = new HashSet<>();
+        List<Candidate> candidates = new ArrayList<>();
+        int scoredPairs = 0;
+        for (List<GuestDedupeRecord> block : blocks(guests)) {
+            for (int i = 0; i < block.size(); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    GuestDedupeRecord a = block.get(i);
+                    GuestDedupeRecord b = block.get(j);
+                    // Guests sharing an email and a surname meet in two blocks; score them once
+                    if (!seenPairs.add(GuestPair.of(a.getId(), b.getId()))) {
+                        continue;
+                    }
+                    scoredPairs++;
+                    Candidate candidate = score(a, b);
+                    if (Objects.nonNull(candidate) && candidate.getScore() >= minScore
+                            && (Objects.isNull(matchType) || candidate.getMatchType() == matchType)) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+        }
+
+        List<Candidate> ranked = candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::getScore).reversed()
+                        .thenComparing(candidate -> candidate.getFirst().getId())
+                        .thenComparing(candidate -> candidate.getSecond().getId()))
+                .limit(limit)
+                .toList();
+
+        Map<Long, GuestSummaryDTO> summaries = guestReadDao.findByIds(ranked.stream()
+                        .flatMap(candidate -> Stream.of(candidate.getFirst().getId(), candidate.getSecond().getId()))
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(GuestSummaryDTO::getId, Function.identity()));
+
+        List<GuestDuplicateDTO> duplicates = ranked.stream()
+                .map(candidate -> GuestDuplicateDTO.builder()
+                        .matchType(candidate.getMatchType())
+                        .score(Math.round(candidate.getScore() * 1000) / 1000.0)
+                        .signals(candidate.getSignals())
+                        .suggestedSurvivorId(candidate.getMatchType() == GuestDuplicateMatchType.DUPLICATE
+                                ? suggestedSurvivor(candidate.getFirst(), candidate.getSecond()).getId()
+                                : null)
+                        .firstGuest(summaries.get(candidate.getFirst().getId()))
+                        .secondGuest(summaries.get(candidate.getSecond().getId()))
+                        .build())
+                .toList();
+
+        log.info("END - Scored {} pairs among {} guests in {} ms, returning {} of {} candidates",
+                scoredPairs, guests.size(), (System.nanoTime() - startedAt) / 1_000_000, duplicates.size(), candidates.size());
+        return duplicates;
+    }
+
+    /**
+     * Merge one guest into another in a single transaction (see GuestDedupeDao.mergeGuests)
+     * @param request The guest to keep and the duplicate to fold into it
+     * @return The survivor as it is after the merge, and what was moved
+     */
+    public GuestMergeResponseDTO mergeGuests(GuestMergeRequest request) {
+        if (Objects.isNull(request) || Objects.isNull(request.getSurvivorId()) || Objects.isNull(request.getDuplicateId())) {
+            throw WeddingAppException.invalidParameter("survivorId and duplicateId are required");
+        }
+        if (request.getSurvivorId().equals(request.getDuplicateId())) {
+            throw WeddingAppException.invalidParameter("survivorId and duplicateId must be different guests");
+        }
+
+        log.info("BEGIN - Merging guest {} into guest {}", request.getDuplicateId(), request.getSurvivorId());
+
+        GuestMergeResult result = guestDedupeDao.mergeGuests(request.getSurvivorId(), request.getDuplicateId());
+        GuestSummaryDTO survivor = guestReadDao.findById(request.getSurvivorId())
+                .orElseThrow(() -> WeddingAppException.guestNotFound(request.getSurvivorId()));
+
+        guestNameIndexService.removeGuests(List.of(request.getDuplicateId()));
+        if (Objects.nonNull(result.getFoldedFamilyGroupId())) {
+            // Guests and members of the folded group changed family group
+            guestNameIndexService.rebuildIndex();
+        } else {
+            guestNameIndexService.indexEntries(List.of(GuestNameEntry.builder()
+                    .type(GuestNameMatchType.GUEST)
+                    .id(survivor.getId())
+                    .firstName(survivor.getFirstName())
+                    .lastName(survivor.getLastName())
+                    .familyGroupId(survivor.getFamilyGroupId())
+                    .build()));
+        }
+
+        log.info("END - Merged guest {} into guest {}", request.getDuplicateId(), request.getSurvivorId());
+        return GuestMergeResponseDTO.builder()
+                .survivor(survivor)
+                .mergedGuestId(result.getMergedGuestId())
+                .movedRsvpCount(result.getMovedRsvps())
+                .removedRsvpCount(result.getRemovedRsvps())
+                .movedInvitationCodeCount(result.getMovedInvitationCodes())
+                .movedDonationCount(result.getMovedDonations())
+                .foldedFamilyGroupId(result.getFoldedFamilyGroupId())
+                .build();
+    }
+
+    /**
+     * Put two guests of one household into the same family group, keeping both (see GuestDedupeDao.foldHousehold)
+     * @param request The guest whose family group is kept and the guest moved into it
+     * @return Both guests as they are after the fold, and what was moved
+     */
+    public GuestHouseholdFoldResponseDTO foldHousehold(GuestHouseholdFoldRequest request) {
+        if (Objects.isNull(request) || Objects.isNull(request.getGuestId()) || Objects.isNull(request.getOtherGuestId())) {
+            throw WeddingAppException.invalidParameter("guestId and otherGuestId are required");
+        }
+        if (request.getGuestId().equals(request.getOtherGuestId())) {
+            throw WeddingAppException.invalidParameter("guestId and otherGuestId must be different guests");
+        }
+
+        log.info("BEGIN - Folding guests {} and {} into one family group", request.getGuestId(), request.getOtherGuestId());
+
+        GuestHouseholdFoldResult result = guestDedupeDao.foldHousehold(request.getGuestId(), request.getOtherGuestId());
+        Map<Long, GuestSummaryDTO> guests = guestReadDao.findByIds(List.of(request.getGuestId(), request.getOtherGuestId()))
+                .stream()
+                .collect(Collectors.toMap(GuestSummaryDTO::getId, Function.identity()));
+
+        // Guests and members of the folded group changed family group
+        guestNameIndexService.rebuildIndex();
+
+        log.info("END - Folded guests {} and {} into family group {}",
+                request.getGuestId(), request.getOtherGuestId(), result.getFamilyGroupId());
+        return GuestHouseholdFoldResponseDTO.builder()
+                .familyGroupId(result.getFamilyGroupId())
+                .firstGuest(guests.get(request.getGuestId()))
+                .secondGuest(guests.get(request.getOtherGuestId()))
+                .movedGuestCount(result.getMovedGuests())
+                .movedFamilyMemberCount(result.getMovedFamilyMembers())
+                .foldedFamilyGroupId(result.getFoldedFamilyGroupId())
+                .build();
+    }
+
+    Collection<List<GuestDedupeRecord>> blocks(List<GuestDedupeRecord> guests) {
+        Map<String, List<GuestDedupeRecord>> blocks = new HashMap<>();
+        for (GuestDedupeRecord guest : guests) {
+            if (StringUtils.isNotEmpty(guest.getEmail())) {
+                blocks.computeIfAbsent("e:" + guest.getEmail(), key -> new ArrayList<>()).add(guest);
+            }
+            if (StringUtils.isNotEmpty(guest.getPhone())) {
+                blocks.computeIfAbsent("p:" + guest.getPhone(), key -> new ArrayList<>()).add(guest);
+            }
+            for (String code : phoneticCodes(guest.getNormalizedLastName())) {
+                blocks.computeIfAbsent("s:" + code, key -> new ArrayList<>()).add(guest);
+            }
+        }
+
+        List<List<GuestDedupeRecord>> result = new ArrayList<>();
+        for (List<GuestDedupeRecord> block : blocks.values()) {
+            if (block.size() < 2) {
+                continue;
+            }
+            if (block.size() <= GUEST_DEDUPE_MAX_BLOCK_SIZE) {
+                result.add(block);
+            } else {
+                // A common surname or shared contact: only compare guests whose first names start alike
+                result.addAll(block.stream()
+                        .collect(Collectors.groupingBy(guest -> StringUtils.left(guest.getNormalizedFirstName(), 1)))
+                        .values());
+            }
+        }
+        return result;
+    }
+
+    Candidate score(GuestDedupeRecord a, GuestDedupeRecord b) {
+        boolean sameEmail = StringUtils.isNotEmpty(a.getEmail()) && a.getEmail().equals(b.getEmail());
+        boolean samePhone = StringUtils.isNotEmpty(a.getPhone()) && a.getPhone().equals(b.getPhone());
+        double firstName = firstNameScore(a.getNormalizedFirstName(), b.getNormalizedFirstName());
+        double lastName = lastNameScore(a.getNormalizedLastName(), b.getNormalizedLastName());
+
+        GuestDuplicateMatchType matchType;
+        if (firstName >= SAME_PERSON_MIN_NAME_SCORE) {
+            matchType = GuestDuplicateMatchType.DUPLICATE;
+        } else if ((sameEmail || samePhone) && !Objects.equals(a.getFamilyGroupId(), b.getFamilyGroupId())) {
+            matchType = GuestDuplicateMatchType.HOUSEHOLD;
+        } else {
+            return null;
+        }
+
+        double score = FIRST_NAME_WEIGHT * firstName + (1 - FIRST_NAME_WEIGHT) * lastName;
+        if (sameEmail) {
+            score += (1 - score) * SAME_EMAIL_BOOST;
+        }
+        if (samePhone) {
+            score += (1 - score) * SAME_PHONE_BOOST;
+        }
+        if (!sameEmail && StringUtils.isNoneEmpty(a.getEmail(), b.getEmail())) {
+            score *= DIFFERENT_EMAIL_PENALTY;
+        }
+
+        List<GuestDuplicateSignal> signals = new ArrayList<>();
+        if (sameEmail) {
+            signals.add(GuestDuplicateSignal.EMAIL);
+        }
+        if (samePhone) {
+            signals.add(GuestDuplicateSignal.PHONE);
+        }
+        if (firstName >= SAME_PERSON_MIN_NAME_SCORE && lastName >= SAME_PERSON_MIN_NAME_SCORE) {
+            signals.add(GuestDuplicateSignal.NAME);
+        }
+        if (!a.getNormalizedLastName().equals(b.getNormalizedLastName()) && sharesPhoneticCode(
+                a.getNormalizedLastName(), b.getNormalizedLastName())) {
+            signals.add(GuestDuplicateSignal.SURNAME_SOUND);
+        }
+
+        return a.getId() < b.getId()
+                ? new Candidate(a, b, matchType, score, signals)
+                : new Candidate(b, a, matchType, score, signals);
+    }
+
+    /**
+     * "jon" and "jonathan" count as a near match, as a short form is usually a prefix of the full name
+     */
+    private double firstNameScore(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (Math.min(a.length(), b.length()) >= 2 && (a.startsWith(b) || b.startsWith(a))) {
+            return PREFIX_FIRST_NAME_SCORE;
+        }
+        return Math.max(NameMatchUtils.editSimilarity(a, b), sharesPhoneticCode(a, b) ? PHONETIC_NAME_SCORE : 0.0);
+    }
+
+    private double lastNameScore(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        return Math.max(NameMatchUtils.editSimilarity(a, b), sharesPhoneticCode(a, b) ? PHONETIC_NAME_SCORE : 0.0);
+    }
+
+    private boolean sharesPhoneticCode(String a, String b) {
+        Set<String> codes = phoneticCodes(a);
+        return phoneticCodes(b).stream().anyMatch(codes::contains);
+    }
+
+    private Set<String> phoneticCodes(String normalized) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (String token : StringUtils.split(normalized, ' ')) {
+            String code = NameMatchUtils.phoneticCode(token);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Keep the guest with an RSVP, then the primary contact, then the one in a family group,
+     * then the one with more contact details, then the older entry
+     */
+    GuestDedupeRecord suggestedSurvivor(GuestDedupeRecord first, GuestDedupeRecord second) {
+        Comparator<GuestDedupeRecord> preference = Comparator
+                .comparing(GuestDedupeRecord::isHasRsvp)
+                .thenComparing(GuestDedupeRecord::isPrimaryContact)
+                .thenComparing(guest -> Objects.nonNull(guest.getFamilyGroupId()))
+                .thenComparingInt(guest -> (guest.getEmail().isEmpty() ? 0 : 1) + (guest.getPhone().isEmpty() ? 0 : 1))
+                .thenComparing(GuestDedupeRecord::getId, Comparator.reverseOrder());
+        return preference.compare(first, second) >= 0 ? first : second;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Candidate {
+        private final GuestDedupeRecord first;
+        private final GuestDedupeRecord second;
+        private final GuestDuplicateMatchType matchType;
+        private final double score;
+        private final List<GuestDuplicateSignal> signals;
+    }
+
+    private record GuestPair(long low, long high) {
+        static GuestPair of(long first, long second) {
+            return new GuestPair(Math.min(first, second), Math.max(first, second));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wedding.backend.wedding_app.dao.GuestImportDao;
+import com.wedding.backend.wedding_app.dto.GuestImportReportDTO;
+import com.wedding.backend.wedding_app.dto.GuestImportRowDTO;
+import com.wedding.backend.wedding_app.enums.GuestImportRowStatus;
+import com.wedding.backend.wedding_app.enums.GuestImportType;
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestImportGroup;
+import com.wedding.backend.wedding_app.model.guest.GuestNameEntry;
+import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
+import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import com.wedding.backend.wedding_app.util.GuestImportReader;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.FAMILY_MEMBER_AGE_GROUPS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.FAMILY_MEMBER_DEFAULT_AGE_GROUP;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_IMPORT_MAX_GROUPS;
+
+/**
+ * Bulk import of family groups, their primary contacts and members, plus solo guests, from one file.
+ *
+ * The whole file is parsed and validated before anything is written: if any entry is invalid, nothing
+ * is imported and the report says what to fix. Entries whose primary contact already exists are
+ * skipped, so re-running the same file is safe. Everything else is written in one transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestImportService {
+
+    private final GuestImportDao guestImportDao;
+    private final GuestNameIndexService guestNameIndexService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Import a guest-setup-template.json style JSON file or a one-person-per-line CSV
+     * @param file The import file
+     * @param dryRun Validate and report without writing anything
+     * @return Per-entry report
+     */
+    public GuestImportReportDTO importGuests(MultipartFile file, boolean dryRun) {
+        log.info("BEGIN - Importing guests from {} (dry run: {})", file.getOriginalFilename(), dryRun);
+
+        if (file.isEmpty()) {
+            throw WeddingAppException.validationError("file - import file is empty");
+        }
+
+        long startedAt = System.nanoTime();
+        List<GuestImportGroup> groups = readGroups(file);
+
+        Map<String, Long> existingGuests = guestImportDao.findExistingGuests(groups.stream()
+                .map(GuestImportGroup::getPrimaryContact)
+                .filter(Objects::nonNull)
+                .map(contact -> new String[]{NameMatchUtils.normalize(contact.getFirstName()),
+                        NameMatchUtils.normalize(contact.getLastName())})
+                .toList());
+
+        Map<GuestImportGroup, GuestImportRowStatus> statuses = validate(groups, existingGuests);
+        List<GuestImportGroup> toImport = groups.stream()
+                .filter(group -> statuses.get(group) == GuestImportRowStatus.VALID)
+                .toList();
+        int invalidCount = (int) statuses.values().stream().filter(status -> status == GuestImportRowStatus.INVALID).count();
+        int skippedCount = (int) statuses.values().stream().filter(status -> status == GuestImportRowStatus.SKIPPED).count();
+
+        boolean commit = !dryRun && invalidCount == 0 && !toImport.isEmpty();
+        if (commit) {
+            guestImportDao.insertAll(toImport);
+            toImport.forEach(group -> statuses.put(group, GuestImportRowStatus.IMPORTED));
+            guestNameIndexService.indexEntries(toNameEntries(toImport));
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        int importedMembers = commit ? toImport.stream().mapToInt(group -> group.getFamilyMembers().size()).sum() : 0;
+
+        log.info("END - Guest import of {} entries: {} imported, {} skipped, {} invalid in {} ms",
+                groups.size(), commit ? toImport.size() : 0, skippedCount, invalidCount, elapsedMillis);
+
+        return GuestImportReportDTO.builder()
+                .fileName(file.getOriginalFilename())
+                .dryRun(dryRun)
+                .committed(commit)
+                .rowsRead(groups.size())
+                .invalidCount(invalidCount)
+                .skippedCount(skippedCount)
+                .importedGroups(commit ? (int) toImport.stream().filter(group -> group.getType() != GuestImportType.SOLO).count() : 0)
+                .importedGuests(commit ? toImport.size() : 0)
+                .importedFamilyMembers(importedMembers)
+                .elapsedMillis(elapsedMillis)
+                .rows(groups.stream().map(group -> toRowDTO(group, statuses.get(group))).toList())
+                .build();
+    }
+
+    private List<GuestImportGroup> readGroups(MultipartFile file) {
+        try {
+            if (isCsv(file)) {
+                return GuestImportReader.readCsv(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8),
+                        GUEST_IMPORT_MAX_GROUPS);
+            }
+            return GuestImportReader.readJson(file.getInputStream(), objectMapper, GUEST_IMPORT_MAX_GROUPS);
+        } catch (IOException e) {
+            log.error("Error reading guest import file {}", file.getOriginalFilename(), e);
+            throw WeddingAppException.validationError("file - import file could not be read: " + e.getMessage());
+        }
+    }
+
+    private static boolean isCsv(MultipartFile file) {
+        return StringUtils.endsWithIgnoreCase(file.getOriginalFilename(), ".csv")
+                || StringUtils.containsIgnoreCase(file.getContentType(), "csv");
+    }
+
+    /*
+     * Checks every entry on its own (names, capacity, age groups), then across the file (the same
+     * primary contact or group name twice), then against the database (primary contact already a guest).
+     */
+    private Map<GuestImportGroup, GuestImportRowStatus> validate(List<GuestImportGroup> groups, Map<String, Long> existingGuests) {
+        // Identity-keyed: the entries are mutable Lombok beans whose hash changes once IDs are assigned
+        Map<GuestImportGroup, GuestImportRowStatus> statuses = new IdentityHashMap<>();
+        Map<String, Integer> contactRows = new HashMap<>();
+        Map<String, Integer> groupNameRows = new HashMap<>();
+
+        for (GuestImportGroup group : groups) {
+            List<String> errors = group.getErrors();
+            GuestRequest contact = group.getPrimaryContact();
+
+            if (Objects.isNull(contact) || StringUtils.isAnyBlank(contact.getFirstName(), contact.getLastName())) {
+                errors.add("primary contact first name and last name are required");
+            } else {
+                String contactKey = GuestImportDao.nameKey(NameMatchUtils.normalize(contact.getFirstName()),
+                        NameMatchUtils.normalize(contact.getLastName()));
+                Integer firstRow = contactRows.putIfAbsent(contactKey, group.getRow());
+                if (firstRow != null) {
+                    errors.add("primary contact " + contact.getFirstName() + " " + contact.getLastName()
+                            + " is already listed at row " + firstRow);
+                }
+                if (StringUtils.isNotBlank(contact.getEmail()) && !contact.getEmail().contains("@")) {
+                    errors.add("primary contact email '" + contact.getEmail() + "' is not valid");
+                }
+            }
+
+            if (group.getType() == GuestImportType.SOLO) {
+                if (!group.getFamilyMembers().isEmpty()) {
+                    errors.add("SOLO entries cannot have family members");
+                }
+            } else {
+                validateFamilyGroup(group, errors, groupNameRows);
+            }
+
+            Long existingGuestId = errors.isEmpty()
+                    ? existingGuests.get(GuestImportDao.nameKey(NameMatchUtils.normalize(contact.getFirstName()),
+                            NameMatchUtils.normalize(contact.getLastName())))
+                    : null;
+
+            if (!errors.isEmpty()) {
+                statuses.put(group, GuestImportRowStatus.INVALID);
+            } else if (existingGuestId != null) {
+                group.setGuestId(existingGuestId);
+                statuses.put(group, GuestImportRowStatus.SKIPPED);
+            } else {
+                statuses.put(group, GuestImportRowStatus.VALID);
+            }
+        }
+
+        return statuses;
+    }
+
+    private void validateFamilyGroup(GuestImportGroup group, List<String> errors, Map<String, Integer> groupNameRows) {
+        if (StringUtils.isBlank(group.getGroupName())) {
+            errors.add("groupName is required for " + group.getType() + " entries");
+        } else {
+            Integer firstRow = groupNameRows.putIfAbsent(NameMatchUtils.normalize(group.getGroupName()), group.getRow());
+            if (firstRow != null) {
+                errors.add("group " + group.getGroupName() + " is already listed at row " + firstRow);
+            }
+        }
+
+        // The primary contact takes one of the seats
+        int attendees = 1 + group.getFamilyMembers().size();
+        if (group.getMaxAttendees() != null) {
+            if (group.getMaxAttendees() < 1) {
+                errors.add("maxAttendees must be at least 1");
+            } else if (attendees > group.getMaxAttendees()) {
+                errors.add(attendees + " people listed but maxAttendees is " + group.getMaxAttendees());
+            }
+        }
+
+        Set<String> memberNames = new HashSet<>();
+        for (FamilyMemberRequest member : group.getFamilyMembers()) {
+            if (StringUtils.isBlank(member.getFirstName())) {
+                errors.add("every family member needs a first name");
+                continue;
+            }
+            if (!memberNames.add(NameMatchUtils.normalize(member.getFirstName() + " " + member.getLastName()))) {
+                errors.add("family member " + member.getFirstName() + " " + member.getLastName() + " is listed twice");
+            }
+
+            if (StringUtils.isBlank(member.getAgeGroup())) {
+                member.setAgeGroup(FAMILY_MEMBER_DEFAULT_AGE_GROUP);
+            }
+            member.setAgeGroup(member.getAgeGroup().toLowerCase(Locale.ROOT));
+            if (!FAMILY_MEMBER_AGE_GROUPS.contains(member.getAgeGroup())) {
+                errors.add("family member " + member.getFirstName() + " has unknown ageGroup '" + member.getAgeGroup()
+                        + "' (expected adult, child or infant)");
+            }
+        }
+    }
+
+    private static List<GuestNameEntry> toNameEntries(List<GuestImportGroup> groups) {
+        List<GuestNameEntry> entries = new ArrayList<>();
+        for (GuestImportGroup group : groups) {
+            entries.add(GuestNameEntry.builder()
+                    .type(GuestNameMatchType.GUEST)
+                    .id(group.getGuestId())
+                    .firstName(group.getPrimaryContact().getFirstName())
+                    .lastName(group.getPrimaryContact().getLastName())
+                    .familyGroupId(group.getFamilyGroupId())
+                    .build());
+            for (int i = 0; i < group.getFamilyMembers().size(); i++) {
+                entries.add(GuestNameEntry.builder()
+                        .type(GuestNameMatchType.FAMILY_MEMBER)
+                        .id(group.getFamilyMemberIds().get(i))
+                        .firstName(group.getFamilyMembers().get(i).getFirstName())
+                        .lastName(group.getFamilyMembers().get(i).getLastName())
+                        .familyGroupId(group.getFamilyGroupId())
+                        .build());
+            }
+        }
+        return entries;
+    }
+
+    private static GuestImportRowDTO toRowDTO(GuestImportGroup group, GuestImportRowStatus status) {
+        GuestRequest contact = group.getPrimaryContact();
+        List<String> messages = new ArrayList<>(group.getErrors());
+        if (status == GuestImportRowStatus.SKIPPED) {
+            messages.add("primary contact is already a guest");
+        }
+
+        return GuestImportRowDTO.builder()
+                .row(group.getRow())
+                .type(group.getType())
+                .groupName(group.getGroupName())
+                .primaryContactName(Objects.isNull(contact) ? null
+                        : StringUtils.trim(StringUtils.defaultString(contact.getFirstName()) + " "
+                                + StringUtils.defaultString(contact.getLastName())))
+                .status(status)
+                .familyGroupId(group.getFamilyGroupId())
+                .guestId(group.getGuestId())
+                .familyMemberCount(group.getFamilyMembers().size())
+                .messages(messages)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.GuestNameIndexDao;
+import com.wedding.backend.wedding_app.dto.GuestNameMatchDTO;
+import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
+import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.enums.GuestNameMatchType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestNameEntry;
+import com.wedding.backend.wedding_app.model.guest.GuestNameIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.NAME_MATCH_MIN_SCORE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.NAME_QUERY_MAX_LENGTH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.NAME_SUGGESTION_LIMIT;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.NAME_TYPEAHEAD_MAX_LIMIT;
+
+/**
+ * Typo-tolerant guest and family member name lookups served from memory.
+ *
+ * The index is loaded once the application is ready, kept current by the services that create or
+ * delete guests and family members, and rebuilt on a schedule to pick up writes made on other nodes.
+ * Until the first load finishes, lookups return no matches rather than hitting the database.
+ *
+ * Changes made inside a transaction are applied only once it commits, so rolled-back guests never
+ * become searchable. Changes applied while a rebuild is loading are queued and replayed onto the
+ * rebuilt index before it replaces the current one (put and remove are idempotent, so replaying a
+ * change the load already saw is harmless).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestNameIndexService {
+
+    private final GuestNameIndexDao guestNameIndexDao;
+
+    private final AtomicReference<GuestNameIndex> index = new AtomicReference<>(new GuestNameIndex());
+
+    private final Object rebuildLock = new Object();
+    private final Object mutationLock = new Object();
+    // Non-null while a rebuild is loading; guarded by mutationLock
+    private List<Consumer<GuestNameIndex>> mutationsDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        rebuildIndex();
+    }
+
+    @Scheduled(fixedDelayString = "${wedding.guests.name-index-rebuild-interval-ms:600000}",
+               initialDelayString = "${wedding.guests.name-index-rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        synchronized (rebuildLock) {
+            synchronized (mutationLock) {
+                mutationsDuringRebuild = new ArrayList<>();
+            }
+
+            try {
+                GuestNameIndex rebuilt = GuestNameIndex.of(guestNameIndexDao.findAllNames());
+                synchronized (mutationLock) {
+                    mutationsDuringRebuild.forEach(mutation -> mutation.accept(rebuilt));
+                    index.set(rebuilt);
+                }
+                log.info("Guest name index loaded with {} names", rebuilt.size());
+            } catch (Exception e) {
+                log.error("Error rebuilding guest name index, keeping the previous one", e);
+            } finally {
+                synchronized (mutationLock) {
+                    mutationsDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ranked name matches for a search box, across guests and family members
+     * @param query Partial or misspelled name
+     * @param limit Maximum number of matches
+     * @return Matches, best first
+     */
+    public List<GuestNameMatchDTO> typeahead(String query, int limit) {
+        log.info("BEGIN - Guest name typeahead for: {}", query);
+
+        if (StringUtils.isBlank(query)) {
+            throw WeddingAppException.invalidParameter("q cannot be blank");
+        }
+        if (query.length() > NAME_QUERY_MAX_LENGTH) {
+            throw WeddingAppException.invalidParameter("q cannot be longer than " + NAME_QUERY_MAX_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > NAME_TYPEAHEAD_MAX_LIMIT) {
+            throw WeddingAppException.invalidParameter("limit must be between 1 and " + NAME_TYPEAHEAD_MAX_LIMIT);
+        }
+
+        List<GuestNameMatchDTO> matches = index.get().search(query, null, limit, NAME_MATCH_MIN_SCORE);
+
+        log.info("END - Found {} name matches", matches.size());
+        return matches;
+    }
+
+    /**
+     * Closest guest names for a name that didn't match exactly ("did you mean")
+     */
+    public List<GuestNameMatchDTO> suggestGuests(String firstName, String lastName) {
+        String query = StringUtils.left(StringUtils.defaultString(firstName) + " " + StringUtils.defaultString(lastName),
+                NAME_QUERY_MAX_LENGTH);
+        return index.get().search(query, GuestNameMatchType.GUEST, NAME_SUGGESTION_LIMIT, NAME_MATCH_MIN_SCORE);
+    }
+
+    public void indexGuest(GuestEntity guest) {
+        if (Objects.isNull(guest) || Objects.isNull(guest.getId())) {
+            return;
+        }
+        GuestNameEntry entry = GuestNameEntry.builder()
+                .type(GuestNameMatchType.GUEST)
+                .id(guest.getId())
+                .firstName(guest.getFirstName())
+                .lastName(guest.getLastName())
+                .familyGroupId(Objects.isNull(guest.getFamilyGroup()) ? null : guest.getFamilyGroup().getId())
+                .build();
+        afterCommit(current -> current.put(entry));
+    }
+
+    public void indexFamilyMember(FamilyMemberEntity familyMember) {
+        if (Objects.isNull(familyMember) || Objects.isNull(familyMember.getId())) {
+            return;
+        }
+        GuestNameEntry entry = GuestNameEntry.builder()
+                .type(GuestNameMatchType.FAMILY_MEMBER)
+                .id(familyMember.getId())
+                .firstName(familyMember.getFirstName())
+                .lastName(familyMember.getLastName())
+                .familyGroupId(Objects.isNull(familyMember.getFamilyGroup()) ? null : familyMember.getFamilyGroup().getId())
+                .build();
+        afterCommit(current -> current.put(entry));
+    }
+
+    public void indexEntries(Collection<GuestNameEntry> entries) {
+        List<GuestNameEntry> copy = List.copyOf(entries);
+        afterCommit(current -> copy.forEach(current::put));
+    }
+
+    public void removeGuests(Collection<Long> guestIds) {
+        if (CollectionUtils.isNotEmpty(guestIds)) {
+            List<Long> ids = List.copyOf(guestIds);
+            afterCommit(current -> current.remove(GuestNameMatchType.GUEST, ids));
+        }
+    }
+
+    /**
+     * Drop the guests and family members of deleted family groups
+     */
+    public void removeFamilyGroups(Collection<Long> familyGroupIds) {
+        if (CollectionUtils.isNotEmpty(familyGroupIds)) {
+            List<Long> ids = List.copyOf(familyGroupIds);
+            afterCommit(current -> current.removeFamilyGroups(ids));
+        }
+    }
+
+    /**
+     * Apply a change once the surrounding transaction commits (right away when there is none)
+     */
+    private void afterCommit(Consumer<GuestNameIndex> mutation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(mutation);
+                }
+            });
+        } else {
+            apply(mutation);
+        }
+    }
+
+    private void apply(Consumer<GuestNameIndex> mutation) {
+        synchronized (mutationLock) {
+            mutation.accept(index.get());
+            if (Objects.nonNull(mutationsDuringRebuild)) {
+                mutationsDuringRebuild.add(mutation);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import com.wedding.backend.wedding_app.dao.GuestReminderDao;
+import com.wedding.backend.wedding_app.dao.JobLeaseDao;
+import com.wedding.backend.wedding_app.model.email.EmailDispatchResult;
+import com.wedding.backend.wedding_app.model.email.EmailMessage;
+import com.wedding.backend.wedding_app.model.email.ReminderRecipient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LANGUAGE_ENGLISH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.REMINDER_JOB_NAME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.REMINDER_LEASE_SECONDS;
+
+/**
+ * Scheduled RSVP reminders for guests who have an invitation code but no RSVP.
+ * Only the node holding the job lease sends; the lease is renewed before every chunk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestReminderService {
+
+    private final GuestReminderDao guestReminderDao;
+    private final JobLeaseDao jobLeaseDao;
+    private final EmailService emailService;
+    private final EmailDispatchService emailDispatchService;
+    private final EmailConfig emailConfig;
+
+    @Scheduled(cron = "${wedding.email.reminder-cron:0 0 15 * * *}")
+    public void sendScheduledReminders() {
+        if (!emailConfig.isRemindersEnabled()) {
+            log.debug("RSVP reminders are disabled");
+            return;
+        }
+
+        if (!jobLeaseDao.tryAcquire(REMINDER_JOB_NAME, REMINDER_LEASE_SECONDS)) {
+            log.info("RSVP reminder job is running on another node, skipping");
+            return;
+        }
+
+        try {
+            sendReminders();
+        } catch (Exception e) {
+            log.error("RSVP reminder job failed", e);
+        } finally {
+            jobLeaseDao.release(REMINDER_JOB_NAME);
+        }
+    }
+
+    private void sendReminders() {
+        int chunkSize = Math.max(1, emailConfig.getReminderChunkSize());
+        int cooldownDays = Math.max(0, emailConfig.getReminderCooldownDays());
+        String language = StringUtils.defaultIfBlank(emailConfig.getReminderLanguage(), LANGUAGE_ENGLISH);
+
+        log.info("STARTED - Sending RSVP reminders (cooldown: {} days, chunk size: {})", cooldownDays, chunkSize);
+
+        long cursor = 0L;
+        int totalSent = 0;
+        int totalFailed = 0;
+
+        List<ReminderRecipient> chunk = guestReminderDao.findDueReminders(cooldownDays, cursor, chunkSize);
+
+        while (CollectionUtils.isNotEmpty(chunk)) {
+            if (!jobLeaseDao.tryAcquire(REMINDER_JOB_NAME, REMINDER_LEASE_SECONDS)) {
+                log.warn("Lost RSVP reminder lease, stopping after guest {}", cursor);
+                break;
+            }
+
+            List<EmailMessage> messages = new ArrayList<>(chunk.size());
+            for (ReminderRecipient recipient : chunk) {
+                try {
+                    messages.add(emailService.buildRsvpReminderEmail(recipient, language));
+                } catch (Exception e) {
+                    log.error("Failed to render RSVP reminder for guest {}", recipient.getGuestId(), e);
+                }
+            }
+
+            EmailDispatchResult result = emailDispatchService.dispatch(messages);
+            guestReminderDao.recordReminders(result.getSentReferenceIds());
+
+            totalSent += result.getSentCount();
+            totalFailed += chunk.size() - result.getSentCount();
+            cursor = chunk.get(chunk.size() - 1).getGuestId();
+
+            chunk = guestReminderDao.findDueReminders(cooldownDays, cursor, chunkSize);
+        }
+
+        log.info("COMPLETED - RSVP reminders sent: {}, failed: {}", totalSent, totalFailed);
+    }
+}
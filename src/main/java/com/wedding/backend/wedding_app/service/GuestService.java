@@ -1,26 +1,73 @@
 package com.wedding.backend.wedding_app.service;
 
-import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.wedding.backend.wedding_app.dao.GuestCleanupDao;
 import com.wedding.backend.wedding_app.dao.GuestDao;
+import com.wedding.backend.wedding_app.dao.GuestReadDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
+import com.wedding.backend.wedding_app.dto.BulkDeleteResponseDTO;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.GuestResponseDTO;
+import com.wedding.backend.wedding_app.dto.GuestSummaryDTO;
+import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.entity.RSVPEntity;
+import com.wedding.backend.wedding_app.enums.GuestSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestCleanupResult;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
 import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import com.wedding.backend.wedding_app.util.JsonArrayStreams;
+import com.wedding.backend.wedding_app.util.SparseFieldsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.BULK_DELETE_MAX_IDS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_FIELDS_FILTER;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LIST_STREAM_FETCH_SIZE;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class GuestService {
 
     private final GuestDao guestDao;
-    private final DonationDao donationDao;
+    private final GuestReadDao guestReadDao;
+    private final GuestCleanupDao guestCleanupDao;
+    private final KeysetPageDao keysetPageDao;
+    private final GuestNameIndexService guestNameIndexService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Give guests created before the normalized name columns their lookup keys
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNormalizedNames() {
+        try {
+            int updated = guestDao.backfillNormalizedNames();
+            if (updated > 0) {
+                log.info("Backfilled normalized names for {} guests", updated);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill normalized guest names", e);
+        }
+    }
 
     /**
      * Add a new guest
@@ -29,21 +76,22 @@ public class GuestService {
      * @param email Guest's email
      * @param phone Guest's phone
      * @param plusOneAllowed Whether guest can bring a plus one
-     * @return Created guest entity
+     * @return Created guest, or the existing guest with that name
      */
-    public GuestEntity addGuest(String firstName, String lastName, String email, String phone, boolean plusOneAllowed) {
+    public GuestSummaryDTO addGuest(String firstName, String lastName, String email, String phone, boolean plusOneAllowed) {
         log.info("STARTED - Adding new guest: {} {}", firstName, lastName);
         
-        Optional<GuestEntity> existingGuest = guestDao.findGuestByFullName(firstName, lastName);
+        Optional<GuestSummaryDTO> existingGuest = guestReadDao.findByFullName(firstName, lastName);
         if (existingGuest.isPresent()) {
             log.info("COMPLETED - Guest already exists with ID: {}", existingGuest.get().getId());
             return existingGuest.get();
         }
         
         GuestEntity savedGuest = guestDao.saveGuest(firstName, lastName, email, phone, plusOneAllowed);
+        guestNameIndexService.indexGuest(savedGuest);
         log.info("COMPLETED - New guest added with ID: {}", savedGuest.getId());
         
-        return savedGuest;
+        return mapToGuestSummaryDTO(savedGuest);
     }
 
     /**
@@ -63,6 +111,23 @@ public class GuestService {
         return guest;
     }
 
+    /**
+     * Find guest by name, as the flat admin read model
+     * @param firstName Guest's first name
+     * @param lastName Guest's last name
+     * @return Guest with its family group and RSVP status
+     * @throws WeddingAppException if guest not found
+     */
+    public GuestSummaryDTO findGuestSummaryByName(String firstName, String lastName) {
+        log.info("STARTED - Finding guest summary by name: {} {}", firstName, lastName);
+
+        GuestSummaryDTO guest = guestReadDao.findByFullName(firstName, lastName)
+                .orElseThrow(() -> WeddingAppException.guestNameNotFound(firstName, lastName));
+
+        log.info("COMPLETED - Found guest with ID: {}", guest.getId());
+        return guest;
+    }
+
     /**
      * Find guest by ID
      * @param id Guest ID
@@ -79,43 +144,97 @@ public class GuestService {
         return guest;
     }
 
+    /**
+     * Find guest by ID, as the flat admin read model
+     * @param id Guest ID
+     * @return Guest with its family group and RSVP status
+     * @throws WeddingAppException if guest not found
+     */
+    public GuestSummaryDTO getGuestSummary(Long id) {
+        log.info("STARTED - Finding guest summary by ID: {}", id);
+
+        GuestSummaryDTO guest = guestReadDao.findById(id)
+                .orElseThrow(() -> WeddingAppException.guestNotFound(id));
+
+        log.info("COMPLETED - Found guest: {} {}", guest.getFirstName(), guest.getLastName());
+        return guest;
+    }
+
     /**
      * Get verified guest with DTO response
      * @param firstName Guest's first name
      * @param lastName Guest's last name
      * @return Guest response DTO
-     * @throws WeddingAppException if guest not found
+     * @throws WeddingAppException if guest not found, listing the closest guest names as suggestions
      */
     public GuestResponseDTO getVerifiedGuest(String firstName, String lastName) {
         log.info("STARTED - Verifying guest: {} {}", firstName, lastName);
         
         GuestResponseDTO responseDTO = guestDao.findGuestByFullName(firstName, lastName)
                 .map(this::mapToGuestResponseDTO)
-                .orElseThrow(() -> WeddingAppException.guestNameNotFound(firstName, lastName));
+                .orElseThrow(() -> WeddingAppException.guestNameNotFound(firstName, lastName,
+                        guestNameIndexService.suggestGuests(firstName, lastName).stream()
+                                .map(match -> match.getFirstName() + " " + match.getLastName())
+                                .toList()));
         
         log.info("COMPLETED - Guest verified successfully with ID: {}", responseDTO.getId());
         return responseDTO;
     }
 
     /**
-     * Get all guests
-     * @return List of all guest entities
+     * Get one page of guests
+     * @param page Sort, cursor and page size
+     * @param attending Only guests whose RSVP says they are (true) or are not (false) attending (optional)
+     * @param hasRsvp Only guests who have (true) or have not (false) responded (optional)
+     * @param familyGroupId Only guests in this family group (optional)
+     * @param primaryContact Only primary contacts (true) or everyone else (false) (optional)
+     * @return Guests on the page and the cursor for the next one
      */
-    public List<GuestEntity> getAllGuests() {
-        log.info("STARTED - Fetching all guests");
-        
-        List<GuestEntity> guests = guestDao.findAllGuests();
-        
-        log.info("COMPLETED - Found {} guests", guests.size());
-        return guests;
+    public CursorPageDTO<GuestSummaryDTO> getGuestPage(CursorPageRequest page, Boolean attending, Boolean hasRsvp,
+                                                       Long familyGroupId, Boolean primaryContact) {
+        log.info("STARTED - Fetching guest page sorted by {} {}", page.getSort().name(), page.getDirection());
+
+        KeysetPageQuery query = guestFilters(attending, hasRsvp, familyGroupId, primaryContact);
+        IdPage ids = keysetPageDao.findIdPage(query, page);
+        List<GuestSummaryDTO> guests = ids.inOrder(guestReadDao.findByIds(ids.getIds()), GuestSummaryDTO::getId);
+
+        log.info("COMPLETED - Found {} guests (more: {})", guests.size(), Objects.nonNull(ids.getNextCursor()));
+        return CursorPageDTO.of(ids, guests, page.getLimit());
+    }
+
+    /**
+     * Stream every guest matching the filters as one JSON array, for exports too large to page through
+     * @param sort Sort field
+     * @param direction Sort direction
+     * @param fields Comma-separated properties to write per guest (optional, all by default)
+     * @return Body that writes the guests as they are read, when the response is written
+     */
+    public StreamingResponseBody streamGuests(GuestSortField sort, SortDirection direction, Boolean attending,
+                                              Boolean hasRsvp, Long familyGroupId, Boolean primaryContact, String fields) {
+        KeysetPageQuery query = guestFilters(attending, hasRsvp, familyGroupId, primaryContact);
+        ObjectWriter writer = JsonArrayStreams.elementWriter(objectMapper, GuestSummaryDTO.class);
+        FilterProvider filters = SparseFieldsets.filters(GuestSummaryDTO.class, GUEST_FIELDS_FILTER, fields);
+        ObjectWriter elementWriter = Objects.nonNull(filters) ? writer.with(filters) : writer;
+
+        return outputStream -> {
+            log.info("STARTED - Streaming guests sorted by {} {}", sort, direction);
+            try {
+                long rows = JsonArrayStreams.<GuestSummaryDTO>writeArray(outputStream, objectMapper, elementWriter,
+                        LIST_STREAM_FETCH_SIZE, consumer -> guestReadDao.streamGuests(query, sort, direction, consumer));
+                log.info("COMPLETED - Streamed {} guests", rows);
+            } catch (UncheckedIOException e) {
+                log.warn("Guest stream aborted: {}", e.getMessage());
+                throw e.getCause();
+            }
+        };
     }
 
     /**
      * Update existing guest
      * @param request Guest request with updated details
-     * @return Updated guest entity
+     * @return Updated guest
      */
-    public GuestEntity updateGuest(GuestRequest request) {
+    public GuestSummaryDTO updateGuest(GuestRequest request) {
         log.info("STARTED - Updating guest: {} {}", request.getFirstName(), request.getLastName());
         
         // Find the guest to update
@@ -130,7 +249,7 @@ public class GuestService {
         GuestEntity updatedGuest = guestDao.updateGuest(existingGuest);
         
         log.info("COMPLETED - Guest updated successfully with ID: {}", updatedGuest.getId());
-        return updatedGuest;
+        return mapToGuestSummaryDTO(updatedGuest);
     }
 
     /**
@@ -140,21 +259,75 @@ public class GuestService {
     @Transactional
     public void removeGuest(Long id) {
         log.info("STARTED - Removing guest with ID: {}", id);
-        
-        // First, nullify any donation references to this guest
-        donationDao.nullifyGuestReferences(id);
-        
-        // Then delete the guest
-        guestDao.deleteGuest(id);
-        
+
+        if (id == null) {
+            throw WeddingAppException.invalidParameter("Guest ID cannot be null");
+        }
+
+        GuestCleanupResult result = guestCleanupDao.deleteGuests(List.of(id));
+        if (result.getDeletedGuestIds().isEmpty()) {
+            throw WeddingAppException.guestNotFound(id);
+        }
+        guestNameIndexService.removeGuests(result.getDeletedGuestIds());
+
         log.info("COMPLETED - Guest removed successfully");
     }
 
     /**
-     * Map guest entity to response DTO
+     * Remove many guests at once (admin cleanup). Unknown IDs are reported back rather than failing the request.
+     * @param ids Guest IDs to remove
+     * @return Which guests were deleted and how many donations were detached
+     */
+    @Transactional
+    public BulkDeleteResponseDTO removeGuests(List<Long> ids) {
+        log.info("STARTED - Bulk removing {} guests", CollectionUtils.size(ids));
+
+        if (CollectionUtils.isEmpty(ids) || ids.contains(null)) {
+            throw WeddingAppException.invalidParameter("ids must be a non-empty list of guest IDs");
+        }
+        if (ids.size() > BULK_DELETE_MAX_IDS) {
+            throw WeddingAppException.invalidParameter("ids cannot contain more than " + BULK_DELETE_MAX_IDS + " guest IDs");
+        }
+
+        GuestCleanupResult result = guestCleanupDao.deleteGuests(ids);
+        guestNameIndexService.removeGuests(result.getDeletedGuestIds());
+
+        log.info("COMPLETED - Bulk removed {} guests", result.getDeletedGuestIds().size());
+        return BulkDeleteResponseDTO.builder()
+                .requestedCount(ids.size())
+                .deletedIds(result.getDeletedGuestIds())
+                .notFoundIds(ids.stream().distinct().filter(id -> !result.getDeletedGuestIds().contains(id)).toList())
+                .deletedGuestCount(result.getDeletedGuestIds().size())
+                .detachedDonationCount(result.getDetachedDonations())
+                .build();
+    }
+
+    /**
+     * Map guest entity to response DTO, touching only the eagerly loaded family group and RSVP,
+     * never the invitation codes
      * @param guest Guest entity
      * @return Guest response DTO
      */
+    private GuestSummaryDTO mapToGuestSummaryDTO(GuestEntity guest) {
+        FamilyGroupEntity familyGroup = guest.getFamilyGroup();
+        RSVPEntity rsvp = guest.getRsvp();
+        return GuestSummaryDTO.builder()
+                .id(guest.getId())
+                .firstName(guest.getFirstName())
+                .lastName(guest.getLastName())
+                .email(guest.getEmail())
+                .phone(guest.getPhone())
+                .plusOneAllowed(guest.getPlusOneAllowed())
+                .isPrimaryContact(guest.getIsPrimaryContact())
+                .familyGroupId(Objects.isNull(familyGroup) ? null : familyGroup.getId())
+                .familyGroupName(Objects.isNull(familyGroup) ? null : familyGroup.getGroupName())
+                .hasRsvp(Objects.nonNull(rsvp))
+                .rsvpId(Objects.isNull(rsvp) ? null : rsvp.getId())
+                .attending(Objects.isNull(rsvp) ? null : rsvp.getAttending())
+                .rsvpSubmittedAt(Objects.isNull(rsvp) ? null : rsvp.getSubmittedAt())
+                .build();
+    }
+
     private GuestResponseDTO mapToGuestResponseDTO(GuestEntity guest) {
         return GuestResponseDTO.builder()
                 .id(guest.getId())
@@ -166,4 +339,24 @@ public class GuestService {
                 .rsvpId(guest.getRsvp() != null ? guest.getRsvp().getId() : null)
                 .build();
     }
+
+    /**
+     * Keyset page query over guests with the optional list filters applied
+     */
+    private KeysetPageQuery guestFilters(Boolean attending, Boolean hasRsvp, Long familyGroupId, Boolean primaryContact) {
+        KeysetPageQuery query = KeysetPageQuery.from("guests g", "g.id");
+        if (Objects.nonNull(attending)) {
+            query.where("EXISTS (SELECT 1 FROM rsvps r WHERE r.guest_id = g.id AND r.attending = ?)", attending);
+        }
+        if (Objects.nonNull(hasRsvp)) {
+            query.where((hasRsvp ? "" : "NOT ") + "EXISTS (SELECT 1 FROM rsvps r WHERE r.guest_id = g.id)");
+        }
+        if (Objects.nonNull(familyGroupId)) {
+            query.where("g.family_group_id = ?", familyGroupId);
+        }
+        if (Objects.nonNull(primaryContact)) {
+            query.where("COALESCE(g.is_primary_contact, false) = ?", primaryContact);
+        }
+        return query;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
+import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
+import com.wedding.backend.wedding_app.repository.FamilyGroupRepository;
+import com.wedding.backend.wedding_app.repository.FamilyMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times family member inserts written one statement per round trip (what identity IDs forced, since
+ * each INSERT had to run to learn its ID) against the same rows flushed as JDBC batches.
+ * Every run happens in a transaction that is rolled back, so nothing is left behind beyond the
+ * sequence values it used.
+ */
+@Slf4j
+@Service
+@Profile("local")
+@RequiredArgsConstructor
+public class InsertBenchmarkService {
+
+    private static final int WARMUP_ROWS = 50;
+
+    private final FamilyGroupRepository familyGroupRepository;
+    private final FamilyMemberRepository familyMemberRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public InsertBenchmarkResult benchmarkFamilyMemberInserts(int rows) {
+        log.info("BEGIN - Benchmarking {} family member inserts", rows);
+
+        timeInserts(Math.min(rows, WARMUP_ROWS), false);
+        timeInserts(Math.min(rows, WARMUP_ROWS), true);
+
+        long rowByRowNanos = timeInserts(rows, false);
+        long batchedNanos = timeInserts(rows, true);
+
+        log.info("END - Row by row: {} ms, batched: {} ms", rowByRowNanos / 1_000_000, batchedNanos / 1_000_000);
+        return new InsertBenchmarkResult(rows, rowByRowNanos, batchedNanos);
+    }
+
+    private long timeInserts(int rows, boolean batched) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long elapsed = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+
+            FamilyGroupEntity familyGroup = familyGroupRepository.saveAndFlush(FamilyGroupEntity.builder()
+                    .groupName("Insert benchmark")
+                    .maxAttendees(rows + 1)
+                    .createdAt(OffsetDateTime.now())
+                    .build());
+
+            List<FamilyMemberEntity> familyMembers = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                familyMembers.add(FamilyMemberEntity.builder()
+                        .firstName("Benchmark")
+                        .lastName("Member " + i)
+                        .ageGroup("adult")
+                        .isAttending(false)
+                        .familyGroup(familyGroup)
+                        .build());
+            }
+
+            long start = System.nanoTime();
+            if (batched) {
+                familyMemberRepository.saveAll(familyMembers);
+                familyMemberRepository.flush();
+            } else {
+                familyMembers.forEach(familyMemberRepository::saveAndFlush);
+            }
+            return System.nanoTime() - start;
+        });
+        return elapsed == null ? 0L : elapsed;
+    }
+
+    public record InsertBenchmarkResult(int rows, long rowByRowNanos, long batchedNanos) {
+
+        public double rowByRowRowsPerSecond() {
+            return rows * 1_000_000_000.0 / Math.max(rowByRowNanos, 1L);
+        }
+
+        public double batchedRowsPerSecond() {
+            return rows * 1_000_000_000.0 / Math.max(batchedNanos, 1L);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import com.wedding.backend.wedding_app.dao.InvitationCampaignDao;
+import com.wedding.backend.wedding_app.dao.JobLeaseDao;
+import com.wedding.backend.wedding_app.dto.InvitationCampaignRequestDTO;
+import com.wedding.backend.wedding_app.dto.InvitationCampaignResponseDTO;
+import com.wedding.backend.wedding_app.entity.InvitationCampaignEntity;
+import com.wedding.backend.wedding_app.enums.CampaignStatus;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.email.CampaignRecipient;
+import com.wedding.backend.wedding_app.model.email.EmailDispatchResult;
+import com.wedding.backend.wedding_app.model.email.EmailMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CAMPAIGN_LEASE_JOB_PREFIX;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.CAMPAIGN_LEASE_SECONDS;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.INVITATION_CODE_TYPE_PRIMARY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LANGUAGE_ENGLISH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.LANGUAGE_PORTUGUESE;
+
+/**
+ * Runs invitation email campaigns.
+ *
+ * A campaign walks its guest segment in guest id order, one chunk at a time. While chunk N is being
+ * sent (rate limited by the provider), chunk N+1 is already being rendered on the render pool, so
+ * rendering never holds back delivery. The cursor is persisted after every chunk; a paused or
+ * interrupted campaign resumes from there. A crash between sending a chunk and saving its cursor
+ * re-sends that chunk on resume, so delivery is at-least-once per chunk.
+ *
+ * Only one node runs a campaign at a time: the runner holds a JobLeaseDao lease for the campaign and
+ * renews it before every chunk, so a node that starts up while another is still sending leaves it alone.
+ * A RUNNING campaign without a runner (its node died, or its start found the lease still held) is
+ * relaunched by a periodic sweep once its lease is free or has expired.
+ */
+@Slf4j
+@Service
+public class InvitationCampaignService {
+
+    private static final Set<CampaignStatus> STARTABLE_STATUSES =
+            EnumSet.of(CampaignStatus.DRAFT, CampaignStatus.PAUSED, CampaignStatus.FAILED);
+
+    private final InvitationCampaignDao campaignDao;
+    private final JobLeaseDao jobLeaseDao;
+    private final InvitationCodeService invitationCodeService;
+    private final QRCodeService qrCodeService;
+    private final EmailService emailService;
+    private final EmailDispatchService emailDispatchService;
+    private final EmailConfig emailConfig;
+    private final Executor renderExecutor;
+    private final Executor campaignExecutor;
+
+    // Campaigns with a runner on this node, so a resume never starts a second runner
+    private final Set<Long> activeRunners = ConcurrentHashMap.newKeySet();
+
+    public InvitationCampaignService(InvitationCampaignDao campaignDao,
+                                     JobLeaseDao jobLeaseDao,
+                                     InvitationCodeService invitationCodeService,
+                                     QRCodeService qrCodeService,
+                                     EmailService emailService,
+                                     EmailDispatchService emailDispatchService,
+                                     EmailConfig emailConfig,
+                                     @Qualifier("emailRenderExecutor") Executor renderExecutor,
+                                     @Qualifier("campaignTaskExecutor") Executor campaignExecutor) {
+        this.campaignDao = campaignDao;
+        this.jobLeaseDao = jobLeaseDao;
+        this.invitationCodeService = invitationCodeService;
+        this.qrCodeService = qrCodeService;
+        this.emailService = emailService;
+        this.emailDispatchService = emailDispatchService;
+        this.emailConfig = emailConfig;
+        this.renderExecutor = renderExecutor;
+        this.campaignExecutor = campaignExecutor;
+    }
+
+    /**
+     * Create a campaign for a guest segment, optionally starting it right away
+     * @param request The campaign request
+     * @return The created campaign
+     */
+    public InvitationCampaignResponseDTO createCampaign(InvitationCampaignRequestDTO request) {
+        log.info("BEGIN - Creating invitation campaign: {}", request.getName());
+
+        if (StringUtils.isBlank(request.getName())) {
+            throw WeddingAppException.missingParameter("name");
+        }
+
+        if (Objects.isNull(request.getSegment())) {
+            throw WeddingAppException.missingParameter("segment");
+        }
+
+        String language = StringUtils.defaultIfBlank(request.getLanguage(), LANGUAGE_ENGLISH);
+        if (!StringUtils.equalsAny(language, LANGUAGE_ENGLISH, LANGUAGE_PORTUGUESE)) {
+            throw WeddingAppException.invalidParameter("language");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        InvitationCampaignEntity campaign = InvitationCampaignEntity.builder()
+                .name(request.getName().trim())
+                .segment(request.getSegment())
+                .language(language)
+                .totalRecipients((int) campaignDao.countRecipients(request.getSegment()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        InvitationCampaignEntity savedCampaign = campaignDao.saveCampaign(campaign);
+        log.info("END - Created invitation campaign {} with {} recipients",
+                savedCampaign.getId(), savedCampaign.getTotalRecipients());
+
+        if (request.isStartImmediately()) {
+            return startCampaign(savedCampaign.getId());
+        }
+
+        return convertToResponseDTO(savedCampaign);
+    }
+
+    /**
+     * Start a draft campaign, or resume a paused or failed one from its cursor
+     * @param id The campaign ID
+     * @return The campaign after the transition
+     */
+    public InvitationCampaignResponseDTO startCampaign(Long id) {
+        log.info("BEGIN - Starting invitation campaign: {}", id);
+
+        InvitationCampaignEntity campaign = findCampaignOrThrow(id);
+
+        if (!campaignDao.transitionStatus(id, STARTABLE_STATUSES, CampaignStatus.RUNNING)) {
+            throw WeddingAppException.invalidCampaignState(id, campaign.getStatus());
+        }
+
+        // If a paused runner hasn't let go of the lease yet, it sees RUNNING again and carries on. A lease left
+        // by a process that is gone is taken over by the resume sweep once it expires.
+        if (!launchRunner(id)) {
+            log.info("Invitation campaign {} left to the runner holding its lease, or to the next resume sweep", id);
+        }
+
+        log.info("END - Invitation campaign {} is running from guest cursor {}", id, campaign.getLastGuestId());
+        return convertToResponseDTO(findCampaignOrThrow(id));
+    }
+
+    /**
+     * Pause a running campaign. The runner stops before its next chunk.
+     * @param id The campaign ID
+     * @return The campaign after the transition
+     */
+    public InvitationCampaignResponseDTO pauseCampaign(Long id) {
+        log.info("BEGIN - Pausing invitation campaign: {}", id);
+
+        InvitationCampaignEntity campaign = findCampaignOrThrow(id);
+
+        if (!campaignDao.transitionStatus(id, EnumSet.of(CampaignStatus.RUNNING), CampaignStatus.PAUSED)) {
+            throw WeddingAppException.invalidCampaignState(id, campaign.getStatus());
+        }
+
+        log.info("END - Invitation campaign {} paused", id);
+        return convertToResponseDTO(findCampaignOrThrow(id));
+    }
+
+    /**
+     * Get a campaign with its progress
+     * @param id The campaign ID
+     * @return The campaign
+     */
+    public InvitationCampaignResponseDTO getCampaign(Long id) {
+        return convertToResponseDTO(findCampaignOrThrow(id));
+    }
+
+    /**
+     * Get all campaigns, newest first
+     * @return List of campaigns
+     */
+    public List<InvitationCampaignResponseDTO> getAllCampaigns() {
+        return campaignDao.findAllCampaigns().stream()
+                .map(this::convertToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Campaigns marked RUNNING with no runner on this node and a free or expired lease were interrupted by a
+     * restart or crash, or their start found the lease still held; pick them back up from their persisted
+     * cursor. Runs at startup and then periodically: every process leases under its own owner ID, so a
+     * restarted node can't take back its old lease until it expires. Campaigns whose lease is still held
+     * are being sent elsewhere and are left alone.
+     */
+    @Scheduled(fixedDelayString = "${wedding.email.campaign-resume-interval-ms:60000}")
+    public void resumeInterruptedCampaigns() {
+        try {
+            List<InvitationCampaignEntity> running = campaignDao.findCampaignsByStatus(CampaignStatus.RUNNING);
+
+            for (InvitationCampaignEntity campaign : running) {
+                if (activeRunners.contains(campaign.getId())) {
+                    continue;
+                }
+                try {
+                    if (launchRunner(campaign.getId())) {
+                        log.info("Resumed interrupted invitation campaign {} from guest cursor {}",
+                                campaign.getId(), campaign.getLastGuestId());
+                    }
+                } catch (WeddingAppException e) {
+                    log.warn("Could not resume invitation campaign {}: {}", campaign.getId(), e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to resume interrupted invitation campaigns", e);
+        }
+    }
+
+    /**
+     * Start a runner for the campaign unless one is already running here or another node holds its lease
+     * @return true if a runner was started
+     */
+    private boolean launchRunner(Long id) {
+        if (!activeRunners.add(id)) {
+            log.info("Invitation campaign {} already has a runner on this node", id);
+            return false;
+        }
+
+        if (!jobLeaseDao.tryAcquire(leaseName(id), CAMPAIGN_LEASE_SECONDS)) {
+            activeRunners.remove(id);
+            log.debug("Lease for invitation campaign {} is still held, skipping", id);
+            return false;
+        }
+
+        try {
+            campaignExecutor.execute(() -> runCampaign(id));
+            return true;
+        } catch (TaskRejectedException e) {
+            activeRunners.remove(id);
+            jobLeaseDao.release(leaseName(id));
+            log.error("Campaign executor rejected invitation campaign {}", id, e);
+            campaignDao.transitionStatus(id, EnumSet.of(CampaignStatus.RUNNING), CampaignStatus.PAUSED);
+            throw WeddingAppException.internalError("Too many campaigns running, campaign has been paused");
+        }
+    }
+
+    private void runCampaign(Long id) {
+        try {
+            InvitationCampaignEntity campaign = findCampaignOrThrow(id);
+            int chunkSize = Math.max(1, emailConfig.getCampaignChunkSize());
+
+            log.info("STARTED - Running invitation campaign {} ({}) in chunks of {}", id, campaign.getSegment(), chunkSize);
+
+            List<CampaignRecipient> chunk =
+                    campaignDao.findRecipients(campaign.getSegment(), campaign.getLastGuestId(), chunkSize);
+            CompletableFuture<List<EmailMessage>> rendering = renderChunk(chunk, campaign.getLanguage());
+
+            while (CollectionUtils.isNotEmpty(chunk)) {
+                if (!isStillRunning(id)) {
+                    log.info("Invitation campaign {} is no longer running, stopping before next chunk", id);
+                    return;
+                }
+
+                if (!jobLeaseDao.tryAcquire(leaseName(id), CAMPAIGN_LEASE_SECONDS)) {
+                    log.warn("Lost lease for invitation campaign {}, stopping before next chunk", id);
+                    return;
+                }
+
+                List<EmailMessage> messages = rendering.join();
+                Long chunkCursor = chunk.get(chunk.size() - 1).getGuestId();
+
+                // Start rendering the next chunk before this one goes out
+                List<CampaignRecipient> nextChunk =
+                        campaignDao.findRecipients(campaign.getSegment(), chunkCursor, chunkSize);
+                CompletableFuture<List<EmailMessage>> nextRendering = renderChunk(nextChunk, campaign.getLanguage());
+
+                EmailDispatchResult result = emailDispatchService.dispatch(messages);
+                int failed = chunk.size() - result.getSentCount();
+                campaignDao.recordProgress(id, chunkCursor, result.getSentCount(), failed);
+
+                log.info("Invitation campaign {} chunk up to guest {} - sent: {}, failed: {}",
+                        id, chunkCursor, result.getSentCount(), failed);
+
+                chunk = nextChunk;
+                rendering = nextRendering;
+            }
+
+            campaignDao.finishCampaign(id, CampaignStatus.COMPLETED, null);
+            log.info("COMPLETED - Invitation campaign {} finished", id);
+
+        } catch (Exception e) {
+            log.error("Invitation campaign {} failed", id, e);
+            campaignDao.finishCampaign(id, CampaignStatus.FAILED, StringUtils.abbreviate(e.getMessage(), 255));
+        } finally {
+            activeRunners.remove(id);
+            jobLeaseDao.release(leaseName(id));
+        }
+    }
+
+    private static String leaseName(Long id) {
+        return CAMPAIGN_LEASE_JOB_PREFIX + id;
+    }
+
+    /**
+     * Resolve invitation codes for the chunk (one lookup, plus creation for guests without a valid code)
+     * on the calling thread, then render every email in parallel on the render pool.
+     * Recipients that fail to render are left out and counted as failed by the caller.
+     */
+    private CompletableFuture<List<EmailMessage>> renderChunk(List<CampaignRecipient> chunk, String language) {
+        if (CollectionUtils.isEmpty(chunk)) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Map<Long, String> codes = campaignDao.findActiveCodesForGuests(
+                chunk.stream().map(CampaignRecipient::getGuestId).toList());
+
+        List<CompletableFuture<EmailMessage>> renders = chunk.stream()
+                .map(recipient -> {
+                    String code = codes.get(recipient.getGuestId());
+                    if (Objects.isNull(code)) {
+                        try {
+                            code = invitationCodeService.createInvitationCode(
+                                    recipient.getGuestId(), INVITATION_CODE_TYPE_PRIMARY).getCode();
+                        } catch (Exception e) {
+                            log.error("Could not create invitation code for guest {}", recipient.getGuestId(), e);
+                            return CompletableFuture.<EmailMessage>completedFuture(null);
+                        }
+                    }
+                    String invitationCode = code;
+                    return CompletableFuture.supplyAsync(() -> renderInvitation(recipient, invitationCode, language), renderExecutor);
+                })
+                .toList();
+
+        return CompletableFuture.allOf(renders.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> renders.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    private EmailMessage renderInvitation(CampaignRecipient recipient, String invitationCode, String language) {
+        try {
+            byte[] qrCode = qrCodeService.generateQRCodeForInvitation(invitationCode);
+            return emailService.buildInvitationEmail(recipient, invitationCode, qrCode, language);
+        } catch (Exception e) {
+            log.error("Failed to render invitation for guest {}", recipient.getGuestId(), e);
+            return null;
+        }
+    }
+
+    private boolean isStillRunning(Long id) {
+        return campaignDao.findCampaignById(id)
+                .map(campaign -> Objects.equals(campaign.getStatus(), CampaignStatus.RUNNING))
+                .orElse(false);
+    }
+
+    private InvitationCampaignEntity findCampaignOrThrow(Long id) {
+        return campaignDao.findCampaignById(id)
+                .orElseThrow(() -> {
+                    log.error("Invitation campaign not found with ID: {}", id);
+                    return WeddingAppException.campaignNotFound(id);
+                });
+    }
+
+    private InvitationCampaignResponseDTO convertToResponseDTO(InvitationCampaignEntity campaign) {
+        int processed = campaign.getSentCount() + campaign.getFailedCount();
+        Double percentComplete = Objects.nonNull(campaign.getTotalRecipients()) && campaign.getTotalRecipients() > 0
+                ? Math.min(100.0, processed * 100.0 / campaign.getTotalRecipients())
+                : null;
+
+        return InvitationCampaignResponseDTO.builder()
+                .id(campaign.getId())
+                .name(campaign.getName())
+                .segment(campaign.getSegment())
+                .language(campaign.getLanguage())
+                .status(campaign.getStatus())
+                .totalRecipients(campaign.getTotalRecipients())
+                .sentCount(campaign.getSentCount())
+                .failedCount(campaign.getFailedCount())
+                .lastGuestId(campaign.getLastGuestId())
+                .percentComplete(percentComplete)
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt())
+                .startedAt(campaign.getStartedAt())
+                .completedAt(campaign.getCompletedAt())
+                .updatedAt(campaign.getUpdatedAt())
+                .build();
+    }
+}
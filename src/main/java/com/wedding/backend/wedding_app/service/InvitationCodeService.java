@@ -2,10 +2,13 @@ package com.wedding.backend.wedding_app.service;
 
 import com.wedding.backend.wedding_app.dao.GuestDao;
 import com.wedding.backend.wedding_app.dao.InvitationDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
 import com.wedding.backend.wedding_app.dao.RSVPDao;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
 import com.wedding.backend.wedding_app.dto.FamilyMemberResponseDTO;
 import com.wedding.backend.wedding_app.dto.GuestResponseDTO;
+import com.wedding.backend.wedding_app.dto.InvitationCodeResponseDTO;
 import com.wedding.backend.wedding_app.dto.InvitationValidationResponseDTO;
 import com.wedding.backend.wedding_app.dto.RSVPResponseDTO;
 import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
@@ -14,6 +17,9 @@ import com.wedding.backend.wedding_app.entity.GuestEntity;
 import com.wedding.backend.wedding_app.entity.InvitationCodeEntity;
 import com.wedding.backend.wedding_app.entity.RSVPEntity;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -24,6 +30,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -39,6 +46,7 @@ import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.SPACE
 public class InvitationCodeService {
 
     private final InvitationDao invitationDao;
+    private final KeysetPageDao keysetPageDao;
     private final GuestDao guestDao;
     private final RSVPDao rsvpDao;
 
@@ -287,17 +295,51 @@ public class InvitationCodeService {
     }
 
     /**
-     * Gets all invitation codes for a guest
+     * Gets one page of a guest's invitation codes
      * @param guestId The guest ID
-     * @return List of invitation codes
+     * @param page Sort, cursor and page size
+     * @param used Only used (true) or unused (false) codes (optional)
+     * @param codeType Only codes of this type, e.g. PRIMARY or REPLACEMENT (optional)
+     * @return Invitation codes on the page and the cursor for the next one
      */
-    public List<InvitationCodeEntity> getCodesForGuest(Long guestId) {
-        log.info("BEGIN - Getting invitation codes for guest ID: {}", guestId);
+    public CursorPageDTO<InvitationCodeResponseDTO> getCodePageForGuest(Long guestId, CursorPageRequest page,
+                                                                        Boolean used, String codeType) {
+        log.info("BEGIN - Getting invitation code page for guest ID: {}", guestId);
+
+        if (guestDao.findGuestById(guestId).isEmpty()) {
+            throw WeddingAppException.guestNotFound(guestId);
+        }
+
+        KeysetPageQuery query = KeysetPageQuery.from("invitation_codes ic", "ic.id")
+                .where("ic.guest_id = ?", guestId);
+        if (Objects.nonNull(used)) {
+            query.where("COALESCE(ic.used, false) = ?", used);
+        }
+        if (StringUtils.isNotBlank(codeType)) {
+            query.where("ic.code_type = ?", codeType.trim().toUpperCase(Locale.ROOT));
+        }
+
+        IdPage ids = keysetPageDao.findIdPage(query, page);
+        List<InvitationCodeResponseDTO> codes = ids.inOrder(invitationDao.findInvitationsByIds(ids.getIds()),
+                        InvitationCodeEntity::getId).stream()
+                .map(this::buildInvitationCodeResponseDTO)
+                .toList();
 
-        List<InvitationCodeEntity> codes = invitationDao.findInvitationsByGuestId(guestId);
         log.info("END - Found {} invitation codes for guest ID: {}", codes.size(), guestId);
+        return CursorPageDTO.of(ids, codes, page.getLimit());
+    }
 
-        return codes;
+    private InvitationCodeResponseDTO buildInvitationCodeResponseDTO(InvitationCodeEntity code) {
+        return InvitationCodeResponseDTO.builder()
+                .id(code.getId())
+                .code(code.getCode())
+                .guestId(code.getGuest().getId())
+                .guestName(code.getGuest().getFirstName() + " " + code.getGuest().getLastName())
+                .createdDate(code.getCreatedDate())
+                .expiryDate(code.getExpiryDate())
+                .used(code.getUsed())
+                .codeType(code.getCodeType())
+                .build();
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wedding.backend.wedding_app.config.PaymentWebhookConfig;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.request.PaymentWebhookRequest;
+import com.wedding.backend.wedding_app.util.WebhookSignatureUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_SIGNATURE_HEADER;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_TIMESTAMP_HEADER;
+
+/**
+ * Stand-in for a payment provider when testing locally: signs webhook events with the configured
+ * secret and fires them at this instance's own webhook endpoint all at once, like a provider burst.
+ */
+@Slf4j
+@Service
+@Profile("local")
+@RequiredArgsConstructor
+public class LocalPaymentWebhookSender {
+
+    private final PaymentWebhookConfig paymentWebhookConfig;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * Send each event the given number of times concurrently
+     * @param provider The provider path segment to post to
+     * @param events The events to send
+     * @param copies How many times each event is delivered (more than 1 exercises deduplication)
+     * @return Response counts keyed by HTTP status, with -1 for requests that got no response
+     */
+    public Map<Integer, Integer> sendBurst(String provider, List<PaymentWebhookRequest> events, int copies) {
+        if (StringUtils.isBlank(paymentWebhookConfig.getSecret())) {
+            throw WeddingAppException.validationError("wedding.payments.webhook.secret - not configured");
+        }
+
+        String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
+        URI endpoint = URI.create("http://localhost:" + port + "/v1/api/webhooks/payments/" + provider);
+
+        log.info("BEGIN - Sending {} webhook events x{} to {}", events.size(), copies, endpoint);
+
+        List<CompletableFuture<Integer>> responses = new ArrayList<>();
+        for (PaymentWebhookRequest event : events) {
+            HttpRequest request = signedRequest(endpoint, event);
+            for (int i = 0; i < copies; i++) {
+                responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(HttpResponse::statusCode)
+                        .exceptionally(e -> -1));
+            }
+        }
+
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        for (CompletableFuture<Integer> response : responses) {
+            statusCounts.merge(response.join(), 1, Integer::sum);
+        }
+
+        log.info("END - Webhook burst responses by status: {}", statusCounts);
+        return statusCounts;
+    }
+
+    private HttpRequest signedRequest(URI endpoint, PaymentWebhookRequest event) {
+        try {
+            String body = objectMapper.writeValueAsString(event);
+            String timestamp = String.valueOf(Instant.now().getEpochSecond());
+
+            return HttpRequest.newBuilder(endpoint)
+                    .timeout(Duration.ofSeconds(30))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(WEBHOOK_TIMESTAMP_HEADER, timestamp)
+                    .header(WEBHOOK_SIGNATURE_HEADER, WebhookSignatureUtils.sign(paymentWebhookConfig.getSecret(), timestamp, body))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw WeddingAppException.internalError("Could not serialize webhook event " + event.getEventId());
+        }
+    }
+}
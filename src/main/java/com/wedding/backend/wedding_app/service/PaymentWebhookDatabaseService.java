@@ -0,0 +1,83 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates the inbox table that payment webhooks are appended to.
+ * Like the email job tables it is plain JDBC, since it is only written by inserts and set-based claims.
+ */
+@Service
+public class PaymentWebhookDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentWebhookDatabaseService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializePaymentWebhookDatabase() {
+        log.info("BEGIN - Initializing payment webhook tables and indexes");
+
+        try {
+            createPaymentWebhookTables();
+            createPaymentWebhookIndexes();
+            log.info("END - Payment webhook database initialization completed successfully");
+        } catch (Exception e) {
+            log.error("Error during payment webhook database initialization", e);
+        }
+    }
+
+    private void createPaymentWebhookTables() {
+        log.info("Creating payment webhook tables...");
+
+        executeIfNotExists("""
+            CREATE TABLE IF NOT EXISTS payment_webhook_events (
+                id BIGSERIAL PRIMARY KEY,
+                provider VARCHAR(50) NOT NULL,
+                event_id VARCHAR(200) NOT NULL,
+                event_type VARCHAR(100),
+                donation_id BIGINT,
+                payment_reference VARCHAR(255),
+                amount NUMERIC(10, 2),
+                payload TEXT NOT NULL,
+                status VARCHAR(20) NOT NULL DEFAULT 'RECEIVED',
+                attempts INTEGER NOT NULL DEFAULT 0,
+                error TEXT,
+                received_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                claimed_at TIMESTAMPTZ,
+                processed_at TIMESTAMPTZ
+            )
+            """);
+
+        // Failed events wait until this time before they are claimed again (exponential backoff)
+        executeIfNotExists("ALTER TABLE payment_webhook_events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMPTZ");
+    }
+
+    private void createPaymentWebhookIndexes() {
+        log.info("Creating payment webhook indexes...");
+
+        // Provider retries and replays of the same event are dropped by the insert
+        executeIfNotExists("CREATE UNIQUE INDEX IF NOT EXISTS idx_payment_webhook_events_provider_event ON payment_webhook_events(provider, event_id)");
+
+        // Keep the processor's claim query on the (small) unprocessed part of the inbox
+        executeIfNotExists("""
+            CREATE INDEX IF NOT EXISTS idx_payment_webhook_events_open
+            ON payment_webhook_events(id)
+            WHERE status IN ('RECEIVED', 'PROCESSING')
+            """);
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.debug("SQL statement skipped (likely already exists): {}", e.getMessage());
+        }
+    }
+}
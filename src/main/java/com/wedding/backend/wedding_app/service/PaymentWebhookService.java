@@ -0,0 +1,238 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wedding.backend.wedding_app.config.PaymentWebhookConfig;
+import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.wedding.backend.wedding_app.dao.PaymentWebhookDao;
+import com.wedding.backend.wedding_app.dto.PaymentWebhookAckDTO;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.enums.WebhookEventStatus;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.PaymentWebhookEvent;
+import com.wedding.backend.wedding_app.model.registry.RegistryOverviewSnapshot;
+import com.wedding.backend.wedding_app.model.request.PaymentWebhookRequest;
+import com.wedding.backend.wedding_app.util.WebhookSignatureUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.wedding.backend.wedding_app.util.WeddingErrorConstants.DONATION_NOT_FOUND;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DONATION_BASE_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_EVENT_ID_MAX_LENGTH;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_EVENT_PAYMENT_COMPLETED;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.WEBHOOK_PROVIDER_PATTERN;
+
+/**
+ * Ingests payment provider webhooks and confirms the donations they pay for.
+ *
+ * The HTTP side only verifies the signature and appends the raw event to the payment_webhook_events
+ * inbox, where the unique (provider, event_id) index drops redeliveries. A scheduled drain claims
+ * the inbox in batches and confirms donations through DonationService.confirmDonation, so a burst of
+ * webhooks queues up in the table instead of holding request threads.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookService {
+
+    private final PaymentWebhookDao paymentWebhookDao;
+    private final DonationDao donationDao;
+    private final DonationService donationService;
+    private final PaymentWebhookConfig paymentWebhookConfig;
+    private final ObjectMapper objectMapper;
+
+    // Guards against overlapping drains on the same node; SKIP LOCKED handles other nodes
+    private final AtomicBoolean drainRunning = new AtomicBoolean(false);
+
+    /**
+     * Verify and store a webhook
+     * @param provider The provider name from the URL
+     * @param timestamp The signed timestamp header (epoch seconds)
+     * @param signature The signature header
+     * @param payload The raw request body
+     * @return The acknowledgement, flagged as duplicate if the event was already received
+     */
+    public PaymentWebhookAckDTO receiveWebhook(String provider, String timestamp, String signature, String payload) {
+        String providerName = StringUtils.lowerCase(StringUtils.trimToEmpty(provider), Locale.ROOT);
+        if (!providerName.matches(WEBHOOK_PROVIDER_PATTERN)) {
+            throw WeddingAppException.validationError("provider");
+        }
+
+        verifySignature(providerName, timestamp, signature, payload);
+
+        PaymentWebhookRequest request;
+        try {
+            request = objectMapper.readValue(payload, PaymentWebhookRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable {} webhook body: {}", providerName, e.getOriginalMessage());
+            throw WeddingAppException.validationError("body - not a valid payment webhook");
+        }
+
+        if (StringUtils.isBlank(request.getEventId()) || request.getEventId().length() > WEBHOOK_EVENT_ID_MAX_LENGTH) {
+            throw WeddingAppException.validationError("eventId");
+        }
+
+        boolean stored = paymentWebhookDao.insertEvent(providerName, request, payload);
+        log.debug("{} webhook event {} {}", providerName, request.getEventId(), stored ? "stored" : "already received");
+
+        return PaymentWebhookAckDTO.builder()
+                .provider(providerName)
+                .eventId(request.getEventId())
+                .duplicate(!stored)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${wedding.payments.webhook.process-interval-ms:2000}")
+    public void drainInbox() {
+        if (!paymentWebhookConfig.isProcessorEnabled() || !drainRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int batchSize = Math.max(1, paymentWebhookConfig.getBatchSize());
+            List<PaymentWebhookEvent> batch;
+            do {
+                batch = paymentWebhookDao.claimEvents(batchSize, paymentWebhookConfig.getClaimTimeoutSeconds());
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                }
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Error draining payment webhook inbox", e);
+        } finally {
+            drainRunning.set(false);
+        }
+    }
+
+    private void verifySignature(String provider, String timestamp, String signature, String payload) {
+        if (!paymentWebhookConfig.isEnabled() || StringUtils.isBlank(paymentWebhookConfig.getSecret())) {
+            log.warn("Rejected {} webhook: payment webhooks are not configured", provider);
+            throw WeddingAppException.invalidWebhookSignature(provider);
+        }
+
+        long signedAt = NumberUtils.toLong(StringUtils.trimToEmpty(timestamp), Long.MIN_VALUE);
+        boolean fresh = signedAt != Long.MIN_VALUE
+                && Math.abs(Instant.now().getEpochSecond() - signedAt) <= paymentWebhookConfig.getSignatureToleranceSeconds();
+
+        if (!fresh || !WebhookSignatureUtils.verify(paymentWebhookConfig.getSecret(), timestamp.trim(), payload, signature)) {
+            log.warn("Rejected {} webhook with {} signature", provider, fresh ? "an invalid" : "a stale or missing");
+            throw WeddingAppException.invalidWebhookSignature(provider);
+        }
+    }
+
+    /**
+     * Resolve every event's donation with two queries, confirm them, then write all outcomes back in one batch
+     */
+    private void processBatch(List<PaymentWebhookEvent> batch) {
+        log.info("BEGIN - Processing {} payment webhook events", batch.size());
+
+        List<PaymentWebhookEvent> payments = batch.stream()
+                .filter(event -> WEBHOOK_EVENT_PAYMENT_COMPLETED.equalsIgnoreCase(event.getEventType()))
+                .toList();
+
+        Map<Long, DonationEntity> donationsById = donationDao.findDonationsByIds(payments.stream()
+                        .map(PaymentWebhookEvent::getDonationId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DonationEntity::getId, Function.identity()));
+
+        Map<String, List<DonationEntity>> donationsByReference = donationDao.findPendingDonationsByPaymentReferences(payments.stream()
+                        .filter(event -> Objects.isNull(event.getDonationId()))
+                        .map(PaymentWebhookEvent::getPaymentReference)
+                        .filter(StringUtils::isNotBlank)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.groupingBy(DonationEntity::getPaymentReference));
+
+        for (PaymentWebhookEvent event : batch) {
+            processEvent(event, donationsById, donationsByReference);
+        }
+
+        paymentWebhookDao.completeEvents(batch);
+
+        Map<WebhookEventStatus, Long> outcomes = batch.stream()
+                .collect(Collectors.groupingBy(PaymentWebhookEvent::getStatus, Collectors.counting()));
+        log.info("END - Processed payment webhook events: {}", outcomes);
+    }
+
+    private void processEvent(PaymentWebhookEvent event, Map<Long, DonationEntity> donationsById,
+                              Map<String, List<DonationEntity>> donationsByReference) {
+        if (!WEBHOOK_EVENT_PAYMENT_COMPLETED.equalsIgnoreCase(event.getEventType())) {
+            complete(event, WebhookEventStatus.IGNORED, "Unsupported event type: " + event.getEventType());
+            return;
+        }
+
+        DonationEntity donation;
+        if (Objects.nonNull(event.getDonationId())) {
+            donation = donationsById.get(event.getDonationId());
+        } else {
+            List<DonationEntity> matches = donationsByReference.getOrDefault(event.getPaymentReference(), List.of());
+            if (matches.size() > 1) {
+                complete(event, WebhookEventStatus.IGNORED, "Payment reference matches " + matches.size() + " pending donations");
+                return;
+            }
+            donation = matches.isEmpty() ? null : matches.get(0);
+        }
+
+        if (Objects.isNull(donation)) {
+            complete(event, WebhookEventStatus.IGNORED, "No matching donation");
+            return;
+        }
+
+        // Providers settle in the base currency, so compare in cents against the normalized amount
+        if (Objects.nonNull(event.getAmount()) && RegistryOverviewSnapshot.toCents(event.getAmount())
+                != RegistryOverviewSnapshot.toCents(donation.getNormalizedAmount())) {
+            complete(event, WebhookEventStatus.IGNORED, String.format("Amount %s does not match donation %d amount %s %s",
+                    event.getAmount(), donation.getId(), donation.getNormalizedAmount(), DONATION_BASE_CURRENCY));
+            return;
+        }
+
+        try {
+            donationService.confirmDonation(donation.getId());
+            complete(event, WebhookEventStatus.PROCESSED, null);
+        } catch (WeddingAppException e) {
+            if (DONATION_NOT_FOUND.equals(e.getErrorKey())) {
+                complete(event, WebhookEventStatus.IGNORED, "Donation " + donation.getId() + " no longer exists");
+            } else {
+                retryOrFail(event, Objects.toString(e.getDetails(), e.getErrorKey()));
+            }
+        } catch (Exception e) {
+            log.error("Error confirming donation {} for {} webhook event {}", donation.getId(), event.getProvider(), event.getEventId(), e);
+            retryOrFail(event, e.getMessage());
+        }
+    }
+
+    /**
+     * Put the event back for a later drain, waiting retryBackoffSeconds * 2^(attempts - 1), or fail it
+     * once maxAttempts is used up
+     */
+    private void retryOrFail(PaymentWebhookEvent event, String error) {
+        if (event.getAttempts() >= paymentWebhookConfig.getMaxAttempts()) {
+            complete(event, WebhookEventStatus.FAILED, error);
+            return;
+        }
+
+        long backoff = paymentWebhookConfig.getRetryBackoffSeconds() << Math.min(Math.max(event.getAttempts() - 1, 0), 20);
+        event.setRetryDelaySeconds(Math.min(backoff, paymentWebhookConfig.getMaxRetryBackoffSeconds()));
+        complete(event, WebhookEventStatus.RECEIVED, error);
+    }
+
+    private void complete(PaymentWebhookEvent event, WebhookEventStatus status, String error) {
+        event.setStatus(status);
+        event.setError(error);
+    }
+}
@@ -1,7 +1,9 @@
 package com.wedding.backend.wedding_app.service;
 
 import com.wedding.backend.wedding_app.dao.GuestDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
 import com.wedding.backend.wedding_app.dao.RSVPDao;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
 import com.wedding.backend.wedding_app.dto.RSVPRequestDTO;
 import com.wedding.backend.wedding_app.dto.RSVPResponseDTO;
 import com.wedding.backend.wedding_app.dto.RSVPSummaryDTO;
@@ -9,7 +11,11 @@ import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
 import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
 import com.wedding.backend.wedding_app.entity.GuestEntity;
 import com.wedding.backend.wedding_app.entity.RSVPEntity;
+import com.wedding.backend.wedding_app.enums.RsvpSortField;
 import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import com.wedding.backend.wedding_app.model.page.IdPage;
+import com.wedding.backend.wedding_app.model.page.KeysetPageQuery;
 import com.wedding.backend.wedding_app.repository.FamilyGroupRepository;
 import com.wedding.backend.wedding_app.dao.FamilyMemberDao;
 import com.wedding.backend.wedding_app.repository.GuestRepository;
@@ -23,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -44,6 +51,7 @@ public class RSVPService {
 
     private final RSVPDao rsvpDao;
     private final GuestDao guestDao;
+    private final KeysetPageDao keysetPageDao;
     private final GuestRepository guestRepository;
     private final FamilyGroupRepository familyGroupRepository;
     private final FamilyMemberDao familyMemberDao;
@@ -117,6 +125,33 @@ public class RSVPService {
         return rsvps;
     }
 
+    /**
+     * Get one page of RSVPs
+     * @param page Sort, cursor and page size
+     * @param attending Only attending (true) or declined (false) RSVPs (optional)
+     * @param submittedFrom First UTC day of submission to include (optional)
+     * @param submittedTo Last UTC day of submission to include (optional)
+     * @return RSVPs on the page and the cursor for the next one
+     */
+    public CursorPageDTO<RSVPResponseDTO> getRSVPPage(CursorPageRequest page, Boolean attending,
+                                                      LocalDate submittedFrom, LocalDate submittedTo) {
+        log.info("STARTED - Getting RSVP page sorted by {} {}", page.getSort().name(), page.getDirection());
+
+        KeysetPageQuery query = KeysetPageQuery.from("rsvps r", "r.id")
+                .whereOnDays(RsvpSortField.SUBMITTED_AT.getExpression(), submittedFrom, submittedTo);
+        if (Objects.nonNull(attending)) {
+            query.where("r.attending = ?", attending);
+        }
+
+        IdPage ids = keysetPageDao.findIdPage(query, page);
+        List<RSVPResponseDTO> rsvps = ids.inOrder(rsvpDao.findRSVPsByIds(ids.getIds()), RSVPEntity::getId).stream()
+                .map(this::mapToRSVPResponseDTO)
+                .toList();
+
+        log.info("COMPLETED - Found {} RSVPs (more: {})", rsvps.size(), Objects.nonNull(ids.getNextCursor()));
+        return CursorPageDTO.of(ids, rsvps, page.getLimit());
+    }
+
     /**
      * Submit or update an RSVP for all guest types (solo, plus-one, family)
      * @param request RSVP request DTO
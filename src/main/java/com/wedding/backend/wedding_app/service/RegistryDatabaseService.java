@@ -4,11 +4,13 @@ import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 
 @Service
+@DependsOn("sequenceDatabaseService")
 public class RegistryDatabaseService {
 
     private static final Logger log = LoggerFactory.getLogger(RegistryDatabaseService.class);
@@ -23,6 +25,7 @@ public class RegistryDatabaseService {
         try {
             createRegistryIndexes();
             createRegistryConstraints();
+            createRegistryTriggers();
             insertDefaultData();
             log.info("END - Registry database initialization completed successfully");
         } catch (Exception e) {
@@ -41,7 +44,23 @@ public class RegistryDatabaseService {
         executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_confirmed_date ON donations(confirmed_date)");
         executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_thank_you_templates_name ON thank_you_templates(template_name)");
 
+        // Keyset page sorts (DonationSortField), alone and behind the status / payment method filters
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_page_date
+            ON donations((COALESCE(donation_date, 'epoch'::timestamptz)), id)
+            """);
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_page_status_date
+            ON donations(status, (COALESCE(donation_date, 'epoch'::timestamptz)), id)
+            """);
+        executeIfNotExists("""
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_page_method_date
+            ON donations(payment_method, (COALESCE(donation_date, 'epoch'::timestamptz)), id)
+            """);
+
         // Unique indexes for business constraints
+        // Older donations have no hash; NULLs never conflict
+        executeIfNotExists("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_dedupe_hash ON donations(dedupe_hash)");
         executeIfNotExists("""
             DO $$
             BEGIN
@@ -111,6 +130,60 @@ public class RegistryDatabaseService {
             """);
     }
 
+    private void createRegistryTriggers() {
+        log.info("Creating registry database triggers...");
+
+        // Compiled thank-you templates are cached by updated_at, so bump it on every edit,
+        // including ones made directly in the database
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION touch_thank_you_template_updated_at() RETURNS trigger AS $$
+            BEGIN
+                NEW.updated_at := CURRENT_TIMESTAMP;
+                RETURN NEW;
+            END $$ LANGUAGE plpgsql
+            """);
+
+        executeIfNotExists("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (
+                    SELECT 1 FROM pg_trigger
+                    WHERE tgname = 'trg_thank_you_templates_updated_at'
+                ) THEN
+                    CREATE TRIGGER trg_thank_you_templates_updated_at
+                    BEFORE UPDATE ON thank_you_templates
+                    FOR EACH ROW EXECUTE FUNCTION touch_thank_you_template_updated_at();
+                END IF;
+            END $$
+            """);
+
+        // Nodes detect registry settings changes by updated_at; bump it for edits that don't set it
+        // (direct SQL) while keeping the value the application wrote
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION touch_registry_settings_updated_at() RETURNS trigger AS $$
+            BEGIN
+                IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+                    NEW.updated_at := CURRENT_TIMESTAMP;
+                END IF;
+                RETURN NEW;
+            END $$ LANGUAGE plpgsql
+            """);
+
+        executeIfNotExists("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (
+                    SELECT 1 FROM pg_trigger
+                    WHERE tgname = 'trg_registry_settings_updated_at'
+                ) THEN
+                    CREATE TRIGGER trg_registry_settings_updated_at
+                    BEFORE UPDATE ON registry_settings
+                    FOR EACH ROW EXECUTE FUNCTION touch_registry_settings_updated_at();
+                END IF;
+            END $$
+            """);
+    }
+
     private void insertDefaultData() {
         log.info("Inserting default registry data...");
 
@@ -3,15 +3,34 @@ package com.wedding.backend.wedding_app.service;
 import com.wedding.backend.wedding_app.dao.DonationDao;
 import com.wedding.backend.wedding_app.dto.RegistryOverviewDTO;
 import com.wedding.backend.wedding_app.dto.RegistrySettingsDTO;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
 import com.wedding.backend.wedding_app.enums.DonationStatus;
+import com.wedding.backend.wedding_app.model.registry.RegistryOverviewSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
+/**
+ * Registry overview for the public registry page.
+ *
+ * Donation totals come from an in-memory snapshot that is loaded with one aggregate query,
+ * updated incrementally as donations are submitted and confirmed, and reconciled against the
+ * database periodically to correct drift (other nodes, direct DB edits, missed updates).
+ *
+ * Donation writes on this node commit and apply their change to the snapshot under the read side of
+ * snapshotLock (see recordDonationChanges); loading or reconciling the snapshot holds the write side
+ * across its query and swap. A reload therefore never sees a committed change that is still on its
+ * way to the snapshot, which would otherwise be counted twice once it arrived.
+ */
 @Service
 public class RegistryService {
 
@@ -19,6 +38,9 @@ public class RegistryService {
     private final RegistrySettingsService registrySettingsService;
     private final Logger log = LoggerFactory.getLogger(RegistryService.class);
 
+    private final AtomicReference<RegistryOverviewSnapshot> snapshot = new AtomicReference<>();
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
     public RegistryService(DonationDao donationDao,
                            RegistrySettingsService registrySettingsService) {
         this.donationDao = donationDao;
@@ -32,27 +54,124 @@ public class RegistryService {
         log.info("BEGIN - Fetching registry overview");
 
         RegistrySettingsDTO settings = registrySettingsService.getActiveRegistrySettings();
-        BigDecimal totalDonated = donationDao.getTotalConfirmedDonations();
-        Integer totalDonations = donationDao.countDonationsByStatus(DonationStatus.CONFIRMED);
-        Integer pendingDonations = donationDao.countDonationsByStatus(DonationStatus.PENDING);
-        BigDecimal averageDonation = donationDao.getAverageDonationAmount();
+        RegistryOverviewSnapshot totals = currentSnapshot();
+        BigDecimal totalDonated = totals.getConfirmedTotal();
 
         Double progressPercentage = calculateProgressPercentage(totalDonated, settings.getHoneymoonGoalAmount());
 
         RegistryOverviewDTO overview = RegistryOverviewDTO.builder()
                 .settings(settings)
-                .totalDonated(Objects.nonNull(totalDonated) ? totalDonated : BigDecimal.ZERO)
+                .totalDonated(totalDonated)
                 .goalAmount(settings.getHoneymoonGoalAmount())
                 .progressPercentage(progressPercentage)
-                .totalDonations(Objects.nonNull(totalDonations) ? totalDonations : 0)
-                .pendingDonations(Objects.nonNull(pendingDonations) ? pendingDonations : 0)
-                .averageDonation(Objects.nonNull(averageDonation) ? averageDonation : BigDecimal.ZERO)
+                .totalDonations(Math.toIntExact(totals.getConfirmedCount()))
+                .pendingDonations(Math.toIntExact(totals.getPendingCount()))
+                .averageDonation(totals.getAverageConfirmed())
                 .build();
 
         log.info("END - Registry overview fetched successfully. Progress: {}%", progressPercentage);
         return overview;
     }
 
+    /**
+     * Strong ETag for an overview, derived from its content so every node produces the same tag
+     * @param overview The overview returned by getRegistryOverview
+     * @return The quoted ETag value
+     */
+    public String getRegistryOverviewETag(RegistryOverviewDTO overview) {
+        RegistrySettingsDTO settings = overview.getSettings();
+        int hash = Objects.hash(
+                overview.getTotalDonated(),
+                overview.getTotalDonations(),
+                overview.getPendingDonations(),
+                overview.getGoalAmount(),
+                Objects.nonNull(settings) ? settings.getId() : null,
+                Objects.nonNull(settings) ? settings.getUpdatedAt() : null,
+                Objects.nonNull(settings) ? settings.getIsActive() : null);
+        return "\"overview-" + Integer.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Run a donation write that commits on its own and records its status changes with
+     * recordDonationStatusChange, so that a concurrent reload can't slip between the commit
+     * and the snapshot update
+     * @param write Saves the donation(s) and records the changes
+     * @return Whatever the write returns
+     */
+    public <T> T recordDonationChanges(Supplier<T> write) {
+        snapshotLock.readLock().lock();
+        try {
+            return write.get();
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a donation status change to the cached totals; call from inside recordDonationChanges,
+     * after the change has committed
+     * @param donation The donation after the change
+     * @param previousStatus The status before the change, or null for a new donation
+     */
+    public void recordDonationStatusChange(DonationEntity donation, DonationStatus previousStatus) {
+        if (Objects.isNull(snapshot.get()) || previousStatus == donation.getStatus()) {
+            return;
+        }
+
+        long amountCents = RegistryOverviewSnapshot.toCents(donation.getNormalizedAmount());
+        snapshot.updateAndGet(current -> Objects.isNull(current)
+                ? null
+                : current.withTransition(amountCents, previousStatus, donation.getStatus()));
+    }
+
+    /**
+     * Recompute the totals from the database and replace the snapshot. Donation writes on this node
+     * wait for the query and swap, so none is both in the result and applied on top of it.
+     */
+    @Scheduled(fixedDelayString = "${wedding.registry.overview-reconcile-interval-ms:300000}",
+               initialDelayString = "${wedding.registry.overview-reconcile-interval-ms:300000}")
+    public void reconcileOverview() {
+        if (Objects.isNull(snapshot.get())) {
+            return;
+        }
+
+        snapshotLock.writeLock().lock();
+        try {
+            RegistryOverviewSnapshot reloaded = RegistryOverviewSnapshot.from(donationDao.getDonationTotals());
+            RegistryOverviewSnapshot before = snapshot.getAndSet(reloaded);
+
+            if (before.getConfirmedTotalCents() != reloaded.getConfirmedTotalCents()
+                    || before.getConfirmedCount() != reloaded.getConfirmedCount()
+                    || before.getPendingCount() != reloaded.getPendingCount()) {
+                log.info("Registry overview reconciled - confirmed: {} -> {}, total cents: {} -> {}, pending: {} -> {}",
+                        before.getConfirmedCount(), reloaded.getConfirmedCount(),
+                        before.getConfirmedTotalCents(), reloaded.getConfirmedTotalCents(),
+                        before.getPendingCount(), reloaded.getPendingCount());
+            }
+        } catch (Exception e) {
+            log.error("Error reconciling registry overview", e);
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private RegistryOverviewSnapshot currentSnapshot() {
+        RegistryOverviewSnapshot current = snapshot.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        snapshotLock.writeLock().lock();
+        try {
+            if (Objects.isNull(snapshot.get())) {
+                snapshot.set(RegistryOverviewSnapshot.from(donationDao.getDonationTotals()));
+            }
+            return snapshot.get();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
     private Double calculateProgressPercentage(BigDecimal totalDonated, BigDecimal goalAmount) {
         if (Objects.isNull(goalAmount) || goalAmount.compareTo(BigDecimal.ZERO) <= 0) {
             return 0.0;
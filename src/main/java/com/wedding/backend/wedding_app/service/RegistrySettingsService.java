@@ -4,45 +4,89 @@ package com.wedding.backend.wedding_app.service;
 import com.wedding.backend.wedding_app.dto.RegistrySettingsDTO;
 import com.wedding.backend.wedding_app.dto.RegistrySettingsRequestDTO;
 import com.wedding.backend.wedding_app.entity.RegistrySettingsEntity;
+import com.wedding.backend.wedding_app.model.registry.RegistrySettingsSnapshot;
+import com.wedding.backend.wedding_app.model.registry.RegistrySettingsVersionView;
 import com.wedding.backend.wedding_app.repository.RegistrySettingsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
-
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry settings, served from an in-memory snapshot of the active row.
+ *
+ * Updates made through this service replace the snapshot immediately. Other nodes notice the change
+ * on their next version check (one indexed lookup of id and updated_at) and drop their snapshot.
+ */
 @Service
 public class RegistrySettingsService {
 
     private final RegistrySettingsRepository registrySettingsRepository;
     private final Logger log = LoggerFactory.getLogger(RegistrySettingsService.class);
 
+    private final AtomicReference<RegistrySettingsSnapshot> snapshot = new AtomicReference<>();
+
     public RegistrySettingsService(RegistrySettingsRepository registrySettingsRepository) {
         this.registrySettingsRepository = registrySettingsRepository;
     }
 
     /**
-     * Get the active registry settings (cached for 1 hour)
+     * Get the active registry settings
      * This will be the primary method called by frontend
      */
-    @Cacheable(value = "registrySettings", key = "'active'")
     public RegistrySettingsDTO getActiveRegistrySettings() {
-        log.info("BEGIN - Fetching active registry settings");
+        return getActiveSettingsSnapshot().getSettings();
+    }
 
-        RegistrySettingsEntity settings = registrySettingsRepository.findActiveSettings()
-                .orElseGet(this::createDefaultSettings);
+    /**
+     * Get the active registry settings together with their version, loading them on first use
+     */
+    public RegistrySettingsSnapshot getActiveSettingsSnapshot() {
+        RegistrySettingsSnapshot current = snapshot.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        log.info("BEGIN - Loading active registry settings");
+
+        RegistrySettingsSnapshot loaded = loadActiveSettings();
 
-        log.info("END - Registry settings fetched successfully");
-        return convertToDTO(settings);
+        log.info("END - Registry settings loaded, version {}", loaded.getETag());
+        return snapshot.compareAndSet(null, loaded) ? loaded : snapshot.get();
     }
 
     /**
-     * Update registry settings and evict cache
+     * Drop the snapshot when the active row was changed elsewhere (another node or the database directly)
+     */
+    @Scheduled(fixedDelayString = "${wedding.registry.settings-refresh-interval-ms:30000}",
+               initialDelayString = "${wedding.registry.settings-refresh-interval-ms:30000}")
+    public void refreshSettingsIfChanged() {
+        RegistrySettingsSnapshot current = snapshot.get();
+        if (Objects.isNull(current)) {
+            return;
+        }
+
+        try {
+            Optional<RegistrySettingsVersionView> version = registrySettingsRepository.findActiveSettingsVersion();
+            if (version.isEmpty() || !current.isCurrent(version.get())) {
+                if (snapshot.compareAndSet(current, null)) {
+                    log.info("Registry settings changed since version {}, reloading on next request", current.getETag());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error checking registry settings version", e);
+        }
+    }
+
+    /**
+     * Update registry settings and replace the snapshot
      */
-    @CacheEvict(value = "registrySettings", key = "'active'")
     public RegistrySettingsDTO updateRegistrySettings(RegistrySettingsRequestDTO request) {
         log.info("BEGIN - Updating registry settings");
 
@@ -57,15 +101,16 @@ public class RegistrySettingsService {
         settings.setUpdatedAt(OffsetDateTime.now());
 
         RegistrySettingsEntity saved = registrySettingsRepository.save(settings);
+        RegistrySettingsDTO updated = convertToDTO(saved);
+        snapshot.set(RegistrySettingsSnapshot.of(updated));
 
         log.info("END - Registry settings updated successfully");
-        return convertToDTO(saved);
+        return updated;
     }
 
     /**
-     * Toggle registry active status and evict cache
+     * Toggle registry active status and replace the snapshot with what a cold load would now return
      */
-    @CacheEvict(value = "registrySettings", key = "'active'")
     public RegistrySettingsDTO toggleRegistryStatus(boolean isActive) {
         log.info("BEGIN - Toggling registry status to: {}", isActive);
 
@@ -75,9 +120,18 @@ public class RegistrySettingsService {
         settings.setIsActive(isActive);
         settings.setUpdatedAt(OffsetDateTime.now());
         RegistrySettingsEntity saved = registrySettingsRepository.save(settings);
+        RegistrySettingsDTO updated = convertToDTO(saved);
+        // A deactivated row is no longer the active one: serve what a fresh load finds (another active row, or new defaults)
+        snapshot.set(isActive ? RegistrySettingsSnapshot.of(updated) : loadActiveSettings());
 
         log.info("END - Registry status toggled successfully");
-        return convertToDTO(saved);
+        return updated;
+    }
+
+    private RegistrySettingsSnapshot loadActiveSettings() {
+        RegistrySettingsEntity settings = registrySettingsRepository.findActiveSettings()
+                .orElseGet(this::createDefaultSettings);
+        return RegistrySettingsSnapshot.of(convertToDTO(settings));
     }
 
     /**
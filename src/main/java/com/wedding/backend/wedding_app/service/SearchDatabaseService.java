@@ -0,0 +1,150 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search columns over donations, RSVPs and family members.
+ *
+ * Each table gets a search_vector tsvector column kept up to date by a trigger and indexed with GIN.
+ * Vectors use the wedding_search configuration: the language-neutral "simple" parser with unaccent,
+ * so English and Portuguese text match with or without accents ("Lisboa" / "lisboa", "nozes" / "nózes").
+ */
+@Service
+public class SearchDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchDatabaseService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializeSearchDatabase() {
+        log.info("BEGIN - Initializing full-text search columns, triggers and indexes");
+
+        try {
+            createSearchConfiguration();
+            addSearchColumns();
+            createSearchTriggers();
+            backfillSearchVectors();
+            createSearchIndexes();
+            log.info("END - Full-text search initialization completed successfully");
+        } catch (Exception e) {
+            log.error("Error during full-text search initialization", e);
+        }
+    }
+
+    private void createSearchConfiguration() {
+        log.info("Creating text search configuration...");
+
+        executeIfNotExists("CREATE EXTENSION IF NOT EXISTS unaccent");
+
+        executeIfNotExists("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'wedding_search') THEN
+                    CREATE TEXT SEARCH CONFIGURATION wedding_search (COPY = simple);
+                END IF;
+            END $$
+            """);
+
+        // Without the extension (no privileges) the configuration stays plain "simple" and accents must match
+        executeIfNotExists("""
+            ALTER TEXT SEARCH CONFIGURATION wedding_search
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, simple
+            """);
+    }
+
+    private void addSearchColumns() {
+        log.info("Adding search vector columns...");
+
+        executeIfNotExists("ALTER TABLE donations ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        executeIfNotExists("ALTER TABLE rsvps ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        executeIfNotExists("ALTER TABLE family_members ADD COLUMN IF NOT EXISTS search_vector tsvector");
+    }
+
+    private void createSearchTriggers() {
+        log.info("Creating search vector triggers...");
+
+        // Donor names rank above words in the message
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION donation_search_vector(donor_name TEXT, message TEXT) RETURNS tsvector AS $$
+                SELECT setweight(to_tsvector('wedding_search', coalesce(donor_name, '')), 'A')
+                    || setweight(to_tsvector('wedding_search', coalesce(message, '')), 'B')
+            $$ LANGUAGE sql STABLE
+            """);
+
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION dietary_search_vector(dietary_restrictions TEXT) RETURNS tsvector AS $$
+                SELECT to_tsvector('wedding_search', coalesce(dietary_restrictions, ''))
+            $$ LANGUAGE sql STABLE
+            """);
+
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION touch_donation_search_vector() RETURNS trigger AS $$
+            BEGIN
+                NEW.search_vector := donation_search_vector(NEW.donor_name, NEW.message);
+                RETURN NEW;
+            END $$ LANGUAGE plpgsql
+            """);
+
+        executeIfNotExists("""
+            CREATE OR REPLACE FUNCTION touch_dietary_search_vector() RETURNS trigger AS $$
+            BEGIN
+                NEW.search_vector := dietary_search_vector(NEW.dietary_restrictions);
+                RETURN NEW;
+            END $$ LANGUAGE plpgsql
+            """);
+
+        createTriggerIfMissing("trg_donations_search_vector",
+                "BEFORE INSERT OR UPDATE OF donor_name, message ON donations",
+                "touch_donation_search_vector()");
+        createTriggerIfMissing("trg_rsvps_search_vector",
+                "BEFORE INSERT OR UPDATE OF dietary_restrictions ON rsvps",
+                "touch_dietary_search_vector()");
+        createTriggerIfMissing("trg_family_members_search_vector",
+                "BEFORE INSERT OR UPDATE OF dietary_restrictions ON family_members",
+                "touch_dietary_search_vector()");
+    }
+
+    private void backfillSearchVectors() {
+        log.info("Backfilling search vectors...");
+
+        executeIfNotExists("UPDATE donations SET search_vector = donation_search_vector(donor_name, message) WHERE search_vector IS NULL");
+        executeIfNotExists("UPDATE rsvps SET search_vector = dietary_search_vector(dietary_restrictions) WHERE search_vector IS NULL");
+        executeIfNotExists("UPDATE family_members SET search_vector = dietary_search_vector(dietary_restrictions) WHERE search_vector IS NULL");
+    }
+
+    private void createSearchIndexes() {
+        log.info("Creating search indexes...");
+
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_donations_search_vector ON donations USING gin(search_vector)");
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rsvps_search_vector ON rsvps USING gin(search_vector)");
+        executeIfNotExists("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_family_members_search_vector ON family_members USING gin(search_vector)");
+    }
+
+    private void createTriggerIfMissing(String triggerName, String timing, String function) {
+        executeIfNotExists(String.format("""
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = '%s') THEN
+                    CREATE TRIGGER %s %s
+                    FOR EACH ROW EXECUTE FUNCTION %s;
+                END IF;
+            END $$
+            """, triggerName, triggerName, timing, function));
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.debug("SQL statement skipped (likely already exists): {}", e.getMessage());
+        }
+    }
+}
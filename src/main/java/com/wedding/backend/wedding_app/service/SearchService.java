@@ -0,0 +1,90 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.SearchDao;
+import com.wedding.backend.wedding_app.dto.SearchResponseDTO;
+import com.wedding.backend.wedding_app.dto.SearchResultDTO;
+import com.wedding.backend.wedding_app.enums.SearchResultType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.util.NameMatchUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.SEARCH_MAX_PAGE_SIZE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.SEARCH_MAX_TERMS;
+
+/**
+ * Admin free-text search across donation messages and donor names and guest / family member dietary notes
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchDao searchDao;
+
+    /**
+     * Search for records matching every word of the query; the last letters of each word may be omitted
+     * @param query Free text, e.g. "lisbon" or "nut allergy"
+     * @param types Result types to include (all when empty)
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return The requested page of matches, best first
+     */
+    public SearchResponseDTO search(String query, List<SearchResultType> types, int page, int size) {
+        log.info("BEGIN - Searching for '{}' in {} (page {}, size {})", query, types, page, size);
+
+        if (page < 0) {
+            throw WeddingAppException.invalidParameter("page");
+        }
+        if (size < 1 || size > SEARCH_MAX_PAGE_SIZE) {
+            throw WeddingAppException.invalidParameter("size");
+        }
+
+        String tsQuery = toPrefixTsQuery(query);
+        if (StringUtils.isEmpty(tsQuery)) {
+            throw WeddingAppException.validationError("q - must contain at least one letter or digit");
+        }
+
+        Set<SearchResultType> included = CollectionUtils.isEmpty(types)
+                ? EnumSet.allOf(SearchResultType.class)
+                : EnumSet.copyOf(types);
+
+        long offset = (long) page * size;
+        List<SearchResultDTO> results = searchDao.search(tsQuery, included, size, offset);
+
+        // A short first page already holds every match
+        long total = page == 0 && results.size() < size
+                ? results.size()
+                : searchDao.countMatches(tsQuery, included);
+
+        log.info("END - Found {} matches for '{}'", total, query);
+        return SearchResponseDTO.builder()
+                .query(query)
+                .page(page)
+                .size(size)
+                .totalResults(total)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * "Nut allérgy!" -> "nut:* & allergy:*". Normalizing leaves only letters, digits and spaces,
+     * so user input can never inject tsquery operators.
+     */
+    private String toPrefixTsQuery(String query) {
+        return Arrays.stream(StringUtils.split(NameMatchUtils.normalize(query)))
+                .distinct()
+                .limit(SEARCH_MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,84 @@
+package com.wedding.backend.wedding_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.ID_ALLOCATION_SIZE;
+
+/**
+ * Moves entity tables from identity columns to the shared "<table>_id_seq" sequences the entities
+ * allocate from in blocks of ID_ALLOCATION_SIZE.
+ *
+ * Runs after Hibernate has updated the schema, so fresh tables exist too. Each table keeps its
+ * current high-water mark: the sequence is set past both the old identity value and MAX(id). The
+ * sequence stays the column default, so JDBC inserts that leave out the id keep working. On the
+ * first start after upgrading, Hibernate still sees the old increment of 1 and allocates one ID at
+ * a time (hibernate.id.sequence.increment_size_mismatch_strategy: fix) until the next restart.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+public class SequenceDatabaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceDatabaseService.class);
+
+    private static final List<String> SEQUENCE_TABLES = List.of(
+            "guests", "family_groups", "family_members", "rsvps", "invitation_codes",
+            "invitation_campaigns", "donations", "registry_settings", "thank_you_templates");
+
+    private static final String MIGRATE_TO_SEQUENCE_SQL = """
+            DO $$
+            DECLARE
+                previous BIGINT := 0;
+            BEGIN
+                IF to_regclass('%1$s') IS NULL THEN
+                    RETURN;
+                END IF;
+
+                IF pg_get_serial_sequence('%1$s', 'id') IS NOT NULL THEN
+                    EXECUTE 'SELECT last_value FROM ' || pg_get_serial_sequence('%1$s', 'id') INTO previous;
+                END IF;
+
+                ALTER TABLE %1$s ALTER COLUMN id DROP IDENTITY IF EXISTS;
+                CREATE SEQUENCE IF NOT EXISTS %1$s_id_seq INCREMENT BY %2$d;
+                ALTER SEQUENCE %1$s_id_seq INCREMENT BY %2$d OWNED BY %1$s.id;
+                PERFORM setval('%1$s_id_seq', GREATEST(previous,
+                                                       (SELECT last_value FROM %1$s_id_seq),
+                                                       (SELECT COALESCE(MAX(id), 0) FROM %1$s),
+                                                       1));
+                ALTER TABLE %1$s ALTER COLUMN id SET DEFAULT nextval('%1$s_id_seq');
+            END $$
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initializeSequences() {
+        log.info("BEGIN - Migrating entity IDs to pooled sequences");
+
+        try {
+            for (String table : SEQUENCE_TABLES) {
+                executeIfNotExists(MIGRATE_TO_SEQUENCE_SQL.formatted(table, ID_ALLOCATION_SIZE));
+            }
+            log.info("END - Entity ID sequences ready for {} tables", SEQUENCE_TABLES.size());
+        } catch (Exception e) {
+            log.error("Error during entity ID sequence migration", e);
+        }
+    }
+
+    private void executeIfNotExists(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            log.debug("Successfully executed SQL statement");
+        } catch (Exception e) {
+            log.warn("Sequence migration statement failed: {}", e.getMessage());
+        }
+    }
+}
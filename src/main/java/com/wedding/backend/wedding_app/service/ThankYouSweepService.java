@@ -0,0 +1,253 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import com.wedding.backend.wedding_app.dao.DonationDao;
+import com.wedding.backend.wedding_app.dao.JobLeaseDao;
+import com.wedding.backend.wedding_app.dto.EmailJobResponseDTO;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.enums.EmailJobStatus;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.email.EmailDispatchResult;
+import com.wedding.backend.wedding_app.model.email.EmailMessage;
+import com.wedding.backend.wedding_app.service.ThankYouTemplateService.CompiledThankYouTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.EMAIL_JOB_HISTORY_SIZE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_SWEEP_JOB_NAME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_SWEEP_LEASE_SECONDS;
+
+/**
+ * Sends thank-you emails for every confirmed donation that doesn't have one yet.
+ *
+ * Runs on a schedule (when enabled) and on demand. Each chunk of the backlog is rendered in parallel,
+ * sent through the batch endpoint and then stamped with one UPDATE. Progress lives in the donations
+ * table itself, so an interrupted sweep simply picks up the remaining backlog next time.
+ */
+@Slf4j
+@Service
+public class ThankYouSweepService {
+
+    private final DonationDao donationDao;
+    private final JobLeaseDao jobLeaseDao;
+    private final EmailService emailService;
+    private final ThankYouTemplateService thankYouTemplateService;
+    private final EmailDispatchService emailDispatchService;
+    private final EmailConfig emailConfig;
+    private final Executor renderExecutor;
+    private final Executor emailJobExecutor;
+
+    // Guards against two sweeps on the same node; the job lease only guards across nodes
+    private final AtomicBoolean sweepRunning = new AtomicBoolean(false);
+
+    // Recent on-demand jobs, kept in memory on the node that ran them
+    private final Map<String, EmailJobResponseDTO> recentJobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, EmailJobResponseDTO> eldest) {
+                    return size() > EMAIL_JOB_HISTORY_SIZE;
+                }
+            });
+
+    public ThankYouSweepService(DonationDao donationDao,
+                                JobLeaseDao jobLeaseDao,
+                                EmailService emailService,
+                                ThankYouTemplateService thankYouTemplateService,
+                                EmailDispatchService emailDispatchService,
+                                EmailConfig emailConfig,
+                                @Qualifier("emailRenderExecutor") Executor renderExecutor,
+                                @Qualifier("emailJobExecutor") Executor emailJobExecutor) {
+        this.donationDao = donationDao;
+        this.jobLeaseDao = jobLeaseDao;
+        this.emailService = emailService;
+        this.thankYouTemplateService = thankYouTemplateService;
+        this.emailDispatchService = emailDispatchService;
+        this.emailConfig = emailConfig;
+        this.renderExecutor = renderExecutor;
+        this.emailJobExecutor = emailJobExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${wedding.email.thank-you-sweep-interval-ms:900000}",
+               initialDelayString = "${wedding.email.thank-you-sweep-interval-ms:900000}")
+    public void scheduledSweep() {
+        if (!emailConfig.isThankYouSweepEnabled()) {
+            log.debug("Donation thank-you sweep is disabled");
+            return;
+        }
+
+        try {
+            runSweep(null);
+        } catch (WeddingAppException e) {
+            log.info("Skipping scheduled thank-you sweep: {}", e.getDetails());
+        }
+    }
+
+    /**
+     * Queue a sweep to run now and return immediately
+     * @return The queued job, whose id can be polled with getJob
+     */
+    public EmailJobResponseDTO startSweepNow() {
+        log.info("BEGIN - Queueing donation thank-you sweep");
+
+        String jobId = UUID.randomUUID().toString();
+        updateJob(EmailJobResponseDTO.builder()
+                .jobId(jobId)
+                .jobName(THANK_YOU_SWEEP_JOB_NAME)
+                .status(EmailJobStatus.QUEUED)
+                .sentCount(0)
+                .failedCount(0)
+                .queuedAt(OffsetDateTime.now())
+                .build());
+
+        try {
+            emailJobExecutor.execute(() -> {
+                try {
+                    runSweep(jobId);
+                } catch (Exception e) {
+                    findJob(jobId).ifPresent(job -> updateJob(job.toBuilder()
+                            .status(EmailJobStatus.FAILED)
+                            .error(Objects.toString(e instanceof WeddingAppException wae ? wae.getDetails() : e.getMessage()))
+                            .completedAt(OffsetDateTime.now())
+                            .build()));
+                }
+            });
+        } catch (TaskRejectedException e) {
+            recentJobs.remove(jobId);
+            throw WeddingAppException.emailJobAlreadyRunning(THANK_YOU_SWEEP_JOB_NAME);
+        }
+
+        log.info("END - Queued donation thank-you sweep with job ID: {}", jobId);
+        return getJob(jobId);
+    }
+
+    /**
+     * Get the status of an on-demand sweep
+     * @param jobId The job ID returned by startSweepNow
+     * @return The job status
+     */
+    public EmailJobResponseDTO getJob(String jobId) {
+        return findJob(jobId).orElseThrow(() -> WeddingAppException.emailJobNotFound(jobId));
+    }
+
+    private void runSweep(String jobId) {
+        if (!sweepRunning.compareAndSet(false, true)) {
+            throw WeddingAppException.emailJobAlreadyRunning(THANK_YOU_SWEEP_JOB_NAME);
+        }
+
+        try {
+            if (!jobLeaseDao.tryAcquire(THANK_YOU_SWEEP_JOB_NAME, THANK_YOU_SWEEP_LEASE_SECONDS)) {
+                throw WeddingAppException.emailJobAlreadyRunning(THANK_YOU_SWEEP_JOB_NAME);
+            }
+
+            try {
+                sweep(jobId);
+            } finally {
+                jobLeaseDao.release(THANK_YOU_SWEEP_JOB_NAME);
+            }
+        } finally {
+            sweepRunning.set(false);
+        }
+    }
+
+    private void sweep(String jobId) {
+        int chunkSize = Math.max(1, emailConfig.getThankYouChunkSize());
+        log.info("STARTED - Donation thank-you sweep (chunk size: {})", chunkSize);
+
+        findJob(jobId).ifPresent(job -> updateJob(job.toBuilder()
+                .status(EmailJobStatus.RUNNING)
+                .startedAt(OffsetDateTime.now())
+                .build()));
+
+        long cursor = 0L;
+        int totalSent = 0;
+        int totalFailed = 0;
+
+        List<DonationEntity> chunk = donationDao.findThankYouBacklogChunk(cursor, chunkSize);
+
+        while (CollectionUtils.isNotEmpty(chunk)) {
+            if (!jobLeaseDao.tryAcquire(THANK_YOU_SWEEP_JOB_NAME, THANK_YOU_SWEEP_LEASE_SECONDS)) {
+                log.warn("Lost thank-you sweep lease, stopping after donation {}", cursor);
+                break;
+            }
+
+            EmailDispatchResult result = emailDispatchService.dispatch(renderChunk(chunk));
+            donationDao.markThankYouSent(result.getSentReferenceIds());
+
+            totalSent += result.getSentCount();
+            totalFailed += chunk.size() - result.getSentCount();
+            cursor = chunk.get(chunk.size() - 1).getId();
+
+            int sent = totalSent;
+            int failed = totalFailed;
+            findJob(jobId).ifPresent(job -> updateJob(job.toBuilder()
+                    .sentCount(sent)
+                    .failedCount(failed)
+                    .build()));
+
+            chunk = donationDao.findThankYouBacklogChunk(cursor, chunkSize);
+        }
+
+        int sent = totalSent;
+        int failed = totalFailed;
+        findJob(jobId).ifPresent(job -> updateJob(job.toBuilder()
+                .status(EmailJobStatus.COMPLETED)
+                .sentCount(sent)
+                .failedCount(failed)
+                .completedAt(OffsetDateTime.now())
+                .build()));
+
+        log.info("COMPLETED - Donation thank-you sweep sent: {}, failed: {}", totalSent, totalFailed);
+    }
+
+    /**
+     * Render the chunk's emails in parallel; donations that fail to render are left out.
+     * The DB template is resolved once per chunk, so template edits apply from the next chunk.
+     */
+    private List<EmailMessage> renderChunk(List<DonationEntity> chunk) {
+        CompiledThankYouTemplate databaseTemplate = thankYouTemplateService.resolveActiveTemplate().orElse(null);
+
+        List<CompletableFuture<EmailMessage>> renders = chunk.stream()
+                .map(donation -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return emailService.buildDonationThankYouEmail(donation, databaseTemplate);
+                    } catch (Exception e) {
+                        log.error("Failed to render thank you email for donation {}", donation.getId(), e);
+                        return null;
+                    }
+                }, renderExecutor))
+                .toList();
+
+        return renders.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Optional<EmailJobResponseDTO> findJob(String jobId) {
+        if (StringUtils.isBlank(jobId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(recentJobs.get(jobId));
+    }
+
+    private void updateJob(EmailJobResponseDTO job) {
+        recentJobs.put(job.getJobId(), job);
+    }
+}
@@ -0,0 +1,132 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.config.EmailConfig;
+import com.wedding.backend.wedding_app.entity.DonationEntity;
+import com.wedding.backend.wedding_app.entity.ThankYouTemplateEntity;
+import com.wedding.backend.wedding_app.model.email.CompiledTemplate;
+import com.wedding.backend.wedding_app.repository.ThankYouTemplateRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.DATE_FORMAT_PATTERN;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_AMOUNT;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_CURRENCY;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_DONATION_DATE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_DONOR_NAME;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_MESSAGE;
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.THANK_YOU_FIELD_PAYMENT_METHOD;
+
+/**
+ * Renders the admin-editable thank-you templates stored in thank_you_templates.
+ * Each template is compiled once and cached by id; the cached copy is replaced as soon as the
+ * row's updated_at changes, so edits take effect on the next email without a restart.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThankYouTemplateService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN);
+
+    private final ThankYouTemplateRepository thankYouTemplateRepository;
+    private final EmailConfig emailConfig;
+
+    private final Map<Long, CompiledThankYouTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * The default DB template, when DB templates are enabled for thank-you emails
+     * @return The compiled default template, or empty to fall back to the Freemarker file template
+     */
+    public Optional<CompiledThankYouTemplate> resolveActiveTemplate() {
+        if (!emailConfig.isDatabaseThankYouTemplateEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            return thankYouTemplateRepository.findDefaultTemplate().map(this::compile);
+        } catch (Exception e) {
+            log.error("Error loading default thank you template, falling back to file template", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Compile a template, reusing the cached copy if the row hasn't changed since it was compiled
+     * @param template The template entity
+     * @return The compiled template
+     */
+    public CompiledThankYouTemplate compile(ThankYouTemplateEntity template) {
+        if (Objects.isNull(template.getId())) {
+            return new CompiledThankYouTemplate(template);
+        }
+
+        return compiledTemplates.compute(template.getId(), (id, cached) -> {
+            if (Objects.nonNull(cached) && Objects.equals(cached.getUpdatedAt(), template.getUpdatedAt())) {
+                return cached;
+            }
+            log.info("Compiling thank you template {} ({}) updated at {}",
+                    id, template.getTemplateName(), template.getUpdatedAt());
+            return new CompiledThankYouTemplate(template);
+        });
+    }
+
+    /**
+     * Placeholder values for a donation
+     * @param donation The donation entity
+     * @return Values by placeholder name
+     */
+    public Map<String, String> buildTemplateValues(DonationEntity donation) {
+        Map<String, String> values = new HashMap<>();
+        values.put(THANK_YOU_FIELD_DONOR_NAME, StringUtils.defaultString(donation.getDonorName()));
+        values.put(THANK_YOU_FIELD_AMOUNT, Objects.nonNull(donation.getAmount()) ? donation.getAmount().toPlainString() : "");
+        values.put(THANK_YOU_FIELD_CURRENCY, StringUtils.defaultString(donation.getCurrency()));
+        values.put(THANK_YOU_FIELD_MESSAGE, StringUtils.defaultString(donation.getMessage()));
+        values.put(THANK_YOU_FIELD_PAYMENT_METHOD,
+                Objects.nonNull(donation.getPaymentMethod()) ? donation.getPaymentMethod().getDisplayName() : "");
+        values.put(THANK_YOU_FIELD_DONATION_DATE,
+                Objects.nonNull(donation.getDonationDate()) ? donation.getDonationDate().format(DATE_FORMATTER) : "");
+        return values;
+    }
+
+    /**
+     * Compiled subject and body of one thank_you_templates row
+     */
+    @Getter
+    public static class CompiledThankYouTemplate {
+        private static final String HTML_PREFIX = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"></head>"
+                + "<body style=\"font-family: Georgia, 'Times New Roman', serif; line-height: 1.6; color: #333; "
+                + "max-width: 600px; margin: 0 auto; padding: 20px;\">";
+        private static final String HTML_SUFFIX = "</body></html>";
+
+        private final Long templateId;
+        private final OffsetDateTime updatedAt;
+        private final CompiledTemplate subject;
+        private final CompiledTemplate htmlBody;
+
+        private CompiledThankYouTemplate(ThankYouTemplateEntity template) {
+            this.templateId = template.getId();
+            this.updatedAt = template.getUpdatedAt();
+            this.subject = CompiledTemplate.compile(template.getSubject(), false);
+            this.htmlBody = CompiledTemplate.compile(template.getEmailBody(), true).wrap(HTML_PREFIX, HTML_SUFFIX);
+        }
+
+        public String renderSubject(Map<String, String> values) {
+            return subject.render(values);
+        }
+
+        public String renderHtml(Map<String, String> values) {
+            return htmlBody.render(values);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.wedding.backend.wedding_app.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding negotiation for responses the application compresses itself (e.g. the ledger export).
+ *
+ * Codings are weighed by their q-value: "gzip;q=0" refuses gzip, and a "*" entry only applies when gzip
+ * isn't listed explicitly. A malformed q-value counts as 0.
+ */
+public final class AcceptEncodings {
+
+    private AcceptEncodings() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Whether the client accepts a gzip-encoded response
+     * @param acceptEncoding The Accept-Encoding header value (may be null)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        Double gzipWeight = null;
+        Double wildcardWeight = null;
+
+        for (String entry : StringUtils.split(StringUtils.defaultString(acceptEncoding), ',')) {
+            String[] parts = StringUtils.split(entry, ';');
+            if (parts.length == 0) {
+                continue;
+            }
+
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double weight = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (StringUtils.startsWithIgnoreCase(parameter, "q=")) {
+                    weight = NumberUtils.toDouble(parameter.substring(2).trim(), 0.0);
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipWeight = Math.max(weight, gzipWeight == null ? 0.0 : gzipWeight);
+            } else if (coding.equals("*")) {
+                wildcardWeight = weight;
+            }
+        }
+
+        if (gzipWeight != null) {
+            return gzipWeight > 0.0;
+        }
+        return wildcardWeight != null && wildcardWeight > 0.0;
+    }
+}
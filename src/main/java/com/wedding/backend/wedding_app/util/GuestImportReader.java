@@ -0,0 +1,247 @@
+package com.wedding.backend.wedding_app.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wedding.backend.wedding_app.enums.GuestImportType;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.guest.GuestImportGroup;
+import com.wedding.backend.wedding_app.model.request.FamilyMemberRequest;
+import com.wedding.backend.wedding_app.model.request.GuestRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads guest import files into family groups, without loading the raw file into memory.
+ *
+ * JSON files use the scripts/testing/guest-setup-template.json layout ({"familyGroups": [...]}, or just
+ * the array); each group is parsed as it is reached. A plain guest object (mockdata/guests-data.json)
+ * is read as a solo guest. CSV files have one person per line; lines sharing a
+ * group_name form one group, whose primary contact is the line with role "primary" (or the first line).
+ * Lines without a group_name are solo guests. Problems with a single entry are recorded on that entry
+ * so the whole file can be reported on at once; only an unreadable file is rejected outright.
+ */
+public final class GuestImportReader {
+
+    private static final String ROLE_PRIMARY = "primary";
+
+    private GuestImportReader() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static List<GuestImportGroup> readJson(InputStream input, ObjectMapper objectMapper, int maxGroups) throws IOException {
+        List<GuestImportGroup> groups = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME && !"familyGroups".equals(parser.currentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+                token = token == JsonToken.FIELD_NAME ? parser.nextToken() : null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw WeddingAppException.validationError("file - expected a familyGroups array");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (groups.size() >= maxGroups) {
+                    throw WeddingAppException.validationError("file - cannot import more than " + maxGroups + " groups at once");
+                }
+                groups.add(toGroup(groups.size() + 1, objectMapper.readTree(parser)));
+            }
+        }
+
+        return groups;
+    }
+
+    public static List<GuestImportGroup> readCsv(Reader input, int maxGroups) throws IOException {
+        Map<String, GuestImportGroup> namedGroups = new LinkedHashMap<>();
+        List<GuestImportGroup> groups = new ArrayList<>();
+
+        try (BufferedReader reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input)) {
+            String headerLine = reader.readLine();
+            if (StringUtils.isBlank(headerLine)) {
+                throw WeddingAppException.validationError("file - missing CSV header line");
+            }
+
+            List<String> headers = PaymentStatementReader.parseCsvLine(headerLine).stream()
+                    .map(header -> StringUtils.strip(header, " \uFEFF").toLowerCase(Locale.ROOT).replaceAll("[^a-z]", ""))
+                    .toList();
+            if (!headers.contains("firstname") || !headers.contains("lastname")) {
+                throw WeddingAppException.validationError("file - CSV header must include first_name and last_name");
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (StringUtils.isBlank(line)) {
+                    continue;
+                }
+
+                List<String> fields = PaymentStatementReader.parseCsvLine(line);
+                String groupName = field(headers, fields, "groupname");
+                String key = NameMatchUtils.normalize(groupName);
+
+                GuestImportGroup group = key.isEmpty() ? null : namedGroups.get(key);
+                if (group == null) {
+                    if (groups.size() >= maxGroups) {
+                        throw WeddingAppException.validationError("file - cannot import more than " + maxGroups + " groups at once");
+                    }
+                    group = GuestImportGroup.builder()
+                            .row(lineNumber)
+                            .groupName(StringUtils.trimToNull(groupName))
+                            .build();
+                    groups.add(group);
+                    if (!key.isEmpty()) {
+                        namedGroups.put(key, group);
+                    }
+                }
+
+                addCsvLine(group, lineNumber, headers, fields);
+            }
+        }
+
+        groups.forEach(GuestImportReader::resolveCsvType);
+        return groups;
+    }
+
+    private static GuestImportGroup toGroup(int row, JsonNode node) {
+        GuestImportGroup group = GuestImportGroup.builder()
+                .row(row)
+                .groupName(StringUtils.trimToNull(node.path("groupName").asText(null)))
+                .build();
+
+        String type = node.path("type").asText("");
+        String maxAttendees = node.path("maxAttendees").asText("");
+        group.setType(parseType(type, group, ""));
+        group.setMaxAttendees(parseMaxAttendees(maxAttendees, group, ""));
+
+        JsonNode contact = node.has("primaryContact") ? node.path("primaryContact") : node;
+        if (contact.isObject() && contact.has("firstName")) {
+            group.setPrimaryContact(GuestRequest.builder()
+                    .firstName(StringUtils.trimToNull(contact.path("firstName").asText(null)))
+                    .lastName(StringUtils.trimToNull(contact.path("lastName").asText(null)))
+                    .email(StringUtils.trimToNull(contact.path("email").asText(null)))
+                    .phone(StringUtils.trimToNull(contact.path("phone").asText(null)))
+                    .plusOneAllowed(contact.path("plusOneAllowed").asBoolean(false))
+                    .build());
+        }
+
+        for (JsonNode member : node.path("familyMembers")) {
+            group.getFamilyMembers().add(FamilyMemberRequest.builder()
+                    .firstName(StringUtils.trimToNull(member.path("firstName").asText(null)))
+                    .lastName(StringUtils.trimToEmpty(member.path("lastName").asText(null)))
+                    .ageGroup(StringUtils.trimToNull(member.path("ageGroup").asText(null)))
+                    .dietaryRestrictions(StringUtils.trimToNull(member.path("dietaryRestrictions").asText(null)))
+                    .isAttending(member.path("isAttending").asBoolean(false))
+                    .build());
+        }
+
+        if (group.getType() == null) {
+            group.setType(defaultType(group));
+        }
+        return group;
+    }
+
+    private static void addCsvLine(GuestImportGroup group, int lineNumber, List<String> headers, List<String> fields) {
+        String linePrefix = "line " + lineNumber + ": ";
+
+        GuestImportType type = parseType(field(headers, fields, "type"), group, linePrefix);
+        if (type != null && group.getType() == null) {
+            group.setType(type);
+        }
+        Integer maxAttendees = parseMaxAttendees(field(headers, fields, "maxattendees"), group, linePrefix);
+        if (maxAttendees != null && group.getMaxAttendees() == null) {
+            group.setMaxAttendees(maxAttendees);
+        }
+
+        String firstName = StringUtils.trimToNull(field(headers, fields, "firstname"));
+        String lastName = StringUtils.trimToEmpty(field(headers, fields, "lastname"));
+        boolean primary = ROLE_PRIMARY.equalsIgnoreCase(field(headers, fields, "role"));
+
+        if (group.getPrimaryContact() == null && (primary || StringUtils.isBlank(field(headers, fields, "role")))) {
+            group.setPrimaryContact(GuestRequest.builder()
+                    .firstName(firstName)
+                    .lastName(StringUtils.trimToNull(lastName))
+                    .email(StringUtils.trimToNull(field(headers, fields, "email")))
+                    .phone(StringUtils.trimToNull(field(headers, fields, "phone")))
+                    .plusOneAllowed(isTrue(field(headers, fields, "plusoneallowed")))
+                    .build());
+            return;
+        }
+        if (primary) {
+            group.getErrors().add(linePrefix + "group already has a primary contact");
+            return;
+        }
+
+        group.getFamilyMembers().add(FamilyMemberRequest.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .ageGroup(StringUtils.trimToNull(field(headers, fields, "agegroup")))
+                .dietaryRestrictions(StringUtils.trimToNull(field(headers, fields, "dietaryrestrictions")))
+                .isAttending(isTrue(field(headers, fields, "isattending")))
+                .build());
+    }
+
+    private static void resolveCsvType(GuestImportGroup group) {
+        if (group.getType() == null) {
+            group.setType(defaultType(group));
+        }
+    }
+
+    private static GuestImportType defaultType(GuestImportGroup group) {
+        if (group.getGroupName() == null && group.getFamilyMembers().isEmpty()) {
+            return GuestImportType.SOLO;
+        }
+        return group.getFamilyMembers().size() == 1 ? GuestImportType.PLUS_ONE : GuestImportType.FAMILY;
+    }
+
+    private static GuestImportType parseType(String raw, GuestImportGroup group, String errorPrefix) {
+        if (StringUtils.isBlank(raw)) {
+            return null;
+        }
+        try {
+            return GuestImportType.valueOf(raw.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            group.getErrors().add(errorPrefix + "unknown type '" + raw + "' (expected SOLO, PLUS_ONE or FAMILY)");
+            return null;
+        }
+    }
+
+    private static Integer parseMaxAttendees(String raw, GuestImportGroup group, String errorPrefix) {
+        if (StringUtils.isBlank(raw)) {
+            return null;
+        }
+        if (!NumberUtils.isDigits(raw.trim())) {
+            group.getErrors().add(errorPrefix + "maxAttendees '" + raw + "' is not a whole number");
+            return null;
+        }
+        return NumberUtils.toInt(raw.trim(), Integer.MAX_VALUE);
+    }
+
+    private static boolean isTrue(String raw) {
+        return StringUtils.equalsAnyIgnoreCase(StringUtils.trim(raw), "true", "yes", "y", "1");
+    }
+
+    private static String field(List<String> headers, List<String> fields, String header) {
+        int column = headers.indexOf(header);
+        if (column < 0 || column >= fields.size()) {
+            return "";
+        }
+        return StringUtils.trimToEmpty(fields.get(column));
+    }
+}
@@ -0,0 +1,65 @@
+package com.wedding.backend.wedding_app.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes a JSON array one element at a time, as the elements are read.
+ *
+ * Each element goes through the generator as soon as the source hands it over, and the generator is
+ * flushed every flushEvery elements (not after each one, which is ObjectWriter's default), so the first
+ * bytes leave early and memory use stays at one fetch of rows however long the list is.
+ */
+public final class JsonArrayStreams {
+
+    private JsonArrayStreams() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Element writer for writeArray, without the flush after every element
+     */
+    public static ObjectWriter elementWriter(ObjectMapper objectMapper, Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @param output Response stream; left open
+     * @param elementWriter Writer from elementWriter(...), optionally with filters
+     * @param flushEvery Flush the generator after this many elements
+     * @param source Calls the given consumer once per element, in order, and returns how many it read
+     * @return Number of elements written
+     * @throws UncheckedIOException from inside the source when the client goes away
+     */
+    public static <T> long writeArray(OutputStream output, ObjectMapper objectMapper, ObjectWriter elementWriter,
+                                      int flushEvery, ToLongFunction<Consumer<T>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            long[] written = {0L};
+            source.applyAsLong(element -> {
+                try {
+                    elementWriter.writeValue(generator, element);
+                    if (++written[0] % flushEvery == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+            generator.flush();
+            return written[0];
+        }
+    }
+}
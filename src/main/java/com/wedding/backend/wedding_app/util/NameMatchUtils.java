@@ -0,0 +1,225 @@
+package com.wedding.backend.wedding_app.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers for comparing people's names typed in different places (forms, bank statements, imports)
+ */
+public final class NameMatchUtils {
+
+    private NameMatchUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Lower-case, strip accents and punctuation, collapse whitespace: "  José  O'Neil" -> "jose oneil"
+     */
+    public static String normalize(String name) {
+        if (StringUtils.isBlank(name)) {
+            return "";
+        }
+
+        String stripped = StringUtils.stripAccents(name).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(stripped.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && out.length() > 0) {
+                    out.append(' ');
+                }
+                out.append(c);
+                pendingSpace = false;
+            } else if (Character.isWhitespace(c) || c == '-' || c == '_' || c == '.') {
+                pendingSpace = true;
+            }
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Normalize a payment reference or handle for exact comparison: letters and digits only
+     */
+    public static String normalizeReference(String reference) {
+        if (StringUtils.isBlank(reference)) {
+            return "";
+        }
+
+        StringBuilder out = new StringBuilder(reference.length());
+        for (int i = 0; i < reference.length(); i++) {
+            char c = Character.toLowerCase(reference.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Dice coefficient over character bigrams of the normalized names, ignoring word order
+     * ("Smith John" vs "John Smith" scores 1.0). Returns a value between 0 and 1.
+     */
+    public static double similarity(String first, String second) {
+        String a = sortedTokens(normalize(first));
+        String b = sortedTokens(normalize(second));
+
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.length() < 2 || b.length() < 2) {
+            return 0.0;
+        }
+
+        Map<Integer, Integer> bigrams = new HashMap<>();
+        for (int i = 0; i < a.length() - 1; i++) {
+            bigrams.merge(bigram(a, i), 1, Integer::sum);
+        }
+
+        int shared = 0;
+        for (int i = 0; i < b.length() - 1; i++) {
+            Integer count = bigrams.get(bigram(b, i));
+            if (count != null && count > 0) {
+                shared++;
+                bigrams.put(bigram(b, i), count - 1);
+            }
+        }
+
+        return (2.0 * shared) / ((a.length() - 1) + (b.length() - 1));
+    }
+
+    /**
+     * pg_trgm-style trigrams of an already normalized name: each word is padded with two leading
+     * spaces and one trailing space, so "jon" gives "  j", " jo", "jon" and "on ".
+     */
+    public static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (StringUtils.isEmpty(normalized)) {
+            return trigrams;
+        }
+
+        for (String token : StringUtils.split(normalized, ' ')) {
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Edit similarity of two normalized names, ignoring word order. Uses the optimal string alignment
+     * distance, so a swapped pair of letters ("jhon") costs one edit. Returns a value between 0 and 1.
+     */
+    public static double editSimilarity(String first, String second) {
+        String a = sortedTokens(first);
+        String b = sortedTokens(second);
+
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.equals(b)) {
+            return 1.0;
+        }
+
+        return 1.0 - (double) editDistance(a, b) / Math.max(a.length(), b.length());
+    }
+
+    /**
+     * Soundex code of one normalized word ("smith" and "smyth" both give "S530"), or "" when it has no letters
+     */
+    public static String phoneticCode(String token) {
+        if (StringUtils.isEmpty(token)) {
+            return "";
+        }
+
+        StringBuilder code = new StringBuilder(4);
+        char previous = 0;
+
+        for (int i = 0; i < token.length() && code.length() < 4; i++) {
+            char c = token.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+
+            char digit = soundexDigit(c);
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(c));
+            } else if (digit != '0' && digit != previous) {
+                code.append(digit);
+            }
+
+            // h and w don't separate letters with the same code; vowels do
+            if (c != 'h' && c != 'w') {
+                previous = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    private static char soundexDigit(char c) {
+        return switch (c) {
+            case 'b', 'f', 'p', 'v' -> '1';
+            case 'c', 'g', 'j', 'k', 'q', 's', 'x', 'z' -> '2';
+            case 'd', 't' -> '3';
+            case 'l' -> '4';
+            case 'm', 'n' -> '5';
+            case 'r' -> '6';
+            default -> '0';
+        };
+    }
+
+    private static int editDistance(String a, String b) {
+        int[][] distance = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            distance[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            distance[0][j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                distance[i][j] = Math.min(Math.min(distance[i - 1][j] + 1, distance[i][j - 1] + 1),
+                        distance[i - 1][j - 1] + cost);
+
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance[i][j] = Math.min(distance[i][j], distance[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distance[a.length()][b.length()];
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static String sortedTokens(String normalized) {
+        if (normalized.indexOf(' ') < 0) {
+            return normalized;
+        }
+        String[] tokens = StringUtils.split(normalized, ' ');
+        Arrays.sort(tokens);
+        return String.join(" ", tokens);
+    }
+}
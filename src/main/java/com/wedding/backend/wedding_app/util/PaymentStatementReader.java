@@ -0,0 +1,198 @@
+package com.wedding.backend.wedding_app.util;
+
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import com.wedding.backend.wedding_app.model.registry.StatementLine;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams incoming payments out of a Venmo or Zelle (bank) CSV statement, one line at a time.
+ *
+ * Columns are found by header name, so the usual export layouts work without configuration.
+ * Preamble lines before the header (Venmo adds account info) are skipped, as are outgoing
+ * payments, non-completed transactions and lines without a usable amount.
+ * Quoted fields may contain commas and doubled quotes but not line breaks.
+ */
+public final class PaymentStatementReader implements Closeable {
+
+    private static final int MAX_PREAMBLE_LINES = 25;
+
+    private static final List<String> REFERENCE_HEADERS = List.of("id", "transaction id", "reference", "reference number",
+            "confirmation number", "confirmation");
+    private static final List<String> AMOUNT_HEADERS = List.of("amount (total)", "amount", "amount (net)", "credit");
+    private static final List<String> NAME_HEADERS = List.of("from", "sender", "sender name", "name", "description");
+    private static final List<String> NOTE_HEADERS = List.of("note", "memo", "message");
+    private static final List<String> DATE_HEADERS = List.of("datetime", "date", "transaction date", "posting date");
+    private static final List<String> STATUS_HEADERS = List.of("status");
+    private static final List<String> COMPLETED_STATUSES = List.of("", "complete", "completed", "posted", "settled");
+
+    private final BufferedReader reader;
+    private int lineNumber = 0;
+    private int linesSkipped = 0;
+    private int linesRead = 0;
+
+    private int referenceColumn = -1;
+    private int amountColumn = -1;
+    private int nameColumn = -1;
+    private int noteColumn = -1;
+    private int dateColumn = -1;
+    private int statusColumn = -1;
+
+    public PaymentStatementReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        readHeader();
+    }
+
+    /**
+     * Read the next incoming payment
+     * @return The next statement line, or null at end of file
+     */
+    public StatementLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+
+            linesRead++;
+            List<String> fields = parseCsvLine(line);
+
+            String status = field(fields, statusColumn).toLowerCase(Locale.ROOT);
+            BigDecimal amount = parseAmount(field(fields, amountColumn));
+
+            if (!COMPLETED_STATUSES.contains(status) || amount == null || amount.signum() <= 0) {
+                linesSkipped++;
+                continue;
+            }
+
+            return new StatementLine(lineNumber,
+                    field(fields, referenceColumn),
+                    field(fields, nameColumn),
+                    field(fields, noteColumn),
+                    field(fields, dateColumn),
+                    amount);
+        }
+        return null;
+    }
+
+    public int getLinesRead() {
+        return linesRead;
+    }
+
+    public int getLinesSkipped() {
+        return linesSkipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null && lineNumber < MAX_PREAMBLE_LINES) {
+            lineNumber++;
+            List<String> headers = parseCsvLine(line).stream()
+                    .map(header -> StringUtils.strip(header, " \uFEFF").toLowerCase(Locale.ROOT))
+                    .toList();
+
+            amountColumn = findColumn(headers, AMOUNT_HEADERS);
+            nameColumn = findColumn(headers, NAME_HEADERS);
+            referenceColumn = findColumn(headers, REFERENCE_HEADERS);
+
+            if (amountColumn >= 0 && (nameColumn >= 0 || referenceColumn >= 0)) {
+                noteColumn = findColumn(headers, NOTE_HEADERS);
+                dateColumn = findColumn(headers, DATE_HEADERS);
+                statusColumn = findColumn(headers, STATUS_HEADERS);
+                return;
+            }
+        }
+
+        throw WeddingAppException.validationError(
+                "file - no statement header found (expected an Amount column and a From/Name or ID/Reference column)");
+    }
+
+    private static int findColumn(List<String> headers, List<String> aliases) {
+        for (String alias : aliases) {
+            int index = headers.indexOf(alias);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return "";
+        }
+        return StringUtils.trimToEmpty(fields.get(column));
+    }
+
+    /**
+     * Parse amounts such as "+ $1,250.00", "-$20", "(20.00)" or "50"; null when not a number
+     */
+    static BigDecimal parseAmount(String raw) {
+        if (StringUtils.isBlank(raw)) {
+            return null;
+        }
+
+        boolean negative = raw.contains("-") || (raw.contains("(") && raw.contains(")"));
+        StringBuilder digits = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (Character.isDigit(c) || c == '.') {
+                digits.append(c);
+            }
+        }
+
+        if (digits.isEmpty()) {
+            return null;
+        }
+
+        try {
+            BigDecimal amount = new BigDecimal(digits.toString());
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,98 @@
+package com.wedding.backend.wedding_app.util;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.wedding.backend.wedding_app.exception.WeddingAppException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.SPARSE_FIELDSET_CACHE_SIZE;
+
+/**
+ * fields= sparse fieldsets for DTOs annotated with @JsonFilter.
+ *
+ * The requested names are checked against the DTO's properties, sorted and turned into a Jackson filter
+ * provider that is cached per distinct selection, so repeat requests reuse it and Jackson's own cached
+ * serializers. "id" is always written. Without fields= every property is written (see JacksonConfig).
+ */
+public final class SparseFieldsets {
+
+    private static final String ALWAYS_INCLUDED = "id";
+
+    private static final Map<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+    private static final Map<String, FilterProvider> FILTERS = new ConcurrentHashMap<>();
+
+    private SparseFieldsets() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Wrap a response body so that only the requested properties of the given DTO type are written
+     * @param body Response body; the DTO may be nested (e.g. in a CursorPageDTO)
+     * @param type DTO class carrying @JsonFilter(filterId)
+     * @param filterId Filter ID on the DTO
+     * @param fields Comma-separated property names, or blank for all of them
+     */
+    public static MappingJacksonValue select(Object body, Class<?> type, String filterId, String fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        FilterProvider filters = filters(type, filterId, fields);
+        if (filters != null) {
+            value.setFilters(filters);
+        }
+        return value;
+    }
+
+    /**
+     * The filter provider for a fields= selection, for writers that don't go through MappingJacksonValue
+     * @return The cached provider, or null when fields is blank
+     */
+    public static FilterProvider filters(Class<?> type, String filterId, String fields) {
+        if (StringUtils.isBlank(fields)) {
+            return null;
+        }
+
+        Set<String> properties = PROPERTIES.computeIfAbsent(type, SparseFieldsets::propertiesOf);
+        Set<String> selected = Arrays.stream(StringUtils.split(fields, ','))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toCollection(TreeSet::new));
+        selected.add(ALWAYS_INCLUDED);
+
+        Set<String> unknown = selected.stream().filter(name -> !properties.contains(name))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!unknown.isEmpty()) {
+            throw WeddingAppException.invalidParameter("fields contains unknown field(s): " + String.join(", ", unknown)
+                    + " (expected any of: " + String.join(", ", properties) + ")");
+        }
+
+        String key = filterId + ":" + String.join(",", selected);
+        FilterProvider filters = FILTERS.get(key);
+        if (filters == null) {
+            filters = new SimpleFilterProvider()
+                    .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                    .addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(selected));
+            // Only the selections actually in use get cached; past the cap new ones are built per request
+            if (FILTERS.size() < SPARSE_FIELDSET_CACHE_SIZE) {
+                FILTERS.putIfAbsent(key, filters);
+            }
+        }
+        return filters;
+    }
+
+    private static Set<String> propertiesOf(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,53 @@
+package com.wedding.backend.wedding_app.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * HMAC-SHA256 signatures for payment webhooks. The signed content is "{timestamp}.{body}",
+ * so a captured request can't be replayed with a fresh timestamp.
+ */
+public final class WebhookSignatureUtils {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private WebhookSignatureUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Sign a webhook body
+     * @return The signature header value, "sha256=" followed by the hex digest
+     */
+    public static String sign(String secret, String timestamp, String body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] digest = mac.doFinal((timestamp + "." + body).getBytes(StandardCharsets.UTF_8));
+            return SIGNATURE_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * Check a signature header in constant time; the "sha256=" prefix is optional
+     */
+    public static boolean verify(String secret, String timestamp, String body, String signature) {
+        if (StringUtils.isAnyBlank(secret, timestamp, signature) || body == null) {
+            return false;
+        }
+
+        String provided = StringUtils.prependIfMissing(signature.trim().toLowerCase(Locale.ROOT), SIGNATURE_PREFIX);
+        String expected = sign(secret, timestamp, body);
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), provided.getBytes(StandardCharsets.UTF_8));
+    }
+}
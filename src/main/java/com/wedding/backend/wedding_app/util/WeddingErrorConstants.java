@@ -13,6 +13,7 @@ public final class WeddingErrorConstants {
     public static final String GUEST_NOT_FOUND = "GUEST_NOT_FOUND";
     public static final String GUEST_NAME_NOT_FOUND = "GUEST_NAME_NOT_FOUND";
     public static final String RSVP_NOT_FOUND = "RSVP_NOT_FOUND";
+    public static final String DONATION_NOT_FOUND = "DONATION_NOT_FOUND";
     public static final String ENTITY_NOT_FOUND = "ENTITY_NOT_FOUND";
     public static final String ERROR_KEY_NOT_FOUND = "ERROR_KEY_NOT_FOUND";
     
@@ -20,11 +21,14 @@ public final class WeddingErrorConstants {
     public static final String GUEST_ALREADY_EXISTS = "GUEST_ALREADY_EXISTS";
     public static final String RSVP_ALREADY_SUBMITTED = "RSVP_ALREADY_SUBMITTED";
     public static final String ERROR_KEY_ALREADY_EXISTS = "ERROR_KEY_ALREADY_EXISTS";
+    public static final String DUPLICATE_DONATION = "DUPLICATE_DONATION";
+    public static final String FAMILY_GROUP_FULL = "FAMILY_GROUP_FULL";
 
     // Bad Request errors (400)
     public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
     public static final String INVALID_PARAMETER = "INVALID_PARAMETER";
     public static final String MISSING_PARAMETER = "MISSING_PARAMETER";
+    public static final String UNSUPPORTED_CURRENCY = "UNSUPPORTED_CURRENCY";
     
     // Unauthorized (401)
     public static final String UNAUTHORIZED = "UNAUTHORIZED";
@@ -39,5 +43,16 @@ public final class WeddingErrorConstants {
     public static final String USED_INVITATION_CODE = "USED_INVITATION_CODE";
     public static final String INVITATION_CODE_CREATION_ERROR = "INVITATION_CODE_CREATION_ERROR";
 
+    // Invitation campaign errors
+    public static final String CAMPAIGN_NOT_FOUND = "CAMPAIGN_NOT_FOUND";
+    public static final String INVALID_CAMPAIGN_STATE = "INVALID_CAMPAIGN_STATE";
+
+    // Background email job errors
+    public static final String EMAIL_JOB_NOT_FOUND = "EMAIL_JOB_NOT_FOUND";
+    public static final String EMAIL_JOB_ALREADY_RUNNING = "EMAIL_JOB_ALREADY_RUNNING";
+
+    // Payment webhook errors
+    public static final String INVALID_WEBHOOK_SIGNATURE = "INVALID_WEBHOOK_SIGNATURE";
+
     public static final String FAMILY_MEMBER_GUEST_NOT_ELIGIBLE = "familyMembers - guest not in family group and not plus-one eligible";
 }
\ No newline at end of file
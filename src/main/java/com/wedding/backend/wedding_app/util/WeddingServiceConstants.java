@@ -2,6 +2,9 @@ package com.wedding.backend.wedding_app.util;
 
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Set;
+
 @Component
 public class WeddingServiceConstants {
 
@@ -97,6 +100,7 @@ public class WeddingServiceConstants {
     public static final String EMAIL_FIELD_DONOR_EMAIL = "donorEmail";
     public static final String EMAIL_FIELD_DONOR_PHONE = "donorPhone";
     public static final String EMAIL_FIELD_DONATION_AMOUNT = "donationAmount";
+    public static final String EMAIL_FIELD_DONATION_CURRENCY_SYMBOL = "donationCurrencySymbol";
     public static final String EMAIL_FIELD_PAYMENT_METHOD = "paymentMethod";
     public static final String EMAIL_FIELD_PAYMENT_REFERENCE = "paymentReference";
     public static final String EMAIL_FIELD_DONATION_MESSAGE = "donationMessage";
@@ -119,4 +123,134 @@ public class WeddingServiceConstants {
     public static final String QR_CODE_DEFAULT_FILENAME = "qrcode";
     public static final String QR_CODE_ATTACHMENT_HEADER = "attachment";
 
+    // Invitation campaign email
+    public static final String INVITATION_TEMPLATE = "email/invitation.ftlh";
+    public static final String INVITATION_SUBJECT = "You're invited to our wedding!";
+    public static final String INVITATION_QR_CODE_FILENAME = "invitation-qrcode.png";
+    public static final String EMAIL_FIELD_INVITATION_CODE = "invitationCode";
+    public static final String EMAIL_FIELD_RSVP_URL = "rsvpUrl";
+    public static final String EMAIL_FIELD_HAS_QR_CODE = "hasQrCode";
+    public static final String INVITATION_CODE_TYPE_PRIMARY = "PRIMARY";
+    // Per-campaign runner lease: job name is the prefix plus the campaign id, renewed before every chunk
+    public static final String CAMPAIGN_LEASE_JOB_PREFIX = "invitation-campaign-";
+    public static final long CAMPAIGN_LEASE_SECONDS = 600L;
+
+    // RSVP reminder email
+    public static final String REMINDER_TEMPLATE = "email/rsvp-reminder.ftlh";
+    public static final String REMINDER_SUBJECT = "Reminder: Please RSVP for our wedding";
+    public static final String REMINDER_JOB_NAME = "rsvp-reminders";
+    public static final long REMINDER_LEASE_SECONDS = 600L;
+
+    // Bulk email pipeline
+    public static final String EMAIL_TYPE_INVITATION = "invitation";
+    public static final String EMAIL_TYPE_RSVP_REMINDER = "rsvp-reminder";
+    public static final String EMAIL_TYPE_DONATION_THANK_YOU = "donation-thank-you";
+    public static final String EMAIL_TYPE_RSVP_CONFIRMATION = "rsvp-confirmation";
+    public static final String EMAIL_TYPE_ADMIN_NOTIFICATION = "admin-rsvp-notification";
+    public static final String EMAIL_TYPE_DONATION_CONFIRMATION = "donation-confirmation";
+
+    // DB thank-you template placeholders ({donorName}, {amount}, ...)
+    public static final String THANK_YOU_FIELD_DONOR_NAME = "donorName";
+    public static final String THANK_YOU_FIELD_AMOUNT = "amount";
+    public static final String THANK_YOU_FIELD_CURRENCY = "currency";
+    public static final String THANK_YOU_FIELD_MESSAGE = "message";
+    public static final String THANK_YOU_FIELD_PAYMENT_METHOD = "paymentMethod";
+    public static final String THANK_YOU_FIELD_DONATION_DATE = "donationDate";
+
+    // Donation thank-you sweeper
+    public static final String THANK_YOU_SWEEP_JOB_NAME = "donation-thank-you-sweep";
+    public static final long THANK_YOU_SWEEP_LEASE_SECONDS = 600L;
+    public static final int EMAIL_JOB_HISTORY_SIZE = 50;
+    public static final int RESEND_BATCH_MAX_SIZE = 100;
+
+    // Donation analytics
+    public static final int DONATION_ANALYTICS_MAX_BUCKETS = 366;
+    public static final int DONATION_ANALYTICS_MAX_CACHED_BUCKETS = 5000;
+
+    // Currencies: donations are stored as given and normalized to the base currency at write time
+    public static final String DONATION_BASE_CURRENCY = "USD";
+    public static final String CURRENCY_CODE_PATTERN = "[A-Z]{3}";
+    public static final int FX_RATE_SCALE = 8;
+
+    // Donation ledger export
+    public static final int LEDGER_EXPORT_FETCH_SIZE = 500;
+    public static final int LEDGER_EXPORT_BUFFER_SIZE = 64 * 1024;
+    public static final String LEDGER_EXPORT_FILE_NAME = "donation-ledger";
+
+    // Repeat submissions of the same email and amount inside this window return the original donation
+    public static final Duration DONATION_DUPLICATE_WINDOW = Duration.ofHours(1);
+    public static final String DONATION_DEDUPE_INDEX = "idx_donations_dedupe_hash";
+
+    // Payment statement reconciliation
+    public static final int DONATION_UPDATE_BATCH_SIZE = 500;
+    public static final double RECONCILIATION_REFERENCE_MISMATCH_CONFIDENCE = 0.6;
+    public static final int RECONCILIATION_MIN_REFERENCE_LENGTH = 4;
+
+    // Bulk deletes
+    public static final int BULK_DELETE_MAX_IDS = 500;
+
+    // Keyset-paged admin lists
+    public static final int PAGE_MAX_LIMIT = 200;
+
+    // Sparse fieldsets (fields=) on admin read models
+    public static final String GUEST_FIELDS_FILTER = "guestFields";
+    public static final int SPARSE_FIELDSET_CACHE_SIZE = 256;
+
+    // Streamed (unpaged) admin lists: rows per cursor fetch, also how often the response is flushed
+    public static final int LIST_STREAM_FETCH_SIZE = 500;
+
+    // Entity IDs: sequence increment and Hibernate pooled allocation size (keep hibernate.jdbc.batch_size in step)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Bulk guest import
+    public static final int GUEST_IMPORT_BATCH_SIZE = 500;
+    public static final int GUEST_IMPORT_MAX_GROUPS = 10000;
+    public static final Set<String> FAMILY_MEMBER_AGE_GROUPS = Set.of("adult", "child", "infant");
+    public static final String FAMILY_MEMBER_DEFAULT_AGE_GROUP = "adult";
+
+    // Full-text search
+    public static final int SEARCH_MAX_PAGE_SIZE = 100;
+    public static final int SEARCH_MAX_TERMS = 10;
+
+    // In-memory guest name index (typeahead and "did you mean")
+    public static final int NAME_TYPEAHEAD_MAX_LIMIT = 25;
+    public static final int NAME_QUERY_MAX_LENGTH = 100;
+    public static final int NAME_SUGGESTION_LIMIT = 3;
+    public static final double NAME_MATCH_MIN_SCORE = 0.35;
+
+    // Guest duplicate finder: blocks larger than this are split by first initial; phones need this many digits
+    public static final int GUEST_DEDUPE_MAX_BLOCK_SIZE = 50;
+    public static final int GUEST_DEDUPE_MIN_PHONE_DIGITS = 7;
+    public static final int GUEST_DEDUPE_MAX_LIMIT = 500;
+
+    // Payment webhooks
+    public static final String WEBHOOK_SIGNATURE_HEADER = "X-Webhook-Signature";
+    public static final String WEBHOOK_TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+    public static final String WEBHOOK_EVENT_PAYMENT_COMPLETED = "payment.completed";
+    public static final String WEBHOOK_PROVIDER_PATTERN = "[a-z0-9_-]{1,50}";
+    public static final int WEBHOOK_EVENT_ID_MAX_LENGTH = 200;
+
+    // Email delivery metrics (exposed under /actuator/metrics)
+    public static final String METRIC_EMAIL_RENDER = "wedding.email.render";
+    public static final String METRIC_EMAIL_PAYLOAD_SIZE = "wedding.email.payload.size";
+    public static final String METRIC_EMAIL_PROVIDER_REQUESTS = "wedding.email.provider.requests";
+    public static final String METRIC_EMAIL_PROVIDER_THROTTLE = "wedding.email.provider.throttle";
+    public static final String METRIC_EMAIL_PROVIDER_RETRIES = "wedding.email.provider.retries";
+    public static final String METRIC_EMAIL_OUTCOME = "wedding.email.outcome";
+    public static final String METRIC_EXECUTOR_QUEUE_WAIT = "wedding.executor.queue.wait";
+    public static final String METRIC_EXECUTOR_REJECTED = "wedding.executor.rejected";
+    public static final String METRIC_TAG_TYPE = "type";
+    public static final String METRIC_TAG_RESULT = "result";
+    public static final String METRIC_TAG_OUTCOME = "outcome";
+    public static final String METRIC_TAG_OPERATION = "operation";
+    public static final String METRIC_TAG_EXECUTOR = "executor";
+    public static final String METRIC_RESULT_SUCCESS = "success";
+    public static final String METRIC_RESULT_ERROR = "error";
+    public static final String EMAIL_OUTCOME_SENT = "sent";
+    public static final String EMAIL_OUTCOME_FAILED = "failed";
+    public static final String EMAIL_OUTCOME_DROPPED = "dropped";
+    public static final String EMAIL_OPERATION_SINGLE = "single";
+    public static final String EMAIL_OPERATION_BATCH = "batch";
+    public static final String EMAIL_TYPE_UNKNOWN = "unknown";
+
 }
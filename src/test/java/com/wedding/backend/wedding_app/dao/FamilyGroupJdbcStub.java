@@ -0,0 +1,118 @@
+package com.wedding.backend.wedding_app.dao;
+
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * JdbcTemplate over a mocked DataSource that records every statement run on it. The keyset page
+ * query and the group query answer with one row per group ID given to {@link #withGroups}, the member
+ * query with {@link #MEMBERS_PER_GROUP} members per group.
+ */
+public final class FamilyGroupJdbcStub {
+
+    public static final int MEMBERS_PER_GROUP = 2;
+
+    private final List<String> statements = new ArrayList<>();
+    private final JdbcTemplate jdbcTemplate;
+    private List<Long> groupIds = List.of();
+
+    public FamilyGroupJdbcStub() {
+        try {
+            Connection connection = lenientMock(Connection.class);
+            when(connection.createArrayOf(anyString(), any())).thenReturn(lenientMock(Array.class));
+            when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+                String sql = invocation.getArgument(0);
+                statements.add(sql);
+                PreparedStatement ps = lenientMock(PreparedStatement.class);
+                when(ps.getConnection()).thenReturn(connection);
+                ResultSet rs = rowsFor(sql);
+                when(ps.executeQuery()).thenReturn(rs);
+                return ps;
+            });
+            when(connection.createStatement()).thenAnswer(invocation -> {
+                Statement statement = lenientMock(Statement.class);
+                when(statement.executeQuery(anyString())).thenAnswer(query -> {
+                    String sql = query.getArgument(0);
+                    statements.add(sql);
+                    return rowsFor(sql);
+                });
+                return statement;
+            });
+
+            DataSource dataSource = lenientMock(DataSource.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public FamilyGroupJdbcStub withGroups(List<Long> groupIds) {
+        this.groupIds = groupIds;
+        return this;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public List<String> statements() {
+        return statements;
+    }
+
+    private ResultSet rowsFor(String sql) throws SQLException {
+        if (sql.contains("FROM family_members")) {
+            return memberRows();
+        }
+        return resultSet(groupIds.stream()
+                .map(id -> Map.<String, Object>of("id", id, "sort_key", id.toString()))
+                .toList());
+    }
+
+    private ResultSet memberRows() throws SQLException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        long memberId = 1;
+        for (Long groupId : groupIds) {
+            for (int i = 0; i < MEMBERS_PER_GROUP; i++) {
+                rows.add(Map.of("member_id", memberId++, "family_group_id", groupId));
+            }
+        }
+        return resultSet(rows);
+    }
+
+    private static ResultSet resultSet(List<Map<String, Object>> rows) throws SQLException {
+        ResultSet rs = lenientMock(ResultSet.class);
+        int[] cursor = {-1};
+        when(rs.next()).thenAnswer(invocation -> ++cursor[0] < rows.size());
+        when(rs.getLong(anyString())).thenAnswer(invocation ->
+                ((Number) rows.get(cursor[0]).getOrDefault(invocation.<String>getArgument(0), 0L)).longValue());
+        when(rs.getString(anyString())).thenAnswer(invocation -> {
+            Object value = rows.get(cursor[0]).get(invocation.<String>getArgument(0));
+            return value == null ? null : value.toString();
+        });
+        when(rs.getObject(anyString())).thenAnswer(invocation -> rows.get(cursor[0]).get(invocation.<String>getArgument(0)));
+        return rs;
+    }
+
+    // Also used from tests run with MockitoExtension, whose strict stubs reject the per-column lookups
+    private static <T> T lenientMock(Class<T> type) {
+        return mock(type, withSettings().strictness(Strictness.LENIENT));
+    }
+}
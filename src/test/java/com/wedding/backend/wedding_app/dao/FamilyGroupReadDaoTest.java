@@ -0,0 +1,49 @@
+package com.wedding.backend.wedding_app.dao;
+
+import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.wedding.backend.wedding_app.dao.FamilyGroupJdbcStub.MEMBERS_PER_GROUP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FamilyGroupReadDao must issue the same number of statements however many groups it loads
+ */
+class FamilyGroupReadDaoTest {
+
+    private final FamilyGroupJdbcStub jdbc = new FamilyGroupJdbcStub();
+    private final FamilyGroupReadDao familyGroupReadDao = new FamilyGroupReadDao(jdbc.jdbcTemplate());
+
+    @Test
+    void findByIdsUsesTwoStatementsForOneGroup() {
+        assertStatementCount(1);
+    }
+
+    @Test
+    void findByIdsUsesTwoStatementsForManyGroups() {
+        assertStatementCount(50);
+    }
+
+    @Test
+    void findByIdUsesTwoStatements() {
+        jdbc.withGroups(List.of(7L));
+
+        assertThat(familyGroupReadDao.findById(7L)).hasValueSatisfying(familyGroup ->
+                assertThat(familyGroup.getFamilyMembers()).hasSize(MEMBERS_PER_GROUP));
+        assertThat(jdbc.statements()).hasSize(2);
+    }
+
+    private void assertStatementCount(int groups) {
+        List<Long> ids = LongStream.rangeClosed(1, groups).boxed().toList();
+        jdbc.withGroups(ids);
+
+        List<FamilyGroupResponseDTO> familyGroups = familyGroupReadDao.findByIds(ids);
+
+        assertThat(familyGroups).hasSize(groups)
+                .allSatisfy(familyGroup -> assertThat(familyGroup.getFamilyMembers()).hasSize(MEMBERS_PER_GROUP));
+        assertThat(jdbc.statements()).hasSize(2);
+    }
+}
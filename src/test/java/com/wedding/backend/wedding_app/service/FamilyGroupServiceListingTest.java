@@ -0,0 +1,61 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.FamilyGroupJdbcStub;
+import com.wedding.backend.wedding_app.dao.FamilyGroupReadDao;
+import com.wedding.backend.wedding_app.dao.KeysetPageDao;
+import com.wedding.backend.wedding_app.dto.CursorPageDTO;
+import com.wedding.backend.wedding_app.dto.FamilyGroupResponseDTO;
+import com.wedding.backend.wedding_app.enums.FamilyGroupSortField;
+import com.wedding.backend.wedding_app.enums.SortDirection;
+import com.wedding.backend.wedding_app.model.page.CursorPageRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.LongStream;
+
+import static com.wedding.backend.wedding_app.dao.FamilyGroupJdbcStub.MEMBERS_PER_GROUP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The family group listing must cost the same number of statements for a page of one group as for a
+ * full page: the keyset ID query, then the groups and their members by ID
+ */
+@ExtendWith(MockitoExtension.class)
+class FamilyGroupServiceListingTest {
+
+    private final FamilyGroupJdbcStub jdbc = new FamilyGroupJdbcStub();
+
+    @Spy
+    private KeysetPageDao keysetPageDao = new KeysetPageDao(jdbc.jdbcTemplate());
+
+    @Spy
+    private FamilyGroupReadDao familyGroupReadDao = new FamilyGroupReadDao(jdbc.jdbcTemplate());
+
+    @InjectMocks
+    private FamilyGroupService familyGroupService;
+
+    @Test
+    void pageOfOneGroupUsesThreeStatements() {
+        assertStatementCount(1);
+    }
+
+    @Test
+    void fullPageUsesThreeStatements() {
+        assertStatementCount(50);
+    }
+
+    private void assertStatementCount(int groups) {
+        jdbc.withGroups(LongStream.rangeClosed(1, groups).boxed().toList());
+
+        CursorPageDTO<FamilyGroupResponseDTO> page = familyGroupService.getFamilyGroupPage(
+                CursorPageRequest.of(FamilyGroupSortField.ID, SortDirection.ASC, null, groups, false),
+                null, null, null, null);
+
+        assertThat(page.getItems()).hasSize(groups)
+                .allSatisfy(familyGroup -> assertThat(familyGroup.getFamilyMembers()).hasSize(MEMBERS_PER_GROUP));
+        assertThat(jdbc.statements()).hasSize(3);
+    }
+}
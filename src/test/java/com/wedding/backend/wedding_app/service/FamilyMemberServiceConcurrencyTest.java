@@ -0,0 +1,138 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dto.RSVPRequestDTO;
+import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
+import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
+import com.wedding.backend.wedding_app.repository.FamilyGroupRepository;
+import com.wedding.backend.wedding_app.repository.FamilyMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent RSVP submissions for one family group must leave attending_count equal to the number of
+ * attending members. Every submission reads the group and its members before any of them writes, which
+ * is the stale read that used to let the counter drift.
+ */
+@SpringBootTest(properties = "resend.api-key=test")
+@Testcontainers(disabledWithoutDocker = true)
+class FamilyMemberServiceConcurrencyTest {
+
+    private static final int SUBMISSIONS = 8;
+    private static final int MEMBERS = 4;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private FamilyMemberService familyMemberService;
+
+    @Autowired
+    private FamilyGroupRepository familyGroupRepository;
+
+    @Autowired
+    private FamilyMemberRepository familyMemberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentSubmissionsKeepAttendingCountInStep() throws Exception {
+        Long familyGroupId = createFamilyGroup();
+        List<FamilyMemberEntity> members = familyMemberRepository.findByFamilyGroupId(familyGroupId);
+
+        CyclicBarrier allLoaded = new CyclicBarrier(SUBMISSIONS);
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMISSIONS);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                int attending = i % (MEMBERS + 1);
+                submissions.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    FamilyGroupEntity familyGroup = familyGroupRepository.findById(familyGroupId).orElseThrow();
+                    familyGroup.getFamilyMembers().size();
+                    await(allLoaded);
+                    familyMemberService.processFamilyMemberRSVPs(requests(members, attending), familyGroup);
+                })));
+            }
+            for (Future<?> submission : submissions) {
+                submission.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer attendingCount = jdbcTemplate.queryForObject(
+                "SELECT attending_count FROM family_groups WHERE id = ?", Integer.class, familyGroupId);
+        Integer attendingMembers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM family_members WHERE family_group_id = ? AND is_attending", Integer.class, familyGroupId);
+        assertThat(attendingCount).isEqualTo(attendingMembers);
+    }
+
+    private Long createFamilyGroup() {
+        return transactionTemplate.execute(status -> {
+            FamilyGroupEntity familyGroup = familyGroupRepository.save(FamilyGroupEntity.builder()
+                    .groupName("Concurrency Group")
+                    .maxAttendees(MEMBERS + 1)
+                    .createdAt(OffsetDateTime.now())
+                    .build());
+            for (int i = 0; i < MEMBERS; i++) {
+                familyMemberRepository.save(FamilyMemberEntity.builder()
+                        .firstName("Member" + i)
+                        .lastName("Concurrency")
+                        .isAttending(false)
+                        .familyGroup(familyGroup)
+                        .build());
+            }
+            return familyGroup.getId();
+        });
+    }
+
+    private static List<RSVPRequestDTO.FamilyMemberRSVPRequest> requests(List<FamilyMemberEntity> members, int attending) {
+        List<RSVPRequestDTO.FamilyMemberRSVPRequest> requests = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            requests.add(RSVPRequestDTO.FamilyMemberRSVPRequest.builder()
+                    .familyMemberId(members.get(i).getId())
+                    .firstName(members.get(i).getFirstName())
+                    .lastName(members.get(i).getLastName())
+                    .isAttending(i < attending)
+                    .build());
+        }
+        return requests;
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(1, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.entity.FamilyGroupEntity;
+import com.wedding.backend.wedding_app.entity.FamilyMemberEntity;
+import com.wedding.backend.wedding_app.entity.GuestEntity;
+import com.wedding.backend.wedding_app.entity.RSVPEntity;
+import com.wedding.backend.wedding_app.model.request.GuestMergeRequest;
+import com.wedding.backend.wedding_app.repository.FamilyGroupRepository;
+import com.wedding.backend.wedding_app.repository.FamilyMemberRepository;
+import com.wedding.backend.wedding_app.repository.GuestRepository;
+import com.wedding.backend.wedding_app.repository.RSVPRespository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Merging two guests from different family groups folds the duplicate's group into the survivor's and
+ * drops the older RSVP. Whichever RSVP goes, attending_count of the merged group must equal the number of
+ * its attending members.
+ */
+@SpringBootTest(properties = "resend.api-key=test")
+@Testcontainers(disabledWithoutDocker = true)
+class GuestDedupeServiceMergeTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private GuestDedupeService guestDedupeService;
+
+    @Autowired
+    private FamilyGroupRepository familyGroupRepository;
+
+    @Autowired
+    private FamilyMemberRepository familyMemberRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private RSVPRespository rsvpRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void droppingTheDuplicatesRsvpKeepsOnlyTheSurvivorsAttendees() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Long survivorGroupId = createFamilyGroup("Survivor", 2, 1);
+        Long duplicateGroupId = createFamilyGroup("Duplicate", 3, 2);
+        Long survivorId = createGuest(survivorGroupId, now);
+        Long duplicateId = createGuest(duplicateGroupId, now.minusDays(1));
+
+        guestDedupeService.mergeGuests(GuestMergeRequest.builder().survivorId(survivorId).duplicateId(duplicateId).build());
+
+        assertAttendingCountInStep(survivorGroupId, 1);
+    }
+
+    @Test
+    void droppingTheSurvivorsRsvpKeepsOnlyTheDuplicatesAttendees() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Long survivorGroupId = createFamilyGroup("Survivor", 2, 1);
+        Long duplicateGroupId = createFamilyGroup("Duplicate", 3, 2);
+        Long survivorId = createGuest(survivorGroupId, now.minusDays(1));
+        Long duplicateId = createGuest(duplicateGroupId, now);
+
+        guestDedupeService.mergeGuests(GuestMergeRequest.builder().survivorId(survivorId).duplicateId(duplicateId).build());
+
+        assertAttendingCountInStep(survivorGroupId, 2);
+    }
+
+    private void assertAttendingCountInStep(Long familyGroupId, int expectedAttendees) {
+        Integer attendingCount = jdbcTemplate.queryForObject(
+                "SELECT attending_count FROM family_groups WHERE id = ?", Integer.class, familyGroupId);
+        Integer attendingMembers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM family_members WHERE family_group_id = ? AND is_attending", Integer.class, familyGroupId);
+        assertThat(attendingCount).isEqualTo(attendingMembers).isEqualTo(expectedAttendees);
+    }
+
+    private Long createFamilyGroup(String name, int members, int attending) {
+        Long familyGroupId = transactionTemplate.execute(status -> {
+            FamilyGroupEntity familyGroup = familyGroupRepository.save(FamilyGroupEntity.builder()
+                    .groupName(name)
+                    .maxAttendees(members + 1)
+                    .createdAt(OffsetDateTime.now())
+                    .build());
+            for (int i = 0; i < members; i++) {
+                familyMemberRepository.save(FamilyMemberEntity.builder()
+                        .firstName("Member" + i)
+                        .lastName(name)
+                        .isAttending(i < attending)
+                        .familyGroup(familyGroup)
+                        .build());
+            }
+            return familyGroup.getId();
+        });
+        jdbcTemplate.update("UPDATE family_groups SET attending_count = ? WHERE id = ?", attending, familyGroupId);
+        return familyGroupId;
+    }
+
+    private Long createGuest(Long familyGroupId, OffsetDateTime submittedAt) {
+        return transactionTemplate.execute(status -> {
+            GuestEntity guest = guestRepository.save(GuestEntity.builder()
+                    .firstName("Jordan")
+                    .lastName("Merge")
+                    .email("jordan@example.com")
+                    .familyGroup(familyGroupRepository.findById(familyGroupId).orElseThrow())
+                    .build());
+            rsvpRepository.save(RSVPEntity.builder()
+                    .guest(guest)
+                    .attending(true)
+                    .submittedAt(submittedAt)
+                    .build());
+            return guest.getId();
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package com.wedding.backend.wedding_app.service;
+
+import com.wedding.backend.wedding_app.dao.GuestDedupeDao;
+import com.wedding.backend.wedding_app.dao.GuestReadDao;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateMatchType;
+import com.wedding.backend.wedding_app.enums.GuestDuplicateSignal;
+import com.wedding.backend.wedding_app.model.guest.GuestDedupeRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.wedding.backend.wedding_app.util.WeddingServiceConstants.GUEST_DEDUPE_MAX_BLOCK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Blocking, scoring and survivor choice of the duplicate finder, without the database
+ */
+@ExtendWith(MockitoExtension.class)
+class GuestDedupeServiceTest {
+
+    @Mock
+    private GuestDedupeDao guestDedupeDao;
+
+    @Mock
+    private GuestReadDao guestReadDao;
+
+    @Mock
+    private GuestNameIndexService guestNameIndexService;
+
+    @InjectMocks
+    private GuestDedupeService guestDedupeService;
+
+    @Test
+    void blocksGroupGuestsSharingEmailPhoneOrSurnameSound() {
+        GuestDedupeRecord smith = guest(1L, "anna", "smith", "anna@example.com", "");
+        GuestDedupeRecord smyth = guest(2L, "anne", "smyth", "", "");
+        GuestDedupeRecord jones = guest(3L, "bob", "jones", "anna@example.com", "5551234567");
+        GuestDedupeRecord brown = guest(4L, "carl", "brown", "", "5551234567");
+        GuestDedupeRecord loner = guest(5L, "dora", "white", "dora@example.com", "");
+
+        Collection<List<GuestDedupeRecord>> blocks = guestDedupeService.blocks(List.of(smith, smyth, jones, brown, loner));
+
+        assertThat(blocks).containsExactlyInAnyOrder(
+                List.of(smith, jones),
+                List.of(jones, brown),
+                List.of(smith, smyth));
+    }
+
+    @Test
+    void oversizedContactBlockIsSplitByFirstInitial() {
+        List<GuestDedupeRecord> guests = new ArrayList<>();
+        for (long id = 1; id <= GUEST_DEDUPE_MAX_BLOCK_SIZE + 1; id++) {
+            String firstName = (id % 2 == 0 ? "a" : "b") + "guest" + id;
+            // No surname, so the shared planner email is the only block
+            guests.add(guest(id, firstName, "", "planner@example.com", ""));
+        }
+
+        Collection<List<GuestDedupeRecord>> blocks = guestDedupeService.blocks(guests);
+
+        assertThat(blocks).hasSize(2)
+                .allSatisfy(block -> assertThat(block).hasSizeLessThanOrEqualTo(GUEST_DEDUPE_MAX_BLOCK_SIZE)
+                        .extracting(guest -> guest.getNormalizedFirstName().charAt(0))
+                        .containsOnly(block.get(0).getNormalizedFirstName().charAt(0)));
+    }
+
+    @Test
+    void sameNameIsDuplicateWithSurvivorFirstByIdOrder() {
+        GuestDedupeRecord a = guest(9L, "jon", "smith", "", "");
+        GuestDedupeRecord b = guest(4L, "jonathan", "smith", "", "");
+
+        GuestDedupeService.Candidate candidate = guestDedupeService.score(a, b);
+
+        assertThat(candidate.getMatchType()).isEqualTo(GuestDuplicateMatchType.DUPLICATE);
+        assertThat(candidate.getFirst().getId()).isEqualTo(4L);
+        assertThat(candidate.getSecond().getId()).isEqualTo(9L);
+        assertThat(candidate.getSignals()).containsExactly(GuestDuplicateSignal.NAME);
+        assertThat(candidate.getScore()).isBetween(0.9, 1.0);
+    }
+
+    @Test
+    void sharedContactAcrossFamilyGroupsIsHousehold() {
+        GuestDedupeRecord a = guest(1L, "anna", "smith", "home@example.com", "5551234567");
+        GuestDedupeRecord b = guest(2L, "bob", "smith", "home@example.com", "5551234567");
+        b.setFamilyGroupId(7L);
+
+        GuestDedupeService.Candidate candidate = guestDedupeService.score(a, b);
+
+        assertThat(candidate.getMatchType()).isEqualTo(GuestDuplicateMatchType.HOUSEHOLD);
+        assertThat(candidate.getSignals()).containsExactly(GuestDuplicateSignal.EMAIL, GuestDuplicateSignal.PHONE);
+    }
+
+    @Test
+    void sharedContactInsideOneFamilyGroupIsNotACandidate() {
+        GuestDedupeRecord a = guest(1L, "anna", "smith", "home@example.com", "");
+        GuestDedupeRecord b = guest(2L, "bob", "smith", "home@example.com", "");
+        a.setFamilyGroupId(7L);
+        b.setFamilyGroupId(7L);
+
+        assertThat(guestDedupeService.score(a, b)).isNull();
+    }
+
+    @Test
+    void differentEmailsLowerTheScore() {
+        GuestDedupeRecord a = guest(1L, "anna", "smith", "", "");
+        GuestDedupeRecord b = guest(2L, "anna", "smith", "", "");
+        GuestDedupeRecord withEmail = guest(3L, "anna", "smith", "anna@example.com", "");
+        GuestDedupeRecord otherEmail = guest(4L, "anna", "smith", "a.smith@example.com", "");
+
+        assertThat(guestDedupeService.score(withEmail, otherEmail).getScore())
+                .isLessThan(guestDedupeService.score(a, b).getScore());
+    }
+
+    @Test
+    void survivorPrefersRsvpThenPrimaryContactThenOlderEntry() {
+        GuestDedupeRecord older = guest(1L, "anna", "smith", "", "");
+        GuestDedupeRecord newer = guest(2L, "anna", "smith", "", "");
+        assertThat(guestDedupeService.suggestedSurvivor(newer, older)).isSameAs(older);
+
+        newer.setPrimaryContact(true);
+        assertThat(guestDedupeService.suggestedSurvivor(older, newer)).isSameAs(newer);
+
+        older.setHasRsvp(true);
+        assertThat(guestDedupeService.suggestedSurvivor(older, newer)).isSameAs(older);
+    }
+
+    @Test
+    void survivorPrefersFamilyGroupThenMoreContactDetails() {
+        GuestDedupeRecord older = guest(1L, "anna", "smith", "", "");
+        GuestDedupeRecord newer = guest(2L, "anna", "smith", "anna@example.com", "");
+        assertThat(guestDedupeService.suggestedSurvivor(older, newer)).isSameAs(newer);
+
+        older.setFamilyGroupId(7L);
+        assertThat(guestDedupeService.suggestedSurvivor(older, newer)).isSameAs(older);
+    }
+
+    private static GuestDedupeRecord guest(Long id, String firstName, String lastName, String email, String phone) {
+        return GuestDedupeRecord.builder()
+                .id(id)
+                .normalizedFirstName(firstName)
+                .normalizedLastName(lastName)
+                .email(email)
+                .phone(phone)
+                .build();
+    }
+}